@@ -0,0 +1,89 @@
+package tech.ydb.jdbc.query.params;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import tech.ydb.jdbc.common.TypeDescription;
+import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.table.values.DecimalType;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.Type;
+
+/**
+ * Throughput of binding of primitive parameters by boxed and primitive setters. Run it with
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main BindBenchmark"
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BindBenchmark {
+    private static final int BATCH = 1024;
+
+    @Param({"Int32", "Int64", "Double"})
+    private String typeName;
+
+    @Param({"false", "true"})
+    private boolean optional;
+
+    private TypeDescription type;
+    private long[] values;
+
+    @Setup
+    public void setup() {
+        YdbTypes types = new YdbTypes(false, DecimalType.getDefault());
+        Type ydbType = PrimitiveType.valueOf(typeName);
+        type = types.find(optional ? ydbType.makeOptional() : ydbType);
+
+        values = new long[BATCH];
+        for (int idx = 0; idx < BATCH; idx++) {
+            values[idx] = idx * 31L + 1000;
+        }
+    }
+
+    @Benchmark
+    public void boxedLong(Blackhole bh) throws SQLException {
+        for (long v: values) {
+            bh.consume(ValueFactory.readValue("$p1", v, type));
+        }
+    }
+
+    @Benchmark
+    public void primitiveLong(Blackhole bh) throws SQLException {
+        for (long v: values) {
+            bh.consume(ValueFactory.readLong(v, type));
+        }
+    }
+
+    @Benchmark
+    public void boxedInt(Blackhole bh) throws SQLException {
+        for (long v: values) {
+            bh.consume(ValueFactory.readValue("$p1", (int) v, type));
+        }
+    }
+
+    @Benchmark
+    public void primitiveInt(Blackhole bh) throws SQLException {
+        for (long v: values) {
+            bh.consume(ValueFactory.readInt((int) v, type));
+        }
+    }
+}
@@ -2,9 +2,12 @@ package tech.ydb.jdbc;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.List;
 
 import javax.annotation.Nullable;
 
+import tech.ydb.common.transaction.TxMode;
+import tech.ydb.jdbc.context.TableSplit;
 import tech.ydb.jdbc.context.YdbContext;
 import tech.ydb.jdbc.context.YdbExecutor;
 
@@ -66,4 +69,65 @@ public interface YdbConnection extends Connection {
      * @throws SQLException in case of any internal error
      */
     YdbPreparedStatement prepareStatement(String sql, YdbPrepareMode mode) throws SQLException;
+
+    /**
+     * Executes callback inside a new transaction with specified mode and commits it. If the transaction fails with
+     * retryable status (ABORTED, UNAVAILABLE, OVERLOADED etc), it is rolled back and the callback is executed again
+     * with backoff on the same session. Connection settings are restored after the execution.
+     *
+     * @param <T> type of result
+     * @param txMode transaction mode
+     * @param callback callback to execute, may be called more than once
+     * @return result of the last successful callback execution
+     * @throws SQLException if transaction cannot be executed or the last attempt failed
+     */
+    <T> T runInTransaction(TxMode txMode, TxFunction<T> callback) throws SQLException;
+
+    /**
+     * Reads the whole table by pages ordered by primary key. Pages are read by the query with keyset predicate over
+     * the last key of previous page, the next page is prefetched while the current one is consumed. Every page is
+     * read in its own read-only snapshot outside of the connection transaction.
+     *
+     * @param tableName name of table, absolute or relative to the prefix path
+     * @param pageSize count of rows in one page
+     * @return forward-only result set with all rows of table
+     * @throws SQLException if table cannot be described or any page cannot be read
+     */
+    YdbResultSet readTable(String tableName, int pageSize) throws SQLException;
+
+    /**
+     * Splits the table into ranges of primary keys by boundaries of table partitions. The splits can be read
+     * independently by {@link #readSplit(TableSplit)}, for example by different workers.
+     *
+     * @param tableName name of table, absolute or relative to the prefix path
+     * @param maxSplits max count of splits
+     * @return splits ordered by keys
+     * @throws SQLException if table cannot be described
+     */
+    List<TableSplit> splitTable(String tableName, int maxSplits) throws SQLException;
+
+    /**
+     * Reads one split of table ordered by primary key
+     *
+     * @param split split of table
+     * @return forward-only result set with all rows of split
+     * @throws SQLException if the split cannot be read
+     */
+    YdbResultSet readSplit(TableSplit split) throws SQLException;
+
+    /**
+     * Reads the whole table by concurrent streams over table splits and merges them into one result set.
+     *
+     * @param tableName name of table, absolute or relative to the prefix path
+     * @param parallelism count of concurrently read splits
+     * @param ordered if {@code true} the rows will be ordered by primary key
+     * @return forward-only result set with all rows of table
+     * @throws SQLException if table cannot be described or any split cannot be read
+     */
+    YdbResultSet readTableParallel(String tableName, int parallelism, boolean ordered) throws SQLException;
+
+    @FunctionalInterface
+    interface TxFunction<T> {
+        T apply(YdbConnection connection) throws SQLException;
+    }
 }
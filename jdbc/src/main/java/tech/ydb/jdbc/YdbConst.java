@@ -86,13 +86,22 @@ public final class YdbConst {
     public static final String INVALID_BATCH_COLUMN = "Cannot prepared batch request: cannot find a column";
     public static final String BULK_DESCRIBE_ERROR = "Cannot parse BULK upsert: ";
     public static final String BULK_NOT_SUPPORT_RETURNING = "BULK query doesn't support RETURNING";
+    public static final String INVALID_PAGE_SIZE = "Page size must be positive: ";
+    public static final String KEYSET_TABLE_NOT_FOUND = "Cannot read table without primary key: ";
+    public static final String INVALID_SPLITS_COUNT = "Count of splits must be positive: ";
+    public static final String KEYSET_NULL_KEY = "Cannot read next page, the last key contains NULL in column: ";
     public static final String METADATA_RS_UNSUPPORTED_IN_PS = "ResultSet metadata is not supported " +
             "in prepared statements";
     public static final String CANNOT_UNWRAP_TO = "Cannot unwrap to ";
     public static final String READONLY_INSIDE_TRANSACTION = "Cannot change read-only attribute inside a transaction";
     public static final String CHANGE_ISOLATION_INSIDE_TX = "Cannot change transaction isolation inside a transaction";
     public static final String UNSUPPORTED_TRANSACTION_LEVEL = "Unsupported transaction level: ";
+    public static final String UNSUPPORTED_TX_MODE = "Unsupported transaction mode: ";
+    public static final String NESTED_TRANSACTION = "Cannot run new transaction inside active transaction";
     public static final String CLOSED_CONNECTION = "Connection is closed";
+    public static final String CLOSED_DATA_SOURCE = "Data source is closed";
+    public static final String DATA_SOURCE_OTHER_CREDENTIALS = "Data source cannot create connection with "
+            + "credentials other than configured";
     public static final String DB_QUERY_DEADLINE_EXCEEDED = "DB query deadline exceeded: ";
     public static final String DB_QUERY_CANCELLED = "DB query cancelled: ";
     public static final String DATABASE_UNAVAILABLE = "Database is unavailable: ";
@@ -115,6 +124,14 @@ public final class YdbConst {
     public static final String UNABLE_TO_CONVERT = "Cannot cast [%s] with value [%s] to [%s]";
     public static final String UNABLE_TO_CONVERT_AS_URL = "Cannot cast as URL: ";
     public static final String UNABLE_TO_CAST_TO_CLASS = "Cannot cast [%s] to class [%s]";
+    public static final String PUBLISHER_UNSUPPORTED = "Query publishers are supported only in QueryService mode";
+    public static final String PUBLISHER_EXPECTS_ONE_RESULT_SET = "Query publisher requires data query with one "
+            + "result set";
+    public static final String PUBLISHER_WRITES_UNSUPPORTED = "Query publisher cannot execute writing queries in "
+            + "this mode";
+    public static final String CANNOT_MAP_ROW_TO_CLASS = "Cannot map row to class ";
+    public static final String CLASS_IS_NOT_PUBLIC = "Cannot map row to not public class, the class and its "
+            + "enclosing classes must be public: ";
     public static final String UNABLE_TO_CAST_TO_DECIMAL = "Cannot cast to decimal type %s: [%s] is %s";
 
     public static final String MISSING_VALUE_FOR_PARAMETER = "Missing value for parameter: ";
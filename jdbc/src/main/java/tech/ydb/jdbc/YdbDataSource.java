@@ -0,0 +1,247 @@
+package tech.ydb.jdbc;
+
+import java.io.PrintWriter;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.sql.ConnectionEvent;
+import javax.sql.ConnectionEventListener;
+import javax.sql.ConnectionPoolDataSource;
+import javax.sql.DataSource;
+
+import tech.ydb.jdbc.context.YdbContext;
+import tech.ydb.jdbc.impl.YdbPooledConnection;
+import tech.ydb.jdbc.settings.YdbConfig;
+
+/**
+ * Lightweight pooled data source. Connections are cheap wrappers over the executors which are kept in the lock-free
+ * list of idle connections. All connections of data source share one {@link YdbContext}, so the session pool is
+ * sized by the real count of concurrently borrowed connections.
+ */
+public class YdbDataSource implements DataSource, ConnectionPoolDataSource, AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(YdbDataSource.class.getName());
+    private static final int DEFAULT_MAX_IDLE_CONNECTIONS = 64;
+
+    private final String url;
+    private final Properties properties;
+
+    private final ConcurrentLinkedDeque<YdbPooledConnection> idle = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+    private final ConnectionEventListener poolListener = new PoolListener();
+    // context is created under the lock, so it must not be a monitor which pins virtual threads during I/O
+    private final ReentrantLock contextLock = new ReentrantLock();
+
+    private volatile YdbContext ctx = null;
+    private volatile boolean isClosed = false;
+    private volatile int maxIdleConnections = DEFAULT_MAX_IDLE_CONNECTIONS;
+
+    private PrintWriter logWriter = null;
+    private int loginTimeout = 0;
+
+    public YdbDataSource(String url) {
+        this(url, new Properties());
+    }
+
+    public YdbDataSource(String url, Properties properties) {
+        this.url = Objects.requireNonNull(url);
+        this.properties = new Properties();
+        this.properties.putAll(properties);
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public int getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    /**
+     * Sets max count of idle connections kept by data source. Connections returned over this limit are closed.
+     *
+     * @param maxIdleConnections max count of idle connections
+     */
+    public void setMaxIdleConnections(int maxIdleConnections) {
+        this.maxIdleConnections = Math.max(0, maxIdleConnections);
+    }
+
+    public int getIdleConnectionsCount() {
+        return idleCount.get();
+    }
+
+    private YdbContext getContext() throws SQLException {
+        YdbContext local = ctx;
+        if (local != null) {
+            return local;
+        }
+
+        contextLock.lock();
+        try {
+            if (isClosed) {
+                throw new SQLException(YdbConst.CLOSED_DATA_SOURCE);
+            }
+            if (ctx == null) {
+                ctx = YdbContext.createContext(YdbConfig.from(url, properties));
+            }
+            return ctx;
+        } finally {
+            contextLock.unlock();
+        }
+    }
+
+    @Override
+    public YdbConnection getConnection() throws SQLException {
+        if (isClosed) {
+            throw new SQLException(YdbConst.CLOSED_DATA_SOURCE);
+        }
+
+        YdbPooledConnection pooled = idle.pollFirst();
+        if (pooled != null) {
+            idleCount.decrementAndGet();
+        } else {
+            pooled = new YdbPooledConnection(getContext());
+            pooled.addConnectionEventListener(poolListener);
+        }
+
+        try {
+            return pooled.getConnection();
+        } catch (SQLException | RuntimeException ex) {
+            closeQuietly(pooled);
+            throw ex;
+        }
+    }
+
+    @Override
+    public YdbConnection getConnection(String username, String password) throws SQLException {
+        if (!Objects.equals(username, properties.getProperty("user"))
+                || !Objects.equals(password, properties.getProperty("password"))) {
+            throw new SQLFeatureNotSupportedException(YdbConst.DATA_SOURCE_OTHER_CREDENTIALS);
+        }
+        return getConnection();
+    }
+
+    @Override
+    public YdbPooledConnection getPooledConnection() throws SQLException {
+        if (isClosed) {
+            throw new SQLException(YdbConst.CLOSED_DATA_SOURCE);
+        }
+        return new YdbPooledConnection(getContext());
+    }
+
+    @Override
+    public YdbPooledConnection getPooledConnection(String user, String password) throws SQLException {
+        if (!Objects.equals(user, properties.getProperty("user"))
+                || !Objects.equals(password, properties.getProperty("password"))) {
+            throw new SQLFeatureNotSupportedException(YdbConst.DATA_SOURCE_OTHER_CREDENTIALS);
+        }
+        return getPooledConnection();
+    }
+
+    @Override
+    public void close() {
+        YdbContext local;
+        contextLock.lock();
+        try {
+            isClosed = true;
+            local = ctx;
+            ctx = null;
+        } finally {
+            contextLock.unlock();
+        }
+
+        closeIdleConnections();
+        if (local != null) {
+            local.close();
+        }
+    }
+
+    private void closeIdleConnections() {
+        YdbPooledConnection pooled = idle.pollFirst();
+        while (pooled != null) {
+            idleCount.decrementAndGet();
+            closeQuietly(pooled);
+            pooled = idle.pollFirst();
+        }
+    }
+
+    private static void closeQuietly(YdbPooledConnection pooled) {
+        try {
+            pooled.close();
+        } catch (SQLException | RuntimeException ex) {
+            LOGGER.log(Level.WARNING, "Cannot close pooled connection", ex);
+        }
+    }
+
+    @Override
+    public PrintWriter getLogWriter() {
+        return logWriter;
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) {
+        this.logWriter = out;
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) {
+        this.loginTimeout = seconds;
+    }
+
+    @Override
+    public int getLoginTimeout() {
+        return loginTimeout;
+    }
+
+    @Override
+    public Logger getParentLogger() {
+        return Logger.getLogger("tech.ydb.jdbc");
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isAssignableFrom(getClass())) {
+            return iface.cast(this);
+        }
+        throw new SQLException(YdbConst.CANNOT_UNWRAP_TO + iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return iface.isAssignableFrom(getClass());
+    }
+
+    private class PoolListener implements ConnectionEventListener {
+        @Override
+        public void connectionClosed(ConnectionEvent event) {
+            YdbPooledConnection pooled = (YdbPooledConnection) event.getSource();
+            if (isClosed) {
+                closeQuietly(pooled);
+                return;
+            }
+
+            if (idleCount.incrementAndGet() > maxIdleConnections) {
+                idleCount.decrementAndGet();
+                closeQuietly(pooled);
+                return;
+            }
+
+            idle.offerFirst(pooled);
+            if (isClosed) {
+                // data source was closed concurrently
+                closeIdleConnections();
+            }
+        }
+
+        @Override
+        public void connectionErrorOccurred(ConnectionEvent event) {
+            closeQuietly((YdbPooledConnection) event.getSource());
+        }
+    }
+}
@@ -17,6 +17,8 @@ import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
 
+import org.reactivestreams.Publisher;
+
 import tech.ydb.table.values.Type;
 
 public interface YdbPreparedStatement extends YdbStatement, PreparedStatement {
@@ -35,6 +37,17 @@ public interface YdbPreparedStatement extends YdbStatement, PreparedStatement {
      */
     YdbResultSet executeScanQuery() throws SQLException;
 
+    /**
+     * Creates publisher of the rows of this query with the current parameters.
+     * See {@link #executeQueryPublisher(String, YdbResultSet.RowMapper)}
+     *
+     * @param <T> type of mapped rows
+     * @param mapper mapper of rows
+     * @return publisher of mapped rows
+     * @throws SQLException if query cannot be published
+     */
+    <T> Publisher<T> executeQueryPublisher(YdbResultSet.RowMapper<T> mapper) throws SQLException;
+
     /**
      * Explicitly explain this query
      *
@@ -2,6 +2,7 @@ package tech.ydb.jdbc;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.stream.Stream;
 
 import tech.ydb.table.values.Value;
 
@@ -26,9 +27,140 @@ public interface YdbResultSet extends ResultSet {
      */
     Value<?> getNativeColumn(String columnLabel) throws SQLException;
 
+    /**
+     * Returns value of column as count of microseconds since epoch without creating of {@link java.sql.Timestamp}.
+     * Datetime values without time zone are interpreted as UTC, integer values are interpreted as milliseconds.
+     *
+     * @param columnIndex column index
+     * @return count of microseconds or 0 if the value is null
+     * @throws SQLException if column cannot be converted to timestamp
+     */
+    long getTimestampMicros(int columnIndex) throws SQLException;
+
+    /**
+     * Returns value of column as count of microseconds since epoch.
+     * See {@link #getTimestampMicros(int)}
+     *
+     * @param columnLabel column label
+     * @return count of microseconds or 0 if the value is null
+     * @throws SQLException if column cannot be converted to timestamp
+     */
+    long getTimestampMicros(String columnLabel) throws SQLException;
+
+    /**
+     * Returns value of column as count of days since epoch without creating of {@link java.sql.Date}. Datetime values
+     * are truncated to the date in UTC, integer values are returned as is.
+     *
+     * @param columnIndex column index
+     * @return count of days or 0 if the value is null
+     * @throws SQLException if column cannot be converted to date
+     */
+    long getDateEpochDay(int columnIndex) throws SQLException;
+
+    /**
+     * Returns value of column as count of days since epoch.
+     * See {@link #getDateEpochDay(int)}
+     *
+     * @param columnLabel column label
+     * @return count of days or 0 if the value is null
+     * @throws SQLException if column cannot be converted to date
+     */
+    long getDateEpochDay(String columnLabel) throws SQLException;
+
+    /**
+     * Returns unscaled value of decimal column without creating of {@link java.math.BigDecimal}. The value of column
+     * is {@code getDecimalUnscaled(columnIndex) * 10^-getDecimalScale(columnIndex)}.
+     *
+     * @param columnIndex column index
+     * @return unscaled value or 0 if the value is null
+     * @throws SQLException if column is not decimal or the unscaled value doesn't fit into long
+     */
+    long getDecimalUnscaled(int columnIndex) throws SQLException;
+
+    /**
+     * Returns unscaled value of decimal column.
+     * See {@link #getDecimalUnscaled(int)}
+     *
+     * @param columnLabel column label
+     * @return unscaled value or 0 if the value is null
+     * @throws SQLException if column is not decimal or the unscaled value doesn't fit into long
+     */
+    long getDecimalUnscaled(String columnLabel) throws SQLException;
+
+    /**
+     * Returns scale of decimal column
+     *
+     * @param columnIndex column index
+     * @return scale of decimal type or 0 for other types
+     * @throws SQLException if column cannot be found
+     */
+    int getDecimalScale(int columnIndex) throws SQLException;
+
+    /**
+     * Returns scale of decimal column.
+     * See {@link #getDecimalScale(int)}
+     *
+     * @param columnLabel column label
+     * @return scale of decimal type or 0 for other types
+     * @throws SQLException if column cannot be found
+     */
+    int getDecimalScale(String columnLabel) throws SQLException;
+
+    /**
+     * Maps the current row to the object of class. Records are created by the canonical constructor, other classes
+     * are created by the public constructor without arguments and filled by public setters or public fields. The
+     * columns are matched with the properties by names ignoring case and underscores. The mapper is compiled once
+     * for the columns of result set and the class and is shared by all result sets with the same columns.
+     *
+     * @param <T> type of object
+     * @param clazz class of object
+     * @return new object with the values of the current row
+     * @throws SQLException if the class cannot be used for mapping or the row cannot be read
+     */
+    <T> T map(Class<T> clazz) throws SQLException;
+
+    /**
+     * Returns lazy stream of the rows after the current one mapped to the objects of class.
+     * See {@link #map(Class)} and {@link #stream(RowMapper)}.
+     *
+     * @param <T> type of objects
+     * @param clazz class of objects
+     * @return stream of mapped rows
+     * @throws SQLException if the class cannot be used for mapping
+     */
+    <T> Stream<T> stream(Class<T> clazz) throws SQLException;
+
+    /**
+     * Returns lazy stream of the rows after the current one mapped by the mapper. The stream takes over the cursor
+     * of result set, so the result set must not be used directly while the stream is consumed. Closing of the stream
+     * closes the result set, for the streamed results it also cancels the reading of the rest of rows.
+     * <p>
+     * The streams of forward-only result sets read the parts of result as they are received from server and can be
+     * split at the part boundaries, so the rows of one part can be processed by a parallel stream while the next
+     * parts are still being received. The mapper gets the cursor positioned at the row to map, in parallel streams
+     * every part has its own cursor. The errors of reading are thrown as
+     * {@link tech.ydb.jdbc.exception.YdbUncheckedException}.
+     *
+     * @param <T> type of objects
+     * @param mapper mapper of rows
+     * @return stream of mapped rows
+     * @throws SQLException if the result set is closed
+     */
+    <T> Stream<T> stream(RowMapper<T> mapper) throws SQLException;
+
     @Override
     YdbResultSetMetaData getMetaData() throws SQLException;
 
     @Override
     YdbStatement getStatement() throws SQLException;
+
+    /**
+     * Mapper of the current row of result set
+     *
+     * @param <T> type of mapped objects
+     */
+    @FunctionalInterface
+    interface RowMapper<T> {
+        T map(YdbResultSet rs) throws SQLException;
+    }
 }
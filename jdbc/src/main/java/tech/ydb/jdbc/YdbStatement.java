@@ -3,7 +3,10 @@ package tech.ydb.jdbc;
 import java.sql.SQLException;
 import java.sql.Statement;
 
+import org.reactivestreams.Publisher;
+
 import tech.ydb.jdbc.context.YdbValidator;
+import tech.ydb.table.settings.ReadTableSettings;
 
 public interface YdbStatement extends Statement {
     /**
@@ -23,6 +26,28 @@ public interface YdbStatement extends Statement {
      */
     YdbResultSet executeScanQuery(String sql) throws SQLException;
 
+    /**
+     * Reads rows of table by streaming ReadTable RPC. The read doesn't need query compilation and returns rows of
+     * the key range in order of primary key if the ordered read is requested by settings.
+     *
+     * @param tableName name of table, absolute or relative to the prefix path
+     * @param settings settings of read with column projection, key range and row limit
+     * @return result set
+     * @throws SQLException if table cannot be read
+     */
+    YdbResultSet executeReadTable(String tableName, ReadTableSettings.Builder settings) throws SQLException;
+
+    /**
+     * Reads all rows of table by pages ordered by primary key. Every page is read by the query with keyset predicate
+     * built from the last key of previous page, the next page is read while the current one is processed.
+     *
+     * @param tableName name of table, absolute or relative to the prefix path
+     * @param pageSize count of rows in one page
+     * @return forward-only result set
+     * @throws SQLException if table cannot be described or read
+     */
+    YdbResultSet executeKeysetRead(String tableName, int pageSize) throws SQLException;
+
     /**
      * Explicitly explain this query
      *
@@ -33,6 +58,20 @@ public interface YdbStatement extends Statement {
      */
     YdbResultSet executeExplainQuery(String sql) throws SQLException;
 
+    /**
+     * Creates publisher of the rows of data query. The query is executed when the subscriber requests the first rows,
+     * the next parts of result are requested from server only when the subscriber has unsatisfied demand, so no
+     * thread is blocked while the rows are streamed. The publisher supports one subscriber. The optional dependency
+     * {@code org.reactivestreams:reactive-streams} must be added to the application to use this method.
+     *
+     * @param <T> type of mapped rows
+     * @param sql data query with one result set
+     * @param mapper mapper of rows, it gets the cursor positioned at the row to map
+     * @return publisher of mapped rows
+     * @throws SQLException if query cannot be published
+     */
+    <T> Publisher<T> executeQueryPublisher(String sql, YdbResultSet.RowMapper<T> mapper) throws SQLException;
+
     YdbValidator getValidator();
 
     @Override
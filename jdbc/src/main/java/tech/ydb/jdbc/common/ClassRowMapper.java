@@ -0,0 +1,385 @@
+package tech.ydb.jdbc.common;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import tech.ydb.jdbc.YdbConst;
+
+/**
+ * Mapper of result set rows to instances of the class. The mapper is compiled once for the columns of result shape
+ * and the class: the columns are matched with the properties of the class by names ignoring case and underscores,
+ * every column is read by the typed getter of result set and written by the method handle of the property, so no
+ * reflection is used on reading of rows.
+ * <p>
+ * Records are created by the canonical constructor, other classes are created by the public constructor without
+ * arguments and filled by public setters or public fields. The properties without columns keep default values, the
+ * columns without properties are ignored. The class and its enclosing classes must be public, because the mapper
+ * uses the public lookup. Of the overloaded setters the setter of the column type is used if it exists.
+ *
+ * @param <T> type of mapped objects
+ */
+public final class ClassRowMapper<T> {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.publicLookup();
+
+    private final Class<T> clazz;
+    private final RowReader reader;
+
+    private ClassRowMapper(Class<T> clazz, RowReader reader) {
+        this.clazz = clazz;
+        this.reader = reader;
+    }
+
+    /**
+     * Creates new object from the current row of result set
+     *
+     * @param rs result set with the columns of the shape this mapper was compiled for
+     * @return new object
+     * @throws SQLException if the values of row cannot be read or the object cannot be created
+     */
+    public T map(ResultSet rs) throws SQLException {
+        try {
+            return clazz.cast(reader.read(rs));
+        } catch (SQLException | RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable th) {
+            throw new SQLException(YdbConst.CANNOT_MAP_ROW_TO_CLASS + clazz.getName(), th);
+        }
+    }
+
+    static <T> ClassRowMapper<T> compile(ResultShape shape, Class<T> clazz) throws SQLException {
+        // public lookup has access only to the public members of public classes
+        for (Class<?> cls = clazz; cls != null; cls = cls.getEnclosingClass()) {
+            if (!Modifier.isPublic(cls.getModifiers())) {
+                throw new SQLException(YdbConst.CLASS_IS_NOT_PUBLIC + clazz.getName());
+            }
+        }
+
+        try {
+            if (isRecord(clazz)) {
+                return new ClassRowMapper<>(clazz, compileRecord(shape, clazz));
+            }
+            return new ClassRowMapper<>(clazz, compileBean(shape, clazz));
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            throw new SQLException(YdbConst.CANNOT_MAP_ROW_TO_CLASS + clazz.getName(), ex);
+        }
+    }
+
+    static String normalizeName(String name) {
+        return name.replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isRecord(Class<?> clazz) {
+        // java.lang.Record is not available in Java 8
+        return clazz.getSuperclass() != null && "java.lang.Record".equals(clazz.getSuperclass().getName());
+    }
+
+    private static RowReader compileRecord(ResultShape shape, Class<?> clazz) throws ReflectiveOperationException {
+        Object[] components = (Object[]) Class.class.getMethod("getRecordComponents").invoke(clazz);
+        Class<?>[] types = new Class<?>[components.length];
+        Object[] defaults = new Object[components.length];
+        Map<String, Integer> positions = new HashMap<>();
+        for (int idx = 0; idx < components.length; idx++) {
+            Object component = components[idx];
+            String name = (String) component.getClass().getMethod("getName").invoke(component);
+            types[idx] = (Class<?>) component.getClass().getMethod("getType").invoke(component);
+            defaults[idx] = types[idx].isPrimitive() ? Array.get(Array.newInstance(types[idx], 1), 0) : null;
+            positions.putIfAbsent(normalizeName(name), idx);
+        }
+
+        int[] argIndexes = new int[shape.getColumnCount()];
+        ColumnReader[] readers = new ColumnReader[shape.getColumnCount()];
+        int count = 0;
+        for (int column = 0; column < shape.getColumnCount(); column++) {
+            Integer position = positions.remove(normalizeName(shape.getColumn(column).getName()));
+            if (position != null) {
+                argIndexes[count] = position;
+                readers[count] = ColumnReader.of(types[position], column + 1);
+                count++;
+            }
+        }
+
+        Constructor<?> ctor = clazz.getConstructor(types);
+        MethodHandle create = LOOKUP.unreflectConstructor(ctor)
+                .asSpreader(Object[].class, types.length)
+                .asType(MethodType.methodType(Object.class, Object[].class));
+        return new RecordReader(create, defaults, readers, argIndexes, count);
+    }
+
+    private static RowReader compileBean(ResultShape shape, Class<?> clazz) throws ReflectiveOperationException {
+        Map<String, List<Property>> properties = new HashMap<>();
+        for (Method method : clazz.getMethods()) {
+            String name = method.getName();
+            if (!Modifier.isStatic(method.getModifiers()) && name.length() > 3 && name.startsWith("set")
+                    && method.getParameterCount() == 1) {
+                MethodHandle handle = LOOKUP.unreflect(method);
+                properties.computeIfAbsent(normalizeName(name.substring(3)), key -> new ArrayList<>())
+                        .add(new Property(name, method.getParameterTypes()[0], handle));
+            }
+        }
+        for (Field field : clazz.getFields()) {
+            int modifiers = field.getModifiers();
+            if (!Modifier.isStatic(modifiers) && !Modifier.isFinal(modifiers)) {
+                MethodHandle handle = LOOKUP.unreflectSetter(field);
+                properties.putIfAbsent(normalizeName(field.getName()),
+                        Collections.singletonList(new Property(field.getName(), field.getType(), handle)));
+            }
+        }
+
+        ColumnWriter[] writers = new ColumnWriter[shape.getColumnCount()];
+        int count = 0;
+        for (int column = 0; column < shape.getColumnCount(); column++) {
+            ColumnInfo info = shape.getColumn(column);
+            List<Property> candidates = properties.remove(normalizeName(info.getName()));
+            if (candidates != null) {
+                Property property = selectProperty(candidates, info.getSqlType().getJavaType());
+                writers[count++] = ColumnWriter.of(property.type, property.setter, column + 1);
+            }
+        }
+
+        MethodHandle create = LOOKUP.unreflectConstructor(clazz.getConstructor())
+                .asType(MethodType.methodType(Object.class));
+        ColumnWriter[] used = new ColumnWriter[count];
+        System.arraycopy(writers, 0, used, 0, count);
+        return new BeanReader(create, used);
+    }
+
+    /**
+     * Selects one of the overloaded setters. The setter of the column java type or of its primitive type is used if
+     * it exists, otherwise the setter with the first parameter type name in alphabetical order is used. The order of
+     * {@link Class#getMethods()} is unspecified, so the candidates are sorted to make the choice stable.
+     */
+    private static Property selectProperty(List<Property> candidates, Class<?> columnType) {
+        List<Property> sorted = new ArrayList<>(candidates);
+        sorted.sort(Comparator.comparing((Property p) -> p.type.getName()).thenComparing(p -> p.name));
+        for (Property property : sorted) {
+            if (MethodType.methodType(property.type).wrap().returnType() == columnType) {
+                return property;
+            }
+        }
+        return sorted.get(0);
+    }
+
+    private static class Property {
+        private final String name;
+        private final Class<?> type;
+        private final MethodHandle setter;
+
+        Property(String name, Class<?> type, MethodHandle setter) {
+            this.name = name;
+            this.type = type;
+            this.setter = setter;
+        }
+    }
+
+    private interface RowReader {
+        Object read(ResultSet rs) throws Throwable;
+    }
+
+    private static class RecordReader implements RowReader {
+        private final MethodHandle create;
+        private final Object[] defaults;
+        private final ColumnReader[] readers;
+        private final int[] argIndexes;
+        private final int count;
+
+        RecordReader(MethodHandle create, Object[] defaults, ColumnReader[] readers, int[] argIndexes, int count) {
+            this.create = create;
+            this.defaults = defaults;
+            this.readers = readers;
+            this.argIndexes = argIndexes;
+            this.count = count;
+        }
+
+        @Override
+        public Object read(ResultSet rs) throws Throwable {
+            Object[] args = defaults.clone();
+            for (int idx = 0; idx < count; idx++) {
+                args[argIndexes[idx]] = readers[idx].read(rs);
+            }
+            return (Object) create.invokeExact(args);
+        }
+    }
+
+    private static class BeanReader implements RowReader {
+        private final MethodHandle create;
+        private final ColumnWriter[] writers;
+
+        BeanReader(MethodHandle create, ColumnWriter[] writers) {
+            this.create = create;
+            this.writers = writers;
+        }
+
+        @Override
+        public Object read(ResultSet rs) throws Throwable {
+            Object target = (Object) create.invokeExact();
+            for (ColumnWriter writer : writers) {
+                writer.write(rs, target);
+            }
+            return target;
+        }
+    }
+
+    /**
+     * Reader of column value for the argument of constructor
+     */
+    private interface ColumnReader {
+        Object read(ResultSet rs) throws SQLException;
+
+        static ColumnReader of(Class<?> type, int column) {
+            if (type == boolean.class) {
+                return rs -> rs.getBoolean(column);
+            }
+            if (type == byte.class) {
+                return rs -> rs.getByte(column);
+            }
+            if (type == short.class) {
+                return rs -> rs.getShort(column);
+            }
+            if (type == int.class) {
+                return rs -> rs.getInt(column);
+            }
+            if (type == long.class) {
+                return rs -> rs.getLong(column);
+            }
+            if (type == float.class) {
+                return rs -> rs.getFloat(column);
+            }
+            if (type == double.class) {
+                return rs -> rs.getDouble(column);
+            }
+            if (type == char.class) {
+                return rs -> {
+                    String value = rs.getString(column);
+                    return value != null && !value.isEmpty() ? value.charAt(0) : '\0';
+                };
+            }
+            return objectReader(type, column);
+        }
+
+        static ColumnReader objectReader(Class<?> type, int column) {
+            if (type == String.class) {
+                return rs -> rs.getString(column);
+            }
+            if (type == BigDecimal.class) {
+                return rs -> rs.getBigDecimal(column);
+            }
+            if (type == byte[].class) {
+                return rs -> rs.getBytes(column);
+            }
+            if (type == Timestamp.class) {
+                return rs -> rs.getTimestamp(column);
+            }
+            if (type == Date.class) {
+                return rs -> rs.getDate(column);
+            }
+            if (type == Time.class) {
+                return rs -> rs.getTime(column);
+            }
+            if (type == Object.class) {
+                return rs -> rs.getObject(column);
+            }
+            return rs -> rs.getObject(column, type);
+        }
+    }
+
+    /**
+     * Writer of column value to the property of object, the primitive values are written without boxing
+     */
+    private abstract static class ColumnWriter {
+        protected final MethodHandle setter;
+        protected final int column;
+
+        ColumnWriter(MethodHandle setter, Class<?> type, int column) {
+            this.setter = setter.asType(MethodType.methodType(void.class, Object.class, type));
+            this.column = column;
+        }
+
+        abstract void write(ResultSet rs, Object target) throws Throwable;
+
+        static ColumnWriter of(Class<?> type, MethodHandle setter, int column) {
+            if (type == boolean.class) {
+                return new ColumnWriter(setter, boolean.class, column) {
+                    @Override
+                    void write(ResultSet rs, Object target) throws Throwable {
+                        this.setter.invokeExact(target, rs.getBoolean(column));
+                    }
+                };
+            }
+            if (type == byte.class) {
+                return new ColumnWriter(setter, byte.class, column) {
+                    @Override
+                    void write(ResultSet rs, Object target) throws Throwable {
+                        this.setter.invokeExact(target, rs.getByte(column));
+                    }
+                };
+            }
+            if (type == short.class) {
+                return new ColumnWriter(setter, short.class, column) {
+                    @Override
+                    void write(ResultSet rs, Object target) throws Throwable {
+                        this.setter.invokeExact(target, rs.getShort(column));
+                    }
+                };
+            }
+            if (type == int.class) {
+                return new ColumnWriter(setter, int.class, column) {
+                    @Override
+                    void write(ResultSet rs, Object target) throws Throwable {
+                        this.setter.invokeExact(target, rs.getInt(column));
+                    }
+                };
+            }
+            if (type == long.class) {
+                return new ColumnWriter(setter, long.class, column) {
+                    @Override
+                    void write(ResultSet rs, Object target) throws Throwable {
+                        this.setter.invokeExact(target, rs.getLong(column));
+                    }
+                };
+            }
+            if (type == float.class) {
+                return new ColumnWriter(setter, float.class, column) {
+                    @Override
+                    void write(ResultSet rs, Object target) throws Throwable {
+                        this.setter.invokeExact(target, rs.getFloat(column));
+                    }
+                };
+            }
+            if (type == double.class) {
+                return new ColumnWriter(setter, double.class, column) {
+                    @Override
+                    void write(ResultSet rs, Object target) throws Throwable {
+                        this.setter.invokeExact(target, rs.getDouble(column));
+                    }
+                };
+            }
+
+            ColumnReader reader = ColumnReader.of(type, column);
+            return new ColumnWriter(setter, Object.class, column) {
+                @Override
+                void write(ResultSet rs, Object target) throws Throwable {
+                    this.setter.invokeExact(target, reader.read(rs));
+                }
+            };
+        }
+    }
+}
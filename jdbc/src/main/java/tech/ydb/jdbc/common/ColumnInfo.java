@@ -1,6 +1,6 @@
 package tech.ydb.jdbc.common;
 
-import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.values.DecimalType;
 import tech.ydb.table.values.PrimitiveType;
 import tech.ydb.table.values.Type;
 
@@ -16,11 +16,19 @@ public class ColumnInfo {
 
     private final boolean isOptional;
     private final boolean isTimestamp;
+    private final boolean isDate;
     private final boolean isNumber;
     private final boolean isNull;
+    private final int decimalScale;
+    private final StringDictionary dictionary;
 
     public ColumnInfo(String name, TypeDescription type) {
+        this(name, type, null);
+    }
+
+    public ColumnInfo(String name, TypeDescription type, StringDictionary dictionary) {
         this.name = name;
+        this.dictionary = dictionary;
 
         this.sqlType = type.sqlType();
         this.getters = type.getters();
@@ -28,11 +36,14 @@ public class ColumnInfo {
         this.ydbType = type.ydbType();
 
         this.isTimestamp = ydbType == PrimitiveType.Timestamp || ydbType == PrimitiveType.Timestamp64;
+        this.isDate = ydbType == PrimitiveType.Date || ydbType == PrimitiveType.Date32;
         this.isNumber = ydbType == PrimitiveType.Int8 || ydbType == PrimitiveType.Uint8
                 || ydbType == PrimitiveType.Int16 || ydbType == PrimitiveType.Uint16
                 || ydbType == PrimitiveType.Int32 || ydbType == PrimitiveType.Uint32
                 || ydbType == PrimitiveType.Int64 || ydbType == PrimitiveType.Uint64;
         this.isNull = ydbType.getKind() == Type.Kind.NULL || ydbType.getKind() == Type.Kind.VOID;
+
+        this.decimalScale = ydbType.getKind() == Type.Kind.DECIMAL ? ((DecimalType) ydbType).getScale() : 0;
     }
 
     public String getName() {
@@ -51,6 +62,10 @@ public class ColumnInfo {
         return isTimestamp;
     }
 
+    public boolean isDate() {
+        return isDate;
+    }
+
     public boolean isNumber() {
         return isNumber;
     }
@@ -59,6 +74,17 @@ public class ColumnInfo {
         return isOptional;
     }
 
+    /**
+     * @return dictionary of string values or {@code null} if the values of column are not deduplicated
+     */
+    public StringDictionary getStringDictionary() {
+        return dictionary;
+    }
+
+    public int getDecimalScale() {
+        return decimalScale;
+    }
+
     public MappingGetters.SqlType getSqlType() {
         return this.sqlType;
     }
@@ -67,13 +93,7 @@ public class ColumnInfo {
         return this.getters;
     }
 
-    public static ColumnInfo[] fromResultSetReader(YdbTypes types, ResultSetReader rsr) {
-        ColumnInfo[] columns = new ColumnInfo[rsr.getColumnCount()];
-        for (int idx = 0; idx < rsr.getColumnCount(); idx += 1) {
-            TypeDescription type = types.find(rsr.getColumnType(idx));
-            columns[idx] = new ColumnInfo(rsr.getColumnName(idx), type);
-        }
-        return columns;
+    static boolean isString(Type type) {
+        return type == PrimitiveType.Text || type == PrimitiveType.Bytes;
     }
-
 }
@@ -0,0 +1,226 @@
+package tech.ydb.jdbc.common;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Conversions between epoch based encodings of YDB datetime types and {@code java.sql} types without intermediate
+ * {@code java.time} objects. The offsets of zones are taken from the cached period between two transitions of the
+ * zone. The values near transitions, outside of the Gregorian calendar or in the periods where {@link TimeZone} and
+ * {@link ZoneRules} disagree (like local mean time before the first transition) are converted by the
+ * {@code java.time} path, so the results are always the same as the results of {@link Date#valueOf(LocalDate)},
+ * {@link Timestamp#valueOf(LocalDateTime)} and {@link Instant#atZone(java.time.ZoneId)}.
+ */
+public final class DateTimeCodec {
+    public static final long SECONDS_PER_DAY = 86_400;
+
+    private static final long MILLIS_PER_SECOND = 1_000;
+    private static final int NANOS_PER_MICRO = 1_000;
+    private static final long MICROS_PER_SECOND = 1_000_000;
+
+    // java.sql types use the Julian calendar before 1582, so the fast path is limited by Gregorian dates
+    private static final long MIN_EPOCH_SECOND = LocalDate.of(1583, 1, 1).toEpochDay() * SECONDS_PER_DAY;
+    private static final long MAX_EPOCH_SECOND = LocalDate.of(9999, 12, 31).toEpochDay() * SECONDS_PER_DAY;
+
+    private static final int UNSTABLE_OFFSET = Integer.MIN_VALUE;
+    private static final ConcurrentHashMap<String, ZoneCache> ZONES = new ConcurrentHashMap<>();
+
+    private DateTimeCodec() { }
+
+    /**
+     * Returns {@link Date} of the local midnight of the given day in the default time zone
+     *
+     * @param epochDay count of days since epoch
+     * @return the same value as {@code Date.valueOf(LocalDate.ofEpochDay(epochDay))}
+     */
+    public static Date toSqlDate(long epochDay) {
+        if (epochDay >= MIN_EPOCH_SECOND / SECONDS_PER_DAY && epochDay <= MAX_EPOCH_SECOND / SECONDS_PER_DAY) {
+            long utcSeconds = fromLocalEpochSecond(TimeZone.getDefault(), epochDay * SECONDS_PER_DAY);
+            if (utcSeconds != Long.MIN_VALUE) {
+                return new Date(utcSeconds * MILLIS_PER_SECOND);
+            }
+        }
+        return Date.valueOf(LocalDate.ofEpochDay(epochDay));
+    }
+
+    /**
+     * Returns {@link Time} of the given local time of 1970-01-01 in the default time zone
+     *
+     * @param secondOfDay second of day
+     * @return the same value as {@code Time.valueOf(LocalTime.ofSecondOfDay(secondOfDay))}
+     */
+    public static Time toSqlTime(long secondOfDay) {
+        long utcSeconds = fromLocalEpochSecond(TimeZone.getDefault(), secondOfDay);
+        if (utcSeconds != Long.MIN_VALUE) {
+            return new Time(utcSeconds * MILLIS_PER_SECOND);
+        }
+        return Time.valueOf(LocalTime.ofSecondOfDay(secondOfDay));
+    }
+
+    /**
+     * Returns {@link Timestamp} of the given local date time in the default time zone
+     *
+     * @param localEpochSecond local date time as count of seconds since local epoch
+     * @param nanos nano of second
+     * @return the same value as {@code Timestamp.valueOf(LocalDateTime.ofEpochSecond(localEpochSecond, nanos, UTC))}
+     */
+    public static Timestamp toSqlTimestamp(long localEpochSecond, int nanos) {
+        if (localEpochSecond >= MIN_EPOCH_SECOND && localEpochSecond <= MAX_EPOCH_SECOND) {
+            long utcSeconds = fromLocalEpochSecond(TimeZone.getDefault(), localEpochSecond);
+            if (utcSeconds != Long.MIN_VALUE) {
+                Timestamp ts = new Timestamp(utcSeconds * MILLIS_PER_SECOND);
+                ts.setNanos(nanos);
+                return ts;
+            }
+        }
+        return Timestamp.valueOf(LocalDateTime.ofEpochSecond(localEpochSecond, nanos, ZoneOffset.UTC));
+    }
+
+    /**
+     * Returns local date time of the instant in the time zone
+     *
+     * @param tz time zone
+     * @param epochSecond instant as count of seconds since epoch
+     * @return local date time as count of seconds since local epoch
+     */
+    public static long toLocalEpochSecond(TimeZone tz, long epochSecond) {
+        int offset = stableOffset(tz, epochSecond);
+        if (offset != UNSTABLE_OFFSET) {
+            return epochSecond + offset;
+        }
+        Instant instant = Instant.ofEpochSecond(epochSecond);
+        return instant.atZone(tz.toZoneId()).toLocalDateTime().toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * Returns local date of the instant in the time zone
+     *
+     * @param tz time zone
+     * @param epochSecond instant as count of seconds since epoch
+     * @return local date as count of days since epoch
+     */
+    public static long toLocalEpochDay(TimeZone tz, long epochSecond) {
+        return Math.floorDiv(toLocalEpochSecond(tz, epochSecond), SECONDS_PER_DAY);
+    }
+
+    /**
+     * Returns microseconds since epoch of {@link Timestamp}
+     *
+     * @param ts timestamp
+     * @return the same value as the count of microseconds of {@code ts.toInstant()}
+     */
+    public static long toEpochMicros(Timestamp ts) {
+        long seconds = Math.floorDiv(ts.getTime(), MILLIS_PER_SECOND);
+        return Math.addExact(Math.multiplyExact(seconds, MICROS_PER_SECOND), ts.getNanos() / NANOS_PER_MICRO);
+    }
+
+    /**
+     * Returns microseconds since epoch of {@link Instant}
+     *
+     * @param instant instant
+     * @return count of microseconds, the nanoseconds are truncated
+     */
+    public static long toEpochMicros(Instant instant) {
+        long micros = Math.multiplyExact(instant.getEpochSecond(), MICROS_PER_SECOND);
+        return Math.addExact(micros, instant.getNano() / NANOS_PER_MICRO);
+    }
+
+    private static long fromLocalEpochSecond(TimeZone tz, long localSeconds) {
+        // the raw offset gives the guess which is less than one day away from the real instant
+        long guess = localSeconds - tz.getRawOffset() / MILLIS_PER_SECOND;
+        int offset = stableOffset(tz, guess);
+        return offset != UNSTABLE_OFFSET ? localSeconds - offset : Long.MIN_VALUE;
+    }
+
+    /**
+     * Returns the offset of zone if it doesn't change during one day before and after the instant
+     */
+    private static int stableOffset(TimeZone tz, long epochSecond) {
+        if (epochSecond < MIN_EPOCH_SECOND || epochSecond > MAX_EPOCH_SECOND) {
+            return UNSTABLE_OFFSET;
+        }
+
+        ZoneCache cache = ZONES.get(tz.getID());
+        if (cache == null) {
+            try {
+                cache = new ZoneCache(tz.toZoneId().getRules());
+            } catch (DateTimeException ex) {
+                return UNSTABLE_OFFSET;
+            }
+            ZONES.putIfAbsent(tz.getID(), cache);
+        }
+        return cache.offsetOf(tz, epochSecond);
+    }
+
+    private static class ZoneCache {
+        private final ZoneRules rules;
+        private volatile Period last = null;
+
+        ZoneCache(ZoneRules rules) {
+            this.rules = rules;
+        }
+
+        int offsetOf(TimeZone tz, long epochSecond) {
+            Period period = last;
+            if (period == null || !period.contains(epochSecond)) {
+                period = Period.find(rules, tz, epochSecond);
+                last = period;
+            }
+
+            if (period.offset == UNSTABLE_OFFSET) {
+                return UNSTABLE_OFFSET;
+            }
+            if (epochSecond - SECONDS_PER_DAY < period.from || epochSecond + SECONDS_PER_DAY >= period.to) {
+                return UNSTABLE_OFFSET;
+            }
+            return period.offset;
+        }
+    }
+
+    /**
+     * Period of constant offset between two transitions of zone
+     */
+    private static class Period {
+        private final long from;
+        private final long to;
+        private final int offset;
+
+        Period(long from, long to, int offset) {
+            this.from = from;
+            this.to = to;
+            this.offset = offset;
+        }
+
+        boolean contains(long epochSecond) {
+            return epochSecond >= from && epochSecond < to;
+        }
+
+        static Period find(ZoneRules rules, TimeZone tz, long epochSecond) {
+            Instant instant = Instant.ofEpochSecond(epochSecond);
+            int offset = rules.getOffset(instant).getTotalSeconds();
+            if (tz.getOffset(epochSecond * MILLIS_PER_SECOND) != offset * MILLIS_PER_SECOND) {
+                offset = UNSTABLE_OFFSET;
+            }
+            if (rules.isFixedOffset()) {
+                return new Period(Long.MIN_VALUE / 2, Long.MAX_VALUE / 2, offset);
+            }
+
+            ZoneOffsetTransition prev = rules.previousTransition(instant.plusSeconds(1));
+            ZoneOffsetTransition next = rules.nextTransition(instant);
+            long from = prev != null ? prev.toEpochSecond() : Long.MIN_VALUE / 2;
+            long to = next != null ? next.toEpochSecond() : Long.MAX_VALUE / 2;
+            return new Period(from, to, offset);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package tech.ydb.jdbc.common;
+
+import java.math.BigDecimal;
+
+import tech.ydb.table.values.DecimalType;
+import tech.ydb.table.values.DecimalValue;
+
+/**
+ * Conversions of decimal values which use long arithmetic when the unscaled value fits into 64 bits. All methods give
+ * the same results as the conversions over {@link BigDecimal}, the values which don't fit are left to the slow path.
+ */
+public final class DecimalCodec {
+    private static final int MAX_LONG_DIGITS = 18;
+    private static final long[] POWERS_OF_TEN = new long[MAX_LONG_DIGITS + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int idx = 1; idx <= MAX_LONG_DIGITS; idx++) {
+            POWERS_OF_TEN[idx] = POWERS_OF_TEN[idx - 1] * 10;
+        }
+    }
+
+    private DecimalCodec() { }
+
+    /**
+     * Checks if the unscaled value of decimal fits into long. Special values (NaN and infinities) never fit
+     *
+     * @param value decimal value
+     * @return {@code true} if {@link DecimalValue#getLow()} is the whole unscaled value
+     */
+    public static boolean isLongUnscaled(DecimalValue value) {
+        // 128-bit value fits into long when the high part is the sign extension of the low part
+        return value.getHigh() == (value.getLow() >> 63) && !value.isNan() && !value.isInf()
+                && !value.isNegativeInf();
+    }
+
+    public static BigDecimal toBigDecimal(DecimalValue value) {
+        if (isLongUnscaled(value)) {
+            return BigDecimal.valueOf(value.getLow(), value.getType().getScale());
+        }
+        return value.toBigDecimal();
+    }
+
+    /**
+     * Converts decimal to long without the loss of fractional part
+     *
+     * @param value decimal value
+     * @return integer value of decimal
+     * @throws ArithmeticException if the value has non zero fractional part or is out of long range
+     */
+    public static long toLongExact(DecimalValue value) {
+        if (!isLongUnscaled(value)) {
+            return value.toBigDecimal().longValueExact();
+        }
+
+        long unscaled = value.getLow();
+        int scale = value.getType().getScale();
+        if (scale > MAX_LONG_DIGITS) {
+            // any non zero long is less than 10^19, so it is a fraction here
+            if (unscaled != 0) {
+                throw new ArithmeticException("Rounding necessary");
+            }
+            return 0;
+        }
+
+        long divisor = POWERS_OF_TEN[scale];
+        if (unscaled % divisor != 0) {
+            throw new ArithmeticException("Rounding necessary");
+        }
+        return unscaled / divisor;
+    }
+
+    /**
+     * Builds decimal value of the given type from integer value
+     *
+     * @param type decimal type
+     * @param value integer value
+     * @return decimal value or {@code null} if the unscaled value doesn't fit into long or into the precision of type
+     */
+    public static DecimalValue tryFromLong(DecimalType type, long value) {
+        int scale = type.getScale();
+        if (scale > MAX_LONG_DIGITS) {
+            return value == 0 ? fromUnscaled(type, 0) : null;
+        }
+
+        long multiplier = POWERS_OF_TEN[scale];
+        long unscaled = value * multiplier;
+        if (unscaled / multiplier != value) {
+            return null; // overflow
+        }
+        return fromUnscaled(type, unscaled);
+    }
+
+    /**
+     * Builds decimal value of the given type from {@link BigDecimal} without rounding
+     *
+     * @param type decimal type
+     * @param value decimal value
+     * @return decimal value or {@code null} if the value needs rounding or the unscaled value doesn't fit into long
+     */
+    public static DecimalValue tryFromBigDecimal(DecimalType type, BigDecimal value) {
+        int valueScale = value.scale();
+        if (valueScale < 0 || valueScale > type.getScale() || value.precision() > MAX_LONG_DIGITS) {
+            return null;
+        }
+
+        int shift = type.getScale() - valueScale;
+        if (shift > MAX_LONG_DIGITS) {
+            return value.signum() == 0 ? fromUnscaled(type, 0) : null;
+        }
+
+        long unscaled = valueScale == 0 ? value.longValue() : value.unscaledValue().longValue();
+        long multiplier = POWERS_OF_TEN[shift];
+        long result = unscaled * multiplier;
+        if (result / multiplier != unscaled) {
+            return null; // overflow
+        }
+        return fromUnscaled(type, result);
+    }
+
+    private static DecimalValue fromUnscaled(DecimalType type, long unscaled) {
+        int precision = type.getPrecision();
+        if (precision <= MAX_LONG_DIGITS) {
+            long limit = POWERS_OF_TEN[precision];
+            if (unscaled >= limit || unscaled <= -limit) {
+                return null;
+            }
+        }
+        return type.newValueUnscaled(unscaled);
+    }
+}
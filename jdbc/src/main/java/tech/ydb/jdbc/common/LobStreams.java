@@ -0,0 +1,126 @@
+package tech.ydb.jdbc.common;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+
+/**
+ * Readers of large objects bound as streams. The data is read into the buffer which starts small and grows with the
+ * read data, the declared length only limits the reading. The buffer is wrapped into {@link ByteString} without
+ * copying, so the same array is passed to protobuf message.
+ */
+final class LobStreams {
+    private static final int DEFAULT_BUF_SIZE = 0x2000;
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private LobStreams() { }
+
+    static ByteString readBytes(InputStream stream, long length) throws IOException {
+        int limit = length < 0 ? MAX_ARRAY_SIZE : (int) Math.min(length, MAX_ARRAY_SIZE);
+        // the declared length may be much bigger than the stream, so only the already available data is trusted
+        byte[] buf = new byte[Math.min(Math.max(stream.available(), DEFAULT_BUF_SIZE), limit)];
+        int size = 0;
+        while (size < limit) {
+            if (size == buf.length) {
+                buf = Arrays.copyOf(buf, grow(buf.length, limit));
+            }
+            int nRead = stream.read(buf, size, buf.length - size);
+            if (nRead < 0) {
+                break;
+            }
+            size += nRead;
+        }
+
+        return wrap(buf, size);
+    }
+
+    static ByteString encodeUtf8(Reader reader, long length) throws IOException {
+        long limit = length < 0 ? Long.MAX_VALUE : length;
+        CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+        CharBuffer chars = CharBuffer.allocate(DEFAULT_BUF_SIZE);
+        ByteBuffer out = ByteBuffer.allocate(DEFAULT_BUF_SIZE);
+
+        long total = 0;
+        boolean isEnd = false;
+        while (!isEnd) {
+            int maxRead = (int) Math.min(chars.remaining(), limit - total);
+            int nRead = maxRead > 0 ? reader.read(chars.array(), chars.position(), maxRead) : -1;
+            if (nRead < 0) {
+                isEnd = true;
+            } else {
+                total += nRead;
+                chars.position(chars.position() + nRead);
+            }
+
+            chars.flip();
+            out = encode(encoder, chars, out, isEnd);
+            chars.compact();
+        }
+
+        while (encoder.flush(out) == CoderResult.OVERFLOW) {
+            out = expand(out);
+        }
+
+        return wrap(out.array(), out.position());
+    }
+
+    static String readString(Reader reader, long length) throws IOException {
+        long limit = length < 0 ? Long.MAX_VALUE : length;
+        StringBuilder sb = new StringBuilder((int) Math.min(DEFAULT_BUF_SIZE, Math.max(0, limit)));
+        char[] buf = new char[(int) Math.min(DEFAULT_BUF_SIZE, Math.max(1, limit))];
+
+        long total = 0;
+        while (total < limit) {
+            int nRead = reader.read(buf, 0, (int) Math.min(buf.length, limit - total));
+            if (nRead < 0) {
+                break;
+            }
+            sb.append(buf, 0, nRead);
+            total += nRead;
+        }
+        return sb.toString();
+    }
+
+    private static ByteBuffer encode(CharsetEncoder encoder, CharBuffer chars, ByteBuffer out, boolean isEnd) {
+        ByteBuffer buffer = out;
+        while (encoder.encode(chars, buffer, isEnd) == CoderResult.OVERFLOW) {
+            buffer = expand(buffer);
+        }
+        return buffer;
+    }
+
+    private static ByteBuffer expand(ByteBuffer buffer) {
+        byte[] next = Arrays.copyOf(buffer.array(), grow(buffer.capacity(), MAX_ARRAY_SIZE));
+        ByteBuffer expanded = ByteBuffer.wrap(next);
+        expanded.position(buffer.position());
+        return expanded;
+    }
+
+    private static int grow(int size, int limit) {
+        return (int) Math.min(Math.max(size * 2L, DEFAULT_BUF_SIZE), limit);
+    }
+
+    private static ByteString wrap(byte[] buf, int size) {
+        if (size == 0) {
+            return ByteString.EMPTY;
+        }
+        // too big tail is not worth to keep in memory
+        if (size < buf.length / 2) {
+            return UnsafeByteOperations.unsafeWrap(Arrays.copyOf(buf, size));
+        }
+        return UnsafeByteOperations.unsafeWrap(buf, 0, size);
+    }
+}
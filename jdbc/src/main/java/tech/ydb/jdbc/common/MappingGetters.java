@@ -1,12 +1,14 @@
 package tech.ydb.jdbc.common;
 
 import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.time.Duration;
 import java.time.Instant;
@@ -22,11 +24,14 @@ import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
+import com.google.protobuf.ByteString;
+
 import tech.ydb.jdbc.YdbConst;
 import tech.ydb.table.result.PrimitiveReader;
 import tech.ydb.table.result.ValueReader;
 import tech.ydb.table.values.DecimalValue;
 import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.PrimitiveValue;
 import tech.ydb.table.values.Type;
 import tech.ydb.table.values.Value;
 
@@ -56,7 +61,9 @@ public class MappingGetters {
                         valueToNString(id),
                         valueToURL(id),
                         valueToBigDecimal(id),
-                        valueToReader(id)
+                        valueToReader(id),
+                        valueToStream(id),
+                        castToLongNotSupported(id.name())
                 );
             case DECIMAL:
                 return new Getters(
@@ -75,7 +82,9 @@ public class MappingGetters {
                         castToNStringNotSupported(clazz),
                         castToUrlNotSupported(clazz),
                         value -> safeDecimal(value.getDecimal()),
-                        castToReaderNotSupported(clazz)
+                        castToReaderNotSupported(clazz),
+                        castToStreamNotSupported(clazz),
+                        value -> safeDecimalUnscaled(value.getDecimal())
                 );
             case VOID:
             case NULL:
@@ -100,7 +109,9 @@ public class MappingGetters {
                         value -> null,
                         value -> null,
                         value -> null,
-                        value -> null
+                        value -> null,
+                        value -> null,
+                        value -> 0
                 );
             default:
                 return new Getters(
@@ -119,7 +130,9 @@ public class MappingGetters {
                         castToNStringNotSupported(clazz),
                         castToUrlNotSupported(clazz),
                         castToBigDecimalNotSupported(clazz),
-                        castToReaderNotSupported(clazz)
+                        castToReaderNotSupported(clazz),
+                        castToStreamNotSupported(clazz),
+                        castToLongNotSupported(clazz)
                 );
         }
     }
@@ -127,7 +140,7 @@ public class MappingGetters {
     private static ValueToString valueToString(PrimitiveType id) {
         switch (id) {
             case Bytes:
-                return value -> new String(value.getBytes());
+                return value -> value.getBytesAsString(StandardCharsets.UTF_8);
             case Text:
                 return PrimitiveReader::getText;
             case Json:
@@ -135,7 +148,7 @@ public class MappingGetters {
             case JsonDocument:
                 return PrimitiveReader::getJsonDocument;
             case Yson:
-                return value -> new String(value.getYson());
+                return value -> new String(value.getYson(), StandardCharsets.UTF_8);
             case Uuid:
                 return value -> String.valueOf(value.getUuid());
             case Bool:
@@ -226,7 +239,7 @@ public class MappingGetters {
                             return true;
                         }
                     }
-                    throw cannotConvert(id, boolean.class, new String(stringValue));
+                    throw cannotConvert(id, boolean.class, new String(stringValue, StandardCharsets.UTF_8));
                 };
             case Text:
                 return value -> {
@@ -251,7 +264,7 @@ public class MappingGetters {
         if (value.isInf() || value.isNegativeInf() || value.isNan()) {
             throw cannotConvert(value.getType(), BigDecimal.class, value.toString());
         }
-        return value.toBigDecimal();
+        return DecimalCodec.toBigDecimal(value);
     }
 
     private static int safeDecimalInt(DecimalValue value) throws SQLException {
@@ -259,7 +272,7 @@ public class MappingGetters {
             throw cannotConvert(value.getType(), int.class, value.toString());
         }
         try {
-            return value.toBigDecimal().intValueExact();
+            return Math.toIntExact(DecimalCodec.toLongExact(value));
         } catch (ArithmeticException ex) {
             throw cannotConvert(value.getType(), int.class, value.toString());
         }
@@ -270,12 +283,19 @@ public class MappingGetters {
             throw cannotConvert(value.getType(), long.class, value.toString());
         }
         try {
-            return value.toBigDecimal().longValueExact();
+            return DecimalCodec.toLongExact(value);
         } catch (ArithmeticException ex) {
             throw cannotConvert(value.getType(), long.class, value.toString());
         }
     }
 
+    private static long safeDecimalUnscaled(DecimalValue value) throws SQLException {
+        if (!DecimalCodec.isLongUnscaled(value)) {
+            throw cannotConvert(value.getType(), long.class, value.toString());
+        }
+        return value.getLow();
+    }
+
     private static byte checkByteValue(PrimitiveType id, int value) throws SQLException {
         int ch = value >= 0 ? value : ~value;
         if ((ch & 0x7F) != ch) {
@@ -524,15 +544,15 @@ public class MappingGetters {
                 return PrimitiveReader::getBytes;
             case Text:
                 // TODO: pretty ineffective conversion (bytes -> string -> bytes)
-                return value -> value.getText().getBytes();
+                return value -> value.getText().getBytes(StandardCharsets.UTF_8);
             case Json:
-                return value -> value.getJson().getBytes();
+                return value -> value.getJson().getBytes(StandardCharsets.UTF_8);
             case JsonDocument:
-                return value -> value.getJsonDocument().getBytes();
+                return value -> value.getJsonDocument().getBytes(StandardCharsets.UTF_8);
             case Yson:
                 return PrimitiveReader::getYson;
             case Uuid:
-                return value -> value.getUuid().toString().getBytes();
+                return value -> value.getUuid().toString().getBytes(StandardCharsets.UTF_8);
             default:
                 return castToBytesNotSupported(id.name());
         }
@@ -570,7 +590,7 @@ public class MappingGetters {
     private static ValueToNString valueToNString(PrimitiveType id) {
         switch (id) {
             case Bytes:
-                return value -> new String(value.getBytes());
+                return value -> value.getBytesAsString(StandardCharsets.UTF_8);
             case Text:
                 return PrimitiveReader::getText;
             case Json:
@@ -578,7 +598,7 @@ public class MappingGetters {
             case JsonDocument:
                 return PrimitiveReader::getJsonDocument;
             case Yson:
-                return value -> new String(value.getYson());
+                return value -> new String(value.getYson(), StandardCharsets.UTF_8);
             case Uuid:
                 return value -> String.valueOf(value.getUuid());
             default:
@@ -589,7 +609,7 @@ public class MappingGetters {
     private static ValueToURL valueToURL(PrimitiveType id) {
         switch (id) {
             case Bytes:
-                return value -> new String(value.getBytes());
+                return value -> value.getBytesAsString(StandardCharsets.UTF_8);
             case Text:
                 return PrimitiveReader::getText;
             default:
@@ -629,8 +649,10 @@ public class MappingGetters {
     private static ValueToReader valueToReader(PrimitiveType id) {
         switch (id) {
             case Bytes:
-                return value -> new InputStreamReader(new ByteArrayInputStream(value.getBytes()));
+                // characters are decoded during reading
+                return value -> new InputStreamReader(bytesOf(value).newInput());
             case Text:
+                // protobuf message keeps decoded string, so StringReader doesn't make any copies
                 return value -> new StringReader(value.getText());
             case Json:
                 return value -> new StringReader(value.getJson());
@@ -645,6 +667,30 @@ public class MappingGetters {
         }
     }
 
+    private static ValueToStream valueToStream(PrimitiveType id) {
+        switch (id) {
+            case Bytes:
+                return value -> bytesOf(value).newInput();
+            case Yson:
+                return value -> new ByteArrayInputStream(value.getYson());
+            default:
+                ValueToBytes toBytes = valueToBytes(id);
+                return value -> new ByteArrayInputStream(toBytes.fromValue(value));
+        }
+    }
+
+    /**
+     * Returns content of Bytes value as {@link ByteString}. The content is shared with the result set message and
+     * isn't copied
+     */
+    private static ByteString bytesOf(ValueReader reader) {
+        ValueReader item = reader;
+        while (item.getType().getKind() == Type.Kind.OPTIONAL) {
+            item = item.getOptionalItem();
+        }
+        return ((PrimitiveValue) item.getValue()).getBytesAsByteString();
+    }
+
     private static SqlType buildPrimitiveType(int sqlType, PrimitiveType id) {
         switch (id) {
             case Text:
@@ -1072,6 +1118,12 @@ public class MappingGetters {
         };
     }
 
+    private static ValueToStream castToStreamNotSupported(String type) {
+        return value -> {
+            throw new SQLException(String.format(YdbConst.UNABLE_TO_CAST, type, InputStream.class));
+        };
+    }
+
     @SuppressWarnings("Convert2Lambda")
     private static ValueToClass castToClassNotSupported(String type) {
         return new ValueToClass() {
@@ -1099,6 +1151,8 @@ public class MappingGetters {
         private final ValueToURL toURL;
         private final ValueToBigDecimal toBigDecimal;
         private final ValueToReader toReader;
+        private final ValueToStream toStream;
+        private final ValueToLong toDecimalUnscaled;
 
         @SuppressWarnings("ParameterNumber")
         Getters(ValueToString toString,
@@ -1116,7 +1170,9 @@ public class MappingGetters {
                 ValueToNString toNString,
                 ValueToURL toURL,
                 ValueToBigDecimal toBigDecimal,
-                ValueToReader toReader) {
+                ValueToReader toReader,
+                ValueToStream toStream,
+                ValueToLong toDecimalUnscaled) {
             this.toString = toString;
             this.toBoolean = toBoolean;
             this.toByte = toByte;
@@ -1133,6 +1189,8 @@ public class MappingGetters {
             this.toURL = toURL;
             this.toBigDecimal = toBigDecimal;
             this.toReader = toReader;
+            this.toStream = toStream;
+            this.toDecimalUnscaled = toDecimalUnscaled;
         }
 
         public String readString(ValueReader reader) throws SQLException {
@@ -1198,6 +1256,14 @@ public class MappingGetters {
         public Reader readReader(ValueReader reader) throws SQLException {
             return toReader.fromValue(reader);
         }
+
+        public InputStream readStream(ValueReader reader) throws SQLException {
+            return toStream.fromValue(reader);
+        }
+
+        public long readDecimalUnscaled(ValueReader reader) throws SQLException {
+            return toDecimalUnscaled.fromValue(reader);
+        }
     }
 
     private interface ValueToString {
@@ -1264,6 +1330,10 @@ public class MappingGetters {
         Reader fromValue(ValueReader reader) throws SQLException;
     }
 
+    private interface ValueToStream {
+        InputStream fromValue(ValueReader reader) throws SQLException;
+    }
+
     //
 
     public static class SqlType {
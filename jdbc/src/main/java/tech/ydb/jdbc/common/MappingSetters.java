@@ -5,6 +5,7 @@ import java.io.InputStream;
 import java.io.Reader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.sql.Date;
 import java.sql.SQLException;
 import java.sql.Time;
@@ -13,15 +14,16 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.TimeZone;
 import java.util.UUID;
 
-import com.google.common.io.ByteStreams;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 
 import tech.ydb.jdbc.YdbConst;
 import tech.ydb.table.values.DecimalType;
@@ -35,12 +37,290 @@ import tech.ydb.table.values.Type;
 import tech.ydb.table.values.Value;
 
 public class MappingSetters {
-    private static final int DEFAULT_BUF_SIZE = 0x800;
     private static final BigInteger UINT64_MAX = BigInteger.ONE.shiftLeft(64);
 
     private MappingSetters() { }
 
     static Setters buildSetters(Type type) {
+        Setters setters = buildToValueImpl(type);
+        Type itemType = type.getKind() == Type.Kind.OPTIONAL ? ((OptionalType) type).getItemType() : type;
+        if (itemType.getKind() == Type.Kind.PRIMITIVE) {
+            Setters primitive = buildPrimitiveSetters((PrimitiveType) itemType, setters);
+            if (primitive != null) {
+                return primitive;
+            }
+        }
+        if (itemType.getKind() == Type.Kind.DECIMAL) {
+            DecimalType decimalType = (DecimalType) itemType;
+            return new PrimitiveSetters(setters) {
+                @Override
+                public Value<?> fromInt(int x) throws SQLException {
+                    DecimalValue value = DecimalCodec.tryFromLong(decimalType, x);
+                    return value != null ? value : setters.toValue(x);
+                }
+
+                @Override
+                public Value<?> fromLong(long x) throws SQLException {
+                    DecimalValue value = DecimalCodec.tryFromLong(decimalType, x);
+                    return value != null ? value : setters.toValue(x);
+                }
+            };
+        }
+        return setters;
+    }
+
+    @SuppressWarnings("MethodLength")
+    private static Setters buildPrimitiveSetters(PrimitiveType id, Setters generic) {
+        switch (id) {
+            case Bool:
+                return new PrimitiveSetters(generic) {
+                    @Override
+                    public Value<?> fromBoolean(boolean x) {
+                        return PrimitiveValue.newBool(x);
+                    }
+
+                    @Override
+                    public Value<?> fromInt(int x) {
+                        return PrimitiveValue.newBool(x > 0);
+                    }
+
+                    @Override
+                    public Value<?> fromLong(long x) {
+                        return PrimitiveValue.newBool(x > 0);
+                    }
+
+                    @Override
+                    public Value<?> fromFloat(float x) {
+                        return PrimitiveValue.newBool((long) x > 0);
+                    }
+
+                    @Override
+                    public Value<?> fromDouble(double x) {
+                        return PrimitiveValue.newBool((long) x > 0);
+                    }
+                };
+            case Int8:
+                return new PrimitiveSetters(generic) {
+                    @Override
+                    public Value<?> fromBoolean(boolean x) {
+                        return PrimitiveValue.newInt8((byte) (x ? 1 : 0));
+                    }
+
+                    @Override
+                    public Value<?> fromInt(int x) {
+                        return PrimitiveValue.newInt8((byte) x);
+                    }
+
+                    @Override
+                    public Value<?> fromLong(long x) {
+                        return PrimitiveValue.newInt8((byte) x);
+                    }
+                };
+            case Uint8:
+                return new PrimitiveSetters(generic) {
+                    @Override
+                    public Value<?> fromBoolean(boolean x) {
+                        return PrimitiveValue.newUint8(x ? 1 : 0);
+                    }
+
+                    @Override
+                    public Value<?> fromInt(int x) throws SQLException {
+                        if ((x & 0xFF) != x) {
+                            throw castNotSupported(id, x);
+                        }
+                        return PrimitiveValue.newUint8(x);
+                    }
+
+                    @Override
+                    public Value<?> fromLong(long x) throws SQLException {
+                        int value = (int) x;
+                        if ((value & 0xFF) != value) {
+                            throw castNotSupported(id, x);
+                        }
+                        return PrimitiveValue.newUint8(value);
+                    }
+                };
+            case Int16:
+                return new PrimitiveSetters(generic) {
+                    @Override
+                    public Value<?> fromBoolean(boolean x) {
+                        return PrimitiveValue.newInt16((short) (x ? 1 : 0));
+                    }
+
+                    @Override
+                    public Value<?> fromInt(int x) {
+                        return PrimitiveValue.newInt16((short) x);
+                    }
+
+                    @Override
+                    public Value<?> fromLong(long x) {
+                        return PrimitiveValue.newInt16((short) x);
+                    }
+                };
+            case Uint16:
+                return new PrimitiveSetters(generic) {
+                    @Override
+                    public Value<?> fromBoolean(boolean x) {
+                        return PrimitiveValue.newUint16(x ? 1 : 0);
+                    }
+
+                    @Override
+                    public Value<?> fromInt(int x) throws SQLException {
+                        if ((x & 0xFFFF) != x) {
+                            throw castNotSupported(id, x);
+                        }
+                        return PrimitiveValue.newUint16(x);
+                    }
+
+                    @Override
+                    public Value<?> fromLong(long x) throws SQLException {
+                        int value = (int) x;
+                        if ((value & 0xFFFF) != value) {
+                            throw castNotSupported(id, x);
+                        }
+                        return PrimitiveValue.newUint16(value);
+                    }
+                };
+            case Int32:
+                return new PrimitiveSetters(generic) {
+                    @Override
+                    public Value<?> fromBoolean(boolean x) {
+                        return PrimitiveValue.newInt32(x ? 1 : 0);
+                    }
+
+                    @Override
+                    public Value<?> fromInt(int x) {
+                        return PrimitiveValue.newInt32(x);
+                    }
+
+                    @Override
+                    public Value<?> fromLong(long x) {
+                        return PrimitiveValue.newInt32((int) x);
+                    }
+                };
+            case Uint32:
+                return new PrimitiveSetters(generic) {
+                    @Override
+                    public Value<?> fromBoolean(boolean x) {
+                        return PrimitiveValue.newUint32(x ? 1 : 0);
+                    }
+
+                    @Override
+                    public Value<?> fromInt(int x) {
+                        return PrimitiveValue.newUint32(x);
+                    }
+
+                    @Override
+                    public Value<?> fromLong(long x) throws SQLException {
+                        if ((x & 0xFFFFFFFFL) != x) {
+                            throw castNotSupported(id, x);
+                        }
+                        return PrimitiveValue.newUint32(x);
+                    }
+                };
+            case Int64:
+                return new PrimitiveSetters(generic) {
+                    @Override
+                    public Value<?> fromBoolean(boolean x) {
+                        return PrimitiveValue.newInt64(x ? 1 : 0);
+                    }
+
+                    @Override
+                    public Value<?> fromInt(int x) {
+                        return PrimitiveValue.newInt64(x);
+                    }
+
+                    @Override
+                    public Value<?> fromLong(long x) {
+                        return PrimitiveValue.newInt64(x);
+                    }
+                };
+            case Uint64:
+                return new PrimitiveSetters(generic) {
+                    @Override
+                    public Value<?> fromBoolean(boolean x) {
+                        return PrimitiveValue.newUint64(x ? 1 : 0);
+                    }
+
+                    @Override
+                    public Value<?> fromInt(int x) throws SQLException {
+                        if (x < 0) {
+                            throw castNotSupported(id, x);
+                        }
+                        return PrimitiveValue.newUint64(x);
+                    }
+
+                    @Override
+                    public Value<?> fromLong(long x) {
+                        return PrimitiveValue.newUint64(x);
+                    }
+                };
+            case Float:
+                return new PrimitiveSetters(generic) {
+                    @Override
+                    public Value<?> fromBoolean(boolean x) {
+                        return PrimitiveValue.newFloat(x ? 1f : 0f);
+                    }
+
+                    @Override
+                    public Value<?> fromInt(int x) {
+                        return PrimitiveValue.newFloat(x);
+                    }
+
+                    @Override
+                    public Value<?> fromLong(long x) {
+                        return PrimitiveValue.newFloat(x);
+                    }
+
+                    @Override
+                    public Value<?> fromFloat(float x) {
+                        return PrimitiveValue.newFloat(x);
+                    }
+
+                    @Override
+                    public Value<?> fromDouble(double x) {
+                        return PrimitiveValue.newFloat((float) x);
+                    }
+                };
+            case Double:
+                return new PrimitiveSetters(generic) {
+                    @Override
+                    public Value<?> fromBoolean(boolean x) {
+                        return PrimitiveValue.newDouble(x ? 1d : 0d);
+                    }
+
+                    @Override
+                    public Value<?> fromInt(int x) {
+                        return PrimitiveValue.newDouble(x);
+                    }
+
+                    @Override
+                    public Value<?> fromLong(long x) {
+                        return PrimitiveValue.newDouble(x);
+                    }
+
+                    @Override
+                    public Value<?> fromFloat(float x) {
+                        return PrimitiveValue.newDouble(x);
+                    }
+
+                    @Override
+                    public Value<?> fromDouble(double x) {
+                        return PrimitiveValue.newDouble(x);
+                    }
+                };
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Builds setters with conversions of boxed values only, the reference for the specialized setters
+     *
+     * @param type YDB type
+     * @return generic setters of type
+     */
+    static Setters buildGenericSetters(Type type) {
         return buildToValueImpl(type);
     }
 
@@ -51,7 +331,7 @@ public class MappingSetters {
             PrimitiveType id = (PrimitiveType) type;
             switch (id) {
                 case Bytes:
-                    return x -> PrimitiveValue.newBytesOwn(castAsBytes(id, x));
+                    return x -> PrimitiveValue.newBytes(castAsBytes(id, x));
                 case Text:
                     return x -> PrimitiveValue.newText(castAsString(id, x));
                 case Json:
@@ -59,7 +339,7 @@ public class MappingSetters {
                 case JsonDocument:
                     return x -> PrimitiveValue.newJsonDocument(castAsJson(id, x));
                 case Yson:
-                    return x -> PrimitiveValue.newYsonOwn(castAsYson(id, x));
+                    return x -> PrimitiveValue.newYson(castAsYson(id, x));
                 case Uuid:
                     return x -> castAsUuid(id, x);
                 case Bool:
@@ -166,37 +446,37 @@ public class MappingSetters {
         }
     }
 
-    private static byte[] castAsBytes(PrimitiveType type, Object x) throws SQLException {
+    private static ByteString castAsBytes(PrimitiveType type, Object x) throws SQLException {
         if (x instanceof byte[]) {
-            return (byte[]) x;
+            return UnsafeByteOperations.unsafeWrap((byte[]) x);
         } else if (x instanceof String) {
-            return ((String) x).getBytes();
+            return ByteString.copyFromUtf8((String) x);
         } else if (x instanceof InputStream) {
-            return ByteStream.fromInputStream((InputStream) x, -1).asByteArray();
+            return ByteStream.fromInputStream((InputStream) x, -1).asByteString();
         } else if (x instanceof Reader) {
-            return CharStream.fromReader((Reader) x, -1).asString().getBytes();
+            return CharStream.fromReader((Reader) x, -1).asUtf8Bytes();
         } else if (x instanceof ByteStream) {
-            return ((ByteStream) x).asByteArray();
+            return ((ByteStream) x).asByteString();
         } else if (x instanceof CharStream) {
-            return ((CharStream) x).asString().getBytes();
+            return ((CharStream) x).asUtf8Bytes();
         } else {
-            return castAsString(type, x).getBytes();
+            return ByteString.copyFromUtf8(castAsString(type, x));
         }
     }
 
-    private static byte[] castAsYson(PrimitiveType type, Object x) throws SQLException {
+    private static ByteString castAsYson(PrimitiveType type, Object x) throws SQLException {
         if (x instanceof byte[]) {
-            return (byte[]) x;
+            return UnsafeByteOperations.unsafeWrap((byte[]) x);
         } else if (x instanceof String) {
-            return ((String) x).getBytes();
+            return ByteString.copyFromUtf8((String) x);
         } else if (x instanceof InputStream) {
-            return ByteStream.fromInputStream((InputStream) x, -1).asByteArray();
+            return ByteStream.fromInputStream((InputStream) x, -1).asByteString();
         } else if (x instanceof Reader) {
-            return CharStream.fromReader((Reader) x, -1).asString().getBytes();
+            return CharStream.fromReader((Reader) x, -1).asUtf8Bytes();
         } else if (x instanceof ByteStream) {
-            return ((ByteStream) x).asByteArray();
+            return ((ByteStream) x).asByteString();
         } else if (x instanceof CharStream) {
-            return ((CharStream) x).asString().getBytes();
+            return ((CharStream) x).asUtf8Bytes();
         }
         throw castNotSupported(type, x);
     }
@@ -206,13 +486,13 @@ public class MappingSetters {
         if (x instanceof String) {
             return (String) x;
         } else if (x instanceof byte[]) {
-            return new String((byte[]) x);
+            return new String((byte[]) x, StandardCharsets.UTF_8);
         } else if (x instanceof InputStream) {
-            return new String(ByteStream.fromInputStream((InputStream) x, -1).asByteArray());
+            return ByteStream.fromInputStream((InputStream) x, -1).asByteString().toStringUtf8();
         } else if (x instanceof Reader) {
             return CharStream.fromReader((Reader) x, -1).asString();
         } else if (x instanceof ByteStream) {
-            return new String(((ByteStream) x).asByteArray());
+            return ((ByteStream) x).asByteString().toStringUtf8();
         } else if (x instanceof CharStream) {
             return ((CharStream) x).asString();
         } else {
@@ -224,13 +504,13 @@ public class MappingSetters {
         if (x instanceof String) {
             return (String) x;
         } else if (x instanceof byte[]) {
-            return new String((byte[]) x);
+            return new String((byte[]) x, StandardCharsets.UTF_8);
         } else if (x instanceof InputStream) {
-            return new String(ByteStream.fromInputStream((InputStream) x, -1).asByteArray());
+            return ByteStream.fromInputStream((InputStream) x, -1).asByteString().toStringUtf8();
         } else if (x instanceof Reader) {
             return CharStream.fromReader((Reader) x, -1).asString();
         } else if (x instanceof ByteStream) {
-            return new String(((ByteStream) x).asByteArray());
+            return ((ByteStream) x).asByteString().toStringUtf8();
         } else if (x instanceof CharStream) {
             return ((CharStream) x).asString();
         }
@@ -241,7 +521,7 @@ public class MappingSetters {
         if (x instanceof String) {
             return PrimitiveValue.newUuid((String) x);
         } else if (x instanceof byte[]) {
-            return PrimitiveValue.newUuid(new String((byte[]) x));
+            return PrimitiveValue.newUuid(new String((byte[]) x, StandardCharsets.UTF_8));
         } else if (x instanceof UUID) {
             return PrimitiveValue.newUuid((UUID) x);
         }
@@ -539,7 +819,7 @@ public class MappingSetters {
 
     private static PrimitiveValue castToDate(PrimitiveType type, Object x) throws SQLException {
         if (x instanceof Instant) {
-            return PrimitiveValue.newDate(((Instant) x).atZone(ZoneId.systemDefault()).toLocalDate());
+            return PrimitiveValue.newDate(localEpochDay(((Instant) x).getEpochSecond()));
         } else if (x instanceof LocalDateTime) {
             return PrimitiveValue.newDate(((LocalDateTime) x).toLocalDate());
         } else if (x instanceof LocalDate) {
@@ -550,14 +830,10 @@ public class MappingSetters {
             return PrimitiveValue.newDate(LocalDate.ofEpochDay((Long) x));
         } else if (x instanceof Timestamp) {
             // Normalize date - use system timezone to detect correct date
-            Instant instant = Instant.ofEpochMilli(((Timestamp) x).getTime());
-            LocalDate ld = instant.atZone(ZoneId.systemDefault()).toLocalDate();
-            return PrimitiveValue.newDate(ld);
+            return PrimitiveValue.newDate(localEpochDay(Math.floorDiv(((Timestamp) x).getTime(), 1000)));
         } else if (x instanceof Date) {
             // Normalize date - use system timezone to detect correct date
-            Instant instant = Instant.ofEpochMilli(((Date) x).getTime());
-            LocalDate ld = instant.atZone(ZoneId.systemDefault()).toLocalDate();
-            return PrimitiveValue.newDate(ld);
+            return PrimitiveValue.newDate(localEpochDay(Math.floorDiv(((Date) x).getTime(), 1000)));
         } else if (x instanceof String) {
             try {
                 return PrimitiveValue.newDate(LocalDate.parse((String) x));
@@ -570,7 +846,7 @@ public class MappingSetters {
 
     private static PrimitiveValue castToDateTime(PrimitiveType type, Object x) throws SQLException {
         if (x instanceof Instant) {
-            return PrimitiveValue.newDatetime(((Instant) x).atZone(ZoneId.systemDefault()).toLocalDateTime());
+            return PrimitiveValue.newDatetime(localEpochSecond(((Instant) x).getEpochSecond()));
         } else if (x instanceof LocalDateTime) {
             return PrimitiveValue.newDatetime(((LocalDateTime) x));
         } else if (x instanceof LocalDate) {
@@ -579,14 +855,11 @@ public class MappingSetters {
             return PrimitiveValue.newDatetime(LocalDateTime.ofEpochSecond((Long) x, 0, ZoneOffset.UTC));
         } else if (x instanceof Timestamp) {
             // Normalize date - use system timezone to detect correct date
-            Instant instant = Instant.ofEpochMilli(((Timestamp) x).getTime());
-            LocalDateTime ldt = instant.atZone(ZoneId.systemDefault()).toLocalDateTime();
-            return PrimitiveValue.newDatetime(ldt);
+            return PrimitiveValue.newDatetime(localEpochSecond(Math.floorDiv(((Timestamp) x).getTime(), 1000)));
         } else if (x instanceof Date) {
             // Normalize date - use system timezone to detect correct date
-            Instant instant = Instant.ofEpochMilli(((Date) x).getTime());
-            LocalDate ld = instant.atZone(ZoneId.systemDefault()).toLocalDate();
-            return PrimitiveValue.newDatetime(ld.atStartOfDay());
+            long epochDay = localEpochDay(Math.floorDiv(((Date) x).getTime(), 1000));
+            return PrimitiveValue.newDatetime(epochDay * DateTimeCodec.SECONDS_PER_DAY);
         } else if (x instanceof String) {
             try {
                 return PrimitiveValue.newDatetime(LocalDateTime.parse((String) x));
@@ -608,7 +881,7 @@ public class MappingSetters {
             long epochSeconds = ((LocalDateTime) x).toEpochSecond(ZoneOffset.UTC);
             return PrimitiveValue.newTimestamp(Instant.ofEpochSecond(epochSeconds));
         } else if (x instanceof Timestamp) {
-            return PrimitiveValue.newTimestamp(((Timestamp) x).toInstant());
+            return PrimitiveValue.newTimestamp(DateTimeCodec.toEpochMicros((Timestamp) x));
         } else if (x instanceof Date) {
             Instant instant = ((Date) x).toLocalDate().atStartOfDay().toInstant(ZoneOffset.UTC);
             return PrimitiveValue.newTimestamp(instant);
@@ -641,7 +914,7 @@ public class MappingSetters {
 
     private static PrimitiveValue castToDate32(PrimitiveType type, Object x) throws SQLException {
         if (x instanceof Instant) {
-            return PrimitiveValue.newDate32(((Instant) x).atZone(ZoneId.systemDefault()).toLocalDate());
+            return PrimitiveValue.newDate32(localEpochDay(((Instant) x).getEpochSecond()));
         } else if (x instanceof LocalDateTime) {
             return PrimitiveValue.newDate32(((LocalDateTime) x).toLocalDate());
         } else if (x instanceof LocalDate) {
@@ -652,14 +925,10 @@ public class MappingSetters {
             return PrimitiveValue.newDate32(LocalDate.ofEpochDay((Long) x));
         } else if (x instanceof Timestamp) {
             // Normalize date - use system timezone to detect correct date
-            Instant instant = Instant.ofEpochMilli(((Timestamp) x).getTime());
-            LocalDate ld = instant.atZone(ZoneId.systemDefault()).toLocalDate();
-            return PrimitiveValue.newDate32(ld);
+            return PrimitiveValue.newDate32(localEpochDay(Math.floorDiv(((Timestamp) x).getTime(), 1000)));
         } else if (x instanceof Date) {
             // Normalize date - use system timezone to detect correct date
-            Instant instant = Instant.ofEpochMilli(((Date) x).getTime());
-            LocalDate ld = instant.atZone(ZoneId.systemDefault()).toLocalDate();
-            return PrimitiveValue.newDate32(ld);
+            return PrimitiveValue.newDate32(localEpochDay(Math.floorDiv(((Date) x).getTime(), 1000)));
         } else if (x instanceof String) {
             try {
                 return PrimitiveValue.newDate32(LocalDate.parse((String) x));
@@ -672,7 +941,7 @@ public class MappingSetters {
 
     private static PrimitiveValue castToDateTime64(PrimitiveType type, Object x) throws SQLException {
         if (x instanceof Instant) {
-            return PrimitiveValue.newDatetime64(((Instant) x).atZone(ZoneId.systemDefault()).toLocalDateTime());
+            return PrimitiveValue.newDatetime64(localEpochSecond(((Instant) x).getEpochSecond()));
         } else if (x instanceof LocalDateTime) {
             return PrimitiveValue.newDatetime64(((LocalDateTime) x));
         } else if (x instanceof LocalDate) {
@@ -681,14 +950,11 @@ public class MappingSetters {
             return PrimitiveValue.newDatetime64(LocalDateTime.ofEpochSecond((Long) x, 0, ZoneOffset.UTC));
         } else if (x instanceof Timestamp) {
             // Normalize date - use system timezone to detect correct date
-            Instant instant = Instant.ofEpochMilli(((Timestamp) x).getTime());
-            LocalDateTime ldt = instant.atZone(ZoneId.systemDefault()).toLocalDateTime();
-            return PrimitiveValue.newDatetime64(ldt);
+            return PrimitiveValue.newDatetime64(localEpochSecond(Math.floorDiv(((Timestamp) x).getTime(), 1000)));
         } else if (x instanceof Date) {
             // Normalize date - use system timezone to detect correct date
-            Instant instant = Instant.ofEpochMilli(((Date) x).getTime());
-            LocalDate ld = instant.atZone(ZoneId.systemDefault()).toLocalDate();
-            return PrimitiveValue.newDatetime64(ld.atStartOfDay());
+            long epochDay = localEpochDay(Math.floorDiv(((Date) x).getTime(), 1000));
+            return PrimitiveValue.newDatetime64(epochDay * DateTimeCodec.SECONDS_PER_DAY);
         } else if (x instanceof String) {
             try {
                 return PrimitiveValue.newDatetime64(LocalDateTime.parse((String) x));
@@ -710,7 +976,7 @@ public class MappingSetters {
             long epochSeconds = ((LocalDateTime) x).toEpochSecond(ZoneOffset.UTC);
             return PrimitiveValue.newTimestamp64(Instant.ofEpochSecond(epochSeconds));
         } else if (x instanceof Timestamp) {
-            return PrimitiveValue.newTimestamp64(((Timestamp) x).toInstant());
+            return PrimitiveValue.newTimestamp64(DateTimeCodec.toEpochMicros((Timestamp) x));
         } else if (x instanceof Date) {
             Instant instant = ((Date) x).toLocalDate().atStartOfDay().toInstant(ZoneOffset.UTC);
             return PrimitiveValue.newTimestamp64(instant);
@@ -724,6 +990,14 @@ public class MappingSetters {
         throw castNotSupported(type, x);
     }
 
+    private static long localEpochSecond(long epochSecond) {
+        return DateTimeCodec.toLocalEpochSecond(TimeZone.getDefault(), epochSecond);
+    }
+
+    private static long localEpochDay(long epochSecond) {
+        return DateTimeCodec.toLocalEpochDay(TimeZone.getDefault(), epochSecond);
+    }
+
     private static DecimalValue validateValue(DecimalType type, DecimalValue value, Object x) throws SQLException {
         if (value.isNan()) {
             throw new SQLException(String.format(YdbConst.UNABLE_TO_CAST_TO_DECIMAL, type, toString(x), "NaN"));
@@ -741,49 +1015,154 @@ public class MappingSetters {
         if (x instanceof DecimalValue) {
             return validateValue(type, (DecimalValue) x, x);
         } else if (x instanceof BigDecimal) {
-            return validateValue(type, type.newValue((BigDecimal) x), x);
+            DecimalValue value = DecimalCodec.tryFromBigDecimal(type, (BigDecimal) x);
+            return value != null ? value : validateValue(type, type.newValue((BigDecimal) x), x);
         } else if (x instanceof BigInteger) {
             return validateValue(type, type.newValue((BigInteger) x), x);
-        } else if (x instanceof Long) {
-            return validateValue(type, type.newValue((Long) x), x);
-        } else if (x instanceof Integer) {
-            return validateValue(type, type.newValue((Integer) x), x);
-        } else if (x instanceof Short) {
-            return validateValue(type, type.newValue((Short) x), x);
-        } else if (x instanceof Byte) {
-            return validateValue(type, type.newValue((Byte) x), x);
+        } else if (x instanceof Long || x instanceof Integer || x instanceof Short || x instanceof Byte) {
+            long longValue = ((Number) x).longValue();
+            DecimalValue value = DecimalCodec.tryFromLong(type, longValue);
+            return value != null ? value : validateValue(type, type.newValue(longValue), x);
         } else if (x instanceof String) {
             return validateValue(type, type.newValue((String) x), x);
         }
         throw castNotSupported(type.getKind(), x);
     }
 
+    /**
+     * Converters of JDBC values to YDB values. Primitive methods allow to bind primitive values without boxing, by
+     * default they box the value and use {@link #toValue(Object)}
+     */
     public interface Setters {
         Value<?> toValue(Object value) throws SQLException;
+
+        default Value<?> fromBoolean(boolean value) throws SQLException {
+            return toValue(value);
+        }
+
+        default Value<?> fromInt(int value) throws SQLException {
+            return toValue(value);
+        }
+
+        default Value<?> fromLong(long value) throws SQLException {
+            return toValue(value);
+        }
+
+        default Value<?> fromFloat(float value) throws SQLException {
+            return toValue(value);
+        }
+
+        default Value<?> fromDouble(double value) throws SQLException {
+            return toValue(value);
+        }
+    }
+
+    /**
+     * Base of primitive setters, all not overridden conversions are passed to the generic setter. The conversions
+     * must give the same results as the generic setter gives for boxed values
+     */
+    private abstract static class PrimitiveSetters implements Setters {
+        private final Setters generic;
+        // converters must not capture the setters, otherwise the cached values of JDK classes keep them forever
+        private final ClassValue<BoxedConverter> converters = new ClassValue<BoxedConverter>() {
+            @Override
+            protected BoxedConverter computeValue(Class<?> clazz) {
+                return findConverter(clazz);
+            }
+        };
+
+        PrimitiveSetters(Setters generic) {
+            this.generic = generic;
+        }
+
+        @Override
+        public Value<?> toValue(Object value) throws SQLException {
+            if (value == null) {
+                return generic.toValue(null);
+            }
+            return converters.get(value.getClass()).convert(this, value);
+        }
+
+        @Override
+        public Value<?> fromBoolean(boolean x) throws SQLException {
+            return generic.toValue(x);
+        }
+
+        @Override
+        public Value<?> fromInt(int x) throws SQLException {
+            return generic.toValue(x);
+        }
+
+        @Override
+        public Value<?> fromLong(long x) throws SQLException {
+            return generic.toValue(x);
+        }
+
+        @Override
+        public Value<?> fromFloat(float x) throws SQLException {
+            return generic.toValue(x);
+        }
+
+        @Override
+        public Value<?> fromDouble(double x) throws SQLException {
+            return generic.toValue(x);
+        }
+
+        private static BoxedConverter findConverter(Class<?> clazz) {
+            if (clazz == Boolean.class) {
+                return (setters, x) -> setters.fromBoolean((Boolean) x);
+            }
+            if (clazz == Integer.class) {
+                return (setters, x) -> setters.fromInt((Integer) x);
+            }
+            if (clazz == Long.class) {
+                return (setters, x) -> setters.fromLong((Long) x);
+            }
+            if (clazz == Float.class) {
+                return (setters, x) -> setters.fromFloat((Float) x);
+            }
+            if (clazz == Double.class) {
+                return (setters, x) -> setters.fromDouble((Double) x);
+            }
+            return (setters, x) -> setters.generic.toValue(x);
+        }
+    }
+
+    private interface BoxedConverter {
+        Value<?> convert(PrimitiveSetters setters, Object x) throws SQLException;
     }
 
     public interface CharStream {
         String asString() throws SQLException;
 
+        /**
+         * Returns content of stream encoded in UTF-8. Default implementation encodes the result of {@link #asString()}
+         *
+         * @return UTF-8 bytes of content
+         * @throws SQLException if the content cannot be read
+         */
+        default ByteString asUtf8Bytes() throws SQLException {
+            return ByteString.copyFromUtf8(asString());
+        }
+
         static CharStream fromReader(Reader reader, long length) {
-            return () -> {
-                try {
-                    char[] buf = new char[DEFAULT_BUF_SIZE];
-                    StringBuilder sb = new StringBuilder();
-                    int nRead;
-                    long total = 0;
-                    while ((nRead = reader.read(buf)) != -1) {
-                        total += nRead;
-                        if (length < 0 || total < length) {
-                            sb.append(buf, 0, nRead);
-                        } else {
-                            sb.append(buf, 0, nRead - (int) (total - length));
-                            break;
-                        }
+            return new CharStream() {
+                @Override
+                public String asString() {
+                    try {
+                        return LobStreams.readString(reader, length);
+                    } catch (IOException e) {
+                        throw new RuntimeException(YdbConst.CANNOT_LOAD_DATA_FROM_READER + e.getMessage(), e);
+                    }
+                }
+
+                @Override
+                public ByteString asUtf8Bytes() {
+                    try {
+                        return LobStreams.encodeUtf8(reader, length);
+                    } catch (IOException e) {
+                        throw new RuntimeException(YdbConst.CANNOT_LOAD_DATA_FROM_READER + e.getMessage(), e);
                     }
-                    return sb.toString();
-                } catch (IOException e) {
-                    throw new RuntimeException(YdbConst.CANNOT_LOAD_DATA_FROM_READER + e.getMessage(), e);
                 }
             };
         }
@@ -792,17 +1171,31 @@ public class MappingSetters {
     public interface ByteStream {
         byte[] asByteArray() throws SQLException;
 
-        @SuppressWarnings("UnstableApiUsage")
+        /**
+         * Returns content of stream as {@link ByteString}. Default implementation wraps the result of
+         * {@link #asByteArray()} without copying
+         *
+         * @return content of stream
+         * @throws SQLException if the content cannot be read
+         */
+        default ByteString asByteString() throws SQLException {
+            return UnsafeByteOperations.unsafeWrap(asByteArray());
+        }
+
         static ByteStream fromInputStream(InputStream stream, long length) {
-            return () -> {
-                try {
-                    if (length >= 0) {
-                        return ByteStreams.toByteArray(ByteStreams.limit(stream, length));
-                    } else {
-                        return ByteStreams.toByteArray(stream);
+            return new ByteStream() {
+                @Override
+                public byte[] asByteArray() {
+                    return asByteString().toByteArray();
+                }
+
+                @Override
+                public ByteString asByteString() {
+                    try {
+                        return LobStreams.readBytes(stream, length);
+                    } catch (IOException e) {
+                        throw new RuntimeException(YdbConst.CANNOT_LOAD_DATA_FROM_IS + e.getMessage(), e);
                     }
-                } catch (IOException e) {
-                    throw new RuntimeException(YdbConst.CANNOT_LOAD_DATA_FROM_IS + e.getMessage(), e);
                 }
             };
         }
@@ -0,0 +1,144 @@
+package tech.ydb.jdbc.common;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.values.Type;
+
+/**
+ * Immutable description of result set columns: column infos with precompiled getters and the map of column names to
+ * indexes. The instances are cached by {@link YdbTypes} and shared by all result sets with the same columns, so are
+ * the string dictionaries of the columns and the compiled row mappers.
+ */
+public final class ResultShape {
+    private final ColumnInfo[] columns;
+    private final Map<String, Integer> columnIndexes;
+    // mappers are kept by the classes themselves, so the cached shapes don't pin the classes and their class loaders
+    private final ClassValue<ClassRowMapper<?>> mappers = new ClassValue<ClassRowMapper<?>>() {
+        @Override
+        protected ClassRowMapper<?> computeValue(Class<?> clazz) {
+            try {
+                return ClassRowMapper.compile(ResultShape.this, clazz);
+            } catch (SQLException ex) {
+                // not cached, the next call compiles the mapper again and throws the same error
+                throw new MappingException(ex);
+            }
+        }
+    };
+
+    private ResultShape(ColumnInfo[] columns) {
+        this.columns = columns;
+
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int idx = 1; idx <= columns.length; idx += 1) {
+            indexes.putIfAbsent(columns[idx - 1].getName(), idx);
+        }
+        this.columnIndexes = Collections.unmodifiableMap(indexes);
+    }
+
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    /**
+     * Returns column info by index
+     *
+     * @param index 0-based column index
+     * @return column info
+     */
+    public ColumnInfo getColumn(int index) {
+        return columns[index];
+    }
+
+    /**
+     * Returns index of the first column with the name
+     *
+     * @param name column name
+     * @return 1-based column index or {@code null} if there is no such column
+     */
+    public Integer findColumnIndex(String name) {
+        return columnIndexes.get(name);
+    }
+
+    /**
+     * Returns mapper of rows with these columns to the objects of class, the mapper is compiled on the first call
+     *
+     * @param <T> type of objects
+     * @param clazz class of objects
+     * @return compiled mapper
+     * @throws SQLException if the class cannot be used for mapping
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ClassRowMapper<T> getRowMapper(Class<T> clazz) throws SQLException {
+        try {
+            return (ClassRowMapper<T>) mappers.get(clazz);
+        } catch (MappingException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    static ResultShape build(YdbTypes types, Key key) {
+        ColumnInfo[] columns = new ColumnInfo[key.names.length];
+        for (int idx = 0; idx < columns.length; idx += 1) {
+            TypeDescription type = types.find(key.types[idx]);
+            StringDictionary dictionary = null;
+            if (types.getStringDictionarySize() > 0 && ColumnInfo.isString(type.ydbType())) {
+                dictionary = new StringDictionary(types.getStringDictionarySize());
+            }
+            columns[idx] = new ColumnInfo(key.names[idx], type, dictionary);
+        }
+        return new ResultShape(columns);
+    }
+
+    private static final class MappingException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        MappingException(SQLException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized SQLException getCause() {
+            return (SQLException) super.getCause();
+        }
+    }
+
+    static final class Key {
+        private final String[] names;
+        private final Type[] types;
+        private final int hash;
+
+        Key(ResultSetReader rsr) {
+            int count = rsr.getColumnCount();
+            this.names = new String[count];
+            this.types = new Type[count];
+
+            for (int idx = 0; idx < count; idx += 1) {
+                names[idx] = rsr.getColumnName(idx);
+                types[idx] = rsr.getColumnType(idx);
+            }
+            this.hash = 31 * Arrays.hashCode(names) + Arrays.hashCode(types);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key o = (Key) other;
+            return hash == o.hash && Arrays.equals(names, o.names) && Arrays.equals(types, o.types);
+        }
+    }
+}
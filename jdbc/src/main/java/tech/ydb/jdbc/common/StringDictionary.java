@@ -0,0 +1,48 @@
+package tech.ydb.jdbc.common;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded dictionary of short string values of one column. The result sets of the same shape share the dictionary,
+ * so repeated values of low-cardinality columns (statuses, countries and so on) are returned as the same instance.
+ * The dictionary stops accepting new values when it is full, the values read before are deduplicated further.
+ */
+public final class StringDictionary {
+    static final int MAX_VALUE_LENGTH = 64;
+
+    private final int maxSize;
+    private final ConcurrentHashMap<String, String> values = new ConcurrentHashMap<>();
+
+    public StringDictionary(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the instance of dictionary equal to the value or the value itself if the dictionary doesn't contain it
+     * and cannot accept it
+     *
+     * @param value string value
+     * @return deduplicated value
+     */
+    public String dedup(String value) {
+        if (value == null || value.length() > MAX_VALUE_LENGTH) {
+            return value;
+        }
+
+        String known = values.get(value);
+        if (known != null) {
+            return known;
+        }
+
+        // size check is racy, the dictionary may slightly exceed the limit under concurrent reads
+        if (values.size() >= maxSize) {
+            return value;
+        }
+        known = values.putIfAbsent(value, value);
+        return known != null ? known : value;
+    }
+
+    public int size() {
+        return values.size();
+    }
+}
@@ -77,6 +77,10 @@ public class TypeDescription {
         return getters;
     }
 
+    public MappingSetters.Setters setters() {
+        return setters;
+    }
+
     public Value<?> toYdbValue(Object obj) throws SQLException {
         try {
             return setters.toValue(obj);
@@ -17,8 +17,12 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 import tech.ydb.jdbc.YdbConst;
 import tech.ydb.jdbc.settings.YdbOperationProperties;
+import tech.ydb.table.result.ResultSetReader;
 import tech.ydb.table.values.DecimalType;
 import tech.ydb.table.values.DecimalValue;
 import tech.ydb.table.values.PrimitiveType;
@@ -27,17 +31,34 @@ import tech.ydb.table.values.Value;
 import tech.ydb.table.values.VoidType;
 
 public class YdbTypes {
+    private static final int SHAPES_CACHE_SIZE = 1000;
+
     private final Map<Integer, Type> typeBySqlType = new HashMap<>();
     private final Map<Class<?>, Type> typeByClass;
+    private final ClassValue<Type> typeByClassCache = new ClassValue<Type>() {
+        @Override
+        protected Type computeValue(Class<?> clazz) {
+            return resolveClassType(clazz);
+        }
+    };
     private final Map<Type, TypeDescription> types = new ConcurrentHashMap<>();
+    private final Cache<ResultShape.Key, ResultShape> shapes = CacheBuilder.newBuilder()
+            .maximumSize(SHAPES_CACHE_SIZE)
+            .build();
     private final DecimalType defaultDecimal;
+    private final int stringDictionarySize;
 
     public YdbTypes(YdbOperationProperties props) {
-        this(props.getForceNewDatetypes(), props.getDefaultDecimalType());
+        this(props.getForceNewDatetypes(), props.getDefaultDecimalType(), props.getStringDictionarySize());
     }
 
     public YdbTypes(boolean useNewDatetypes, DecimalType defaultDecimalType) {
+        this(useNewDatetypes, defaultDecimalType, 0);
+    }
+
+    public YdbTypes(boolean useNewDatetypes, DecimalType defaultDecimalType, int stringDictionarySize) {
         this.defaultDecimal = defaultDecimalType;
+        this.stringDictionarySize = stringDictionarySize;
 
         // Store custom type ids to use it for PrepaparedStatement.setObject
         typeBySqlType.put(YdbConst.SQL_KIND_PRIMITIVE + 0, PrimitiveType.Bool);
@@ -140,12 +161,46 @@ public class YdbTypes {
         typeByClass.put(DecimalValue.class, defaultDecimalType);
         typeByClass.put(BigDecimal.class, defaultDecimalType);
         typeByClass.put(Duration.class, useNewDatetypes ? PrimitiveType.Interval64 : PrimitiveType.Interval);
+        typeByClass.put(Enum.class, PrimitiveType.Text);
+    }
+
+    /**
+     * @return max size of dictionary of string column, 0 if the dictionaries are disabled
+     */
+    int getStringDictionarySize() {
+        return stringDictionarySize;
     }
 
     public TypeDescription find(Type type) {
         return types.computeIfAbsent(type, t -> TypeDescription.buildType(this, t));
     }
 
+    /**
+     * Returns shared shape of result set with the same column names and types
+     *
+     * @param rsr result set reader
+     * @return immutable result shape
+     */
+    public ResultShape findShape(ResultSetReader rsr) {
+        ResultShape.Key key = new ResultShape.Key(rsr);
+        ResultShape shape = shapes.getIfPresent(key);
+        if (shape == null) {
+            // shape is immutable, so concurrent building of the same shape is harmless
+            shape = ResultShape.build(this, key);
+            shapes.put(key, shape);
+        }
+        return shape;
+    }
+
+    /**
+     * Finds YDB type of parameter value. The SQL type has priority over the value, YDB values are typed by themselves
+     * and the other values are typed by their class or its nearest registered superclass. Enums are bound as
+     * {@link PrimitiveType#Text} with the result of {@link Enum#toString()}.
+     *
+     * @param obj value of parameter
+     * @param sqlType SQL type of parameter
+     * @return YDB type or {@code null} if the value is not supported
+     */
     public Type findType(Object obj, int sqlType) {
         if ((sqlType & YdbConst.SQL_KIND_DECIMAL) != 0) {
             int precision = ((sqlType - YdbConst.SQL_KIND_DECIMAL) >> 6);
@@ -155,18 +210,47 @@ public class YdbTypes {
             }
         }
 
-        if (typeBySqlType.containsKey(sqlType)) {
-            return typeBySqlType.get(sqlType);
+        Type bySqlType = typeBySqlType.get(sqlType);
+        if (bySqlType != null) {
+            return bySqlType;
         }
 
         if (obj == null) {
             return VoidType.of();
         }
+
+        // values are checked before the class cache, the cache has only the default type of DecimalValue
         if (obj instanceof Value<?>) {
             return ((Value<?>) obj).getType();
         }
+        return typeByClassCache.get(obj.getClass());
+    }
 
-        return typeByClass.get(obj.getClass());
+    /**
+     * Returns YDB type used for parameters of the class, it is used to bind typed nulls
+     *
+     * @param clazz class of parameter value
+     * @return YDB type or {@code null} if the class is not supported
+     */
+    public Type findTypeByClass(Class<?> clazz) {
+        return typeByClassCache.get(clazz);
+    }
+
+    /**
+     * Finds the type of class or of its nearest registered superclass. The result is cached per class, so the
+     * hierarchy is walked only once for every class of parameters
+     *
+     * @param clazz class of parameter value
+     * @return YDB type or {@code null} if the class is not supported
+     */
+    private Type resolveClassType(Class<?> clazz) {
+        for (Class<?> cls = clazz; cls != null; cls = cls.getSuperclass()) {
+            Type type = typeByClass.get(cls);
+            if (type != null) {
+                return type;
+            }
+        }
+        return null;
     }
 
     /**
@@ -0,0 +1,71 @@
+package tech.ydb.jdbc.context;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking limiter of concurrent asynchronous requests. Requests over the limit are queued and started when one
+ * of the active requests is completed.
+ */
+class AsyncLimiter {
+    private final int limit;
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final AtomicInteger drainRequests = new AtomicInteger();
+    private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+
+    AsyncLimiter(int limit) {
+        this.limit = Math.max(1, limit);
+    }
+
+    int getActiveCount() {
+        return activeCount.get();
+    }
+
+    <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> request) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        pending.add(() -> {
+            CompletableFuture<T> future;
+            try {
+                future = request.get();
+            } catch (RuntimeException ex) {
+                future = new CompletableFuture<>();
+                future.completeExceptionally(ex);
+            }
+
+            future.whenComplete((value, th) -> {
+                activeCount.decrementAndGet();
+                drain();
+                if (th != null) {
+                    result.completeExceptionally(th);
+                } else {
+                    result.complete(value);
+                }
+            });
+        });
+        drain();
+        return result;
+    }
+
+    private void drain() {
+        // only one thread drains the queue, nested and concurrent calls just ask it to repeat the loop
+        if (drainRequests.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+        do {
+            while (activeCount.get() < limit) {
+                Runnable next = pending.poll();
+                if (next == null) {
+                    break;
+                }
+                activeCount.incrementAndGet();
+                next.run();
+            }
+            missed = drainRequests.addAndGet(-missed);
+        } while (missed != 0);
+    }
+}
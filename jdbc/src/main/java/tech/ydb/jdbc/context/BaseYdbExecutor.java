@@ -3,10 +3,10 @@ package tech.ydb.jdbc.context;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.time.Duration;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
+import org.reactivestreams.Publisher;
+
 import tech.ydb.core.Status;
 import tech.ydb.core.grpc.GrpcReadStream;
 import tech.ydb.jdbc.YdbConst;
@@ -15,18 +15,23 @@ import tech.ydb.jdbc.YdbResultSet;
 import tech.ydb.jdbc.YdbStatement;
 import tech.ydb.jdbc.YdbTracer;
 import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.jdbc.impl.ResultParts;
 import tech.ydb.jdbc.impl.YdbQueryResultReader;
 import tech.ydb.jdbc.impl.YdbQueryResultStatic;
+import tech.ydb.jdbc.impl.YdbResultSetKeyset;
 import tech.ydb.jdbc.impl.YdbResultSetMemory;
+import tech.ydb.jdbc.impl.YdbTracerImpl;
 import tech.ydb.jdbc.query.QueryType;
 import tech.ydb.jdbc.query.YdbQuery;
 import tech.ydb.table.Session;
 import tech.ydb.table.SessionRetryContext;
 import tech.ydb.table.TableClient;
 import tech.ydb.table.query.Params;
+import tech.ydb.table.query.ReadTablePart;
 import tech.ydb.table.result.ResultSetReader;
 import tech.ydb.table.settings.ExecuteScanQuerySettings;
 import tech.ydb.table.settings.ExecuteSchemeQuerySettings;
+import tech.ydb.table.settings.ReadTableSettings;
 import tech.ydb.table.values.ListValue;
 
 /**
@@ -39,15 +44,22 @@ public abstract class BaseYdbExecutor implements YdbExecutor {
     private final SessionRetryContext retryCtx;
     private final SessionRetryContext idempotentRetryCtx;
     private final boolean useStreamResultSet;
+    private final long resultSetMemoryLimit;
+    private final SessionPoolController poolController;
+    private final YdbContext ctx;
 
     private final AtomicReference<YdbQueryResult> currResult;
+    private final AtomicReference<YdbTracer> txTracer = new AtomicReference<>();
+    private volatile boolean statementRetries = true;
     protected final String prefixPragma;
     protected final YdbTypes types;
 
     public BaseYdbExecutor(YdbContext ctx) {
         this.sessionTimeout = ctx.getOperationProperties().getSessionTimeout();
         this.useStreamResultSet = ctx.getOperationProperties().getUseStreamResultSets();
+        this.resultSetMemoryLimit = ctx.getOperationProperties().getResultSetMemoryLimit();
         this.tableClient = ctx.getTableClient();
+        this.poolController = ctx.getTableSessionPoolController();
         this.retryCtx = SessionRetryContext.create(tableClient)
                 .sessionCreationTimeout(ctx.getOperationProperties().getSessionTimeout())
                 .build();
@@ -57,11 +69,60 @@ public abstract class BaseYdbExecutor implements YdbExecutor {
                 .build();
         this.prefixPragma = ctx.getPrefixPragma();
         this.types = ctx.getTypes();
+        this.ctx = ctx;
         this.currResult = new AtomicReference<>();
     }
 
+    /**
+     * Returns tracer of the current transaction. Every transaction gets its own tracer by the first operation and
+     * the executor carries it until the transaction is finished, so the transactions don't share the tracer even if
+     * they are started by the same thread. The tracer is made current for the thread which continues the
+     * transaction.
+     *
+     * @return tracer of the current transaction
+     */
+    protected YdbTracer getTracer() {
+        YdbTracer tracer = txTracer.get();
+        if (tracer == null) {
+            tracer = ctx.getTxTracer();
+            txTracer.set(tracer);
+        } else {
+            YdbTracerImpl.bind(tracer);
+        }
+        return tracer;
+    }
+
+    /**
+     * Returns tracer of the operation which is completed outside of transaction, for example in the callback of
+     * stream. Such tracer is not carried by the executor, so the late completion doesn't close the tracer of the next
+     * transaction.
+     *
+     * @return tracer of the single operation
+     */
+    protected YdbTracer newTracer() {
+        return ctx.getTxTracer();
+    }
+
+    protected void closeTracer(YdbTracer tracer) {
+        txTracer.compareAndSet(tracer, null);
+        tracer.close();
+    }
+
+    protected void closeTracer() {
+        YdbTracer tracer = txTracer.getAndSet(null);
+        if (tracer != null) {
+            tracer.close();
+        }
+    }
+
     protected Session createNewTableSession(YdbValidator validator) throws SQLException {
-        return validator.call("Get session", null, () -> tableClient.createSession(sessionTimeout));
+        long startedAt = System.nanoTime();
+        poolController.onAcquireStarted();
+        try {
+            return validator.call("Get session", null, () -> tableClient.createSession(sessionTimeout));
+        } finally {
+            poolController.onAcquireFinished(System.nanoTime() - startedAt);
+        }
     }
 
     @Override
@@ -80,6 +141,23 @@ public abstract class BaseYdbExecutor implements YdbExecutor {
         return result;
     }
 
+    @Override
+    public void setKeepSession(boolean keepSession) throws SQLException {
+        // by default every transaction uses a new session from the pool
+        ensureOpened();
+    }
+
+    @Override
+    public void setStatementRetries(boolean enabled) throws SQLException {
+        ensureOpened();
+        this.statementRetries = enabled;
+    }
+
+    @Override
+    public boolean isStatementRetries() throws SQLException {
+        return statementRetries;
+    }
+
     @Override
     public void ensureOpened() throws SQLException {
         if (isClosed()) {
@@ -101,17 +179,22 @@ public abstract class BaseYdbExecutor implements YdbExecutor {
         YdbValidator validator = statement.getValidator();
 
         // Scheme query does not affect transactions or result sets
-        YdbTracer tracer = ctx.getTracer();
+        YdbTracer tracer = getTracer();
         tracer.trace("--> scheme query");
         tracer.query(yql);
 
         ExecuteSchemeQuerySettings settings = ctx.withDefaultTimeout(new ExecuteSchemeQuerySettings());
-        validator.execute(QueryType.SCHEME_QUERY + " >>\n" + yql, tracer,
-                () -> retryCtx.supplyStatus(session -> session.executeSchemeQuery(yql, settings))
-        );
+        try {
+            validator.execute(QueryType.SCHEME_QUERY + " >>\n" + yql, tracer,
+                    () -> retryCtx.supplyStatus(session -> session.executeSchemeQuery(yql, settings))
+            );
+        } finally {
+            // even failed query could change the scheme partially
+            ctx.onSchemeChanged(preparedYql);
+        }
 
         if (!isInsideTransaction()) {
-            tracer.close();
+            closeTracer(tracer);
         }
 
         return updateCurrentResult(new YdbQueryResultStatic(query));
@@ -124,7 +207,7 @@ public abstract class BaseYdbExecutor implements YdbExecutor {
 
         String yql = prefixPragma + query.getPreparedYql();
         YdbValidator validator = statement.getValidator();
-        YdbTracer tracer = statement.getConnection().getCtx().getTracer();
+        YdbTracer tracer = getTracer();
         tracer.trace("--> bulk upsert");
         tracer.query(yql);
 
@@ -133,12 +216,18 @@ public abstract class BaseYdbExecutor implements YdbExecutor {
         );
 
         if (!isInsideTransaction()) {
-            tracer.close();
+            closeTracer(tracer);
         }
 
         return updateCurrentResult(new YdbQueryResultStatic(query));
     }
 
+    @Override
+    public <T> Publisher<T> executeDataQueryPublisher(YdbStatement statement, YdbQuery query, String yql,
+            Params params, YdbResultSet.RowMapper<T> mapper) throws SQLException {
+        throw new SQLFeatureNotSupportedException(YdbConst.PUBLISHER_UNSUPPORTED);
+    }
+
     @Override
     public YdbQueryResult executeScanQuery(YdbStatement statement, YdbQuery query, String preparedYql, Params params)
             throws SQLException {
@@ -150,7 +239,7 @@ public abstract class BaseYdbExecutor implements YdbExecutor {
         Duration scanQueryTimeout = ctx.getOperationProperties().getScanQueryTimeout();
         String msg = QueryType.SCAN_QUERY + " >>\n" + yql;
 
-        YdbTracer tracer = ctx.getTracer();
+        YdbTracer tracer = newTracer();
         tracer.trace("--> scan query");
         tracer.query(yql);
 
@@ -162,22 +251,32 @@ public abstract class BaseYdbExecutor implements YdbExecutor {
                         .withRequestTimeout(scanQueryTimeout)
                         .build();
 
-                List<ResultSetReader> parts = new ArrayList<>();
+                ResultParts parts = new ResultParts(resultSetMemoryLimit);
 
                 ctx.traceQueryByFullScanDetector(query, yql);
-                validator.execute(QueryType.SCAN_QUERY + " >>\n" + yql, tracer,
-                        () -> session.executeScanQuery(yql, params, settings).start(parts::add)
-                );
+                try {
+                    validator.execute(QueryType.SCAN_QUERY + " >>\n" + yql, tracer,
+                            () -> session.executeScanQuery(yql, params, settings).start(parts::add)
+                    );
+                } catch (SQLException | RuntimeException e) {
+                    parts.close();
+                    throw e;
+                }
 
-                YdbResultSet rs = new YdbResultSetMemory(types, statement, parts.toArray(new ResultSetReader[0]));
+                YdbResultSet rs = new YdbResultSetMemory(types, statement, parts);
                 return updateCurrentResult(new YdbQueryResultStatic(query, rs));
             } finally {
                 session.close();
-                tracer.close();
+                closeTracer(tracer);
             }
         }
 
         final YdbQueryResultReader reader = new YdbQueryResultReader(types, statement, query) {
+            @Override
+            protected boolean isCancellable() {
+                return true;
+            }
+
             @Override
             public void onClose(Status status, Throwable th) {
                 session.close();
@@ -188,7 +287,7 @@ public abstract class BaseYdbExecutor implements YdbExecutor {
                     validator.addStatusIssues(status);
                     tracer.trace("<-- " + status.toString());
                 }
-                tracer.close();
+                closeTracer(tracer);
 
                 super.onClose(status, th);
             }
@@ -203,4 +302,84 @@ public abstract class BaseYdbExecutor implements YdbExecutor {
         validator.execute(msg, tracer, () -> reader.load(stream));
         return updateCurrentResult(reader);
     }
+
+    @Override
+    public YdbQueryResult executeReadTable(YdbStatement statement, YdbQuery query, String tablePath,
+            ReadTableSettings.Builder settings) throws SQLException {
+        ensureOpened();
+
+        YdbContext ctx = statement.getConnection().getCtx();
+        YdbValidator validator = statement.getValidator();
+        String msg = QueryType.READ_TABLE + " >>\n" + tablePath;
+
+        YdbTracer tracer = newTracer();
+        tracer.trace("--> read table");
+        tracer.query(tablePath);
+
+        final Session session = createNewTableSession(validator);
+
+        if (!useStreamResultSet) {
+            try {
+                ResultParts parts = new ResultParts(resultSetMemoryLimit);
+                ReadTableSettings rts = ReadTableStreams.settings(ctx, settings, null);
+                try {
+                    validator.execute(msg, tracer, () -> ReadTableStreams.open(session, tablePath, rts)
+                            .start(part -> parts.add(part.getResultSetReader()))
+                    );
+                } catch (SQLException | RuntimeException e) {
+                    parts.close();
+                    throw e;
+                }
+
+                YdbResultSet rs = new YdbResultSetMemory(types, statement, parts);
+                return updateCurrentResult(new YdbQueryResultStatic(query, rs));
+            } finally {
+                closeTracer(tracer);
+            }
+        }
+
+        final YdbQueryResultReader reader = new YdbQueryResultReader(types, statement, query) {
+            @Override
+            protected boolean isCancellable() {
+                return true;
+            }
+
+            @Override
+            public void onClose(Status status, Throwable th) {
+                if (th != null) {
+                    tracer.trace("<-- " + th.getMessage());
+                }
+                if (status != null) {
+                    validator.addStatusIssues(status);
+                    tracer.trace("<-- " + status.toString());
+                }
+                closeTracer(tracer);
+
+                super.onClose(status, th);
+            }
+        };
+
+        ReadTableSettings rts = ReadTableStreams.settings(ctx, settings, reader);
+        GrpcReadStream<ReadTablePart> stream = ReadTableStreams.open(session, tablePath, rts);
+        validator.execute(msg, tracer, () -> reader.load(stream, ReadTablePart::getResultSetReader));
+        return updateCurrentResult(reader);
+    }
+
+    @Override
+    public YdbQueryResult executeKeysetRead(YdbStatement statement, YdbQuery query, String tableName, int pageSize)
+            throws SQLException {
+        ensureOpened();
+
+        YdbTracer tracer = newTracer();
+        tracer.trace("--> keyset read");
+        tracer.query(tableName);
+        try {
+            YdbContext ctx = statement.getConnection().getCtx();
+            KeysetReader reader = KeysetReader.start(ctx, statement.getValidator(), tableName, pageSize);
+            YdbResultSet rs = YdbResultSetKeyset.start(types, statement, reader);
+            return updateCurrentResult(new YdbQueryResultStatic(query, rs));
+        } finally {
+            closeTracer(tracer);
+        }
+    }
 }
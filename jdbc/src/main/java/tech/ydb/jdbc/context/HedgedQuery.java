@@ -0,0 +1,141 @@
+package tech.ydb.jdbc.context;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import tech.ydb.common.transaction.TxMode;
+import tech.ydb.core.Result;
+import tech.ydb.core.Status;
+import tech.ydb.core.StatusCode;
+import tech.ydb.query.QueryClient;
+import tech.ydb.query.QuerySession;
+import tech.ydb.query.QueryStream;
+import tech.ydb.query.settings.ExecuteQuerySettings;
+import tech.ydb.query.tools.QueryReader;
+import tech.ydb.table.query.Params;
+
+/**
+ * Read-only query which can be duplicated on another session of pool if the first attempt hasn't completed in time.
+ * The first successful attempt wins, all others are cancelled.
+ */
+class HedgedQuery {
+    private static final Status CANCELLED = Status.of(StatusCode.CLIENT_CANCELLED);
+
+    private final QueryClient client;
+    private final SessionPoolController poolController;
+    private final Duration sessionTimeout;
+    private final String yql;
+    private final TxMode txMode;
+    private final Params params;
+    private final ExecuteQuerySettings settings;
+
+    private final CompletableFuture<Result<QueryReader>> result = new CompletableFuture<>();
+    private final List<Attempt> attempts = new CopyOnWriteArrayList<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    HedgedQuery(QueryClient client, SessionPoolController poolController, Duration sessionTimeout, String yql,
+            TxMode txMode, Params params, ExecuteQuerySettings settings) {
+        this.client = client;
+        this.poolController = poolController;
+        this.sessionTimeout = sessionTimeout;
+        this.yql = yql;
+        this.txMode = txMode;
+        this.params = params;
+        this.settings = settings;
+    }
+
+    CompletableFuture<Result<QueryReader>> execute(HedgingPolicy policy, ScheduledExecutorService scheduler) {
+        final long startedAt = System.nanoTime();
+        policy.onRequest();
+        startAttempt();
+
+        long delay = policy.getDelayNanos();
+        if (delay > 0) {
+            ScheduledFuture<?> timer = scheduler.schedule(() -> {
+                if (!result.isDone() && policy.tryHedge()) {
+                    startAttempt();
+                }
+            }, delay, TimeUnit.NANOSECONDS);
+            result.whenComplete((res, th) -> timer.cancel(false));
+        }
+
+        return result.whenComplete((res, th) -> {
+            if (res != null && res.isSuccess()) {
+                policy.onSuccess(System.nanoTime() - startedAt);
+            }
+        });
+    }
+
+    private void startAttempt() {
+        Attempt attempt = new Attempt();
+        attempts.add(attempt);
+        inFlight.incrementAndGet();
+
+        attempt.run().whenComplete((res, th) -> onAttemptCompleted(attempt, res, th));
+        if (result.isDone()) {
+            attempt.cancel();
+        }
+    }
+
+    private void onAttemptCompleted(Attempt attempt, Result<QueryReader> res, Throwable th) {
+        int left = inFlight.decrementAndGet();
+        boolean isSuccess = th == null && res != null && res.isSuccess();
+        if (!isSuccess && left > 0) {
+            return; // wait for other attempts
+        }
+
+        boolean completed = th != null ? result.completeExceptionally(th) : result.complete(res);
+        if (completed) {
+            for (Attempt other: attempts) {
+                if (other != attempt) {
+                    other.cancel();
+                }
+            }
+        }
+    }
+
+    private class Attempt {
+        private volatile QueryStream stream = null;
+        private volatile boolean isCancelled = false;
+
+        CompletableFuture<Result<QueryReader>> run() {
+            long startedAt = System.nanoTime();
+            poolController.onAcquireStarted();
+            return client.createSession(sessionTimeout).thenCompose(sessionResult -> {
+                poolController.onAcquireFinished(System.nanoTime() - startedAt);
+                if (!sessionResult.isSuccess()) {
+                    return CompletableFuture.completedFuture(Result.fail(sessionResult.getStatus()));
+                }
+
+                QuerySession session = sessionResult.getValue();
+                poolController.onQuerySessionAcquired();
+                if (isCancelled) {
+                    closeSession(session);
+                    return CompletableFuture.completedFuture(Result.fail(CANCELLED));
+                }
+
+                stream = session.createQuery(yql, txMode, params, settings);
+                return QueryReader.readFrom(stream).whenComplete((res, th) -> closeSession(session));
+            });
+        }
+
+        private void closeSession(QuerySession session) {
+            session.close();
+            poolController.onQuerySessionReleased();
+        }
+
+        void cancel() {
+            isCancelled = true;
+            QueryStream local = stream;
+            if (local != null) {
+                local.cancel();
+            }
+        }
+    }
+}
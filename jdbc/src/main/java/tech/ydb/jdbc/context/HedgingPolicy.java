@@ -0,0 +1,95 @@
+package tech.ydb.jdbc.context;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared state of hedged read-only queries. Collects latencies of successful queries to calculate the delay before
+ * sending of a duplicate request and limits the total count of duplicates by the token bucket.
+ */
+public class HedgingPolicy {
+    private static final int WINDOW_SIZE = 1024;
+    private static final int MIN_SAMPLES_COUNT = 64;
+    private static final int RECALC_PERIOD = 32;
+    // Budget is calculated in hundredths of hedged request to avoid rounding errors
+    private static final int HEDGE_COST = 100;
+    private static final int MAX_TOKENS = 10 * HEDGE_COST;
+    private static final long MIN_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final int percentile;
+    private final int tokensPerRequest;
+
+    private final long[] samples = new long[WINDOW_SIZE];
+    private int samplesCount = 0;
+    private int samplesPosition = 0;
+    private int recalcCounter = 0;
+    private long delayNanos = -1;
+
+    private int tokens = 0;
+    private long requestsCount = 0;
+    private long hedgesCount = 0;
+
+    public HedgingPolicy(int percentile, int budgetPercent) {
+        this.percentile = Math.max(1, Math.min(percentile, 100));
+        this.tokensPerRequest = Math.max(0, Math.min(budgetPercent, 100));
+    }
+
+    /**
+     * Register new request, which can be hedged. Every request adds budget for hedged duplicates.
+     */
+    public synchronized void onRequest() {
+        requestsCount++;
+        tokens = Math.min(MAX_TOKENS, tokens + tokensPerRequest);
+    }
+
+    /**
+     * Try to take a token from budget.
+     *
+     * @return true if hedged request can be sent
+     */
+    public synchronized boolean tryHedge() {
+        if (tokens < HEDGE_COST) {
+            return false;
+        }
+        tokens -= HEDGE_COST;
+        hedgesCount++;
+        return true;
+    }
+
+    /**
+     * Register latency of successful request
+     *
+     * @param nanos request duration in nanoseconds
+     */
+    public synchronized void onSuccess(long nanos) {
+        samples[samplesPosition] = nanos;
+        samplesPosition = (samplesPosition + 1) % WINDOW_SIZE;
+        samplesCount = Math.min(samplesCount + 1, WINDOW_SIZE);
+
+        recalcCounter++;
+        if (samplesCount >= MIN_SAMPLES_COUNT && (delayNanos < 0 || recalcCounter >= RECALC_PERIOD)) {
+            recalcCounter = 0;
+            long[] sorted = Arrays.copyOf(samples, samplesCount);
+            Arrays.sort(sorted);
+            int idx = Math.min(sorted.length - 1, (sorted.length * percentile) / 100);
+            delayNanos = Math.max(MIN_DELAY_NANOS, sorted[idx]);
+        }
+    }
+
+    /**
+     * Returns delay before sending of hedged request or negative value if there isn't enough statistics
+     *
+     * @return delay in nanoseconds
+     */
+    public synchronized long getDelayNanos() {
+        return delayNanos;
+    }
+
+    public synchronized long getRequestsCount() {
+        return requestsCount;
+    }
+
+    public synchronized long getHedgesCount() {
+        return hedgesCount;
+    }
+}
@@ -0,0 +1,225 @@
+package tech.ydb.jdbc.context;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import tech.ydb.common.transaction.TxMode;
+import tech.ydb.core.Result;
+import tech.ydb.jdbc.YdbConst;
+import tech.ydb.query.QueryClient;
+import tech.ydb.query.QuerySession;
+import tech.ydb.query.QueryStream;
+import tech.ydb.query.settings.ExecuteQuerySettings;
+import tech.ydb.query.tools.QueryReader;
+import tech.ydb.table.description.TableDescription;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.values.OptionalValue;
+import tech.ydb.table.values.PrimitiveValue;
+import tech.ydb.table.values.Value;
+
+/**
+ * Reader of the whole table by pages ordered by primary key. Every page is read by the same query with keyset
+ * predicate built from the last key of previous page, so the table is read without scan queries and without growing
+ * offsets. The next page is requested as soon as the current one is received and is read while the current page is
+ * processed. Every page is read in its own snapshot, so the concurrent changes of table may be visible partially.
+ */
+public class KeysetReader implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(KeysetReader.class.getName());
+
+    private static final String LIMIT_PARAM = "$limit";
+    private static final String KEY_PARAM_PREFIX = "$k";
+
+    private final QueryClient client;
+    private final SessionPoolController poolController;
+    private final Duration sessionTimeout;
+    private final YdbValidator validator;
+    private final ExecuteQuerySettings settings;
+
+    private final String tablePath;
+    private final List<String> keyColumns;
+    private final int pageSize;
+    private final String firstPageYql;
+    private final String nextPageYql;
+
+    private CompletableFuture<Result<QueryReader>> pending;
+    private volatile QueryStream pendingStream = null;
+    private volatile boolean isClosed = false;
+
+    private KeysetReader(YdbContext ctx, YdbValidator validator, String tablePath, List<String> keyColumns,
+            int pageSize) {
+        this.client = ctx.getQueryClient();
+        this.poolController = ctx.getQuerySessionPoolController();
+        this.sessionTimeout = ctx.getOperationProperties().getSessionTimeout();
+        this.validator = validator;
+        this.settings = ctx.withRequestTimeout(ExecuteQuerySettings.newBuilder()).build();
+
+        this.tablePath = tablePath;
+        this.keyColumns = keyColumns;
+        this.pageSize = pageSize;
+        this.firstPageYql = buildPageQuery(tablePath, keyColumns, false);
+        this.nextPageYql = buildPageQuery(tablePath, keyColumns, true);
+
+        this.pending = readPage(firstPageYql, Params.of(LIMIT_PARAM, PrimitiveValue.newUint64(pageSize)));
+    }
+
+    /**
+     * Describes the table and starts reading of the first page
+     *
+     * @param ctx context of connection
+     * @param validator validator to collect issues
+     * @param tableName name of table, absolute or relative to the prefix path of context
+     * @param pageSize count of rows in one page
+     * @return started reader
+     * @throws SQLException if table cannot be described or has no primary key
+     */
+    public static KeysetReader start(YdbContext ctx, YdbValidator validator, String tableName, int pageSize)
+            throws SQLException {
+        if (pageSize <= 0) {
+            throw new SQLException(YdbConst.INVALID_PAGE_SIZE + pageSize);
+        }
+
+        String tablePath = ctx.resolveTablePath(tableName);
+        String prefix = ctx.getPrefixPath().endsWith("/") ? ctx.getPrefixPath() : ctx.getPrefixPath() + "/";
+        String relativeName = tablePath.startsWith(prefix) ? tablePath.substring(prefix.length()) : tableName;
+
+        TableDescription description = ctx.getSchemeCrawler().describeTable(validator, relativeName);
+        if (description == null || description.getPrimaryKeys().isEmpty()) {
+            throw new SQLException(YdbConst.KEYSET_TABLE_NOT_FOUND + tableName);
+        }
+
+        return new KeysetReader(ctx, validator, tablePath, description.getPrimaryKeys(), pageSize);
+    }
+
+    public boolean hasNextPage() {
+        return pending != null && !isClosed;
+    }
+
+    /**
+     * Waits for the current page and starts reading of the next one
+     *
+     * @return page of rows ordered by primary key
+     * @throws SQLException if the page cannot be read or the last key of page contains NULL
+     */
+    public ResultSetReader nextPage() throws SQLException {
+        if (!hasNextPage()) {
+            throw new SQLException(YdbConst.RESULT_SET_IS_CLOSED);
+        }
+
+        CompletableFuture<Result<QueryReader>> current = pending;
+        pending = null;
+        QueryReader result = validator.call("Read table " + tablePath, null, () -> current);
+        validator.addStatusIssues(result.getIssueList());
+
+        ResultSetReader page = result.getResultSet(0);
+        if (page.getRowCount() >= pageSize && !isClosed) {
+            pending = readPage(nextPageYql, nextPageParams(page));
+        }
+
+        LOGGER.log(Level.FINEST, "Read page of {0} rows from {1}", new Object[] {page.getRowCount(), tablePath});
+        return page;
+    }
+
+    @Override
+    public void close() {
+        isClosed = true;
+        pending = null;
+        QueryStream local = pendingStream;
+        if (local != null) {
+            local.cancel();
+        }
+    }
+
+    /**
+     * Builds the keyset of the next page from the last row of the page. The page is ordered by primary key, so the
+     * last row has the greatest key. The row cursor of page is returned to the start.
+     */
+    private Params nextPageParams(ResultSetReader page) throws SQLException {
+        Params params = Params.create(keyColumns.size() + 1);
+        params.put(LIMIT_PARAM, PrimitiveValue.newUint64(pageSize));
+
+        page.setRowIndex(page.getRowCount() - 1);
+        try {
+            for (int idx = 0; idx < keyColumns.size(); idx++) {
+                String column = keyColumns.get(idx);
+                Value<?> value = page.getColumn(page.getColumnIndex(column)).getValue();
+                if (value == null || (value instanceof OptionalValue && !((OptionalValue) value).isPresent())) {
+                    // NULL cannot be compared with the next keys, the rest of table would be lost silently
+                    throw new SQLException(YdbConst.KEYSET_NULL_KEY + column);
+                }
+                params.put(KEY_PARAM_PREFIX + idx, value);
+            }
+        } finally {
+            page.setRowIndex(0);
+        }
+        return params;
+    }
+
+    private CompletableFuture<Result<QueryReader>> readPage(String yql, Params params) {
+        long startedAt = System.nanoTime();
+        poolController.onAcquireStarted();
+        return client.createSession(sessionTimeout).thenCompose(sessionResult -> {
+            poolController.onAcquireFinished(System.nanoTime() - startedAt);
+            if (!sessionResult.isSuccess()) {
+                return CompletableFuture.completedFuture(Result.fail(sessionResult.getStatus()));
+            }
+
+            QuerySession session = sessionResult.getValue();
+            poolController.onQuerySessionAcquired();
+
+            QueryStream stream = session.createQuery(yql, TxMode.SNAPSHOT_RO, params, settings);
+            pendingStream = stream;
+            if (isClosed) {
+                stream.cancel();
+            }
+            return QueryReader.readFrom(stream).whenComplete((res, th) -> {
+                session.close();
+                poolController.onQuerySessionReleased();
+            });
+        });
+    }
+
+    static String buildPageQuery(String tablePath, List<String> keyColumns, boolean withKeyset) {
+        StringBuilder yql = new StringBuilder();
+        yql.append("SELECT * FROM ").append(quote(tablePath));
+        if (withKeyset) {
+            yql.append(" WHERE ").append(keysetPredicate(keyColumns));
+        }
+        yql.append(" ORDER BY ");
+        for (int idx = 0; idx < keyColumns.size(); idx++) {
+            if (idx > 0) {
+                yql.append(", ");
+            }
+            yql.append(quote(keyColumns.get(idx)));
+        }
+        yql.append(" LIMIT ").append(LIMIT_PARAM).append(";\n");
+        return yql.toString();
+    }
+
+    /**
+     * Expands tuple comparison {@code (k0, k1, k2) > ($k0, $k1, $k2)} to the disjunction of prefix equalities, the
+     * form which is used by the server to build the key range of the read.
+     */
+    private static String keysetPredicate(List<String> keyColumns) {
+        StringBuilder sb = new StringBuilder();
+        for (int idx = 0; idx < keyColumns.size(); idx++) {
+            if (idx > 0) {
+                sb.append(" OR ");
+            }
+            sb.append("(");
+            for (int eq = 0; eq < idx; eq++) {
+                sb.append(quote(keyColumns.get(eq))).append(" = ").append(KEY_PARAM_PREFIX).append(eq).append(" AND ");
+            }
+            sb.append(quote(keyColumns.get(idx))).append(" > ").append(KEY_PARAM_PREFIX).append(idx).append(")");
+        }
+        return sb.toString();
+    }
+
+    private static String quote(String name) {
+        return "`" + name + "`";
+    }
+}
@@ -5,20 +5,28 @@ import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.reactivestreams.Publisher;
+
 import tech.ydb.common.transaction.TxMode;
 import tech.ydb.common.transaction.YdbTransaction;
 import tech.ydb.core.Issue;
+import tech.ydb.core.Result;
 import tech.ydb.core.Status;
+import tech.ydb.core.grpc.GrpcFlowControl;
 import tech.ydb.jdbc.YdbConst;
 import tech.ydb.jdbc.YdbQueryResult;
+import tech.ydb.jdbc.YdbResultSet;
 import tech.ydb.jdbc.YdbStatement;
 import tech.ydb.jdbc.YdbTracer;
 import tech.ydb.jdbc.exception.YdbStatusable;
+import tech.ydb.jdbc.impl.YdbQueryPublisher;
 import tech.ydb.jdbc.impl.YdbQueryResultExplain;
 import tech.ydb.jdbc.impl.YdbQueryResultReader;
 import tech.ydb.jdbc.impl.YdbQueryResultStatic;
@@ -51,6 +59,9 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
     private final QueryClient queryClient;
     private final boolean useStreamResultSet;
     private final YdbQueryExtentionService querySpi;
+    private final HedgingPolicy hedgingPolicy;
+    private final ScheduledExecutorService scheduler;
+    private final SessionPoolController poolController;
 
     private int transactionLevel;
     private boolean isReadOnly;
@@ -60,6 +71,9 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
     private final AtomicReference<QueryTransaction> tx = new AtomicReference<>();
     private volatile boolean isClosed;
 
+    private volatile boolean keepSession = false;
+    private volatile QuerySession keptSession = null;
+
     public QueryServiceExecutor(YdbContext ctx) throws SQLException {
         super(ctx);
         YdbOperationProperties options = ctx.getOperationProperties();
@@ -67,6 +81,9 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
         this.queryClient = ctx.getQueryClient();
         this.useStreamResultSet = options.getUseStreamResultSets();
         this.querySpi = ctx.getQuerySpi();
+        this.hedgingPolicy = ctx.getHedgingPolicy();
+        this.scheduler = ctx.getGrpcTransport().getScheduler();
+        this.poolController = ctx.getQuerySessionPoolController();
 
         this.transactionLevel = options.getTransactionLevel();
         this.isAutoCommit = options.isAutoCommit();
@@ -76,14 +93,32 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
     }
 
     protected QuerySession createNewQuerySession(YdbValidator validator) throws SQLException {
-        return validator.call("Get query session", null, () -> queryClient.createSession(sessionTimeout));
+        long startedAt = System.nanoTime();
+        poolController.onAcquireStarted();
+        try {
+            QuerySession session = validator.call("Get query session", null,
+                    () -> queryClient.createSession(sessionTimeout));
+            poolController.onQuerySessionAcquired();
+            return session;
+        } finally {
+            poolController.onAcquireFinished(System.nanoTime() - startedAt);
+        }
+    }
+
+    private void closeSession(QuerySession session) {
+        session.close();
+        poolController.onQuerySessionReleased();
     }
 
     private QueryTransaction getOrCreateTransaction(YdbValidator validator, boolean lazyTx) throws SQLException {
         QueryTransaction nextTx = tx.get();
         while (nextTx == null) {
             querySpi.onNewTransaction();
-            QuerySession session = createNewQuerySession(validator);
+            QuerySession kept = keptSession;
+            QuerySession session = kept != null ? kept : createNewQuerySession(validator);
+            if (keepSession) {
+                keptSession = session;
+            }
 
             if (lazyTx) {
                 nextTx = session.createNewTransaction(txMode);
@@ -94,19 +129,90 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
             if (tx.compareAndSet(null, nextTx)) {
                 return nextTx;
             }
-            session.close();
+            releaseSession(session);
             nextTx = tx.get();
         }
         return nextTx;
     }
 
+    /**
+     * Asynchronous variant of {@link #getOrCreateTransaction} for the lazy transaction. The session is acquired
+     * without blocking of the calling thread
+     */
+    private CompletableFuture<Result<QueryTransaction>> getOrCreateTransactionAsync() {
+        QueryTransaction current = tx.get();
+        if (current != null) {
+            return CompletableFuture.completedFuture(Result.success(current));
+        }
+
+        querySpi.onNewTransaction();
+        QuerySession kept = keptSession;
+        if (kept != null) {
+            return CompletableFuture.completedFuture(Result.success(installTransaction(kept)));
+        }
+
+        long startedAt = System.nanoTime();
+        poolController.onAcquireStarted();
+        return queryClient.createSession(sessionTimeout).thenApply(sessionResult -> {
+            poolController.onAcquireFinished(System.nanoTime() - startedAt);
+            if (!sessionResult.isSuccess()) {
+                return Result.fail(sessionResult.getStatus());
+            }
+
+            poolController.onQuerySessionAcquired();
+            return Result.success(installTransaction(sessionResult.getValue()));
+        });
+    }
+
+    private QueryTransaction installTransaction(QuerySession session) {
+        if (keepSession) {
+            keptSession = session;
+        }
+
+        QueryTransaction nextTx = session.createNewTransaction(txMode);
+        while (!tx.compareAndSet(null, nextTx)) {
+            QueryTransaction other = tx.get();
+            if (other != null) {
+                releaseSession(session);
+                return other;
+            }
+        }
+        return nextTx;
+    }
+
+    private void releaseSession(QuerySession session) {
+        if (session != keptSession) {
+            closeSession(session);
+        }
+    }
+
+    @Override
+    public void setKeepSession(boolean keepSession) throws SQLException {
+        ensureOpened();
+        this.keepSession = keepSession;
+        if (!keepSession) {
+            QuerySession kept = keptSession;
+            keptSession = null;
+            QueryTransaction localTx = tx.get();
+            if (kept != null && (localTx == null || localTx.getSession() != kept)) {
+                closeSession(kept);
+            }
+        }
+    }
+
     @Override
     public void close() throws SQLException {
         clearState();
+        closeTracer();
         isClosed = true;
         QueryTransaction old = tx.getAndSet(null);
-        if (old != null) {
-            old.getSession().close();
+        QuerySession kept = keptSession;
+        keptSession = null;
+        if (old != null && old.getSession() != kept) {
+            closeSession(old.getSession());
+        }
+        if (kept != null) {
+            closeSession(kept);
         }
     }
 
@@ -213,14 +319,14 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
             commitImpl(ctx, validator, localTx);
         } finally {
             if (tx.compareAndSet(localTx, null)) {
-                localTx.getSession().close();
+                releaseSession(localTx.getSession());
             }
-            ctx.getTracer().close();
+            closeTracer();
         }
     }
 
     protected void commitImpl(YdbContext ctx, YdbValidator validator, QueryTransaction tx) throws SQLException {
-        YdbTracer tracer = ctx.getTracer();
+        YdbTracer tracer = getTracer();
         tracer.trace("--> commit");
         tracer.query(null);
 
@@ -238,7 +344,7 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
             return;
         }
 
-        YdbTracer tracer = ctx.getTracer();
+        YdbTracer tracer = getTracer();
         tracer.trace("--> rollback");
         tracer.query(null);
 
@@ -250,9 +356,9 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
             validator.execute("Rollback TxId: " + localTx.getId(), tracer, () -> localTx.rollback(settings));
         } finally {
             if (tx.compareAndSet(localTx, null)) {
-                localTx.getSession().close();
+                releaseSession(localTx.getSession());
             }
-            tracer.close();
+            closeTracer(tracer);
         }
     }
 
@@ -263,7 +369,7 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
 
         YdbValidator validator = statement.getValidator();
 
-        YdbTracer tracer = statement.getConnection().getCtx().getTracer();
+        YdbTracer tracer = getTracer();
         String yql = prefixPragma + preparedYql;
         int timeout = statement.getQueryTimeout();
         ExecuteQuerySettings.Builder settings = ExecuteQuerySettings.newBuilder();
@@ -271,18 +377,34 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
             settings = settings.withRequestTimeout(timeout, TimeUnit.SECONDS);
         }
 
-        QueryTransaction localTx = getOrCreateTransaction(validator, true);
+        // Read-only autocommit queries don't need a transaction and can be safely hedged
+        boolean isHedged = hedgingPolicy != null && isAutoCommit && isReadOnly && tx.get() == null;
+        QueryTransaction localTx = null;
+        if (isHedged) {
+            querySpi.onNewTransaction();
+        } else {
+            localTx = getOrCreateTransaction(validator, true);
+        }
         YdbQueryExtentionService.QueryCall spi = querySpi.newDataQuery(statement, query, yql);
         settings = spi.prepareQuerySettings(settings);
 
         try {
-            tracer.trace("--> data query");
+            tracer.trace(isHedged ? "--> hedged data query" : "--> data query");
             tracer.query(yql);
             ExecuteQuerySettings requestSettings = settings.build();
+            String msg = QueryType.DATA_QUERY + " >>\n" + yql;
 
-            QueryReader result = validator.call(QueryType.DATA_QUERY + " >>\n" + yql, tracer,
-                    () -> QueryReader.readFrom(localTx.createQuery(yql, isAutoCommit, params, requestSettings))
-            );
+            final QueryReader result;
+            if (localTx == null) {
+                HedgedQuery hedged = new HedgedQuery(queryClient, poolController, sessionTimeout, yql, txMode,
+                        params, requestSettings);
+                result = validator.call(msg, tracer, () -> hedged.execute(hedgingPolicy, scheduler));
+            } else {
+                QueryTransaction currTx = localTx;
+                result = validator.call(msg, tracer,
+                        () -> QueryReader.readFrom(currTx.createQuery(yql, isAutoCommit, params, requestSettings))
+                );
+            }
             validator.addStatusIssues(result.getIssueList());
 
             YdbResultSetMemory[] readers = new YdbResultSetMemory[result.getResultSetCount()];
@@ -304,16 +426,16 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
             }
             throw ex;
         } finally {
-            if (!localTx.isActive()) {
+            if (localTx != null && !localTx.isActive()) {
                 if (tx.compareAndSet(localTx, null)) {
-                    localTx.getSession().close();
+                    releaseSession(localTx.getSession());
                 }
             }
 
-            if (localTx.isActive()) {
+            if (localTx != null && localTx.isActive()) {
                 tracer.setId(localTx.getId());
             } else {
-                tracer.close();
+                closeTracer(tracer);
             }
         }
     }
@@ -341,53 +463,125 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
         YdbQueryExtentionService.QueryCall spi = querySpi.newDataQuery(statement, query, yql);
         settings = spi.prepareQuerySettings(settings);
 
-        YdbTracer tracer = statement.getConnection().getCtx().getTracer();
+        // the stream of autocommit query is completed in the callback, so it doesn't take the tracer of executor
+        YdbTracer tracer = isAutoCommit ? newTracer() : getTracer();
         tracer.trace("--> stream query");
         tracer.query(yql);
         String msg = "STREAM_QUERY >>\n" + yql;
 
+        // the commit of autocommit query is sent at the end of stream, so only the reading query can be cancelled
+        boolean cancellable = isAutoCommit && !query.isWriting();
         YdbQueryResultReader reader = new YdbQueryResultReader(types, statement, query) {
+            @Override
+            protected boolean isCancellable() {
+                return cancellable;
+            }
+
             @Override
             public void onClose(Status status, Throwable th) {
-                try {
-                    spi.onQueryResult(status, th);
-                } catch (RuntimeException ex) {
-                    LOGGER.log(Level.WARNING, "Query spi onQueryResult problem", ex);
+                onStreamClosed(validator, tracer, spi, localTx, status, th);
+                super.onClose(status, th);
+            }
+        };
+
+        settings = settings.withGrpcFlowControl(reader);
+        QueryStream stream = localTx.createQuery(yql, isAutoCommit, params, settings.build());
+        validator.execute(msg, tracer, () -> reader.load(validator, stream, spi::onQueryStats));
+        return updateCurrentResult(reader);
+    }
+
+    @Override
+    public <T> Publisher<T> executeDataQueryPublisher(YdbStatement statement, YdbQuery query, String preparedYql,
+            Params params, YdbResultSet.RowMapper<T> mapper) throws SQLException {
+        ensureOpened();
+        if (query.getStatements().size() != 1) {
+            throw new SQLException(YdbConst.PUBLISHER_EXPECTS_ONE_RESULT_SET);
+        }
+
+        YdbValidator validator = statement.getValidator();
+        String yql = prefixPragma + preparedYql;
+        int timeout = statement.getQueryTimeout();
+
+        return YdbQueryPublisher.create(types, statement, mapper, new YdbQueryPublisher.QueryStarter() {
+            private QueryTransaction localTx = null;
+            private YdbQueryExtentionService.QueryCall spi = null;
+            private YdbTracer tracer = null;
+
+            @Override
+            public CompletableFuture<Result<QueryStream>> createStream(GrpcFlowControl flowControl)
+                    throws SQLException {
+                ensureOpened();
+                ExecuteQuerySettings.Builder builder = ExecuteQuerySettings.newBuilder();
+                if (timeout > 0) {
+                    builder = builder.withRequestTimeout(timeout, TimeUnit.SECONDS);
                 }
 
-                try {
-                    if (th != null) {
-                        tracer.trace("<-- " + th.getMessage());
-                    }
-                    if (status != null) {
-                        tracer.trace("<-- " + status.toString());
+                // the session is acquired asynchronously, the thread of subscriber is not blocked
+                CompletableFuture<Result<QueryTransaction>> nextTx = getOrCreateTransactionAsync();
+                spi = querySpi.newDataQuery(statement, query, yql);
+                ExecuteQuerySettings settings = spi.prepareQuerySettings(builder)
+                        .withGrpcFlowControl(flowControl)
+                        .build();
+
+                tracer = isAutoCommit ? newTracer() : getTracer();
+                tracer.trace("--> publish query");
+                tracer.query(yql);
+                return nextTx.thenApply(txResult -> {
+                    if (!txResult.isSuccess()) {
+                        tracer.trace("<-- " + txResult.getStatus());
+                        closeTracer(tracer);
+                        validator.addStatusIssues(txResult.getStatus());
+                        return Result.fail(txResult.getStatus());
                     }
 
-                    if (localTx.isActive()) {
-                        tracer.setId(localTx.getId());
-                    } else {
-                        tracer.close();
-                    }
-                } catch (RuntimeException ex) {
-                    LOGGER.log(Level.WARNING, "YDB tracer error", ex);
-                }
+                    localTx = txResult.getValue();
+                    return Result.success(localTx.createQuery(yql, isAutoCommit, params, settings));
+                });
+            }
 
-                if (status != null) {
-                    validator.addStatusIssues(status);
+            @Override
+            public void onClose(Result<QueryInfo> result, Throwable th) {
+                Status status = result != null ? result.getStatus() : null;
+                if (result != null && result.isSuccess() && result.getValue().hasStats()) {
+                    spi.onQueryStats(result.getValue().getStats());
                 }
+                onStreamClosed(validator, tracer, spi, localTx, status, th);
+            }
+        });
+    }
 
-                if (!localTx.isActive() && tx.compareAndSet(localTx, null)) {
-                    localTx.getSession().close();
-                }
+    private void onStreamClosed(YdbValidator validator, YdbTracer tracer, YdbQueryExtentionService.QueryCall spi,
+            QueryTransaction localTx, Status status, Throwable th) {
+        try {
+            spi.onQueryResult(status, th);
+        } catch (RuntimeException ex) {
+            LOGGER.log(Level.WARNING, "Query spi onQueryResult problem", ex);
+        }
 
-                super.onClose(status, th);
+        try {
+            if (th != null) {
+                tracer.trace("<-- " + th.getMessage());
+            }
+            if (status != null) {
+                tracer.trace("<-- " + status.toString());
             }
-        };
 
-        settings = settings.withGrpcFlowControl(reader);
-        QueryStream stream = localTx.createQuery(yql, isAutoCommit, params, settings.build());
-        validator.execute(msg, tracer, () -> reader.load(validator, stream, spi::onQueryStats));
-        return updateCurrentResult(reader);
+            if (localTx.isActive()) {
+                tracer.setId(localTx.getId());
+            } else {
+                closeTracer(tracer);
+            }
+        } catch (RuntimeException ex) {
+            LOGGER.log(Level.WARNING, "YDB tracer error", ex);
+        }
+
+        if (status != null) {
+            validator.addStatusIssues(status);
+        }
+
+        if (!localTx.isActive() && tx.compareAndSet(localTx, null)) {
+            releaseSession(localTx.getSession());
+        }
     }
 
     @Override
@@ -400,19 +594,23 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
         YdbValidator validator = statement.getValidator();
 
         // Scheme query does not affect transactions or result sets
-        YdbTracer tracer = ctx.getTracer();
+        YdbTracer tracer = getTracer();
         tracer.trace("--> scheme query");
         tracer.query(yql);
 
         ExecuteQuerySettings settings = ctx.withRequestTimeout(ExecuteQuerySettings.newBuilder()).build();
-        try (QuerySession session = createNewQuerySession(validator)) {
+        QuerySession session = createNewQuerySession(validator);
+        try {
             validator.call(QueryType.SCHEME_QUERY + " >>\n" + yql, tracer, () -> session
                     .createQuery(yql, TxMode.NONE, params, settings)
                     .execute(new IssueHandler(validator))
             );
         } finally {
+            closeSession(session);
+            // even failed query could change the scheme partially
+            ctx.onSchemeChanged(preparedYql);
             if (tx.get() == null) {
-                tracer.close();
+                closeTracer(tracer);
             }
         }
 
@@ -431,11 +629,12 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
         ExecuteQuerySettings settings = ctx.withRequestTimeout(ExecuteQuerySettings.newBuilder())
                 .withExecMode(QueryExecMode.EXPLAIN)
                 .build();
-        YdbTracer tracer = ctx.getTracer();
+        YdbTracer tracer = getTracer();
         tracer.trace("--> explain query");
         tracer.query(yql);
 
-        try (QuerySession session = createNewQuerySession(validator)) {
+        QuerySession session = createNewQuerySession(validator);
+        try {
             QueryInfo res = validator.call(QueryType.EXPLAIN_QUERY + " >>\n" + yql, tracer, () -> session
                     .createQuery(yql, TxMode.NONE, Params.empty(), settings)
                     .execute(new IssueHandler(validator))
@@ -449,8 +648,9 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
             String plan = res.getStats().getQueryPlan();
             return updateCurrentResult(new YdbQueryResultExplain(types, statement, ast, plan));
         } finally {
+            closeSession(session);
             if (tx.get() == null) {
-                tracer.close();
+                closeTracer(tracer);
             }
         }
     }
@@ -0,0 +1,85 @@
+package tech.ydb.jdbc.context;
+
+import java.util.concurrent.CompletableFuture;
+
+import tech.ydb.core.Status;
+import tech.ydb.core.grpc.GrpcFlowControl;
+import tech.ydb.core.grpc.GrpcReadStream;
+import tech.ydb.table.Session;
+import tech.ydb.table.query.ReadTablePart;
+import tech.ydb.table.settings.ReadTableSettings;
+
+/**
+ * Streaming ReadTable RPC shared by {@link BaseYdbExecutor#executeReadTable} and the reads of table splits. Every
+ * stream is read over its own session, the session is released when the stream is completed.
+ */
+final class ReadTableStreams {
+    private ReadTableStreams() { }
+
+    /**
+     * Builds settings of streaming read. The settings are built from the copy of caller builder, so the builder is
+     * not changed and can be reused for the next reads
+     *
+     * @param ctx context of connection
+     * @param settings settings of read with column projection, key range and row limit
+     * @param flowControl flow control of stream or {@code null} to use the default one
+     * @return settings with the read timeout of connection
+     */
+    static ReadTableSettings settings(YdbContext ctx, ReadTableSettings.Builder settings,
+            GrpcFlowControl flowControl) {
+        ReadTableSettings.Builder builder = copyOf(settings)
+                .withRequestTimeout(ctx.getOperationProperties().getScanQueryTimeout());
+        if (flowControl != null) {
+            builder = builder.setGrpcFlowControl(flowControl);
+        }
+        return builder.build();
+    }
+
+    static ReadTableSettings.Builder copyOf(ReadTableSettings.Builder settings) {
+        ReadTableSettings source = settings.build();
+        ReadTableSettings.Builder copy = ReadTableSettings.newBuilder()
+                .orderedRead(source.isOrdered())
+                .columns(source.getColumns().toArray(new String[0]));
+        if (source.getFromKey() != null) {
+            copy = source.isFromInclusive() ? copy.fromKeyInclusive(source.getFromKey())
+                    : copy.fromKeyExclusive(source.getFromKey());
+        }
+        if (source.getToKey() != null) {
+            copy = source.isToInclusive() ? copy.toKeyInclusive(source.getToKey())
+                    : copy.toKeyExclusive(source.getToKey());
+        }
+        if (source.getRowLimit() > 0) {
+            copy = copy.rowLimit(source.getRowLimit());
+        }
+        if (source.getBatchLimitBytes() > 0) {
+            copy = copy.batchLimitBytes(source.getBatchLimitBytes());
+        }
+        if (source.getBatchLimitRows() > 0) {
+            copy = copy.batchLimitRows(source.getBatchLimitRows());
+        }
+        return copy;
+    }
+
+    /**
+     * Creates ReadTable stream which closes the session on completion
+     *
+     * @param session session to read
+     * @param tablePath full path of table
+     * @param settings settings of read
+     * @return not started stream
+     */
+    static GrpcReadStream<ReadTablePart> open(Session session, String tablePath, ReadTableSettings settings) {
+        GrpcReadStream<ReadTablePart> stream = session.executeReadTable(tablePath, settings);
+        return new GrpcReadStream<ReadTablePart>() {
+            @Override
+            public CompletableFuture<Status> start(GrpcReadStream.Observer<ReadTablePart> observer) {
+                return stream.start(observer).whenComplete((status, th) -> session.close());
+            }
+
+            @Override
+            public void cancel() {
+                stream.cancel();
+            }
+        };
+    }
+}
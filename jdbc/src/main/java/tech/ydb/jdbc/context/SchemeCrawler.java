@@ -0,0 +1,227 @@
+package tech.ydb.jdbc.context;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import tech.ydb.core.Result;
+import tech.ydb.core.Status;
+import tech.ydb.core.StatusCode;
+import tech.ydb.scheme.description.Entry;
+import tech.ydb.scheme.description.ListDirectoryResult;
+import tech.ydb.table.description.TableDescription;
+import tech.ydb.table.settings.DescribeTableSettings;
+
+/**
+ * Crawler of database scheme used by DatabaseMetaData. Directories are listed and tables are described concurrently
+ * with bounded parallelism. The tables list is shared by all connections of context and cached until TTL expiration
+ * or until the scheme is changed by driver, the table descriptions are kept in the describe cache of
+ * {@link YdbCache} and are invalidated together with cached queries.
+ */
+public class SchemeCrawler {
+    private static final Logger LOGGER = Logger.getLogger(SchemeCrawler.class.getName());
+
+    private final YdbContext ctx;
+    private final SchemeExecutor executor;
+    private final AsyncLimiter limiter;
+    private final String databaseWithSuffix;
+    private final long ttlNanos;
+
+    private final AtomicReference<TablesSnapshot> tables = new AtomicReference<>();
+
+    public SchemeCrawler(YdbContext ctx, Duration ttl, int parallelism) {
+        this.ctx = ctx;
+        this.executor = new SchemeExecutor(ctx);
+        this.limiter = new AsyncLimiter(parallelism);
+        this.databaseWithSuffix = withSuffix(ctx.getPrefixPath());
+        this.ttlNanos = ttl.isNegative() ? 0 : ttl.toNanos();
+    }
+
+    /**
+     * Drops cached tables list, must be called after any changes of scheme. The table descriptions are invalidated
+     * by {@link YdbCache}
+     */
+    public void invalidate() {
+        tables.set(null);
+    }
+
+    /**
+     * Returns list of all tables of database, the table paths are relative to the prefix path of context
+     *
+     * @param validator validator to collect issues
+     * @return list of table paths
+     * @throws SQLException if the crawling was failed
+     */
+    public List<String> listTables(YdbValidator validator) throws SQLException {
+        TablesSnapshot snapshot = tables.get();
+        long now = System.nanoTime();
+        while (snapshot == null || snapshot.isExpired(now)) {
+            TablesSnapshot next = new TablesSnapshot(now);
+            if (ttlNanos <= 0) {
+                snapshot = next;
+                break;
+            }
+            if (tables.compareAndSet(snapshot, next)) {
+                snapshot = next;
+                break;
+            }
+            snapshot = tables.get();
+        }
+
+        TablesSnapshot current = snapshot;
+        current.start();
+        List<String> list = validator.call("List tables from " + databaseWithSuffix, null, () -> current.future);
+        return new ArrayList<>(list);
+    }
+
+    /**
+     * Returns descriptions of tables. Tables which cannot be described are skipped
+     *
+     * @param validator validator to collect issues
+     * @param tableNames table paths relative to the prefix path of context
+     * @return map of table descriptions in the same order as the table names
+     * @throws SQLException if describing was failed
+     */
+    public Map<String, TableDescription> describeTables(YdbValidator validator, Collection<String> tableNames)
+            throws SQLException {
+        Map<String, TableDescription> result = new LinkedHashMap<>();
+        Map<String, CompletableFuture<Result<TableDescription>>> futures = new LinkedHashMap<>();
+
+        YdbCache cache = ctx.getCache();
+        long loadedVersion = cache.getSchemeVersion();
+        for (String table: tableNames) {
+            TableDescription cached = cache.getCachedTable(databaseWithSuffix + table);
+            if (cached != null) {
+                result.put(table, cached);
+            } else {
+                result.put(table, null);
+                futures.put(table, limiter.submit(() -> describeTable(table)));
+            }
+        }
+
+        for (Map.Entry<String, CompletableFuture<Result<TableDescription>>> entry: futures.entrySet()) {
+            String table = entry.getKey();
+            TableDescription description = validator.call("Describe table " + table, null, entry::getValue);
+            if (description == null) {
+                result.remove(table);
+                continue;
+            }
+
+            result.put(table, description);
+            cache.cacheTable(databaseWithSuffix + table, description, loadedVersion);
+        }
+
+        return result;
+    }
+
+    public TableDescription describeTable(YdbValidator validator, String tableName) throws SQLException {
+        return describeTables(validator, Collections.singletonList(tableName)).get(tableName);
+    }
+
+    @SuppressWarnings("null")
+    private CompletableFuture<Result<TableDescription>> describeTable(String table) {
+        DescribeTableSettings settings = ctx.withDefaultTimeout(new DescribeTableSettings());
+        return executor.describeTable(databaseWithSuffix + table, settings).thenApply(result -> {
+            // ignore scheme errors like path not found
+            StatusCode code = result.getStatus().getCode();
+            if (code == StatusCode.SCHEME_ERROR || code == StatusCode.UNAUTHORIZED) {
+                LOGGER.log(Level.WARNING, "Cannot describe table {0} -> {1}", new Object[]{table, result.getStatus()});
+                return Result.success(null);
+            }
+            return result;
+        });
+    }
+
+    private CompletableFuture<Status> listDirectory(String path, Collection<String> out) {
+        return limiter.submit(() -> executor.listDirectory(path)).thenCompose(result -> {
+            // ignore scheme errors like path not found
+            StatusCode code = result.getStatus().getCode();
+            if (code == StatusCode.SCHEME_ERROR || code == StatusCode.UNAUTHORIZED) {
+                LOGGER.log(Level.WARNING, "Cannot list tables from {0} -> {1}", new Object[]{path, result.getStatus()});
+                return CompletableFuture.completedFuture(Status.SUCCESS);
+            }
+            if (!result.isSuccess()) {
+                return CompletableFuture.completedFuture(result.getStatus());
+            }
+
+            ListDirectoryResult directory = result.getValue();
+            String pathPrefix = withSuffix(path);
+            List<CompletableFuture<Status>> children = new ArrayList<>();
+            for (Entry entry : directory.getEntryChildren()) {
+                String fullPath = pathPrefix + entry.getName();
+                switch (entry.getType()) {
+                    case TABLE:
+                    case COLUMN_TABLE:
+                        out.add(fullPath.substring(databaseWithSuffix.length()));
+                        break;
+                    case DIRECTORY:
+                        children.add(listDirectory(fullPath, out));
+                        break;
+                    default:
+                        // skip
+                }
+            }
+
+            CompletableFuture<?>[] array = children.toArray(new CompletableFuture<?>[0]);
+            return CompletableFuture.allOf(array).thenApply(v -> {
+                for (CompletableFuture<Status> child: children) {
+                    Status status = child.join();
+                    if (!status.isSuccess()) {
+                        return status;
+                    }
+                }
+                return Status.SUCCESS;
+            });
+        });
+    }
+
+    private class TablesSnapshot {
+        private final long createdAt;
+        private final CompletableFuture<Result<List<String>>> future = new CompletableFuture<>();
+        private final AtomicBoolean started = new AtomicBoolean(false);
+
+        TablesSnapshot(long createdAt) {
+            this.createdAt = createdAt;
+        }
+
+        boolean isExpired(long now) {
+            if (future.isCompletedExceptionally() || (future.isDone() && !future.join().isSuccess())) {
+                // failed crawling must be repeated
+                return true;
+            }
+            return now - createdAt > ttlNanos;
+        }
+
+        void start() {
+            if (!started.compareAndSet(false, true)) {
+                return;
+            }
+
+            Collection<String> out = new ConcurrentLinkedQueue<>();
+            listDirectory(databaseWithSuffix, out).whenComplete((status, th) -> {
+                if (th != null) {
+                    future.completeExceptionally(th);
+                } else if (!status.isSuccess()) {
+                    future.complete(Result.fail(status));
+                } else {
+                    future.complete(Result.success(new ArrayList<>(out)));
+                }
+            });
+        }
+    }
+
+    private static String withSuffix(String prefix) {
+        return prefix == null || prefix.endsWith("/") ? prefix : prefix + "/";
+    }
+}
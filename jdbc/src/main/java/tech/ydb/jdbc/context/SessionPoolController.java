@@ -0,0 +1,125 @@
+package tech.ydb.jdbc.context;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Controller of session pool size. Periodically samples the session acquire wait time and the pool utilization and
+ * smoothly resizes the pool within configured limits. The pool is grown as soon as the sessions become a bottleneck,
+ * but it is shrunk only after a long enough period of low utilization.
+ */
+public class SessionPoolController {
+    /**
+     * View of session pool used by controller
+     */
+    public interface Pool {
+        int getMaxSize();
+
+        int getAcquiredCount();
+
+        void updateMaxSize(int maxSize);
+    }
+
+    static final double HIGH_UTILIZATION = 0.9d;
+    static final double LOW_UTILIZATION = 0.5d;
+    static final long WAIT_THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    static final int SHRINK_AFTER_TICKS = 10;
+    static final int MIN_STEP = 2;
+
+    private final int minSize;
+    private final int maxSize;
+
+    // telemetry collected between ticks
+    private final AtomicInteger waitingCount = new AtomicInteger();
+    private final AtomicInteger querySessionsInUse = new AtomicInteger();
+    private final AtomicInteger peakDemand = new AtomicInteger();
+    private final AtomicLong acquiresCount = new AtomicLong();
+    private final AtomicLong acquiresWaitNanos = new AtomicLong();
+
+    private int lowUtilizationTicks = 0;
+
+    public SessionPoolController(int minSize, int maxSize) {
+        this.minSize = Math.max(1, minSize);
+        this.maxSize = Math.max(this.minSize, maxSize);
+    }
+
+    public int getMinSize() {
+        return minSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Must be called before the request of a new session
+     */
+    public void onAcquireStarted() {
+        int demand = waitingCount.incrementAndGet() + querySessionsInUse.get();
+        peakDemand.accumulateAndGet(demand, Math::max);
+    }
+
+    /**
+     * Must be called after the request of a new session, even if the request was failed
+     *
+     * @param waitNanos time of waiting in nanoseconds
+     */
+    public void onAcquireFinished(long waitNanos) {
+        waitingCount.decrementAndGet();
+        acquiresCount.incrementAndGet();
+        acquiresWaitNanos.addAndGet(waitNanos);
+    }
+
+    /**
+     * Query client doesn't provide statistics of its pool, so the sessions in use are counted by the driver
+     */
+    public void onQuerySessionAcquired() {
+        querySessionsInUse.incrementAndGet();
+    }
+
+    public void onQuerySessionReleased() {
+        querySessionsInUse.decrementAndGet();
+    }
+
+    public int getQuerySessionsInUse() {
+        return querySessionsInUse.get();
+    }
+
+    /**
+     * One step of control loop
+     *
+     * @param pool session pool
+     * @return new max size of pool
+     */
+    public synchronized int tick(Pool pool) {
+        int size = pool.getMaxSize();
+        int waiting = waitingCount.get();
+        int demand = Math.max(peakDemand.getAndSet(0), pool.getAcquiredCount() + waiting);
+        long count = acquiresCount.getAndSet(0);
+        long waitNanos = acquiresWaitNanos.getAndSet(0);
+        long avgWaitNanos = count > 0 ? waitNanos / count : 0;
+        double utilization = size > 0 ? (double) demand / size : 1.0d;
+
+        int next = size;
+        if ((waiting > 0 || avgWaitNanos >= WAIT_THRESHOLD_NANOS) && utilization >= HIGH_UTILIZATION) {
+            // sessions are the bottleneck, grow by 25% at once
+            lowUtilizationTicks = 0;
+            next = size + Math.max(MIN_STEP, size / 4);
+        } else if (utilization < LOW_UTILIZATION) {
+            lowUtilizationTicks++;
+            if (lowUtilizationTicks >= SHRINK_AFTER_TICKS) {
+                // shrink slowly, not more than 1/8 per tick, until utilization becomes normal
+                next = size - Math.max(1, size / 8);
+            }
+        } else {
+            lowUtilizationTicks = 0;
+        }
+
+        next = Math.max(minSize, Math.min(maxSize, next));
+        if (next != size) {
+            pool.updateMaxSize(next);
+        }
+        return next;
+    }
+}
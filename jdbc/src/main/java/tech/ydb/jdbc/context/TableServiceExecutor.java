@@ -52,6 +52,7 @@ public class TableServiceExecutor extends BaseYdbExecutor {
     @Override
     public void close() throws SQLException {
         clearState();
+        closeTracer();
         tx = null;
     }
 
@@ -124,7 +125,7 @@ public class TableServiceExecutor extends BaseYdbExecutor {
 
         Session session = tx.getSession(validator);
         CommitTxSettings settings = ctx.withDefaultTimeout(new CommitTxSettings());
-        YdbTracer tracer = ctx.getTracer();
+        YdbTracer tracer = getTracer();
         tracer.trace("--> commit");
         tracer.query(null);
 
@@ -136,7 +137,7 @@ public class TableServiceExecutor extends BaseYdbExecutor {
             );
         } finally {
             updateState(tx.withCommit(session));
-            tracer.close();
+            closeTracer(tracer);
         }
     }
 
@@ -150,7 +151,7 @@ public class TableServiceExecutor extends BaseYdbExecutor {
 
         Session session = tx.getSession(validator);
         RollbackTxSettings settings = ctx.withDefaultTimeout(new RollbackTxSettings());
-        YdbTracer tracer = ctx.getTracer();
+        YdbTracer tracer = getTracer();
         tracer.trace("--> rollback");
         tracer.query(null);
 
@@ -162,7 +163,7 @@ public class TableServiceExecutor extends BaseYdbExecutor {
             );
         } finally {
             updateState(tx.withRollback(session));
-            tracer.close();
+            closeTracer(tracer);
         }
     }
 
@@ -194,7 +195,7 @@ public class TableServiceExecutor extends BaseYdbExecutor {
         YdbContext ctx = statement.getConnection().getCtx();
         YdbValidator validator = statement.getValidator();
         String yql = prefixPragma + query.getPreparedYql();
-        YdbTracer tracer = ctx.getTracer();
+        YdbTracer tracer = getTracer();
         tracer.trace("--> explain");
         tracer.query(yql);
 
@@ -207,7 +208,7 @@ public class TableServiceExecutor extends BaseYdbExecutor {
             return updateCurrentResult(new YdbQueryResultExplain(types, statement, ast, plan));
         } finally {
             if (!tx.isInsideTransaction()) {
-                tracer.close();
+                closeTracer(tracer);
             }
         }
     }
@@ -224,7 +225,7 @@ public class TableServiceExecutor extends BaseYdbExecutor {
         }
         YdbQueryExtentionService.QueryCall spi = querySpi.newDataQuery(statement, query, yql);
 
-        YdbTracer tracer = statement.getConnection().getCtx().getTracer();
+        YdbTracer tracer = getTracer();
         ExecuteDataQuerySettings settings = spi.prepareDataQuerySettings(dataQuerySettings(statement));
 
         Session session = tx.getSession(validator);
@@ -273,7 +274,7 @@ public class TableServiceExecutor extends BaseYdbExecutor {
             if (tx.isInsideTransaction()) {
                 tracer.setId(tx.txID());
             } else {
-                tracer.close();
+                closeTracer(tracer);
             }
         }
     }
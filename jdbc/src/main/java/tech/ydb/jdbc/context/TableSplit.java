@@ -0,0 +1,79 @@
+package tech.ydb.jdbc.context;
+
+import tech.ydb.table.settings.ReadTableSettings;
+import tech.ydb.table.values.TupleValue;
+
+/**
+ * Range of primary keys of the table which can be read independently of other ranges. The splits of one table are
+ * ordered by keys and do not intersect, so the concatenation of ordered reads of all splits is the ordered read of
+ * the whole table.
+ */
+public final class TableSplit {
+    private final String tablePath;
+    private final int index;
+    private final TupleValue fromKey;
+    private final boolean fromInclusive;
+    private final TupleValue toKey;
+    private final boolean toInclusive;
+
+    TableSplit(String tablePath, int index, TupleValue fromKey, boolean fromInclusive, TupleValue toKey,
+            boolean toInclusive) {
+        this.tablePath = tablePath;
+        this.index = index;
+        this.fromKey = fromKey;
+        this.fromInclusive = fromInclusive;
+        this.toKey = toKey;
+        this.toInclusive = toInclusive;
+    }
+
+    public String getTablePath() {
+        return tablePath;
+    }
+
+    /**
+     * Returns position of the split in the ordered list of table splits
+     *
+     * @return 0-based index of split
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * @return lower bound of keys or {@code null} if the split starts from the beginning of the table
+     */
+    public TupleValue getFromKey() {
+        return fromKey;
+    }
+
+    public boolean isFromInclusive() {
+        return fromInclusive;
+    }
+
+    /**
+     * @return upper bound of keys or {@code null} if the split ends at the end of the table
+     */
+    public TupleValue getToKey() {
+        return toKey;
+    }
+
+    public boolean isToInclusive() {
+        return toInclusive;
+    }
+
+    ReadTableSettings.Builder applyTo(ReadTableSettings.Builder builder) {
+        if (fromKey != null) {
+            builder = fromInclusive ? builder.fromKeyInclusive(fromKey) : builder.fromKeyExclusive(fromKey);
+        }
+        if (toKey != null) {
+            builder = toInclusive ? builder.toKeyInclusive(toKey) : builder.toKeyExclusive(toKey);
+        }
+        return builder;
+    }
+
+    @Override
+    public String toString() {
+        return "TableSplit{" + tablePath + "#" + index + ", " + (fromInclusive ? "[" : "(") + fromKey + ", "
+                + toKey + (toInclusive ? "]" : ")") + "}";
+    }
+}
@@ -0,0 +1,167 @@
+package tech.ydb.jdbc.context;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import tech.ydb.core.Status;
+import tech.ydb.core.StatusCode;
+import tech.ydb.core.grpc.GrpcFlowControl;
+import tech.ydb.core.grpc.GrpcReadStream;
+import tech.ydb.jdbc.YdbTracer;
+import tech.ydb.table.TableClient;
+import tech.ydb.table.query.ReadTablePart;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.settings.ReadTableSettings;
+
+/**
+ * Read of one table split over its own session. The stream buffers a few parts ahead of the consumer and stops
+ * requesting new messages from server until the buffered parts are polled.
+ */
+public class TableSplitStream implements GrpcFlowControl {
+    static final int MAX_BUFFERED_PARTS = 4;
+
+    private final TableSplit split;
+    private final Runnable onUpdate;
+    private final ConcurrentLinkedQueue<ResultSetReader> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger buffered = new AtomicInteger(0);
+    private final AtomicBoolean isStalled = new AtomicBoolean(false);
+    private final CompletableFuture<Status> completed = new CompletableFuture<>();
+
+    private volatile IntConsumer request = null;
+    private volatile GrpcReadStream<ReadTablePart> stream = null;
+    private volatile boolean isCancelled = false;
+
+    /**
+     * Creates stream of split
+     *
+     * @param split split to read
+     * @param onUpdate callback called on every new part and on completion of the stream
+     */
+    public TableSplitStream(TableSplit split, Runnable onUpdate) {
+        this.split = split;
+        this.onUpdate = onUpdate;
+    }
+
+    public TableSplit getSplit() {
+        return split;
+    }
+
+    /**
+     * Starts reading of split
+     *
+     * @param ctx context of connection
+     * @param ordered if {@code true} the rows of split will be ordered by primary key
+     */
+    public void start(YdbContext ctx, boolean ordered) {
+        TableClient client = ctx.getTableClient();
+        SessionPoolController poolController = ctx.getTableSessionPoolController();
+        Duration sessionTimeout = ctx.getOperationProperties().getSessionTimeout();
+        ReadTableSettings settings = ReadTableStreams.settings(ctx,
+                split.applyTo(ReadTableSettings.newBuilder()).orderedRead(ordered), this);
+
+        long startedAt = System.nanoTime();
+        poolController.onAcquireStarted();
+        client.createSession(sessionTimeout).whenComplete((sessionResult, th) -> {
+            poolController.onAcquireFinished(System.nanoTime() - startedAt);
+            if (th != null) {
+                complete(null, th);
+                return;
+            }
+            if (!sessionResult.isSuccess()) {
+                complete(sessionResult.getStatus(), null);
+                return;
+            }
+
+            GrpcReadStream<ReadTablePart> local = ReadTableStreams.open(sessionResult.getValue(),
+                    split.getTablePath(), settings);
+            stream = local;
+            if (isCancelled) {
+                local.cancel();
+            }
+
+            local.start(part -> onPart(part.getResultSetReader())).whenComplete(this::complete);
+        });
+    }
+
+    void onPart(ResultSetReader part) {
+        queue.offer(part);
+        buffered.incrementAndGet();
+        onUpdate.run();
+    }
+
+    /**
+     * @return next buffered part or {@code null} if there is no buffered parts now
+     */
+    public ResultSetReader poll() {
+        ResultSetReader part = queue.poll();
+        if (part != null) {
+            buffered.decrementAndGet();
+            IntConsumer req = request;
+            if (req != null && isStalled.compareAndSet(true, false)) {
+                req.accept(1);
+            }
+        }
+        return part;
+    }
+
+    public boolean hasBufferedParts() {
+        return !queue.isEmpty();
+    }
+
+    public boolean isCompleted() {
+        return completed.isDone();
+    }
+
+    /**
+     * Checks the status of completed stream
+     *
+     * @param validator validator to collect issues
+     * @param tracer tracer of connection
+     * @throws SQLException if the stream was failed
+     */
+    public void validate(YdbValidator validator, YdbTracer tracer) throws SQLException {
+        if (completed.isDone()) {
+            validator.execute("Read table " + split, tracer, () -> completed);
+        }
+    }
+
+    public void cancel() {
+        isCancelled = true;
+        queue.clear();
+        GrpcReadStream<ReadTablePart> local = stream;
+        if (local != null) {
+            local.cancel();
+        }
+    }
+
+    void complete(Status status, Throwable th) {
+        completed.complete(status != null ? status : Status.of(StatusCode.CLIENT_INTERNAL_ERROR, th));
+        onUpdate.run();
+    }
+
+    @Override
+    public Call newCall(IntConsumer req) {
+        request = req;
+        return new Call() {
+            @Override
+            public void onStart() {
+                req.accept(1);
+            }
+
+            @Override
+            public void onMessageRead() {
+                // the flag is set before the check of buffer, so the consumer which drains the buffer concurrently
+                // either sees the flag and requests the next message itself or is seen by the check
+                isStalled.set(true);
+                if (buffered.get() < MAX_BUFFERED_PARTS && isStalled.compareAndSet(true, false)) {
+                    req.accept(1);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,88 @@
+package tech.ydb.jdbc.context;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import tech.ydb.jdbc.YdbConst;
+import tech.ydb.table.description.KeyBound;
+import tech.ydb.table.description.KeyRange;
+import tech.ydb.table.description.TableDescription;
+import tech.ydb.table.settings.DescribeTableSettings;
+import tech.ydb.table.values.TupleValue;
+import tech.ydb.table.values.Value;
+
+/**
+ * Splits the table into key ranges by the boundaries of table partitions. Neighbouring partitions are merged when
+ * the requested count of splits is less than the count of partitions.
+ */
+public final class TableSplitter {
+    private TableSplitter() { }
+
+    /**
+     * Describes the table with partition boundaries and splits it into key ranges
+     *
+     * @param ctx context of connection
+     * @param validator validator to collect issues
+     * @param tableName name of table, absolute or relative to the prefix path of context
+     * @param maxSplits max count of splits, the result may contain less splits if the table has less partitions
+     * @return list of splits ordered by keys
+     * @throws SQLException if the table cannot be described
+     */
+    public static List<TableSplit> split(YdbContext ctx, YdbValidator validator, String tableName, int maxSplits)
+            throws SQLException {
+        if (maxSplits <= 0) {
+            throw new SQLException(YdbConst.INVALID_SPLITS_COUNT + maxSplits);
+        }
+
+        String tablePath = ctx.resolveTablePath(tableName);
+        DescribeTableSettings settings = ctx.withDefaultTimeout(new DescribeTableSettings());
+        settings.setIncludeShardKeyBounds(true);
+
+        SchemeExecutor executor = new SchemeExecutor(ctx);
+        TableDescription description = validator.call("Describe table " + tablePath, null,
+                () -> executor.describeTable(tablePath, settings));
+
+        List<KeyRange> ranges = description.getKeyRanges();
+        List<TableSplit> splits = new ArrayList<>();
+        if (ranges == null || ranges.isEmpty()) {
+            splits.add(new TableSplit(tablePath, 0, null, false, null, false));
+            return splits;
+        }
+
+        int[] groups = groupPartitions(ranges.size(), maxSplits);
+        for (int idx = 0; idx < groups.length - 1; idx++) {
+            Optional<KeyBound> from = ranges.get(groups[idx]).getFrom();
+            Optional<KeyBound> to = ranges.get(groups[idx + 1] - 1).getTo();
+            splits.add(new TableSplit(tablePath, idx,
+                    from.map(b -> toTuple(b.getValue())).orElse(null), from.map(KeyBound::isInclusive).orElse(false),
+                    to.map(b -> toTuple(b.getValue())).orElse(null), to.map(KeyBound::isInclusive).orElse(false)
+            ));
+        }
+        return splits;
+    }
+
+    /**
+     * Distributes partitions between splits as evenly as possible
+     *
+     * @param partitions count of partitions
+     * @param maxSplits max count of splits
+     * @return indexes of the first partition of every split followed by the count of partitions
+     */
+    static int[] groupPartitions(int partitions, int maxSplits) {
+        int count = Math.min(partitions, maxSplits);
+        int[] groups = new int[count + 1];
+        for (int idx = 0; idx <= count; idx++) {
+            groups[idx] = (int) ((long) idx * partitions / count);
+        }
+        return groups;
+    }
+
+    private static TupleValue toTuple(Value<?> value) {
+        if (value instanceof TupleValue) {
+            return (TupleValue) value;
+        }
+        return TupleValue.of(value);
+    }
+}
@@ -1,18 +1,22 @@
 package tech.ydb.jdbc.context;
 
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.google.common.cache.Cache;
 import com.google.common.hash.Hashing;
+import org.reactivestreams.Publisher;
 
 import tech.ydb.core.Result;
 import tech.ydb.core.Status;
 import tech.ydb.core.StatusCode;
 import tech.ydb.core.UnexpectedResultException;
+import tech.ydb.jdbc.YdbConst;
 import tech.ydb.jdbc.YdbQueryResult;
+import tech.ydb.jdbc.YdbResultSet;
 import tech.ydb.jdbc.YdbStatement;
 import tech.ydb.jdbc.YdbTracer;
 import tech.ydb.jdbc.exception.ExceptionFactory;
@@ -85,6 +89,16 @@ public class TableTxExecutor extends QueryServiceExecutor {
         super.rollback(ctx, validator);
     }
 
+    @Override
+    public <T> Publisher<T> executeDataQueryPublisher(YdbStatement statement, YdbQuery query, String yql,
+            Params params, YdbResultSet.RowMapper<T> mapper) throws SQLException {
+        // writes of published queries cannot be tracked for the validation of commit
+        if (query.isWriting()) {
+            throw new SQLFeatureNotSupportedException(YdbConst.PUBLISHER_WRITES_UNSUPPORTED);
+        }
+        return super.executeDataQueryPublisher(statement, query, yql, params, mapper);
+    }
+
     @Override
     public YdbQueryResult executeDataQuery(YdbStatement statement, YdbQuery query, String preparedYql, Params params)
             throws SQLException {
@@ -119,7 +133,7 @@ public class TableTxExecutor extends QueryServiceExecutor {
                 "$tx", PrimitiveValue.newText(tx.getId())
         );
 
-        YdbTracer tracer = ctx.getTracer();
+        YdbTracer tracer = getTracer();
         ExecuteQuerySettings settings = ctx.withRequestTimeout(ExecuteQuerySettings.newBuilder()).build();
         try {
             QueryStream query = tx.createQuery(commitQuery, true, params, settings);
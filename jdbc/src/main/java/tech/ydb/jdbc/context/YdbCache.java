@@ -3,18 +3,25 @@ package tech.ydb.jdbc.context;
 import java.nio.charset.StandardCharsets;
 import java.sql.SQLDataException;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListener;
+import com.google.common.cache.RemovalNotification;
 
 import tech.ydb.core.Result;
 import tech.ydb.core.UnexpectedResultException;
@@ -27,6 +34,7 @@ import tech.ydb.jdbc.query.QueryType;
 import tech.ydb.jdbc.query.YdbPreparedQuery;
 import tech.ydb.jdbc.query.YdbQuery;
 import tech.ydb.jdbc.query.YqlBatcher;
+import tech.ydb.jdbc.query.YqlTables;
 import tech.ydb.jdbc.query.params.BatchedQuery;
 import tech.ydb.jdbc.query.params.BulkUpsertQuery;
 import tech.ydb.jdbc.query.params.InMemoryQuery;
@@ -58,30 +66,98 @@ public class YdbCache {
     private final Cache<String, Map<String, Type>> queryParamsCache;
     protected final Cache<String, TableDescription> tableDescribeCache;
 
+    private final TableIndex<QueryKey> queriesIndex;
+    private final TableIndex<String> statsIndex;
+    private final TableIndex<String> queryParamsIndex;
+
+    // changed on every invalidation, protects the caches from results loaded before the scheme changes
+    private final AtomicLong schemeVersion = new AtomicLong();
+
     private final Supplier<String> version = Suppliers.memoizeWithExpiration(this::readVersion, 1, TimeUnit.HOURS);
 
-    public YdbCache(YdbContext ctx, YdbQueryProperties queryOptions, int cacheSize, boolean fullScanDetector) {
+    public YdbCache(YdbContext ctx, YdbQueryProperties queryOptions, int cacheSize, Duration cacheTtl,
+            boolean fullScanDetector) {
         this.ctx = ctx;
         this.retryCtx = SessionRetryContext.create(ctx.getTableClient()).idempotent(true).build();
         this.queryOptions = queryOptions;
 
         if (cacheSize > 0) {
-            queriesCache = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
-            queryParamsCache = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
-            tableDescribeCache = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
+            queriesIndex = new TableIndex<>();
+            queriesCache = buildCache(cacheSize, Duration.ZERO, queriesIndex);
+            queryParamsIndex = new TableIndex<>();
+            queryParamsCache = buildCache(cacheSize, cacheTtl, queryParamsIndex);
+            tableDescribeCache = buildCache(cacheSize, cacheTtl, null);
             if (fullScanDetector) {
-                statsCache = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
+                statsIndex = new TableIndex<>();
+                statsCache = buildCache(cacheSize, Duration.ZERO, statsIndex);
             } else {
+                statsIndex = null;
                 statsCache = null;
             }
         } else {
+            queriesIndex = null;
             queriesCache = null;
+            statsIndex = null;
             statsCache = null;
+            queryParamsIndex = null;
             queryParamsCache = null;
             tableDescribeCache = null;
         }
     }
 
+    private static <K, V> Cache<K, V> buildCache(int cacheSize, Duration ttl, TableIndex<K> index) {
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().maximumSize(cacheSize);
+        if (!ttl.isZero() && !ttl.isNegative()) {
+            builder.expireAfterWrite(ttl.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        if (index == null) {
+            return builder.build();
+        }
+        CacheBuilder<K, V> indexed = builder.removalListener(index);
+        return indexed.build();
+    }
+
+    /**
+     * Invalidates table descriptions and all cached queries which use the changed tables
+     *
+     * @param tablePaths full paths of changed tables
+     */
+    void invalidateTables(Set<String> tablePaths) {
+        if (tablePaths.isEmpty()) {
+            return;
+        }
+
+        schemeVersion.incrementAndGet();
+        if (tableDescribeCache != null) {
+            tableDescribeCache.invalidateAll(tablePaths);
+        }
+        if (queryParamsCache != null) {
+            queryParamsIndex.invalidate(queryParamsCache, tablePaths);
+        }
+        if (queriesCache != null) {
+            queriesIndex.invalidate(queriesCache, tablePaths);
+        }
+        if (statsCache != null) {
+            statsIndex.invalidate(statsCache, tablePaths);
+        }
+    }
+
+    /**
+     * Returns full paths of all tables which may be used by query. Every identifier of query is considered as a
+     * table name relative to the query pragma TablePathPrefix, so the result may contain paths of non existent tables
+     *
+     * @param query text of query
+     * @return set of full paths
+     */
+    private Set<String> usedTables(String query) {
+        String pathPrefix = YqlTables.parseTablePathPrefix(query);
+        Set<String> tablePaths = new HashSet<>();
+        for (String identifier: YqlTables.parseIdentifiers(query)) {
+            tablePaths.add(ctx.resolveTablePath(pathPrefix, identifier));
+        }
+        return tablePaths;
+    }
+
     String getDatabaseVersion() {
         return version.get();
     }
@@ -90,6 +166,31 @@ public class YdbCache {
         return tableDescribeCache;
     }
 
+    long getSchemeVersion() {
+        return schemeVersion.get();
+    }
+
+    TableDescription getCachedTable(String tablePath) {
+        return tableDescribeCache != null ? tableDescribeCache.getIfPresent(tablePath) : null;
+    }
+
+    /**
+     * Caches the table description if the scheme wasn't changed after the start of loading
+     *
+     * @param tablePath full path of table
+     * @param description loaded description
+     * @param loadedVersion scheme version read before the start of loading
+     */
+    void cacheTable(String tablePath, TableDescription description, long loadedVersion) {
+        if (tableDescribeCache == null) {
+            return;
+        }
+        tableDescribeCache.put(tablePath, description);
+        if (loadedVersion != schemeVersion.get()) {
+            tableDescribeCache.invalidate(tablePath);
+        }
+    }
+
     YdbQueryProperties getQueryOptions() {
         return this.queryOptions;
     }
@@ -154,6 +255,7 @@ public class YdbCache {
                 stat = new QueryStat(query.getOriginQuery(), yql, res.getStatus());
             }
 
+            statsIndex.add(yql, stat, usedTables(yql));
             statsCache.put(yql, stat);
         }
 
@@ -168,6 +270,7 @@ public class YdbCache {
         YdbQuery cached = queriesCache.getIfPresent(key);
         if (cached == null) {
             cached = YdbQuery.parseQuery(key, queryOptions, ctx.getTypes());
+            queriesIndex.add(key, cached, usedTables(key.getQuery()));
             queriesCache.put(key, cached);
         }
 
@@ -207,6 +310,7 @@ public class YdbCache {
         // try to prepare data query
         Map<String, Type> queryTypes = queryParamsCache.getIfPresent(query.getOriginQuery());
         if (queryTypes == null) {
+            long loadedVersion = schemeVersion.get();
             String yql = ctx.getPrefixPragma() + query.getPreparedYql();
             YdbTracer tracer = ctx.getTracer();
             tracer.trace("--> prepare data query");
@@ -225,7 +329,11 @@ public class YdbCache {
             }
 
             queryTypes = result.getValue().types();
+            queryParamsIndex.add(query.getOriginQuery(), queryTypes, usedTables(query.getOriginQuery()));
             queryParamsCache.put(query.getOriginQuery(), queryTypes);
+            if (loadedVersion != schemeVersion.get()) {
+                queryParamsCache.invalidate(query.getOriginQuery());
+            }
         }
 
         if (query.isWriting()) { // try to create auto-batched query
@@ -269,7 +377,7 @@ public class YdbCache {
     }
 
     private Result<TableDescription> describeTable(String tablePath) {
-        TableDescription cached = tableDescribeCache.getIfPresent(tablePath);
+        TableDescription cached = getCachedTable(tablePath);
         if (cached != null) {
             return Result.success(cached);
         }
@@ -278,6 +386,7 @@ public class YdbCache {
         tracer.trace("--> describe table");
         tracer.trace(tablePath);
 
+        long loadedVersion = schemeVersion.get();
         DescribeTableSettings settings = ctx.withDefaultTimeout(new DescribeTableSettings());
         Result<TableDescription> result = retryCtx.supplyResult(session -> session.describeTable(tablePath, settings))
                 .join();
@@ -285,9 +394,69 @@ public class YdbCache {
         tracer.trace("<-- " + result.getStatus());
 
         if (result.isSuccess()) {
-            tableDescribeCache.put(tablePath, result.getValue());
+            cacheTable(tablePath, result.getValue(), loadedVersion);
         }
 
         return result;
     }
+
+    /**
+     * Index of cached entries by full paths of used tables. It's filled before every put to the cache and cleaned by
+     * removal notifications, so the scheme changes invalidate only dependent entries without parsing all cached
+     * queries. Every index record is bound to the cached value to ignore the notifications of replaced values.
+     *
+     * @param <K> type of cache key
+     */
+    private static class TableIndex<K> implements RemovalListener<K, Object> {
+        private final Map<String, Set<K>> keysByTable = new ConcurrentHashMap<>();
+        private final Map<K, Record> recordsByKey = new ConcurrentHashMap<>();
+
+        void add(K key, Object value, Set<String> tablePaths) {
+            recordsByKey.compute(key, (k, old) -> {
+                for (String tablePath: tablePaths) {
+                    keysByTable.compute(tablePath, (path, keys) -> {
+                        Set<K> updated = keys != null ? keys : ConcurrentHashMap.newKeySet();
+                        updated.add(k);
+                        return updated;
+                    });
+                }
+                return new Record(value, tablePaths);
+            });
+        }
+
+        void invalidate(Cache<K, ?> cache, Set<String> tablePaths) {
+            for (String tablePath: tablePaths) {
+                Set<K> keys = keysByTable.remove(tablePath);
+                if (keys != null) {
+                    cache.invalidateAll(keys);
+                }
+            }
+        }
+
+        @Override
+        public void onRemoval(RemovalNotification<K, Object> notification) {
+            recordsByKey.computeIfPresent(notification.getKey(), (key, record) -> {
+                if (record.value != notification.getValue()) {
+                    return record;
+                }
+                for (String tablePath: record.tablePaths) {
+                    keysByTable.computeIfPresent(tablePath, (path, keys) -> {
+                        keys.remove(key);
+                        return keys.isEmpty() ? null : keys;
+                    });
+                }
+                return null;
+            });
+        }
+
+        private static class Record {
+            private final Object value;
+            private final Set<String> tablePaths;
+
+            Record(Object value, Set<String> tablePaths) {
+                this.value = value;
+                this.tablePaths = tablePaths;
+            }
+        }
+    }
 }
@@ -3,7 +3,11 @@ package tech.ydb.jdbc.context;
 import java.sql.SQLException;
 import java.time.Duration;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -17,10 +21,12 @@ import tech.ydb.jdbc.YdbPrepareMode;
 import tech.ydb.jdbc.YdbTracer;
 import tech.ydb.jdbc.common.JdbcDriverVersion;
 import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.jdbc.impl.YdbTracerImpl;
 import tech.ydb.jdbc.impl.YdbTracerNone;
 import tech.ydb.jdbc.query.QueryKey;
 import tech.ydb.jdbc.query.YdbPreparedQuery;
 import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.jdbc.query.YqlTables;
 import tech.ydb.jdbc.settings.YdbClientProperties;
 import tech.ydb.jdbc.settings.YdbConfig;
 import tech.ydb.jdbc.settings.YdbConnectionProperties;
@@ -61,8 +67,16 @@ public class YdbContext implements AutoCloseable {
 
     private final boolean autoResizeSessionPool;
     private final AtomicInteger connectionsCount = new AtomicInteger();
+    private final SessionPoolController tablePoolController;
+    private final SessionPoolController queryPoolController;
+    private final ScheduledFuture<?> poolControllerFuture;
+    // query client doesn't provide statistics of its pool, so the current size is tracked by the driver
+    private int queryPoolSize;
 
     private final YdbQueryExtentionService querySpi;
+    private final HedgingPolicy hedgingPolicy;
+    private final YdbRetryPolicy retryPolicy;
+    private final SchemeCrawler schemeCrawler;
 
     private YdbContext(
             YdbConfig config,
@@ -71,6 +85,7 @@ public class YdbContext implements AutoCloseable {
             GrpcTransport transport,
             PooledTableClient tableClient,
             QueryClientImpl queryClient,
+            YdbClientProperties clientProperties,
             boolean autoResize
     ) {
         this.config = config;
@@ -97,13 +112,96 @@ public class YdbContext implements AutoCloseable {
         if (queryRewriteTable != null && !queryRewriteTable.isEmpty()) {
             String tablePath = joined(prefixPath, queryRewriteTable);
             this.cache = new YdbQueryRewriteCache(this, tablePath, operationOptions.getQueryRewriteTtl(),
-                    queryProperties, config.getPreparedStatementsCachecSize(), config.isFullScanDetectorEnabled());
+                    queryProperties, config.getPreparedStatementsCachecSize(), config.getPreparedStatementsCacheTtl(),
+                    config.isFullScanDetectorEnabled());
         } else {
-            this.cache = new YdbCache(this,
-                    queryProperties, config.getPreparedStatementsCachecSize(), config.isFullScanDetectorEnabled());
+            this.cache = new YdbCache(this, queryProperties, config.getPreparedStatementsCachecSize(),
+                    config.getPreparedStatementsCacheTtl(), config.isFullScanDetectorEnabled());
         }
 
         this.querySpi = YdbServiceLoader.loadQuerySpi();
+        this.hedgingPolicy = operationOptions.isUseHedgedReads() ? new HedgingPolicy(
+                operationOptions.getHedgedReadsPercentile(), operationOptions.getHedgedReadsBudget()
+        ) : null;
+        this.retryPolicy = new YdbRetryPolicy(operationOptions);
+        this.schemeCrawler = new SchemeCrawler(this, operationOptions.getSchemaCacheTtl(),
+                operationOptions.getSchemaCrawlerParallelism());
+
+        this.tablePoolController = new SessionPoolController(
+                clientProperties.getSessionPoolMinSize(), clientProperties.getSessionPoolMaxSize()
+        );
+        this.queryPoolController = new SessionPoolController(
+                clientProperties.getSessionPoolMinSize(), clientProperties.getSessionPoolMaxSize()
+        );
+        if (clientProperties.isSessionPoolAdaptive()) {
+            // both pools are started with the same initial size
+            this.queryPoolSize = tableClient.sessionPoolStats().getMaxSize();
+            long period = Math.max(1, clientProperties.getSessionPoolAdaptivePeriod().toMillis());
+            this.poolControllerFuture = transport.getScheduler().scheduleWithFixedDelay(
+                    this::resizeSessionPool, period, period, TimeUnit.MILLISECONDS
+            );
+        } else {
+            this.poolControllerFuture = null;
+        }
+    }
+
+    private void resizeSessionPool() {
+        // every pool is resized by its own utilization
+        resizeSessionPool("Table", tablePoolController, new SessionPoolController.Pool() {
+            @Override
+            public int getMaxSize() {
+                return tableClient.sessionPoolStats().getMaxSize();
+            }
+
+            @Override
+            public int getAcquiredCount() {
+                return tableClient.sessionPoolStats().getAcquiredCount();
+            }
+
+            @Override
+            public void updateMaxSize(int maxSize) {
+                tableClient.updatePoolMaxSize(maxSize);
+            }
+        });
+        resizeSessionPool("Query", queryPoolController, new SessionPoolController.Pool() {
+            @Override
+            public int getMaxSize() {
+                return queryPoolSize;
+            }
+
+            @Override
+            public int getAcquiredCount() {
+                return queryPoolController.getQuerySessionsInUse();
+            }
+
+            @Override
+            public void updateMaxSize(int maxSize) {
+                queryClient.updatePoolMaxSize(maxSize);
+                queryPoolSize = maxSize;
+            }
+        });
+    }
+
+    private static void resizeSessionPool(String name, SessionPoolController controller,
+            SessionPoolController.Pool pool) {
+        try {
+            int prevSize = pool.getMaxSize();
+            int newSize = controller.tick(pool);
+            if (newSize != prevSize) {
+                LOGGER.log(Level.FINE, "{0} session pool resized from {1} to {2}",
+                        new Object[] {name, prevSize, newSize});
+            }
+        } catch (RuntimeException ex) {
+            LOGGER.log(Level.WARNING, "Unable to resize " + name.toLowerCase() + " session pool", ex);
+        }
+    }
+
+    SessionPoolController getTableSessionPoolController() {
+        return tablePoolController;
+    }
+
+    SessionPoolController getQuerySessionPoolController() {
+        return queryPoolController;
     }
 
     public YdbTypes getTypes() {
@@ -122,19 +220,92 @@ public class YdbContext implements AutoCloseable {
         return config.isTxTracedEnabled() ? YdbTracer.current() : YdbTracerNone.DISABLED;
     }
 
+    /**
+     * Returns tracer for the new transaction. Unlike {@link #getTracer()} the default tracer is owned by the
+     * transaction until it is closed, see {@link YdbTracerImpl#forTransaction()}
+     *
+     * @return tracer of the new transaction
+     */
+    public YdbTracer getTxTracer() {
+        return config.isTxTracedEnabled() ? YdbTracerImpl.forTransaction() : YdbTracerNone.DISABLED;
+    }
+
     public YdbQueryExtentionService getQuerySpi() {
         return querySpi;
     }
 
+    /**
+     * Returns shared policy of hedged reads or null if hedged reads are disabled
+     *
+     * @return hedging policy
+     */
+    public HedgingPolicy getHedgingPolicy() {
+        return hedgingPolicy;
+    }
+
+    YdbCache getCache() {
+        return cache;
+    }
+
+    public SchemeCrawler getSchemeCrawler() {
+        return schemeCrawler;
+    }
+
+    public YdbRetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
     static String joined(String path1, String path2) {
         return path1.endsWith("/") || path2.startsWith("/") ? path1 + path2 : path1 + "/" + path2;
     }
 
+    /**
+     * Returns full path of table
+     *
+     * @param tableName absolute path of table or path relative to the prefix path
+     * @return absolute path of table
+     */
+    public String resolveTablePath(String tableName) {
+        return tableName.startsWith("/") ? tableName : joined(prefixPath, tableName);
+    }
+
+    /**
+     * Returns full path of table used by query with its own {@code PRAGMA TablePathPrefix}
+     *
+     * @param pathPrefix value of query pragma TablePathPrefix or null if the query doesn't declare it
+     * @param tableName absolute path of table or path relative to the prefix
+     * @return absolute path of table
+     */
+    public String resolveTablePath(String pathPrefix, String tableName) {
+        if (pathPrefix == null || tableName.startsWith("/")) {
+            return resolveTablePath(tableName);
+        }
+        String prefix = pathPrefix.startsWith("/") ? pathPrefix : joined(grpcTransport.getDatabase(), pathPrefix);
+        return joined(prefix, tableName);
+    }
+
+    /**
+     * Invalidates cached data of tables changed by scheme query
+     *
+     * @param yql text of executed scheme query
+     */
+    public void onSchemeChanged(String yql) {
+        String pathPrefix = YqlTables.parseTablePathPrefix(yql);
+        Set<String> tablePaths = new HashSet<>();
+        for (String table: YqlTables.parseChangedTables(yql)) {
+            tablePaths.add(resolveTablePath(pathPrefix, table));
+        }
+        LOGGER.log(Level.FINE, "Scheme of tables {0} was changed", tablePaths);
+
+        cache.invalidateTables(tablePaths);
+        schemeCrawler.invalidate();
+    }
+
     public String getPrefixPath() {
         return prefixPath;
     }
 
-    String getPrefixPragma() {
+    public String getPrefixPragma() {
         return prefixPragma;
     }
 
@@ -183,6 +354,9 @@ public class YdbContext implements AutoCloseable {
 
     @Override
     public void close() {
+        if (poolControllerFuture != null) {
+            poolControllerFuture.cancel(false);
+        }
         try {
             schemeClient.close();
             queryClient.close();
@@ -210,7 +384,9 @@ public class YdbContext implements AutoCloseable {
     }
 
     public void deregister() {
-        YdbTracer.clear();
+        if (config.isTxTracedEnabled()) {
+            YdbTracer.clear();
+        }
 
         int actual = connectionsCount.decrementAndGet();
         int maxSize = tableClient.sessionPoolStats().getMaxSize();
@@ -275,7 +451,8 @@ public class YdbContext implements AutoCloseable {
             QueryClientImpl.Builder qb = QueryClientImpl.newClient(transport);
             connProps.applyToClients(tb, qb);
             boolean autoResize = clientProps.applyToTableClient(tb, qb);
-            return new YdbContext(config, operProps, queryProps, transport, tb.build(), qb.build(), autoResize);
+            return new YdbContext(config, operProps, queryProps, transport, tb.build(), qb.build(), clientProps,
+                    autoResize);
         } catch (SQLException | RuntimeException ex) {
             transport.close();
             throw ex;
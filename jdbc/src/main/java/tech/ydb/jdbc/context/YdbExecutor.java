@@ -2,12 +2,16 @@ package tech.ydb.jdbc.context;
 
 import java.sql.SQLException;
 
+import org.reactivestreams.Publisher;
+
 import tech.ydb.common.transaction.YdbTransaction;
 import tech.ydb.jdbc.YdbQueryResult;
+import tech.ydb.jdbc.YdbResultSet;
 import tech.ydb.jdbc.YdbStatement;
 import tech.ydb.jdbc.impl.YdbResultSetMemory;
 import tech.ydb.jdbc.query.YdbQuery;
 import tech.ydb.table.query.Params;
+import tech.ydb.table.settings.ReadTableSettings;
 import tech.ydb.table.values.ListValue;
 
 /**
@@ -31,11 +35,51 @@ public interface YdbExecutor {
     void setReadOnly(boolean readOnly) throws SQLException;
     void setAutoCommit(boolean autoCommit) throws SQLException;
 
+    /**
+     * Enables reusing of the same session for all following transactions of this executor. Disabling of this mode
+     * releases the kept session.
+     *
+     * @param keepSession true to keep the session between transactions
+     * @throws SQLException if executor is closed
+     */
+    void setKeepSession(boolean keepSession) throws SQLException;
+
+    /**
+     * Enables or disables retries of single statements executed outside of transaction. The retries are disabled
+     * when the whole transaction is retried by the caller.
+     *
+     * @param enabled true to allow retries of single statements
+     * @throws SQLException if executor is closed
+     */
+    void setStatementRetries(boolean enabled) throws SQLException;
+
+    boolean isStatementRetries() throws SQLException;
+
     YdbQueryResult executeSchemeQuery(YdbStatement st, YdbQuery query, String yql, Params prms) throws SQLException;
     YdbQueryResult executeBulkUpsert(YdbStatement st, YdbQuery query, String path, ListValue rows) throws SQLException;
     YdbQueryResult executeExplainQuery(YdbStatement st, YdbQuery query) throws SQLException;
     YdbQueryResult executeScanQuery(YdbStatement st, YdbQuery query, String yql, Params prms) throws SQLException;
+    YdbQueryResult executeReadTable(YdbStatement st, YdbQuery query, String path, ReadTableSettings.Builder settings)
+            throws SQLException;
+    YdbQueryResult executeKeysetRead(YdbStatement st, YdbQuery query, String tableName, int pageSize)
+            throws SQLException;
     YdbQueryResult executeDataQuery(YdbStatement st, YdbQuery query, String yql, Params prms) throws SQLException;
+
+    /**
+     * Creates publisher of the rows of data query, the query is executed when the subscriber requests the rows
+     *
+     * @param <T> type of mapped rows
+     * @param st statement
+     * @param query query with one result set
+     * @param yql text of query
+     * @param prms parameters of query
+     * @param mapper mapper of rows
+     * @return publisher of rows
+     * @throws SQLException if query cannot be published
+     */
+    <T> Publisher<T> executeDataQueryPublisher(YdbStatement st, YdbQuery query, String yql, Params prms,
+            YdbResultSet.RowMapper<T> mapper) throws SQLException;
+
     YdbResultSetMemory[] executeInMemoryQuery(YdbStatement st, YdbQuery query, String yql, Params prms)
             throws SQLException;
 
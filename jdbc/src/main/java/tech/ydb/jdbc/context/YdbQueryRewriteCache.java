@@ -58,8 +58,8 @@ public class YdbQueryRewriteCache extends YdbCache {
     private final Cache<QueryKey, CachedQuery> rewriteCache;
 
     public YdbQueryRewriteCache(YdbContext ctx, String tableName, Duration ttl, YdbQueryProperties options,
-            int cacheSize, boolean fullScanDetector) {
-        super(ctx, options, cacheSize, fullScanDetector);
+            int cacheSize, Duration cacheTtl, boolean fullScanDetector) {
+        super(ctx, options, cacheSize, cacheTtl, fullScanDetector);
         this.rewriteTable = tableName;
         this.rewriteTtl = ttl;
         this.rewriteCache = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
@@ -0,0 +1,163 @@
+package tech.ydb.jdbc.context;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import tech.ydb.core.StatusCode;
+import tech.ydb.jdbc.settings.YdbOperationProperties;
+
+/**
+ * Retry policy of statements executed outside of active transaction and of whole transactions executed by
+ * {@link tech.ydb.jdbc.YdbConnection#runInTransaction}. Uses exponential backoff with jitter depending on the status
+ * class and limits the total count of retries by the token bucket shared per {@link YdbContext}.
+ */
+public class YdbRetryPolicy {
+    public static final long NO_RETRY = -1;
+
+    // BAD_SESSION is retried immediately even if the other retries are disabled, these retries don't use the budget
+    private static final int BAD_SESSION_MAX_RETRIES = 10;
+    // Transactions are retried by explicit request of application, so they are retried even if retries are disabled
+    private static final int TX_DEFAULT_MAX_RETRIES = 10;
+    private static final int FAST_BACKOFF_MAX_SHIFT = 8;
+    private static final int SLOW_BACKOFF_MAX_SHIFT = 6;
+
+    // Budget is calculated in hundredths of retry to avoid rounding errors
+    private static final int RETRY_COST = 100;
+    private static final int MAX_TOKENS = 10 * RETRY_COST;
+
+    private final int maxRetries;
+    private final long fastBackoffMillis;
+    private final long slowBackoffMillis;
+    private final int tokensPerSuccess;
+
+    private final AtomicInteger tokens = new AtomicInteger(MAX_TOKENS);
+    private final AtomicLong retriesCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public YdbRetryPolicy(int maxRetries, Duration fastBackoff, Duration slowBackoff, int budgetPercent) {
+        this.maxRetries = Math.max(0, maxRetries);
+        this.fastBackoffMillis = Math.max(0, fastBackoff.toMillis());
+        this.slowBackoffMillis = Math.max(0, slowBackoff.toMillis());
+        this.tokensPerSuccess = Math.max(0, Math.min(budgetPercent, 100));
+    }
+
+    public YdbRetryPolicy(YdbOperationProperties props) {
+        this(props.getRetryMaxAttempts(), props.getRetryFastBackoff(), props.getRetrySlowBackoff(),
+                props.getRetryBudget());
+    }
+
+    /**
+     * Calculates delay before the next retry of failed statement.
+     *
+     * @param code status code of the failed attempt
+     * @param retryNumber count of already executed retries
+     * @param isIdempotent true if statement can be safely executed more than once
+     * @return delay in milliseconds or {@link #NO_RETRY} if statement must not be retried
+     */
+    public long nextRetryDelayMillis(StatusCode code, int retryNumber, boolean isIdempotent) {
+        return acquire(code, calculateDelay(code, retryNumber, isIdempotent, maxRetries));
+    }
+
+    /**
+     * Calculates delay before the next execution of whole failed transaction.
+     *
+     * @param code status code of the failed attempt
+     * @param retryNumber count of already executed retries
+     * @return delay in milliseconds or {@link #NO_RETRY} if transaction must not be retried
+     */
+    public long nextTxRetryDelayMillis(StatusCode code, int retryNumber) {
+        int maxTxRetries = maxRetries > 0 ? maxRetries : TX_DEFAULT_MAX_RETRIES;
+        return acquire(code, calculateDelay(code, retryNumber, false, maxTxRetries));
+    }
+
+    private long acquire(StatusCode code, long delay) {
+        if (delay == NO_RETRY) {
+            return NO_RETRY;
+        }
+
+        // the session is broken on the server side, the retry doesn't add the load and must not be limited
+        if (code != StatusCode.BAD_SESSION && !tryAcquire()) {
+            rejectedCount.incrementAndGet();
+            return NO_RETRY;
+        }
+
+        retriesCount.incrementAndGet();
+        return delay;
+    }
+
+    /**
+     * Register successful execution of statement. Every success adds budget for future retries.
+     */
+    public void onSuccess() {
+        if (tokensPerSuccess == 0) {
+            return;
+        }
+        int current = tokens.get();
+        while (current < MAX_TOKENS) {
+            if (tokens.compareAndSet(current, Math.min(MAX_TOKENS, current + tokensPerSuccess))) {
+                return;
+            }
+            current = tokens.get();
+        }
+    }
+
+    public long getRetriesCount() {
+        return retriesCount.get();
+    }
+
+    public long getRejectedRetriesCount() {
+        return rejectedCount.get();
+    }
+
+    private boolean tryAcquire() {
+        int current = tokens.get();
+        while (current >= RETRY_COST) {
+            if (tokens.compareAndSet(current, current - RETRY_COST)) {
+                return true;
+            }
+            current = tokens.get();
+        }
+        return false;
+    }
+
+    private long calculateDelay(StatusCode code, int retryNumber, boolean isIdempotent, int limit) {
+        if (code == StatusCode.BAD_SESSION) {
+            return retryNumber < Math.max(limit, BAD_SESSION_MAX_RETRIES) ? 0 : NO_RETRY;
+        }
+
+        if (retryNumber >= limit) {
+            return NO_RETRY;
+        }
+
+        switch (code) {
+            // cancellation and deadlines are initiated by client and must not be retried
+            case CLIENT_CANCELLED:
+            case CLIENT_DEADLINE_EXCEEDED:
+            case CLIENT_DEADLINE_EXPIRED:
+                return NO_RETRY;
+            case OVERLOADED:
+            case CLIENT_RESOURCE_EXHAUSTED:
+                return backoff(slowBackoffMillis, SLOW_BACKOFF_MAX_SHIFT, retryNumber);
+            default:
+                break;
+        }
+
+        if (code.isRetryable(false) || (isIdempotent && code.isRetryable(true))) {
+            return backoff(fastBackoffMillis, FAST_BACKOFF_MAX_SHIFT, retryNumber);
+        }
+
+        return NO_RETRY;
+    }
+
+    private static long backoff(long baseMillis, int maxShift, int retryNumber) {
+        long max = baseMillis << Math.min(retryNumber, maxShift);
+        if (max <= 1) {
+            return max;
+        }
+        // equal jitter: half of delay is fixed, the second half is random
+        long half = max / 2;
+        return half + ThreadLocalRandom.current().nextLong(max - half + 1);
+    }
+}
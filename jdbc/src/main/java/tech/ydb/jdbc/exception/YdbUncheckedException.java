@@ -0,0 +1,20 @@
+package tech.ydb.jdbc.exception;
+
+import java.sql.SQLException;
+
+/**
+ * Unchecked wrapper of {@link SQLException} which is thrown by the driver APIs that cannot throw checked
+ * exceptions, like the streams of result set rows.
+ */
+public class YdbUncheckedException extends RuntimeException {
+    private static final long serialVersionUID = -2164398761905437418L;
+
+    public YdbUncheckedException(SQLException cause) {
+        super(cause.getMessage(), cause);
+    }
+
+    @Override
+    public synchronized SQLException getCause() {
+        return (SQLException) super.getCause();
+    }
+}
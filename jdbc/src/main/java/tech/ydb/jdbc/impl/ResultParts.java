@@ -0,0 +1,432 @@
+package tech.ydb.jdbc.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.google.protobuf.NullValue;
+
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.result.ValueReader;
+import tech.ydb.table.result.impl.ProtoValueReaders;
+import tech.ydb.table.values.OptionalType;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.Type;
+import tech.ydb.table.values.Value;
+
+/**
+ * Parts of scrollable result set. Parts are kept in heap until the memory limit is reached, the rest parts
+ * are serialized to the temporary file by the background thread and read back by memory mapping on demand. The first
+ * part is always kept in heap.
+ */
+public final class ResultParts implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(ResultParts.class.getName());
+    private static final ValueProtos.Value NULL_VALUE = ValueProtos.Value.newBuilder()
+            .setNullFlagValue(NullValue.NULL_VALUE)
+            .build();
+
+    // estimated size of serialized fixed-width value, variable-length values are measured
+    private static final int FIXED_VALUE_SIZE = 10;
+
+    private static final AtomicInteger SPILL_THREAD_NUMBER = new AtomicInteger(1);
+    private static final ExecutorService SPILL_EXECUTOR = Executors.newCachedThreadPool((Runnable r) -> {
+        Thread t = new Thread(r, "ydb-jdbc-spill-thread-" + SPILL_THREAD_NUMBER.getAndIncrement());
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final long memoryLimit;
+    private final List<Part> parts = new ArrayList<>();
+
+    private int[] rowOffsets = new int[] {0};
+    private long memoryUsed = 0;
+
+    // spills of one result set are chained, so the spill file is written by one thread at time
+    private CompletableFuture<Void> spillTail = CompletableFuture.completedFuture(null);
+    private FileChannel spillFile = null;
+    private long spillSize = 0;
+    private volatile boolean isClosed = false;
+
+    private int loadedIndex = -1;
+    private ResultSetReader loaded = null;
+
+    /**
+     * Creates empty parts list
+     *
+     * @param memoryLimit max serialized size of parts kept in heap in bytes, 0 or negative value disables spilling
+     */
+    public ResultParts(long memoryLimit) {
+        this.memoryLimit = memoryLimit;
+    }
+
+    public static ResultParts inMemory(ResultSetReader... readers) {
+        ResultParts parts = new ResultParts(0);
+        for (ResultSetReader rsr: readers) {
+            parts.add(rsr);
+        }
+        return parts;
+    }
+
+    public void add(ResultSetReader part) {
+        Part next = new Part(part, part.getRowCount());
+        if (memoryLimit > 0 && !parts.isEmpty()) {
+            long size = estimateSize(part);
+            if (memoryUsed + size <= memoryLimit) {
+                memoryUsed += size;
+            } else {
+                scheduleSpill(next);
+            }
+        }
+
+        parts.add(next);
+        int idx = parts.size();
+        if (rowOffsets.length <= idx) {
+            rowOffsets = Arrays.copyOf(rowOffsets, rowOffsets.length * 2);
+        }
+        rowOffsets[idx] = rowOffsets[idx - 1] + next.rowCount;
+    }
+
+    public int getPartsCount() {
+        return parts.size();
+    }
+
+    public int getRowCount() {
+        return rowOffsets[parts.size()];
+    }
+
+    public int getRowCount(int partIndex) {
+        return parts.get(partIndex).rowCount;
+    }
+
+    /**
+     * Returns index of the part containing the row
+     *
+     * @param row 0-based row index
+     * @return index of part or -1 if the row is out of range
+     */
+    public int findPart(int row) {
+        if (row < 0 || row >= getRowCount()) {
+            return -1;
+        }
+        // the last part which starts before the row, empty parts are skipped because they start with the next part
+        int lo = 0;
+        int hi = parts.size() - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (rowOffsets[mid] <= row) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Returns index of the first row of the part
+     *
+     * @param partIndex index of part
+     * @return 0-based row index
+     */
+    public int getPartOffset(int partIndex) {
+        return rowOffsets[partIndex];
+    }
+
+    public ResultSetReader getPart(int partIndex) {
+        Part part = parts.get(partIndex);
+        ResultSetReader reader = part.awaitReader();
+        if (reader != null) {
+            return reader;
+        }
+
+        if (loadedIndex != partIndex) {
+            loaded = load(part);
+            loadedIndex = partIndex;
+        }
+        return loaded;
+    }
+
+    /**
+     * Returns all parts. Spilled parts are read back from the file only on the first access, so the returned readers
+     * are valid until this object is closed
+     *
+     * @return array of parts
+     */
+    public ResultSetReader[] toArray() {
+        ResultSetReader[] array = new ResultSetReader[parts.size()];
+        for (int idx = 0; idx < array.length; idx++) {
+            Part part = parts.get(idx);
+            ResultSetReader reader = part.awaitReader();
+            array[idx] = reader != null ? reader : new SpilledReader(part);
+        }
+        return array;
+    }
+
+    @Override
+    public void close() {
+        isClosed = true;
+        loaded = null;
+        // the file is closed after the last scheduled spill, the not started spills are skipped
+        spillTail.whenComplete((res, th) -> closeSpillFile());
+    }
+
+    private void scheduleSpill(Part part) {
+        CompletableFuture<Void> spill = spillTail.thenRunAsync(() -> spill(part), SPILL_EXECUTOR);
+        part.spilling = spill;
+        spillTail = spill;
+    }
+
+    private void spill(Part part) {
+        if (isClosed) {
+            return;
+        }
+
+        try {
+            if (spillFile == null) {
+                spillFile = openSpillFile();
+            }
+
+            byte[] data = toProto(part.reader).toByteArray();
+            long offset = spillSize;
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            while (buffer.hasRemaining()) {
+                spillSize += spillFile.write(buffer, spillSize);
+            }
+            part.spilled(offset, data.length);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Cannot spill result set part, it will be kept in heap", e);
+        }
+    }
+
+    private static FileChannel openSpillFile() throws IOException {
+        Path path = Files.createTempFile("ydb-jdbc-", ".rs");
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.DELETE_ON_CLOSE);
+        // unix systems unlink the file right after opening, on other systems the file of not closed result set
+        // must be removed at least on exit
+        if (Files.exists(path)) {
+            path.toFile().deleteOnExit();
+        }
+        return channel;
+    }
+
+    private void closeSpillFile() {
+        if (spillFile != null) {
+            try {
+                spillFile.close();
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Cannot close result set spill file", e);
+            }
+            spillFile = null;
+        }
+    }
+
+    private ResultSetReader load(Part part) {
+        try {
+            ByteBuffer buffer = spillFile.map(FileChannel.MapMode.READ_ONLY, part.offset, part.size);
+            return ProtoValueReaders.forResultSet(ValueProtos.ResultSet.parseFrom(buffer));
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalStateException("Cannot read spilled result set part", e);
+        }
+    }
+
+    /**
+     * Returns size of the part in serialized form. Fixed-width values are estimated by type, values of strings, bytes
+     * and complex types are measured by the size of their protobuf messages, which share the content with the reader
+     */
+    private static long estimateSize(ResultSetReader rsr) {
+        long fixedRowSize = 0;
+        int[] variable = new int[rsr.getColumnCount()];
+        int variableCount = 0;
+        for (int idx = 0; idx < rsr.getColumnCount(); idx++) {
+            int size = fixedSize(rsr.getColumnType(idx));
+            if (size > 0) {
+                fixedRowSize += size;
+            } else {
+                variable[variableCount++] = idx;
+            }
+        }
+
+        long size = fixedRowSize * rsr.getRowCount();
+        if (variableCount == 0) {
+            return size;
+        }
+
+        for (int row = 0; row < rsr.getRowCount(); row++) {
+            rsr.setRowIndex(row);
+            for (int idx = 0; idx < variableCount; idx++) {
+                Value<?> item = rsr.getColumn(variable[idx]).getValue();
+                size += item != null ? item.toPb().getSerializedSize() : NULL_VALUE.getSerializedSize();
+            }
+        }
+        rsr.setRowIndex(0);
+        return size;
+    }
+
+    /**
+     * Returns estimated size of fixed-width value of the type
+     *
+     * @param type type of column
+     * @return size in bytes or 0 if the type has variable length
+     */
+    private static int fixedSize(Type type) {
+        switch (type.getKind()) {
+            case OPTIONAL:
+                return fixedSize(((OptionalType) type).getItemType());
+            case DECIMAL:
+                return 2 * FIXED_VALUE_SIZE;
+            case PRIMITIVE:
+                break;
+            default:
+                return 0;
+        }
+
+        switch ((PrimitiveType) type) {
+            case Bytes:
+            case Text:
+            case Json:
+            case JsonDocument:
+            case Yson:
+                return 0;
+            case Uuid:
+                return 2 * FIXED_VALUE_SIZE;
+            default:
+                return FIXED_VALUE_SIZE;
+        }
+    }
+
+    private static ValueProtos.ResultSet toProto(ResultSetReader rsr) {
+        ValueProtos.ResultSet.Builder builder = ValueProtos.ResultSet.newBuilder();
+        for (int idx = 0; idx < rsr.getColumnCount(); idx++) {
+            builder.addColumns(ValueProtos.Column.newBuilder()
+                    .setName(rsr.getColumnName(idx))
+                    .setType(rsr.getColumnType(idx).toPb())
+                    .build());
+        }
+
+        for (int row = 0; row < rsr.getRowCount(); row++) {
+            rsr.setRowIndex(row);
+            ValueProtos.Value.Builder value = ValueProtos.Value.newBuilder();
+            for (int idx = 0; idx < rsr.getColumnCount(); idx++) {
+                Value<?> item = rsr.getColumn(idx).getValue();
+                value.addItems(item != null ? item.toPb() : NULL_VALUE);
+            }
+            builder.addRows(value.build());
+        }
+        rsr.setRowIndex(0);
+        return builder.build();
+    }
+
+    private static class Part {
+        private final int rowCount;
+
+        // the reader is released after successful spill
+        private volatile ResultSetReader reader;
+        private volatile CompletableFuture<Void> spilling = null;
+        private long offset = -1;
+        private int size = 0;
+
+        Part(ResultSetReader reader, int rowCount) {
+            this.reader = reader;
+            this.rowCount = rowCount;
+        }
+
+        void spilled(long offset, int size) {
+            this.offset = offset;
+            this.size = size;
+            this.reader = null;
+        }
+
+        ResultSetReader awaitReader() {
+            // the spilling thread uses the row cursor of the reader, so it cannot be shared until the spill ends
+            CompletableFuture<Void> pending = spilling;
+            if (pending != null) {
+                pending.join();
+                spilling = null;
+            }
+            return reader;
+        }
+    }
+
+    /**
+     * Spilled part which is read back from the file on the first access
+     */
+    private class SpilledReader implements ResultSetReader {
+        private final Part part;
+        private ResultSetReader reader = null;
+
+        SpilledReader(Part part) {
+            this.part = part;
+        }
+
+        private ResultSetReader reader() {
+            if (reader == null) {
+                reader = load(part);
+            }
+            return reader;
+        }
+
+        @Override
+        public boolean isTruncated() {
+            return false;
+        }
+
+        @Override
+        public int getColumnCount() {
+            return reader().getColumnCount();
+        }
+
+        @Override
+        public int getRowCount() {
+            return part.rowCount;
+        }
+
+        @Override
+        public void setRowIndex(int index) {
+            reader().setRowIndex(index);
+        }
+
+        @Override
+        public boolean next() {
+            return reader().next();
+        }
+
+        @Override
+        public String getColumnName(int index) {
+            return reader().getColumnName(index);
+        }
+
+        @Override
+        public int getColumnIndex(String name) {
+            return reader().getColumnIndex(name);
+        }
+
+        @Override
+        public ValueReader getColumn(int index) {
+            return reader().getColumn(index);
+        }
+
+        @Override
+        public ValueReader getColumn(String name) {
+            return reader().getColumn(name);
+        }
+
+        @Override
+        public Type getColumnType(int index) {
+            return reader().getColumnType(index);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import java.sql.Array;
 import java.sql.Blob;
 import java.sql.CallableStatement;
 import java.sql.Clob;
+import java.sql.Connection;
 import java.sql.NClob;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -13,24 +14,34 @@ import java.sql.SQLXML;
 import java.sql.Savepoint;
 import java.sql.Statement;
 import java.sql.Struct;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.Executor;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import tech.ydb.common.transaction.TxMode;
 import tech.ydb.common.transaction.YdbTransaction;
+import tech.ydb.core.StatusCode;
 import tech.ydb.core.grpc.GrpcTransport;
 import tech.ydb.jdbc.YdbConnection;
 import tech.ydb.jdbc.YdbConst;
 import tech.ydb.jdbc.YdbDatabaseMetaData;
 import tech.ydb.jdbc.YdbPrepareMode;
 import tech.ydb.jdbc.YdbPreparedStatement;
+import tech.ydb.jdbc.YdbResultSet;
 import tech.ydb.jdbc.YdbStatement;
+import tech.ydb.jdbc.context.KeysetReader;
+import tech.ydb.jdbc.context.TableSplit;
+import tech.ydb.jdbc.context.TableSplitter;
 import tech.ydb.jdbc.context.YdbContext;
 import tech.ydb.jdbc.context.YdbExecutor;
+import tech.ydb.jdbc.context.YdbRetryPolicy;
 import tech.ydb.jdbc.context.YdbValidator;
+import tech.ydb.jdbc.exception.YdbStatusable;
 import tech.ydb.jdbc.query.QueryKey;
 import tech.ydb.jdbc.query.YdbPreparedQuery;
 import tech.ydb.jdbc.query.YdbQuery;
@@ -43,9 +54,13 @@ public class YdbConnectionImpl implements YdbConnection {
     private final YdbExecutor executor;
 
     public YdbConnectionImpl(YdbContext context) throws SQLException {
+        this(context, context.createExecutor());
+    }
+
+    public YdbConnectionImpl(YdbContext context, YdbExecutor executor) {
         this.ctx = context;
         this.validator = new YdbValidator();
-        this.executor = ctx.createExecutor();
+        this.executor = executor;
         this.ctx.register();
     }
 
@@ -101,6 +116,197 @@ public class YdbConnectionImpl implements YdbConnection {
         executor.rollback(ctx, validator);
     }
 
+    @Override
+    public <T> T runInTransaction(TxMode txMode, TxFunction<T> callback) throws SQLException {
+        executor.ensureOpened();
+        if (executor.isInsideTransaction()) {
+            throw new SQLException(YdbConst.NESTED_TRANSACTION);
+        }
+
+        boolean autoCommit = executor.isAutoCommit();
+        boolean readOnly = executor.isReadOnly();
+        int level = executor.transactionLevel();
+
+        T result;
+        try {
+            result = retryInTransaction(txMode, callback);
+        } catch (SQLException | RuntimeException ex) {
+            // the original error of transaction must not be hidden by the problem of state restoring
+            try {
+                restoreTxState(autoCommit, level, readOnly);
+            } catch (SQLException | RuntimeException restoreEx) {
+                ex.addSuppressed(restoreEx);
+            }
+            throw ex;
+        }
+
+        restoreTxState(autoCommit, level, readOnly);
+        return result;
+    }
+
+    private <T> T retryInTransaction(TxMode txMode, TxFunction<T> callback) throws SQLException {
+        YdbRetryPolicy retryPolicy = ctx.getRetryPolicy();
+        executor.clearState();
+        applyTxMode(txMode);
+        executor.setAutoCommit(false);
+        executor.setKeepSession(true);
+        // the whole transaction is retried, so the single statements must not be retried again
+        executor.setStatementRetries(false);
+
+        int retryNumber = 0;
+        while (true) {
+            try {
+                T result = callback.apply(this);
+                commit();
+                retryPolicy.onSuccess();
+                return result;
+            } catch (SQLException ex) {
+                rollbackAfterError(ex);
+                if (!(ex instanceof YdbStatusable)) {
+                    throw ex;
+                }
+
+                StatusCode code = ((YdbStatusable) ex).getStatus().getCode();
+                long delay = retryPolicy.nextTxRetryDelayMillis(code, retryNumber);
+                if (delay == YdbRetryPolicy.NO_RETRY) {
+                    throw ex;
+                }
+
+                LOGGER.log(Level.FINE, "Retry transaction because of {0}", code);
+                retryNumber++;
+                if (isSessionProblem(code)) {
+                    // session cannot be reused, take another one from the pool
+                    executor.setKeepSession(false);
+                    executor.setKeepSession(true);
+                }
+
+                if (delay > 0) {
+                    try {
+                        Thread.sleep(delay);
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                        ex.addSuppressed(ie);
+                        throw ex;
+                    }
+                }
+            } catch (RuntimeException ex) {
+                rollbackAfterError(ex);
+                throw ex;
+            }
+        }
+    }
+
+    private void restoreTxState(boolean autoCommit, int level, boolean readOnly) throws SQLException {
+        executor.setStatementRetries(true);
+        executor.setKeepSession(false);
+        executor.setAutoCommit(autoCommit);
+        executor.setTransactionLevel(level);
+        executor.setReadOnly(readOnly);
+    }
+
+    @Override
+    public YdbResultSet readTable(String tableName, int pageSize) throws SQLException {
+        executor.ensureOpened();
+        ctx.getTracer().trace("read table " + tableName);
+
+        YdbStatementBase statement = createResultSetStatement();
+        try {
+            KeysetReader reader = KeysetReader.start(ctx, statement.getValidator(), tableName, pageSize);
+            return YdbResultSetKeyset.start(ctx.getTypes(), statement, reader);
+        } catch (SQLException | RuntimeException ex) {
+            statement.onResultSetClosed();
+            throw ex;
+        }
+    }
+
+    @Override
+    public List<TableSplit> splitTable(String tableName, int maxSplits) throws SQLException {
+        executor.ensureOpened();
+        return TableSplitter.split(ctx, validator, tableName, maxSplits);
+    }
+
+    @Override
+    public YdbResultSet readSplit(TableSplit split) throws SQLException {
+        executor.ensureOpened();
+        ctx.getTracer().trace("read split " + split);
+        YdbStatementBase statement = createResultSetStatement();
+        try {
+            return YdbResultSetSplits.start(statement, Collections.singletonList(split), 1, true);
+        } catch (SQLException | RuntimeException ex) {
+            statement.onResultSetClosed();
+            throw ex;
+        }
+    }
+
+    @Override
+    public YdbResultSet readTableParallel(String tableName, int parallelism, boolean ordered) throws SQLException {
+        executor.ensureOpened();
+        ctx.getTracer().trace("read table " + tableName);
+
+        YdbStatementBase statement = createResultSetStatement();
+        try {
+            List<TableSplit> splits = TableSplitter.split(ctx, statement.getValidator(), tableName, parallelism);
+            return YdbResultSetSplits.start(statement, splits, parallelism, ordered);
+        } catch (SQLException | RuntimeException ex) {
+            statement.onResultSetClosed();
+            throw ex;
+        }
+    }
+
+    /**
+     * Creates the statement which holds one result set of connection read, the statement is closed with it
+     */
+    private YdbStatementBase createResultSetStatement() {
+        YdbStatementImpl statement = new YdbStatementImpl(this, ResultSet.TYPE_FORWARD_ONLY);
+        statement.closeWithResultSet();
+        return statement;
+    }
+
+    private void applyTxMode(TxMode txMode) throws SQLException {
+        switch (txMode) {
+            case SERIALIZABLE_RW:
+                executor.setTransactionLevel(Connection.TRANSACTION_SERIALIZABLE);
+                executor.setReadOnly(false);
+                break;
+            case SNAPSHOT_RW:
+                executor.setTransactionLevel(Connection.TRANSACTION_REPEATABLE_READ);
+                executor.setReadOnly(false);
+                break;
+            case SNAPSHOT_RO:
+                executor.setTransactionLevel(Connection.TRANSACTION_SERIALIZABLE);
+                executor.setReadOnly(true);
+                break;
+            case ONLINE_RO:
+                executor.setTransactionLevel(YdbConst.ONLINE_CONSISTENT_READ_ONLY);
+                executor.setReadOnly(true);
+                break;
+            case ONLINE_INCONSISTENT_RO:
+                executor.setTransactionLevel(YdbConst.ONLINE_INCONSISTENT_READ_ONLY);
+                executor.setReadOnly(true);
+                break;
+            case STALE_RO:
+                executor.setTransactionLevel(YdbConst.STALE_CONSISTENT_READ_ONLY);
+                executor.setReadOnly(true);
+                break;
+            default:
+                throw new SQLException(YdbConst.UNSUPPORTED_TX_MODE + txMode);
+        }
+    }
+
+    private void rollbackAfterError(Exception ex) {
+        try {
+            executor.clearState();
+            rollback();
+        } catch (SQLException | RuntimeException e) {
+            ex.addSuppressed(e);
+        }
+    }
+
+    private static boolean isSessionProblem(StatusCode code) {
+        return code == StatusCode.BAD_SESSION || code == StatusCode.SESSION_BUSY
+                || code == StatusCode.SESSION_EXPIRED;
+    }
+
     @Override
     public void close() throws SQLException {
         if (isClosed()) {
@@ -22,8 +22,6 @@ import javax.annotation.Nullable;
 
 import com.google.common.base.Strings;
 
-import tech.ydb.core.Result;
-import tech.ydb.core.StatusCode;
 import tech.ydb.jdbc.YdbConnection;
 import tech.ydb.jdbc.YdbConst;
 import tech.ydb.jdbc.YdbDatabaseMetaData;
@@ -31,15 +29,12 @@ import tech.ydb.jdbc.YdbDriverInfo;
 import tech.ydb.jdbc.common.FixedResultSetFactory;
 import tech.ydb.jdbc.common.YdbFunctions;
 import tech.ydb.jdbc.common.YdbTypes;
-import tech.ydb.jdbc.context.SchemeExecutor;
+import tech.ydb.jdbc.context.SchemeCrawler;
 import tech.ydb.jdbc.context.YdbValidator;
-import tech.ydb.scheme.description.Entry;
-import tech.ydb.scheme.description.ListDirectoryResult;
 import tech.ydb.table.description.TableColumn;
 import tech.ydb.table.description.TableDescription;
 import tech.ydb.table.description.TableIndex;
 import tech.ydb.table.result.ResultSetReader;
-import tech.ydb.table.settings.DescribeTableSettings;
 import tech.ydb.table.values.DecimalType;
 import tech.ydb.table.values.PrimitiveType;
 import tech.ydb.table.values.Type;
@@ -53,13 +48,13 @@ public class YdbDatabaseMetaDataImpl implements YdbDatabaseMetaData {
 
     private final YdbConnection connection;
     private final YdbValidator validator;
-    private final SchemeExecutor executor;
+    private final SchemeCrawler crawler;
 
     private final boolean isRepeatableReadEnabled;
 
     public YdbDatabaseMetaDataImpl(YdbConnection connection) {
         this.connection = Objects.requireNonNull(connection);
-        this.executor = new SchemeExecutor(connection.getCtx());
+        this.crawler = connection.getCtx().getSchemeCrawler();
         this.validator = new YdbValidator();
         this.isRepeatableReadEnabled = connection.getCtx().getOperationProperties().isRepeatableReadEnabled();
     }
@@ -799,16 +794,16 @@ public class YdbDatabaseMetaDataImpl implements YdbDatabaseMetaData {
         }
 
         Predicate<String> columnFilter = equalsFilter(columnNamePattern);
-        List<String> tableNames = listTables(tableNamePattern);
+        List<String> tableNames = isMatchedAny(tableNamePattern)
+                ? listTables(tableNamePattern)
+                : new ArrayList<>(Collections.singletonList(tableNamePattern)); // missing table will be skipped
         Collections.sort(tableNames);
 
         YdbTypes types = connection.getCtx().getTypes();
         FixedResultSetFactory.ResultSetBuilder rs = MetaDataTables.COLUMNS.createResultSet();
-        for (String tableName: tableNames) {
-            TableDescription tableDescription = describeTable(tableName);
-            if (tableDescription == null) {
-                continue;
-            }
+        for (Map.Entry<String, TableDescription> table: crawler.describeTables(validator, tableNames).entrySet()) {
+            String tableName = table.getKey();
+            TableDescription tableDescription = table.getValue();
 
             short index = 0;
             for (TableColumn column : tableDescription.getColumns()) {
@@ -1355,74 +1350,11 @@ public class YdbDatabaseMetaDataImpl implements YdbDatabaseMetaData {
     }
 
     private List<String> listTables(Predicate<String> filter) throws SQLException {
-        String databaseWithSuffix = withSuffix(connection.getCtx().getPrefixPath());
-        return tables(databaseWithSuffix, databaseWithSuffix, filter);
-    }
-
-    @SuppressWarnings("null")
-    private List<String> tables(String databasePrefix, String path, Predicate<String> filter) throws SQLException {
-        ListDirectoryResult result = validator.call(
-                "List tables from " + path, null, () -> executor.listDirectory(path).thenApply(res -> {
-                    // ignore scheme errors like path not found
-                    StatusCode code = res.getStatus().getCode();
-                    if (code == StatusCode.SCHEME_ERROR || code == StatusCode.UNAUTHORIZED) {
-                        LOGGER.log(Level.WARNING, "Cannot list tables from {0} -> {1}",
-                                new Object[]{path, res.getStatus()}
-                        );
-                        return Result.success(null);
-                    }
-                    return res;
-                })
-
-        );
-
-        List<String> tables = new ArrayList<>();
-        if (result == null) {
-            return tables;
-        }
-
-        String pathPrefix = withSuffix(path);
-        for (Entry entry : result.getEntryChildren()) {
-            String tableName = entry.getName();
-            String fullPath = pathPrefix + tableName;
-            String tablePath = fullPath.substring(databasePrefix.length());
-            switch (entry.getType()) {
-                case TABLE:
-                case COLUMN_TABLE:
-                    if (filter.test(tablePath)) {
-                        tables.add(tablePath);
-                    }
-                    break;
-                case DIRECTORY:
-                    tables.addAll(tables(databasePrefix, fullPath, filter));
-                    break;
-                default:
-                    // skip
-            }
-        }
-        return tables;
+        return crawler.listTables(validator).stream().filter(filter).collect(Collectors.toList());
     }
 
-    @SuppressWarnings("null")
     private TableDescription describeTable(String table) throws SQLException {
-        DescribeTableSettings settings = connection.getCtx().withDefaultTimeout(new DescribeTableSettings());
-
-        String databaseWithSuffix = withSuffix(connection.getCtx().getPrefixPath());
-
-        return validator.call("Describe table " + table, null, () -> executor
-                .describeTable(databaseWithSuffix + table, settings)
-                .thenApply(result -> {
-                    // ignore scheme errors like path not found
-                    StatusCode code = result.getStatus().getCode();
-                    if (code == StatusCode.SCHEME_ERROR || code == StatusCode.UNAUTHORIZED) {
-                        LOGGER.log(Level.WARNING, "Cannot describe table {0} -> {1}",
-                                new Object[]{table, result.getStatus()}
-                        );
-                        return Result.success(null);
-                    }
-                    return result;
-                })
-        );
+        return crawler.describeTable(validator, table);
     }
 
     private ResultSet emptyResultSet(FixedResultSetFactory factory) {
@@ -0,0 +1,217 @@
+package tech.ydb.jdbc.impl;
+
+import java.sql.SQLException;
+
+import org.reactivestreams.Publisher;
+
+import tech.ydb.common.transaction.YdbTransaction;
+import tech.ydb.jdbc.YdbConst;
+import tech.ydb.jdbc.YdbQueryResult;
+import tech.ydb.jdbc.YdbResultSet;
+import tech.ydb.jdbc.YdbStatement;
+import tech.ydb.jdbc.context.YdbContext;
+import tech.ydb.jdbc.context.YdbExecutor;
+import tech.ydb.jdbc.context.YdbValidator;
+import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.settings.ReadTableSettings;
+import tech.ydb.table.values.ListValue;
+
+/**
+ * Logical handle of pooled executor. Closing of the handle returns the executor to the pool instead of closing it,
+ * all calls of the closed handle are rejected.
+ */
+class YdbLeasedExecutor implements YdbExecutor {
+    private final YdbPooledConnection owner;
+    private final YdbExecutor executor;
+    private volatile boolean isReleased = false;
+
+    YdbLeasedExecutor(YdbPooledConnection owner, YdbExecutor executor) {
+        this.owner = owner;
+        this.executor = executor;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (isReleased) {
+            return;
+        }
+        isReleased = true;
+        owner.release(this);
+    }
+
+    void invalidate() {
+        isReleased = true;
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        return isReleased || executor.isClosed();
+    }
+
+    @Override
+    public void ensureOpened() throws SQLException {
+        if (isReleased) {
+            throw new SQLException(YdbConst.CLOSED_CONNECTION);
+        }
+        executor.ensureOpened();
+    }
+
+    @Override
+    public void clearState() throws SQLException {
+        ensureOpened();
+        executor.clearState();
+    }
+
+    @Override
+    public String txID() throws SQLException {
+        ensureOpened();
+        return executor.txID();
+    }
+
+    @Override
+    public int transactionLevel() throws SQLException {
+        ensureOpened();
+        return executor.transactionLevel();
+    }
+
+    @Override
+    public boolean isInsideTransaction() throws SQLException {
+        ensureOpened();
+        return executor.isInsideTransaction();
+    }
+
+    @Override
+    public boolean isAutoCommit() throws SQLException {
+        ensureOpened();
+        return executor.isAutoCommit();
+    }
+
+    @Override
+    public boolean isReadOnly() throws SQLException {
+        ensureOpened();
+        return executor.isReadOnly();
+    }
+
+    @Override
+    public void setTransactionLevel(int level) throws SQLException {
+        ensureOpened();
+        executor.setTransactionLevel(level);
+    }
+
+    @Override
+    public void setReadOnly(boolean readOnly) throws SQLException {
+        ensureOpened();
+        executor.setReadOnly(readOnly);
+    }
+
+    @Override
+    public void setAutoCommit(boolean autoCommit) throws SQLException {
+        ensureOpened();
+        executor.setAutoCommit(autoCommit);
+    }
+
+    @Override
+    public void setKeepSession(boolean keepSession) throws SQLException {
+        ensureOpened();
+        executor.setKeepSession(keepSession);
+    }
+
+    @Override
+    public void setStatementRetries(boolean enabled) throws SQLException {
+        ensureOpened();
+        executor.setStatementRetries(enabled);
+    }
+
+    @Override
+    public boolean isStatementRetries() throws SQLException {
+        ensureOpened();
+        return executor.isStatementRetries();
+    }
+
+    @Override
+    public YdbQueryResult executeSchemeQuery(YdbStatement st, YdbQuery query, String yql, Params prms)
+            throws SQLException {
+        ensureOpened();
+        return executor.executeSchemeQuery(st, query, yql, prms);
+    }
+
+    @Override
+    public YdbQueryResult executeBulkUpsert(YdbStatement st, YdbQuery query, String path, ListValue rows)
+            throws SQLException {
+        ensureOpened();
+        return executor.executeBulkUpsert(st, query, path, rows);
+    }
+
+    @Override
+    public YdbQueryResult executeExplainQuery(YdbStatement st, YdbQuery query) throws SQLException {
+        ensureOpened();
+        return executor.executeExplainQuery(st, query);
+    }
+
+    @Override
+    public YdbQueryResult executeScanQuery(YdbStatement st, YdbQuery query, String yql, Params prms)
+            throws SQLException {
+        ensureOpened();
+        return executor.executeScanQuery(st, query, yql, prms);
+    }
+
+    @Override
+    public YdbQueryResult executeReadTable(YdbStatement st, YdbQuery query, String path,
+            ReadTableSettings.Builder settings) throws SQLException {
+        ensureOpened();
+        return executor.executeReadTable(st, query, path, settings);
+    }
+
+    @Override
+    public YdbQueryResult executeKeysetRead(YdbStatement st, YdbQuery query, String tableName, int pageSize)
+            throws SQLException {
+        ensureOpened();
+        return executor.executeKeysetRead(st, query, tableName, pageSize);
+    }
+
+    @Override
+    public YdbQueryResult executeDataQuery(YdbStatement st, YdbQuery query, String yql, Params prms)
+            throws SQLException {
+        ensureOpened();
+        return executor.executeDataQuery(st, query, yql, prms);
+    }
+
+    @Override
+    public <T> Publisher<T> executeDataQueryPublisher(YdbStatement st, YdbQuery query, String yql, Params prms,
+            YdbResultSet.RowMapper<T> mapper) throws SQLException {
+        ensureOpened();
+        return executor.executeDataQueryPublisher(st, query, yql, prms, mapper);
+    }
+
+    @Override
+    public YdbResultSetMemory[] executeInMemoryQuery(YdbStatement st, YdbQuery query, String yql, Params prms)
+            throws SQLException {
+        ensureOpened();
+        return executor.executeInMemoryQuery(st, query, yql, prms);
+    }
+
+    @Override
+    public void commit(YdbContext ctx, YdbValidator validator) throws SQLException {
+        ensureOpened();
+        executor.commit(ctx, validator);
+    }
+
+    @Override
+    public void rollback(YdbContext ctx, YdbValidator validator) throws SQLException {
+        ensureOpened();
+        executor.rollback(ctx, validator);
+    }
+
+    @Override
+    public boolean isValid(YdbValidator validator, int timeout) throws SQLException {
+        ensureOpened();
+        return executor.isValid(validator, timeout);
+    }
+
+    @Override
+    public YdbTransaction getTransaction(YdbValidator validator) throws SQLException {
+        ensureOpened();
+        return executor.getTransaction(validator);
+    }
+}
@@ -0,0 +1,131 @@
+package tech.ydb.jdbc.impl;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.sql.ConnectionEvent;
+import javax.sql.ConnectionEventListener;
+import javax.sql.PooledConnection;
+import javax.sql.StatementEventListener;
+
+import tech.ydb.jdbc.YdbConnection;
+import tech.ydb.jdbc.context.YdbContext;
+import tech.ydb.jdbc.context.YdbExecutor;
+import tech.ydb.jdbc.context.YdbValidator;
+
+/**
+ * Physical connection of pool. Keeps the executor between usages and hands out cheap logical connections, the state
+ * of executor is reset when the logical connection is closed.
+ */
+public class YdbPooledConnection implements PooledConnection {
+    private static final Logger LOGGER = Logger.getLogger(YdbPooledConnection.class.getName());
+
+    private final YdbContext ctx;
+    private final YdbExecutor executor;
+
+    private final boolean defaultAutoCommit;
+    private final boolean defaultReadOnly;
+    private final int defaultTransactionLevel;
+
+    private final List<ConnectionEventListener> listeners = new CopyOnWriteArrayList<>();
+    private final List<StatementEventListener> statementListeners = new CopyOnWriteArrayList<>();
+    private final AtomicReference<YdbLeasedExecutor> lease = new AtomicReference<>();
+
+    public YdbPooledConnection(YdbContext ctx) throws SQLException {
+        this.ctx = ctx;
+        this.executor = ctx.createExecutor();
+        this.defaultAutoCommit = executor.isAutoCommit();
+        this.defaultReadOnly = executor.isReadOnly();
+        this.defaultTransactionLevel = executor.transactionLevel();
+    }
+
+    @Override
+    public YdbConnection getConnection() throws SQLException {
+        executor.ensureOpened();
+
+        YdbLeasedExecutor next = new YdbLeasedExecutor(this, executor);
+        YdbLeasedExecutor prev = lease.getAndSet(next);
+        if (prev != null) {
+            // previous logical connection is closed forcibly without notification of listeners
+            prev.invalidate();
+            ctx.deregister();
+            resetState();
+        }
+
+        return new YdbConnectionImpl(ctx, next);
+    }
+
+    void release(YdbLeasedExecutor leased) {
+        if (!lease.compareAndSet(leased, null)) {
+            return;
+        }
+
+        try {
+            resetState();
+        } catch (SQLException ex) {
+            LOGGER.log(Level.WARNING, "Cannot reset state of pooled connection", ex);
+            ConnectionEvent event = new ConnectionEvent(this, ex);
+            for (ConnectionEventListener listener: listeners) {
+                listener.connectionErrorOccurred(event);
+            }
+            return;
+        }
+
+        ConnectionEvent event = new ConnectionEvent(this);
+        for (ConnectionEventListener listener: listeners) {
+            listener.connectionClosed(event);
+        }
+    }
+
+    private void resetState() throws SQLException {
+        executor.setKeepSession(false);
+        executor.setStatementRetries(true);
+        executor.clearState();
+        if (executor.isInsideTransaction()) {
+            executor.rollback(ctx, new YdbValidator());
+        }
+
+        executor.setAutoCommit(defaultAutoCommit);
+        executor.setTransactionLevel(defaultTransactionLevel);
+        executor.setReadOnly(defaultReadOnly);
+    }
+
+    @Override
+    public void close() throws SQLException {
+        YdbLeasedExecutor prev = lease.getAndSet(null);
+        if (prev != null) {
+            prev.invalidate();
+            ctx.deregister();
+        }
+        executor.close();
+    }
+
+    public boolean isClosed() throws SQLException {
+        return executor.isClosed();
+    }
+
+    @Override
+    public void addConnectionEventListener(ConnectionEventListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeConnectionEventListener(ConnectionEventListener listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public void addStatementEventListener(StatementEventListener listener) {
+        // statements are not pooled, so listeners are never called
+        statementListeners.add(listener);
+    }
+
+    @Override
+    public void removeStatementEventListener(StatementEventListener listener) {
+        statementListeners.remove(listener);
+    }
+}
@@ -26,6 +26,8 @@ import java.util.List;
 import java.util.Objects;
 import java.util.logging.Logger;
 
+import org.reactivestreams.Publisher;
+
 import tech.ydb.jdbc.YdbConnection;
 import tech.ydb.jdbc.YdbConst;
 import tech.ydb.jdbc.YdbParameterMetaData;
@@ -38,6 +40,7 @@ import tech.ydb.jdbc.query.YdbPreparedQuery;
 import tech.ydb.jdbc.query.YdbQuery;
 import tech.ydb.jdbc.query.params.BulkUpsertQuery;
 import tech.ydb.table.query.Params;
+import tech.ydb.table.settings.ReadTableSettings;
 import tech.ydb.table.values.Type;
 
 public class YdbPreparedStatementImpl extends YdbStatementBase implements YdbPreparedStatement {
@@ -180,6 +183,19 @@ public class YdbPreparedStatementImpl extends YdbStatementBase implements YdbPre
         return result.getCurrentResultSet();
     }
 
+    @Override
+    public <T> Publisher<T> executeQueryPublisher(YdbResultSet.RowMapper<T> mapper) throws SQLException {
+        cleanState();
+        if (query.getType() != QueryType.DATA_QUERY) {
+            throw new SQLException(YdbConst.PUBLISHER_EXPECTS_ONE_RESULT_SET);
+        }
+
+        Params prms = prepared.getCurrentParams();
+        Publisher<T> publisher = executeDataQueryPublisher(query, prepared.getQueryText(prms), prms, mapper);
+        prepared.clearParameters();
+        return publisher;
+    }
+
     @Override
     public YdbResultSet executeExplainQuery() throws SQLException {
         cleanState();
@@ -426,7 +442,7 @@ public class YdbPreparedStatementImpl extends YdbStatementBase implements YdbPre
 
     @Override
     public void setBoolean(int parameterIndex, boolean x) throws SQLException {
-        prepared.setParam(parameterIndex, x, Types.BOOLEAN);
+        prepared.setBoolean(parameterIndex, x);
     }
 
     @Override
@@ -441,22 +457,22 @@ public class YdbPreparedStatementImpl extends YdbStatementBase implements YdbPre
 
     @Override
     public void setInt(int parameterIndex, int x) throws SQLException {
-        prepared.setParam(parameterIndex, x, Types.INTEGER);
+        prepared.setInt(parameterIndex, x);
     }
 
     @Override
     public void setLong(int parameterIndex, long x) throws SQLException {
-        prepared.setParam(parameterIndex, x, Types.BIGINT);
+        prepared.setLong(parameterIndex, x);
     }
 
     @Override
     public void setFloat(int parameterIndex, float x) throws SQLException {
-        prepared.setParam(parameterIndex, x, Types.FLOAT);
+        prepared.setFloat(parameterIndex, x);
     }
 
     @Override
     public void setDouble(int parameterIndex, double x) throws SQLException {
-        prepared.setParam(parameterIndex, x, Types.DOUBLE);
+        prepared.setDouble(parameterIndex, x);
     }
 
     @Override
@@ -675,6 +691,16 @@ public class YdbPreparedStatementImpl extends YdbStatementBase implements YdbPre
         throw new SQLException(YdbConst.CUSTOM_SQL_UNSUPPORTED);
     }
 
+    @Override
+    public YdbResultSet executeReadTable(String tableName, ReadTableSettings.Builder settings) throws SQLException {
+        throw new SQLException(YdbConst.CUSTOM_SQL_UNSUPPORTED);
+    }
+
+    @Override
+    public YdbResultSet executeKeysetRead(String tableName, int pageSize) throws SQLException {
+        throw new SQLException(YdbConst.CUSTOM_SQL_UNSUPPORTED);
+    }
+
     @Override
     public YdbResultSet executeExplainQuery(String sql) throws SQLException {
         throw new SQLException(YdbConst.CUSTOM_SQL_UNSUPPORTED);
@@ -685,6 +711,11 @@ public class YdbPreparedStatementImpl extends YdbStatementBase implements YdbPre
         throw new SQLException(YdbConst.CUSTOM_SQL_UNSUPPORTED);
     }
 
+    @Override
+    public <T> Publisher<T> executeQueryPublisher(String sql, YdbResultSet.RowMapper<T> mapper) throws SQLException {
+        throw new SQLException(YdbConst.CUSTOM_SQL_UNSUPPORTED);
+    }
+
     @Override
     public boolean execute(String sql) throws SQLException {
         throw new SQLException(YdbConst.CUSTOM_SQL_UNSUPPORTED);
@@ -0,0 +1,335 @@
+package tech.ydb.jdbc.impl;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import tech.ydb.core.Issue;
+import tech.ydb.core.Result;
+import tech.ydb.core.Status;
+import tech.ydb.core.StatusCode;
+import tech.ydb.core.UnexpectedResultException;
+import tech.ydb.core.grpc.GrpcFlowControl;
+import tech.ydb.jdbc.YdbResultSet;
+import tech.ydb.jdbc.YdbStatement;
+import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.jdbc.exception.ExceptionFactory;
+import tech.ydb.query.QueryStream;
+import tech.ydb.query.result.QueryInfo;
+import tech.ydb.query.result.QueryResultPart;
+import tech.ydb.table.result.ResultSetReader;
+
+/**
+ * Publisher of the rows of streamed query. The query is started when the subscriber requests the first rows and
+ * the next message of stream is requested from server only when all received rows are delivered and the subscriber
+ * still has unsatisfied demand, so the backpressure of subscriber reaches the server and no thread waits for the
+ * rows. The publisher supports only one subscriber.
+ *
+ * @param <T> type of mapped rows
+ */
+public class YdbQueryPublisher<T> implements Publisher<T> {
+    private static final Logger LOGGER = Logger.getLogger(YdbQueryPublisher.class.getName());
+
+    private final YdbTypes types;
+    private final YdbStatement statement;
+    private final YdbResultSet.RowMapper<T> mapper;
+    private final QueryStarter starter;
+    private final AtomicBoolean isSubscribed = new AtomicBoolean(false);
+
+    /**
+     * Creator of the query stream, it is called only once when the subscriber requests the first rows
+     */
+    public interface QueryStarter {
+        /**
+         * Creates stream of query. The session and transaction of stream must be acquired asynchronously, because
+         * this method is called in the thread of subscriber
+         *
+         * @param flowControl flow control which must be used by the stream
+         * @return future of stream to execute
+         * @throws SQLException if the query cannot be started
+         */
+        CompletableFuture<Result<QueryStream>> createStream(GrpcFlowControl flowControl) throws SQLException;
+
+        /**
+         * Called on completion of the stream before the completion of subscriber
+         *
+         * @param result result of stream or {@code null} if the stream was failed
+         * @param th error of stream or {@code null}
+         */
+        void onClose(Result<QueryInfo> result, Throwable th);
+    }
+
+    private YdbQueryPublisher(YdbTypes types, YdbStatement statement, YdbResultSet.RowMapper<T> mapper,
+            QueryStarter starter) {
+        this.types = types;
+        this.statement = statement;
+        this.mapper = mapper;
+        this.starter = starter;
+    }
+
+    /**
+     * Creates publisher of rows. The reactive-streams dependency is optional, so the publisher is converted to
+     * {@link Publisher} only in this class and the callers of driver don't need the API on classpath to be verified
+     *
+     * @param <T> type of mapped rows
+     * @param types types of connection
+     * @param statement statement of query
+     * @param mapper mapper of rows
+     * @param starter creator of the query stream
+     * @return publisher of rows
+     */
+    public static <T> Publisher<T> create(YdbTypes types, YdbStatement statement, YdbResultSet.RowMapper<T> mapper,
+            QueryStarter starter) {
+        return new YdbQueryPublisher<>(types, statement, mapper, starter);
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("subscriber must not be null");
+        }
+
+        if (!isSubscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) { }
+
+                @Override
+                public void cancel() { }
+            });
+            subscriber.onError(new IllegalStateException("Publisher supports only one subscriber"));
+            return;
+        }
+
+        subscriber.onSubscribe(new RowsSubscription(subscriber));
+    }
+
+    private class RowsSubscription implements Subscription, GrpcFlowControl, QueryStream.PartsHandler {
+        private final Subscriber<? super T> subscriber;
+
+        private final ConcurrentLinkedQueue<ResultSetReader> parts = new ConcurrentLinkedQueue<>();
+        private final AtomicLong demand = new AtomicLong(0);
+        private final AtomicInteger wip = new AtomicInteger(0);
+        private final AtomicBoolean isStarted = new AtomicBoolean(false);
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+        private volatile IntConsumer messageRequest = null;
+        private volatile Runnable canceller = null;
+        private volatile boolean isCancelled = false;
+        private volatile boolean isMessageRequested = false;
+        private volatile Status completedStatus = null;
+
+        // fields are used only in drain loop
+        private YdbResultSetForwardOnly.PartCursor cursor = null;
+        private int cursorRows = 0;
+        private boolean isTerminated = false;
+
+        RowsSubscription(Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (isCancelled) {
+                return;
+            }
+            if (n <= 0) {
+                cancelStream();
+                fail(new IllegalArgumentException("Requested count must be positive, but was " + n));
+                return;
+            }
+
+            demand.accumulateAndGet(n, (prev, add) -> prev + add < 0 ? Long.MAX_VALUE : prev + add);
+            if (isStarted.compareAndSet(false, true)) {
+                start();
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            isCancelled = true;
+            parts.clear();
+            cancelStream();
+        }
+
+        private void cancelStream() {
+            Runnable cancel = canceller;
+            if (cancel != null && completedStatus == null) {
+                cancel.run();
+            }
+        }
+
+        private void start() {
+            CompletableFuture<Result<QueryStream>> future;
+            try {
+                future = starter.createStream(this);
+            } catch (SQLException | RuntimeException ex) {
+                startFailed(ex);
+                return;
+            }
+
+            future.whenComplete((result, th) -> {
+                if (th != null) {
+                    startFailed(th);
+                } else if (!result.isSuccess()) {
+                    startFailed(ExceptionFactory.createException("Cannot execute query with " + result.getStatus(),
+                            new UnexpectedResultException("Unexpected status", result.getStatus())));
+                } else {
+                    execute(result.getValue());
+                }
+            });
+        }
+
+        private void startFailed(Throwable th) {
+            completedStatus = Status.of(StatusCode.CLIENT_INTERNAL_ERROR, th);
+            fail(th);
+        }
+
+        private void execute(QueryStream stream) {
+            canceller = stream::cancel;
+            stream.execute(this).whenComplete((result, th) -> {
+                try {
+                    starter.onClose(result, th);
+                } catch (RuntimeException ex) {
+                    LOGGER.log(Level.WARNING, "Query publisher onClose problem", ex);
+                }
+
+                Status status = result != null ? result.getStatus() : Status.of(StatusCode.CLIENT_INTERNAL_ERROR, th);
+                completedStatus = status;
+                drain();
+            });
+
+            // the subscription could be cancelled while the stream was created
+            if (isCancelled) {
+                cancelStream();
+            }
+        }
+
+        @Override
+        public Call newCall(IntConsumer req) {
+            messageRequest = req;
+            return new Call() {
+                @Override
+                public void onStart() {
+                    requestMessage();
+                }
+
+                @Override
+                public void onMessageRead() {
+                    // the next message is requested by the drain loop when the received rows are delivered
+                    isMessageRequested = false;
+                    drain();
+                }
+            };
+        }
+
+        @Override
+        public void onIssues(Issue[] issues) {
+            statement.getValidator().addStatusIssues(Arrays.asList(issues));
+        }
+
+        @Override
+        public void onNextPart(QueryResultPart part) {
+            if (part.getResultSetIndex() == 0 && !isCancelled) {
+                parts.offer(part.getResultSetReader());
+            }
+            drain();
+        }
+
+        private void requestMessage() {
+            IntConsumer req = messageRequest;
+            if (req != null && !isMessageRequested && !isCancelled && demand.get() > 0) {
+                isMessageRequested = true;
+                req.accept(1);
+            }
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+
+            do {
+                if (isTerminated || deliverError() || isCancelled) {
+                    continue;
+                }
+
+                while (demand.get() > 0 && !isCancelled) {
+                    if (cursorRows == 0) {
+                        ResultSetReader part = parts.poll();
+                        if (part == null) {
+                            break;
+                        }
+                        cursor = new YdbResultSetForwardOnly.PartCursor(statement, types.findShape(part), part);
+                        cursorRows = part.getRowCount();
+                        continue;
+                    }
+
+                    T value;
+                    try {
+                        cursor.next();
+                        cursorRows--;
+                        value = mapper.map(cursor);
+                    } catch (SQLException | RuntimeException ex) {
+                        cancelStream();
+                        error.compareAndSet(null, ex);
+                        break;
+                    }
+
+                    if (value == null) {
+                        cancelStream();
+                        error.compareAndSet(null, new NullPointerException("Row mapper returned null"));
+                        break;
+                    }
+
+                    demand.decrementAndGet();
+                    subscriber.onNext(value);
+                }
+
+                if (deliverError() || isCancelled || cursorRows != 0 || !parts.isEmpty()) {
+                    continue;
+                }
+
+                Status status = completedStatus;
+                if (status == null) {
+                    requestMessage();
+                } else if (status.isSuccess()) {
+                    isTerminated = true;
+                    subscriber.onComplete();
+                } else {
+                    isTerminated = true;
+                    subscriber.onError(ExceptionFactory.createException("Cannot execute query with " + status,
+                            new UnexpectedResultException("Unexpected status", status)));
+                }
+            } while (wip.decrementAndGet() != 0);
+        }
+
+        private boolean deliverError() {
+            Throwable th = error.get();
+            if (th == null) {
+                return false;
+            }
+            isTerminated = true;
+            subscriber.onError(th);
+            return true;
+        }
+
+        private void fail(Throwable th) {
+            error.compareAndSet(null, th);
+            drain();
+        }
+    }
+}
@@ -1,16 +1,19 @@
 package tech.ydb.jdbc.impl;
 
 
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.IntConsumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -18,14 +21,17 @@ import java.util.logging.Logger;
 import tech.ydb.core.Issue;
 import tech.ydb.core.Status;
 import tech.ydb.core.StatusCode;
+import tech.ydb.core.UnexpectedResultException;
 import tech.ydb.core.grpc.GrpcFlowControl;
 import tech.ydb.core.grpc.GrpcReadStream;
 import tech.ydb.jdbc.YdbResultSet;
 import tech.ydb.jdbc.YdbStatement;
-import tech.ydb.jdbc.common.ColumnInfo;
+import tech.ydb.jdbc.common.ResultShape;
 import tech.ydb.jdbc.common.YdbTypes;
 import tech.ydb.jdbc.context.YdbValidator;
+import tech.ydb.jdbc.exception.ExceptionFactory;
 import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.jdbc.settings.YdbOperationProperties;
 import tech.ydb.query.QueryStream;
 import tech.ydb.query.result.QueryResultPart;
 import tech.ydb.query.result.QueryStats;
@@ -37,10 +43,14 @@ import tech.ydb.table.result.ResultSetReader;
  */
 public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlowControl {
     private static final Logger LOGGER = Logger.getLogger(YdbQueryResultReader.class.getName());
+    // lazy result set buffers only a few parts ahead of the application, the rest of stream waits on the server
+    static final int MAX_LAZY_PARTS = 4;
 
     private final YdbTypes types;
     private final YdbStatement statement;
     private final int fetchSize;
+    // lazy result set is returned on the first part, the rest of stream is read while the application reads rows
+    private final boolean isLazy;
 
     private final LazyRs[] rs;
     private final ReentrantLock lock = new ReentrantLock();
@@ -51,15 +61,21 @@ public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlow
     private Runnable canceller = null;
 
     private volatile boolean isStreamCompleted = false;
+    private volatile Status streamError = null;
 
-    public YdbQueryResultReader(YdbTypes types, YdbStatement statement, YdbQuery query) {
+    public YdbQueryResultReader(YdbTypes types, YdbStatement statement, YdbQuery query) throws SQLException {
         super(query, query.getStatements().size());
         this.types = types;
         this.statement = statement;
         this.fetchSize = statement.getFetchSize();
+
+        YdbOperationProperties props = statement.getConnection().getCtx().getOperationProperties();
+        boolean isScrollable = statement.getResultSetType() != ResultSet.TYPE_FORWARD_ONLY;
+        // writing queries are read completely to report the errors of changes on the execution
+        this.isLazy = fetchSize <= 0 && isScrollable && props.getUseLazyResultSets() && !query.isWriting();
         this.rs = new LazyRs[query.getStatements().size()];
         for (int idx = 0; idx < rs.length; idx += 1) {
-            rs[idx] = new LazyRs();
+            rs[idx] = new LazyRs(idx);
         }
     }
 
@@ -74,6 +90,18 @@ public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlow
         }
     }
 
+    /**
+     * Throws the error of stream if it was broken. Used when the queue of parts is empty, so the application doesn't
+     * receive the truncated result silently
+     */
+    private void checkStreamError() throws SQLException {
+        Status error = streamError;
+        if (error != null) {
+            throw ExceptionFactory.createException("Cannot read result with " + error,
+                    new UnexpectedResultException("Unexpected status", error));
+        }
+    }
+
     private void releaseWaiters() {
         lock.lock();
         try {
@@ -83,23 +111,60 @@ public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlow
         }
     }
 
+    /**
+     * Returns {@code true} if the stream can be cancelled before its end. The stream of query which writes or runs
+     * inside of interactive transaction must be read to the end, otherwise the changes or the transaction may be
+     * lost, so by default the rest of such stream is read and skipped
+     *
+     * @return {@code true} if the stream is read-only and doesn't have pending commit
+     */
+    protected boolean isCancellable() {
+        return false;
+    }
+
     @Override
     public void close() throws SQLException {
         super.close();
 
         if (!isStreamCompleted) {
             waitForUpdates();
-            if (!isStreamCompleted && canceller != null) {
+            if (!isStreamCompleted && canceller != null && isCancellable()) {
                 canceller.run();
+            }
 
-                // wait of completing
-                while (!isStreamCompleted) {
-                    waitForUpdates();
-                }
+            // wait of completing
+            while (!isStreamCompleted) {
+                waitForUpdates();
             }
         }
     }
 
+    /**
+     * Skips the rows of result set closed by the application. The reading is cancelled if the last result set was
+     * closed before the stream was completed and the stream can be cancelled, the rest of rows will be skipped anyway
+     */
+    private void onResultSetClosed(int index) {
+        rs[index].isClosed = true;
+        rs[index].skipQueued();
+
+        Runnable cancel = canceller;
+        if (index == rs.length - 1 && !isStreamCompleted && cancel != null && isCancellable()) {
+            LOGGER.log(Level.FINEST, "Cancel reading of result #{0}", index);
+            cancel.run();
+        }
+    }
+
+    /**
+     * @return count of parts which are received from the stream but are not taken by result sets yet
+     */
+    int getBufferedPartsCount() {
+        int count = 0;
+        for (LazyRs lazy: rs) {
+            count += lazy.queue.size();
+        }
+        return count;
+    }
+
     public boolean onRead(int index, ResultSetReader rsr) {
         int count = rsr.getRowCount();
         if (index < 0 || index >= rs.length || rs[index].isClosed) {
@@ -116,13 +181,22 @@ public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlow
         LOGGER.log(Level.FINEST, "Loaded {0} rows", count);
         callFlow.loadRows(count);
         rs[index].queue.offer(rsr);
+        if (rs[index].isClosed) {
+            // the result set was closed concurrently, the part is skipped to not block the flow control
+            rs[index].skipQueued();
+        }
         releaseWaiters();
 
-        return fetchSize > 0 && callFlow.loaded.get() >= fetchSize;
+        return isLazy || (fetchSize > 0 && callFlow.loaded.get() >= fetchSize);
     }
 
     public void onClose(Status status, Throwable th) {
         LOGGER.log(Level.FINEST, "ResultSet onClose {0}", status);
+        if (th != null) {
+            streamError = Status.of(StatusCode.CLIENT_INTERNAL_ERROR, th);
+        } else if (status != null && !status.isSuccess()) {
+            streamError = status;
+        }
         isStreamCompleted = true;
         for (int idx = 0; idx < rs.length; idx += 1) {
             rs[idx].isCompleted = true;
@@ -160,11 +234,15 @@ public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlow
     }
 
     public CompletableFuture<Status> load(GrpcReadStream<ResultSetReader> stream) {
+        return load(stream, Function.identity());
+    }
+
+    public <T> CompletableFuture<Status> load(GrpcReadStream<T> stream, Function<T, ResultSetReader> reader) {
         CompletableFuture<Status> resultIsReady = new CompletableFuture<>();
         canceller = stream::cancel;
 
-        stream.start(rsr -> {
-            if (onRead(0, rsr)) {
+        stream.start(part -> {
+            if (onRead(0, reader.apply(part))) {
                 resultIsReady.complete(Status.SUCCESS);
             }
         }).whenComplete((status, th) -> {
@@ -222,6 +300,8 @@ public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlow
         private final IntConsumer request;
         private final AtomicInteger loaded = new AtomicInteger(0);
         private final AtomicInteger reqSize = new AtomicInteger(1);
+        private final AtomicInteger lazyParts = new AtomicInteger(0);
+        private final AtomicBoolean isStalled = new AtomicBoolean(false);
 
         CallCtrl(IntConsumer request) {
             this.request = request;
@@ -242,6 +322,15 @@ public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlow
         @Override
         public void onMessageRead() {
             reqSize.incrementAndGet();
+            if (isLazy) {
+                // the stream is stalled until the lazy result set polls one of buffered parts
+                isStalled.set(true);
+                if (lazyParts.get() < MAX_LAZY_PARTS && isStalled.compareAndSet(true, false)) {
+                    next();
+                }
+                return;
+            }
+
             if (fetchSize <= 0 || loaded.get() < fetchSize) {
                 next();
             }
@@ -249,9 +338,19 @@ public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlow
 
         public void loadRows(int rows) {
             loaded.addAndGet(rows);
+            if (isLazy) {
+                lazyParts.incrementAndGet();
+            }
         }
 
         public void processRows(int rows) {
+            if (isLazy) {
+                if (lazyParts.decrementAndGet() < MAX_LAZY_PARTS && isStalled.compareAndSet(true, false)) {
+                    next();
+                }
+                return;
+            }
+
             if (loaded.addAndGet(-rows) < fetchSize) {
                 next();
             }
@@ -259,17 +358,32 @@ public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlow
     }
 
     private class LazyRs {
+        private final int index;
         private final ConcurrentLinkedQueue<ResultSetReader> queue = new ConcurrentLinkedQueue<>();
         private YdbResultSet rs = null;
-        private boolean isClosed = false;
+        private volatile boolean isClosed = false;
         private boolean isCompleted = false;
 
+        LazyRs(int index) {
+            this.index = index;
+        }
+
         void close() throws SQLException {
             if (rs != null) {
                 rs.close();
             }
             isClosed = true;
             isCompleted = true;
+            skipQueued();
+        }
+
+        void skipQueued() {
+            for (ResultSetReader part = queue.poll(); part != null; part = queue.poll()) {
+                LOGGER.log(Level.FINEST, "Skipped {0} rows", part.getRowCount());
+                if (callFlow != null) {
+                    callFlow.processRows(part.getRowCount());
+                }
+            }
         }
 
         YdbResultSet getReady() throws SQLException {
@@ -281,8 +395,35 @@ public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlow
                 waitForUpdates();
             }
 
-            if (isCompleted && fetchSize <= 0) { // can use in memory result set
-                rs = new YdbResultSetMemory(types, statement, queue.toArray(new ResultSetReader[0]));
+            if (isLazy || (fetchSize <= 0 && isCompleted)) { // can use in memory result set
+                YdbOperationProperties props = statement.getConnection().getCtx().getOperationProperties();
+                ResultParts parts = new ResultParts(props.getResultSetMemoryLimit());
+                for (ResultSetReader part = queue.poll(); part != null; part = queue.poll()) {
+                    parts.add(part);
+                    callFlow.processRows(part.getRowCount());
+                }
+                // lazy result set reads the rest parts only when the application needs them
+                rs = new YdbResultSetMemory(types, statement, parts) {
+                    @Override
+                    protected ResultSetReader readNextPart() throws SQLException {
+                        while (!isCompleted && queue.isEmpty()) {
+                            waitForUpdates();
+                        }
+                        ResultSetReader next = queue.poll();
+                        if (next == null) {
+                            checkStreamError();
+                        } else {
+                            callFlow.processRows(next.getRowCount());
+                        }
+                        return next;
+                    }
+
+                    @Override
+                    public void close() {
+                        super.close();
+                        onResultSetClosed(index);
+                    }
+                };
                 return rs;
             }
 
@@ -295,8 +436,8 @@ public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlow
                 queue.remove();
             }
 
-            ColumnInfo[] columns = ColumnInfo.fromResultSetReader(types, Objects.requireNonNull(first));
-            rs = new YdbResultSetForwardOnly(statement, columns) {
+            ResultShape shape = types.findShape(Objects.requireNonNull(first));
+            rs = new YdbResultSetForwardOnly(statement, shape) {
                 @Override
                 protected boolean hasNext() throws SQLException {
                     while (!isCompleted && queue.isEmpty()) {
@@ -308,7 +449,11 @@ public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlow
                         }
                     }
 
-                    return !queue.isEmpty();
+                    if (queue.isEmpty()) {
+                        checkStreamError();
+                        return false;
+                    }
+                    return true;
                 }
 
                 @Override
@@ -318,6 +463,12 @@ public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlow
                     callFlow.processRows(next.getRowCount());
                     return next;
                 }
+
+                @Override
+                public void close() {
+                    super.close();
+                    onResultSetClosed(index);
+                }
             };
             return rs;
         }
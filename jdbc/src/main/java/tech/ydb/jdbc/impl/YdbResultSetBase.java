@@ -1,6 +1,5 @@
 package tech.ydb.jdbc.impl;
 
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.Reader;
 import java.math.BigDecimal;
@@ -22,21 +21,26 @@ import java.sql.SQLXML;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.time.Instant;
-import java.time.LocalDate;
-import java.time.LocalTime;
-import java.time.ZoneOffset;
 import java.time.temporal.ChronoField;
 import java.util.Calendar;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.TimeZone;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import tech.ydb.jdbc.YdbConst;
 import tech.ydb.jdbc.YdbResultSet;
 import tech.ydb.jdbc.YdbResultSetMetaData;
 import tech.ydb.jdbc.YdbStatement;
+import tech.ydb.jdbc.common.ClassRowMapper;
 import tech.ydb.jdbc.common.ColumnInfo;
+import tech.ydb.jdbc.common.DateTimeCodec;
+import tech.ydb.jdbc.common.ResultShape;
+import tech.ydb.jdbc.exception.YdbUncheckedException;
 import tech.ydb.table.result.ValueReader;
 import tech.ydb.table.values.Type;
 import tech.ydb.table.values.Value;
@@ -48,51 +52,52 @@ import tech.ydb.table.values.Value;
 public abstract class YdbResultSetBase implements YdbResultSet {
     protected final YdbStatement statement;
 
-    private final ColumnInfo[] columns;
-    private final Map<String, Integer> columnNames = new HashMap<>();
+    private final ResultShape shape;
 
     private YdbResultSetMetaData metaData = null;
     private boolean wasNull = false;
 
-    protected YdbResultSetBase(YdbStatement statement, ColumnInfo[] columns) {
-        this.statement = Objects.requireNonNull(statement);
-        this.columns = columns;
+    // strings decoded for the current row, the cells read twice are not decoded again
+    private String[] rowStrings = null;
+    private int[] rowStringIndexes = null;
 
-        for (int idx = 1; idx <= columns.length; idx += 1) {
-            String name = columns[idx - 1].getName();
-            if (!columnNames.containsKey(name)) {
-                columnNames.put(name, idx);
-            }
-        }
+    protected YdbResultSetBase(YdbStatement statement, ResultShape shape) {
+        this.statement = Objects.requireNonNull(statement);
+        this.shape = Objects.requireNonNull(shape);
     }
 
     protected abstract ValueReader getValue(int columnIndex) throws SQLException;
 
     public ColumnInfo getColumnInfo(int columnIndex) throws SQLException {
-        if (columnIndex <= 0 || columnIndex > columns.length) {
+        if (columnIndex <= 0 || columnIndex > shape.getColumnCount()) {
             throw new SQLException(YdbConst.COLUMN_NUMBER_NOT_FOUND + columnIndex);
         }
-        return columns[columnIndex - 1];
+        return shape.getColumn(columnIndex - 1);
+    }
+
+    protected ResultShape getShape() {
+        return shape;
     }
 
     public int getColumnsLength() {
-        return columns.length;
+        return shape.getColumnCount();
     }
 
     private int getColumnIndex(String name) throws SQLException {
-        if (!columnNames.containsKey(name)) {
+        Integer index = shape.findColumnIndex(name);
+        if (index == null) {
             throw new SQLException(YdbConst.COLUMN_NOT_FOUND + name);
         }
-        return columnNames.get(name);
+        return index;
     }
 
     private ValueReader readValue(int columnIndex) throws SQLException {
-        if (columnIndex <= 0 || columnIndex > columns.length) {
+        if (columnIndex <= 0 || columnIndex > shape.getColumnCount()) {
             throw new SQLException(YdbConst.COLUMN_NUMBER_NOT_FOUND + columnIndex);
         }
 
         ValueReader v = getValue(columnIndex - 1);
-        ColumnInfo type = columns[columnIndex - 1];
+        ColumnInfo type = shape.getColumn(columnIndex - 1);
         wasNull = type == null || v == null || type.isNull() || (type.isOptional() && !v.isOptionalItemPresent());
         return v;
     }
@@ -108,7 +113,24 @@ public abstract class YdbResultSetBase implements YdbResultSet {
         if (wasNull) {
             return null; // getString supports all types, it's safe to check nullability here
         }
-        return columns[columnIndex - 1].getGetters().readString(value);
+
+        int row = getRow();
+        if (rowStrings == null) {
+            rowStrings = new String[shape.getColumnCount()];
+            rowStringIndexes = new int[shape.getColumnCount()];
+        } else if (row > 0 && rowStringIndexes[columnIndex - 1] == row) {
+            return rowStrings[columnIndex - 1];
+        }
+
+        ColumnInfo column = shape.getColumn(columnIndex - 1);
+        String str = column.getGetters().readString(value);
+        if (column.getStringDictionary() != null) {
+            str = column.getStringDictionary().dedup(str);
+        }
+
+        rowStrings[columnIndex - 1] = str;
+        rowStringIndexes[columnIndex - 1] = row;
+        return str;
     }
 
     @Override
@@ -117,7 +139,7 @@ public abstract class YdbResultSetBase implements YdbResultSet {
         if (wasNull) {
             return false;
         }
-        return columns[columnIndex - 1].getGetters().readBoolean(value);
+        return shape.getColumn(columnIndex - 1).getGetters().readBoolean(value);
     }
 
     @Override
@@ -126,7 +148,7 @@ public abstract class YdbResultSetBase implements YdbResultSet {
         if (wasNull) {
             return 0;
         }
-        return columns[columnIndex - 1].getGetters().readByte(value);
+        return shape.getColumn(columnIndex - 1).getGetters().readByte(value);
     }
 
     @Override
@@ -135,7 +157,7 @@ public abstract class YdbResultSetBase implements YdbResultSet {
         if (wasNull) {
             return 0;
         }
-        return columns[columnIndex - 1].getGetters().readShort(value);
+        return shape.getColumn(columnIndex - 1).getGetters().readShort(value);
     }
 
     @Override
@@ -144,7 +166,7 @@ public abstract class YdbResultSetBase implements YdbResultSet {
         if (wasNull) {
             return 0;
         }
-        return columns[columnIndex - 1].getGetters().readInt(value);
+        return shape.getColumn(columnIndex - 1).getGetters().readInt(value);
     }
 
     @Override
@@ -153,7 +175,7 @@ public abstract class YdbResultSetBase implements YdbResultSet {
         if (wasNull) {
             return 0;
         }
-        return columns[columnIndex - 1].getGetters().readLong(value);
+        return shape.getColumn(columnIndex - 1).getGetters().readLong(value);
     }
 
     @Override
@@ -162,7 +184,7 @@ public abstract class YdbResultSetBase implements YdbResultSet {
         if (wasNull) {
             return 0;
         }
-        return columns[columnIndex - 1].getGetters().readFloat(value);
+        return shape.getColumn(columnIndex - 1).getGetters().readFloat(value);
     }
 
     @Override
@@ -171,7 +193,7 @@ public abstract class YdbResultSetBase implements YdbResultSet {
         if (wasNull) {
             return 0;
         }
-        return columns[columnIndex - 1].getGetters().readDouble(value);
+        return shape.getColumn(columnIndex - 1).getGetters().readDouble(value);
     }
 
     @Deprecated
@@ -191,7 +213,7 @@ public abstract class YdbResultSetBase implements YdbResultSet {
         if (wasNull) {
             return null;
         }
-        return columns[columnIndex - 1].getGetters().readBytes(value);
+        return shape.getColumn(columnIndex - 1).getGetters().readBytes(value);
     }
 
 
@@ -202,7 +224,7 @@ public abstract class YdbResultSetBase implements YdbResultSet {
             return null;
         }
 
-        ColumnInfo type = columns[columnIndex - 1];
+        ColumnInfo type = shape.getColumn(columnIndex - 1);
 
         if (type.isNumber()) {
             long number = type.getGetters().readLong(value);
@@ -210,7 +232,7 @@ public abstract class YdbResultSetBase implements YdbResultSet {
                 String msg = String.format(YdbConst.UNABLE_TO_CONVERT, type.getYdbType(), number, Date.class);
                 throw new SQLException(msg);
             }
-            return Date.valueOf(LocalDate.ofEpochDay(number));
+            return DateTimeCodec.toSqlDate(number);
         }
 
         Instant instant = type.getGetters().readInstant(value);
@@ -218,7 +240,7 @@ public abstract class YdbResultSetBase implements YdbResultSet {
             return new Date(instant.toEpochMilli());
         }
 
-        return Date.valueOf(instant.atOffset(ZoneOffset.UTC).toLocalDate());
+        return DateTimeCodec.toSqlDate(Math.floorDiv(instant.getEpochSecond(), DateTimeCodec.SECONDS_PER_DAY));
     }
 
     @Override
@@ -233,23 +255,23 @@ public abstract class YdbResultSetBase implements YdbResultSet {
             return null;
         }
 
-        ColumnInfo type = columns[columnIndex - 1];
+        ColumnInfo type = shape.getColumn(columnIndex - 1);
         if (type.isNumber()) {
             long number = type.getGetters().readLong(value);
             if (!ChronoField.EPOCH_DAY.range().isValidValue(number)) {
                 String msg = String.format(YdbConst.UNABLE_TO_CONVERT, type.getYdbType(), number, Date.class);
                 throw new SQLException(msg);
             }
-            return Date.valueOf(LocalDate.ofEpochDay(number));
+            return DateTimeCodec.toSqlDate(number);
         }
 
         Instant instant = type.getGetters().readInstant(value);
         if (type.isTimestamp()) {
-            final TimeZone tz = cal != null ? cal.getTimeZone() : Calendar.getInstance().getTimeZone();
-            return Date.valueOf(instant.atZone(tz.toZoneId()).toLocalDate());
+            TimeZone tz = cal != null ? cal.getTimeZone() : TimeZone.getDefault();
+            return DateTimeCodec.toSqlDate(DateTimeCodec.toLocalEpochDay(tz, instant.getEpochSecond()));
         }
 
-        return Date.valueOf(instant.atOffset(ZoneOffset.UTC).toLocalDate());
+        return DateTimeCodec.toSqlDate(Math.floorDiv(instant.getEpochSecond(), DateTimeCodec.SECONDS_PER_DAY));
     }
 
     @Override
@@ -264,14 +286,14 @@ public abstract class YdbResultSetBase implements YdbResultSet {
             return null;
         }
 
-        ColumnInfo type = columns[columnIndex - 1];
+        ColumnInfo type = shape.getColumn(columnIndex - 1);
         if (type.isNumber()) {
             long number = type.getGetters().readLong(value);
             if (!ChronoField.SECOND_OF_DAY.range().isValidValue(number)) {
                 String msg = String.format(YdbConst.UNABLE_TO_CONVERT, type.getYdbType(), number, Time.class);
                 throw new SQLException(msg);
             }
-            return Time.valueOf(LocalTime.ofSecondOfDay(number));
+            return DateTimeCodec.toSqlTime(number);
         }
 
         Instant instant = type.getGetters().readInstant(value);
@@ -279,7 +301,7 @@ public abstract class YdbResultSetBase implements YdbResultSet {
             return new Time(instant.toEpochMilli());
         }
 
-        return Time.valueOf(instant.atOffset(ZoneOffset.UTC).toLocalTime());
+        return DateTimeCodec.toSqlTime(Math.floorMod(instant.getEpochSecond(), DateTimeCodec.SECONDS_PER_DAY));
     }
 
     @Override
@@ -289,23 +311,24 @@ public abstract class YdbResultSetBase implements YdbResultSet {
             return null;
         }
 
-        ColumnInfo type = columns[columnIndex - 1];
+        ColumnInfo type = shape.getColumn(columnIndex - 1);
         if (type.isNumber()) {
             long number = type.getGetters().readLong(value);
             if (!ChronoField.SECOND_OF_DAY.range().isValidValue(number)) {
                 String msg = String.format(YdbConst.UNABLE_TO_CONVERT, type.getYdbType(), number, Time.class);
                 throw new SQLException(msg);
             }
-            return Time.valueOf(LocalTime.ofSecondOfDay(number));
+            return DateTimeCodec.toSqlTime(number);
         }
 
         Instant instant = type.getGetters().readInstant(value);
         if (type.isTimestamp()) {
-            final TimeZone tz = cal != null ? cal.getTimeZone() : Calendar.getInstance().getTimeZone();
-            return Time.valueOf(instant.atZone(tz.toZoneId()).toLocalTime());
+            TimeZone tz = cal != null ? cal.getTimeZone() : TimeZone.getDefault();
+            long localSeconds = DateTimeCodec.toLocalEpochSecond(tz, instant.getEpochSecond());
+            return DateTimeCodec.toSqlTime(Math.floorMod(localSeconds, DateTimeCodec.SECONDS_PER_DAY));
         }
 
-        return Time.valueOf(instant.atOffset(ZoneOffset.UTC).toLocalTime());
+        return DateTimeCodec.toSqlTime(Math.floorMod(instant.getEpochSecond(), DateTimeCodec.SECONDS_PER_DAY));
     }
 
     @Override
@@ -320,7 +343,7 @@ public abstract class YdbResultSetBase implements YdbResultSet {
             return null;
         }
 
-        ColumnInfo type = columns[columnIndex - 1];
+        ColumnInfo type = shape.getColumn(columnIndex - 1);
         if (type.isNumber()) {
             long number = type.getGetters().readLong(value);
             return new Timestamp(number);
@@ -331,7 +354,7 @@ public abstract class YdbResultSetBase implements YdbResultSet {
             return Timestamp.from(instant);
         }
 
-        return Timestamp.valueOf(instant.atOffset(ZoneOffset.UTC).toLocalDateTime());
+        return DateTimeCodec.toSqlTimestamp(instant.getEpochSecond(), instant.getNano());
     }
 
     @Override
@@ -341,7 +364,7 @@ public abstract class YdbResultSetBase implements YdbResultSet {
             return null;
         }
 
-        ColumnInfo type = columns[columnIndex - 1];
+        ColumnInfo type = shape.getColumn(columnIndex - 1);
         if (type.isNumber()) {
             long number = type.getGetters().readLong(value);
             return new Timestamp(number);
@@ -349,11 +372,12 @@ public abstract class YdbResultSetBase implements YdbResultSet {
 
         Instant instant = type.getGetters().readInstant(value);
         if (type.isTimestamp()) {
-            final TimeZone tz = cal != null ? cal.getTimeZone() : Calendar.getInstance().getTimeZone();
-            return Timestamp.valueOf(instant.atZone(tz.toZoneId()).toLocalDateTime());
+            TimeZone tz = cal != null ? cal.getTimeZone() : TimeZone.getDefault();
+            long localSeconds = DateTimeCodec.toLocalEpochSecond(tz, instant.getEpochSecond());
+            return DateTimeCodec.toSqlTimestamp(localSeconds, instant.getNano());
         }
 
-        return Timestamp.valueOf(instant.atOffset(ZoneOffset.UTC).toLocalDateTime());
+        return DateTimeCodec.toSqlTimestamp(instant.getEpochSecond(), instant.getNano());
     }
 
     @Override
@@ -370,8 +394,11 @@ public abstract class YdbResultSetBase implements YdbResultSet {
 
     @Override
     public InputStream getBinaryStream(int columnIndex) throws SQLException {
-        byte[] bytes = getBytes(columnIndex);
-        return bytes == null ? null : new ByteArrayInputStream(bytes);
+        ValueReader value = readValue(columnIndex);
+        if (wasNull) {
+            return null;
+        }
+        return shape.getColumn(columnIndex - 1).getGetters().readStream(value);
     }
 
     //
@@ -472,7 +499,7 @@ public abstract class YdbResultSetBase implements YdbResultSet {
         if (wasNull) {
             return null;
         }
-        return columns[columnIndex - 1].getGetters().readObject(value);
+        return shape.getColumn(columnIndex - 1).getGetters().readObject(value);
     }
 
     @Override
@@ -491,7 +518,7 @@ public abstract class YdbResultSetBase implements YdbResultSet {
         if (wasNull) {
             return null;
         }
-        return columns[columnIndex - 1].getGetters().readReader(value);
+        return shape.getColumn(columnIndex - 1).getGetters().readReader(value);
     }
 
     @Override
@@ -505,7 +532,7 @@ public abstract class YdbResultSetBase implements YdbResultSet {
         if (wasNull) {
             return null;
         }
-        return columns[columnIndex - 1].getGetters().readBigDecimal(value);
+        return shape.getColumn(columnIndex - 1).getGetters().readBigDecimal(value);
     }
 
     @Override
@@ -545,7 +572,7 @@ public abstract class YdbResultSetBase implements YdbResultSet {
             return null;
         }
 
-        String url = columns[columnIndex - 1].getGetters().readURL(value);
+        String url = shape.getColumn(columnIndex - 1).getGetters().readURL(value);
         try {
             return new URL(url);
         } catch (MalformedURLException e) {
@@ -570,7 +597,7 @@ public abstract class YdbResultSetBase implements YdbResultSet {
             return null;
         }
 
-        return columns[columnIndex - 1].getGetters().readNString(value);
+        return shape.getColumn(columnIndex - 1).getGetters().readNString(value);
     }
 
     @Override
@@ -605,6 +632,114 @@ public abstract class YdbResultSetBase implements YdbResultSet {
         return getNativeColumn(getColumnIndex(columnLabel));
     }
 
+    @Override
+    public long getTimestampMicros(int columnIndex) throws SQLException {
+        ValueReader value = readValue(columnIndex);
+        if (wasNull) {
+            return 0;
+        }
+
+        ColumnInfo type = shape.getColumn(columnIndex - 1);
+        Instant instant = type.getGetters().readInstant(value);
+        try {
+            return DateTimeCodec.toEpochMicros(instant);
+        } catch (ArithmeticException ex) {
+            String msg = String.format(YdbConst.UNABLE_TO_CONVERT, type.getYdbType(), instant, long.class);
+            throw new SQLException(msg, ex);
+        }
+    }
+
+    @Override
+    public long getTimestampMicros(String columnLabel) throws SQLException {
+        return getTimestampMicros(getColumnIndex(columnLabel));
+    }
+
+    @Override
+    public long getDateEpochDay(int columnIndex) throws SQLException {
+        ValueReader value = readValue(columnIndex);
+        if (wasNull) {
+            return 0;
+        }
+
+        ColumnInfo type = shape.getColumn(columnIndex - 1);
+        if (type.isNumber() || type.isDate()) {
+            return type.getGetters().readLong(value);
+        }
+
+        Instant instant = type.getGetters().readInstant(value);
+        return Math.floorDiv(instant.getEpochSecond(), DateTimeCodec.SECONDS_PER_DAY);
+    }
+
+    @Override
+    public long getDateEpochDay(String columnLabel) throws SQLException {
+        return getDateEpochDay(getColumnIndex(columnLabel));
+    }
+
+    @Override
+    public long getDecimalUnscaled(int columnIndex) throws SQLException {
+        ValueReader value = readValue(columnIndex);
+        if (wasNull) {
+            return 0;
+        }
+        return shape.getColumn(columnIndex - 1).getGetters().readDecimalUnscaled(value);
+    }
+
+    @Override
+    public long getDecimalUnscaled(String columnLabel) throws SQLException {
+        return getDecimalUnscaled(getColumnIndex(columnLabel));
+    }
+
+    @Override
+    public int getDecimalScale(int columnIndex) throws SQLException {
+        return getColumnInfo(columnIndex).getDecimalScale();
+    }
+
+    @Override
+    public int getDecimalScale(String columnLabel) throws SQLException {
+        return getDecimalScale(getColumnIndex(columnLabel));
+    }
+
+    @Override
+    public <T> T map(Class<T> clazz) throws SQLException {
+        return shape.getRowMapper(clazz).map(this);
+    }
+
+    @Override
+    public <T> Stream<T> stream(Class<T> clazz) throws SQLException {
+        ClassRowMapper<T> mapper = shape.getRowMapper(clazz);
+        return stream(mapper::map);
+    }
+
+    @Override
+    public <T> Stream<T> stream(RowMapper<T> mapper) throws SQLException {
+        if (isClosed()) {
+            throw new SQLException(YdbConst.RESULT_SET_IS_CLOSED);
+        }
+
+        Spliterator<T> rows = new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, Spliterator.ORDERED) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                try {
+                    if (!next()) {
+                        return false;
+                    }
+                    action.accept(mapper.map(YdbResultSetBase.this));
+                    return true;
+                } catch (SQLException ex) {
+                    throw new YdbUncheckedException(ex);
+                }
+            }
+        };
+
+        return StreamSupport.stream(rows, false).onClose(() -> {
+            try {
+                close();
+            } catch (SQLException ex) {
+                throw new YdbUncheckedException(ex);
+            }
+        });
+    }
+
     // UNSUPPORTED
 
     @Override
@@ -1174,7 +1309,7 @@ public abstract class YdbResultSetBase implements YdbResultSet {
         if (wasNull) {
             return null;
         }
-        return columns[columnIndex - 1].getGetters().readClass(value, type);
+        return shape.getColumn(columnIndex - 1).getGetters().readClass(value, type);
     }
 
     @Override
@@ -3,10 +3,15 @@ package tech.ydb.jdbc.impl;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import tech.ydb.jdbc.YdbConst;
 import tech.ydb.jdbc.YdbStatement;
-import tech.ydb.jdbc.common.ColumnInfo;
+import tech.ydb.jdbc.common.ResultShape;
+import tech.ydb.jdbc.exception.YdbUncheckedException;
 import tech.ydb.table.result.ResultSetReader;
 import tech.ydb.table.result.ValueReader;
 
@@ -21,8 +26,8 @@ public abstract class YdbResultSetForwardOnly extends YdbResultSetBase {
     private int currentIndex = 0;
     private int rowIndex = 0;
 
-    public YdbResultSetForwardOnly(YdbStatement statement, ColumnInfo[] columns) {
-        super(statement, columns);
+    public YdbResultSetForwardOnly(YdbStatement statement, ResultShape shape) {
+        super(statement, shape);
     }
 
     protected abstract boolean hasNext() throws SQLException;
@@ -31,6 +36,9 @@ public abstract class YdbResultSetForwardOnly extends YdbResultSetBase {
     @Override
     public void close() {
         isClosed = true;
+        if (statement instanceof YdbStatementBase) {
+            ((YdbStatementBase) statement).onResultSetClosed();
+        }
     }
 
     @Override
@@ -75,6 +83,18 @@ public abstract class YdbResultSetForwardOnly extends YdbResultSetBase {
         return false;
     }
 
+    @Override
+    public <T> Stream<T> stream(RowMapper<T> mapper) throws SQLException {
+        if (isClosed) {
+            throw new SQLException(YdbConst.RESULT_SET_IS_CLOSED);
+        }
+
+        // the rest of rows of the current part are the first part of the stream
+        ResultSetReader rest = current;
+        current = null;
+        return StreamSupport.stream(new PartsSpliterator<>(mapper, rest), false).onClose(this::close);
+    }
+
     @Override
     public int getRow() throws SQLException {
         return rowIndex;
@@ -163,4 +183,126 @@ public abstract class YdbResultSetForwardOnly extends YdbResultSetBase {
     public int getFetchDirection() throws SQLException {
         return ResultSet.FETCH_FORWARD;
     }
+
+    /**
+     * Spliterator over the parts of result, every split is one part of result. The parts are taken from the result
+     * set only when the rows of the previous part are processed or when the spliterator is split.
+     */
+    private class PartsSpliterator<T> implements Spliterator<T> {
+        private final RowMapper<T> mapper;
+        private PartSpliterator<T> head;
+
+        PartsSpliterator(RowMapper<T> mapper, ResultSetReader first) {
+            this.mapper = mapper;
+            this.head = first != null ? new PartSpliterator<>(mapper, first) : null;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            while (true) {
+                if (head != null && head.tryAdvance(action)) {
+                    return true;
+                }
+                head = nextPart();
+                if (head == null) {
+                    return false;
+                }
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            PartSpliterator<T> prefix = head;
+            head = null;
+            return prefix != null ? prefix : nextPart();
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED;
+        }
+
+        private PartSpliterator<T> nextPart() {
+            try {
+                if (isClosed || !hasNext()) {
+                    return null;
+                }
+                return new PartSpliterator<>(mapper, readNext());
+            } catch (SQLException ex) {
+                throw new YdbUncheckedException(ex);
+            }
+        }
+    }
+
+    /**
+     * Spliterator over the rows of one part, the rows are mapped with the own cursor of part
+     */
+    private class PartSpliterator<T> implements Spliterator<T> {
+        private final RowMapper<T> mapper;
+        private final int rowCount;
+        private final PartCursor cursor;
+
+        PartSpliterator(RowMapper<T> mapper, ResultSetReader part) {
+            this.mapper = mapper;
+            this.rowCount = part.getRowCount();
+            this.cursor = new PartCursor(statement, getShape(), part);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            try {
+                if (!cursor.next()) {
+                    return false;
+                }
+                action.accept(mapper.map(cursor));
+                return true;
+            } catch (SQLException ex) {
+                throw new YdbUncheckedException(ex);
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return rowCount;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED;
+        }
+    }
+
+    /**
+     * Forward-only cursor over the rows of one part
+     */
+    static class PartCursor extends YdbResultSetForwardOnly {
+        private ResultSetReader part;
+
+        PartCursor(YdbStatement statement, ResultShape shape, ResultSetReader part) {
+            super(statement, shape);
+            this.part = part;
+        }
+
+        @Override
+        protected boolean hasNext() {
+            return part != null;
+        }
+
+        @Override
+        protected ResultSetReader readNext() {
+            ResultSetReader next = part;
+            part = null;
+            return next;
+        }
+    }
 }
@@ -0,0 +1,57 @@
+package tech.ydb.jdbc.impl;
+
+import java.sql.SQLException;
+
+import tech.ydb.jdbc.YdbStatement;
+import tech.ydb.jdbc.common.ResultShape;
+import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.jdbc.context.KeysetReader;
+import tech.ydb.table.result.ResultSetReader;
+
+/**
+ * Forward-only result set over the pages of {@link KeysetReader}. The pages are presented as one continuous result
+ * set, the columns shape is taken from the first page.
+ */
+public class YdbResultSetKeyset extends YdbResultSetForwardOnly {
+    private final KeysetReader reader;
+    private ResultSetReader firstPage;
+
+    private YdbResultSetKeyset(YdbStatement statement, ResultShape shape, KeysetReader reader, ResultSetReader first) {
+        super(statement, shape);
+        this.reader = reader;
+        this.firstPage = first;
+    }
+
+    public static YdbResultSetKeyset start(YdbTypes types, YdbStatement statement, KeysetReader reader)
+            throws SQLException {
+        try {
+            ResultSetReader first = reader.nextPage();
+            return new YdbResultSetKeyset(statement, types.findShape(first), reader, first);
+        } catch (SQLException | RuntimeException ex) {
+            reader.close();
+            throw ex;
+        }
+    }
+
+    @Override
+    protected boolean hasNext() throws SQLException {
+        return firstPage != null || reader.hasNextPage();
+    }
+
+    @Override
+    protected ResultSetReader readNext() throws SQLException {
+        if (firstPage != null) {
+            ResultSetReader page = firstPage;
+            firstPage = null;
+            return page;
+        }
+        return reader.nextPage();
+    }
+
+    @Override
+    public void close() {
+        super.close();
+        firstPage = null;
+        reader.close();
+    }
+}
@@ -6,14 +6,13 @@ import java.util.Objects;
 
 import tech.ydb.jdbc.YdbConst;
 import tech.ydb.jdbc.YdbStatement;
-import tech.ydb.jdbc.common.ColumnInfo;
 import tech.ydb.jdbc.common.YdbTypes;
 import tech.ydb.table.result.ResultSetReader;
 import tech.ydb.table.result.ValueReader;
 
 public class YdbResultSetMemory extends YdbResultSetBase {
-    private final ResultSetReader[] rs;
-    private final int totalCount;
+    private final ResultParts parts;
+    private boolean isFullyLoaded;
 
     private int fetchDirection;
     private int globalRowIndex = 0; // before start
@@ -24,18 +23,42 @@ public class YdbResultSetMemory extends YdbResultSetBase {
     private boolean isClosed = false;
 
     public YdbResultSetMemory(YdbTypes types, YdbStatement statement, ResultSetReader... rs) {
-        super(statement, ColumnInfo.fromResultSetReader(types, Objects.requireNonNull(rs[0])));
+        this(types, statement, ResultParts.inMemory(rs));
+    }
+
+    public YdbResultSetMemory(YdbTypes types, YdbStatement statement, ResultParts parts) {
+        super(statement, types.findShape(Objects.requireNonNull(parts.getPart(0))));
         this.fetchDirection = statement.getFetchDirection();
-        this.rs = rs;
-        int total = 0;
-        for (int idx = 0; idx < rs.length; idx += 1) {
-            total += rs[idx].getRowCount();
-        }
-        this.totalCount = total;
+        this.parts = parts;
+        this.isFullyLoaded = false;
     }
 
-    public ResultSetReader[] getResultSets() {
-        return rs;
+    public ResultSetReader[] getResultSets() throws SQLException {
+        loadRows(Integer.MAX_VALUE);
+        return parts.toArray();
+    }
+
+    /**
+     * Reads the next part of result set. Used by lazy result sets, which receive the parts from the stream while the
+     * application is reading the rows
+     *
+     * @return next part or {@code null} if there are no more parts
+     * @throws SQLException if the reading was failed
+     */
+    protected ResultSetReader readNextPart() throws SQLException {
+        return null;
+    }
+
+    private boolean loadRows(int rowsCount) throws SQLException {
+        while (parts.getRowCount() < rowsCount && !isFullyLoaded) {
+            ResultSetReader next = readNextPart();
+            if (next == null) {
+                isFullyLoaded = true;
+            } else {
+                parts.add(next);
+            }
+        }
+        return parts.getRowCount() >= rowsCount;
     }
 
     @Override
@@ -43,21 +66,21 @@ public class YdbResultSetMemory extends YdbResultSetBase {
         if (!isRowIndexValid()) {
             throw new SQLException(YdbConst.INVALID_ROW + globalRowIndex);
         }
-        return rs[rsIndex].getColumn(columnIndex);
+        return parts.getPart(rsIndex).getColumn(columnIndex);
     }
 
     @Override
-    public boolean next() {
+    public boolean next() throws SQLException {
         while (true) {
-            if (rsIndex >= rs.length) {
-                rsIndex = totalCount;
-                globalRowIndex = totalCount + 1;
+            if (rsIndex >= parts.getPartsCount() && !loadRows(parts.getRowCount() + 1)) {
+                rsIndex = parts.getPartsCount();
+                globalRowIndex = parts.getRowCount() + 1;
                 rowIndex = 0;
                 return false;
             }
 
-            if (rowIndex < rs[rsIndex].getRowCount()) {
-                rs[rsIndex].setRowIndex(rowIndex);
+            if (rowIndex < parts.getRowCount(rsIndex)) {
+                parts.getPart(rsIndex).setRowIndex(rowIndex);
                 globalRowIndex++;
                 rowIndex++;
                 return true;
@@ -71,26 +94,27 @@ public class YdbResultSetMemory extends YdbResultSetBase {
     @Override
     public void close() {
         isClosed = true;
+        parts.close();
     }
 
     @Override
-    public boolean isBeforeFirst() {
-        return totalCount > 0 && globalRowIndex == 0;
+    public boolean isBeforeFirst() throws SQLException {
+        return globalRowIndex == 0 && loadRows(1);
     }
 
     @Override
     public boolean isAfterLast() {
-        return totalCount > 0 && globalRowIndex > totalCount;
+        return parts.getRowCount() > 0 && globalRowIndex > parts.getRowCount();
     }
 
     @Override
     public boolean isFirst() {
-        return totalCount > 0 && globalRowIndex == 1;
+        return parts.getRowCount() > 0 && globalRowIndex == 1;
     }
 
     @Override
-    public boolean isLast() {
-        return totalCount > 0 && globalRowIndex == totalCount;
+    public boolean isLast() throws SQLException {
+        return globalRowIndex > 0 && globalRowIndex == parts.getRowCount() && !loadRows(globalRowIndex + 1);
     }
 
     @Override
@@ -102,12 +126,14 @@ public class YdbResultSetMemory extends YdbResultSetBase {
     @Override
     public void afterLast() throws SQLException {
         checkScroll();
-        setRowIndex(totalCount + 1);
+        loadRows(Integer.MAX_VALUE);
+        setRowIndex(parts.getRowCount() + 1);
     }
 
     @Override
     public boolean first() throws SQLException {
         checkScroll();
+        loadRows(1);
         setRowIndex(1);
         return isRowIndexValid();
     }
@@ -115,7 +141,8 @@ public class YdbResultSetMemory extends YdbResultSetBase {
     @Override
     public boolean last() throws SQLException {
         checkScroll();
-        setRowIndex(totalCount);
+        loadRows(Integer.MAX_VALUE);
+        setRowIndex(parts.getRowCount());
         return isRowIndexValid();
     }
 
@@ -128,9 +155,11 @@ public class YdbResultSetMemory extends YdbResultSetBase {
     public boolean absolute(int row) throws SQLException {
         checkScroll();
         if (row >= 0) {
+            loadRows(row);
             setRowIndex(row);
         } else {
-            setRowIndex(totalCount + 1 + row);
+            loadRows(Integer.MAX_VALUE);
+            setRowIndex(parts.getRowCount() + 1 + row);
         }
         return isRowIndexValid();
     }
@@ -139,6 +168,7 @@ public class YdbResultSetMemory extends YdbResultSetBase {
     public boolean relative(int rows) throws SQLException {
         checkScroll();
         if (rows != 0) {
+            loadRows(globalRowIndex + rows);
             setRowIndex(globalRowIndex + rows);
         }
         return isRowIndexValid();
@@ -195,27 +225,22 @@ public class YdbResultSetMemory extends YdbResultSetBase {
             return;
         }
 
-        if (index > totalCount) { // after last
-            globalRowIndex = totalCount + 1;
-            rsIndex = rs.length;
+        if (index > parts.getRowCount()) { // after last
+            globalRowIndex = parts.getRowCount() + 1;
+            rsIndex = parts.getPartsCount();
             rowIndex = 0;
             return;
         }
 
         globalRowIndex = index;
-        rsIndex = 0;
-        rowIndex = index;
-        int currentSize = rs[rsIndex].getRowCount();
-        while (rowIndex > currentSize) {
-            rsIndex++;
-            rowIndex -= currentSize;
-            currentSize = rs[rsIndex].getRowCount();
-        }
+        rsIndex = parts.findPart(index - 1);
+        rowIndex = index - parts.getPartOffset(rsIndex);
 
-        rs[rsIndex].setRowIndex(rowIndex - 1);
+        parts.getPart(rsIndex).setRowIndex(rowIndex - 1);
     }
 
     private boolean isRowIndexValid() {
-        return rsIndex >= 0 && rsIndex < rs.length && globalRowIndex > 0 && globalRowIndex <= totalCount;
+        return rsIndex >= 0 && rsIndex < parts.getPartsCount() && globalRowIndex > 0
+                && globalRowIndex <= parts.getRowCount();
     }
 }
@@ -0,0 +1,200 @@
+package tech.ydb.jdbc.impl;
+
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import tech.ydb.jdbc.YdbConst;
+import tech.ydb.jdbc.YdbStatement;
+import tech.ydb.jdbc.YdbTracer;
+import tech.ydb.jdbc.common.ResultShape;
+import tech.ydb.jdbc.context.TableSplit;
+import tech.ydb.jdbc.context.TableSplitStream;
+import tech.ydb.jdbc.context.YdbContext;
+import tech.ydb.jdbc.context.YdbValidator;
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.result.impl.ProtoValueReaders;
+
+/**
+ * Forward-only result set over the concurrent reads of table splits. Up to {@code parallelism} splits are read at
+ * the same time over separate sessions. In ordered mode the parts are returned split by split, so the rows keep the
+ * order of primary key, otherwise the parts are returned as soon as any split receives them.
+ */
+public class YdbResultSetSplits extends YdbResultSetForwardOnly {
+    private final Streams streams;
+    private ResultSetReader nextPart;
+
+    private YdbResultSetSplits(YdbStatement statement, ResultShape shape, Streams streams, ResultSetReader first) {
+        super(statement, shape);
+        this.streams = streams;
+        this.nextPart = first;
+    }
+
+    public static YdbResultSetSplits start(YdbStatement statement, List<TableSplit> splits, int parallelism,
+            boolean ordered) throws SQLException {
+        if (parallelism <= 0) {
+            throw new SQLException(YdbConst.INVALID_SPLITS_COUNT + parallelism);
+        }
+
+        YdbContext ctx = statement.getConnection().getCtx();
+        Streams streams = new Streams(ctx, statement.getValidator(), splits, parallelism, ordered);
+        try {
+            ResultSetReader first = streams.nextPart();
+            if (first == null) {
+                // nothing was read, the columns are unknown
+                first = ProtoValueReaders.forResultSet(ValueProtos.ResultSet.getDefaultInstance());
+            }
+            return new YdbResultSetSplits(statement, ctx.getTypes().findShape(first), streams, first);
+        } catch (SQLException | RuntimeException ex) {
+            streams.close();
+            throw ex;
+        }
+    }
+
+    @Override
+    protected boolean hasNext() throws SQLException {
+        if (nextPart == null) {
+            nextPart = streams.nextPart();
+        }
+        return nextPart != null;
+    }
+
+    @Override
+    protected ResultSetReader readNext() throws SQLException {
+        ResultSetReader part = nextPart;
+        nextPart = null;
+        return part;
+    }
+
+    @Override
+    public void close() {
+        super.close();
+        nextPart = null;
+        streams.close();
+    }
+
+    private static class Streams {
+        private final YdbContext ctx;
+        private final YdbValidator validator;
+        private final int parallelism;
+        private final boolean ordered;
+
+        private final Deque<TableSplit> waiting;
+        private final List<TableSplitStream> active = new ArrayList<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition isReady = lock.newCondition();
+        // count of updates of all streams, guarded by lock
+        private long updatesCount = 0;
+
+        // tracer of the whole read, closed after the last split or on close of result set
+        private YdbTracer tracer;
+
+        Streams(YdbContext ctx, YdbValidator validator, List<TableSplit> splits, int parallelism, boolean ordered) {
+            this.ctx = ctx;
+            this.validator = validator;
+            this.parallelism = parallelism;
+            this.ordered = ordered;
+            this.waiting = new ArrayDeque<>(splits);
+            this.tracer = ctx.getTxTracer();
+            this.tracer.trace("--> read splits " + splits.size());
+        }
+
+        ResultSetReader nextPart() throws SQLException {
+            while (true) {
+                // the updates are counted before checking the streams, so the update received after the check
+                // doesn't let the consumer fall asleep
+                long seenUpdates = getUpdatesCount();
+                while (active.size() < parallelism && !waiting.isEmpty()) {
+                    TableSplitStream stream = new TableSplitStream(waiting.poll(), this::releaseWaiters);
+                    active.add(stream);
+                    stream.start(ctx, ordered);
+                }
+
+                if (active.isEmpty()) {
+                    closeTracer();
+                    return null;
+                }
+
+                // in ordered mode only the first split can be consumed, the rest are prefetched
+                int count = ordered ? 1 : active.size();
+                boolean hasCompleted = false;
+                for (int idx = 0; idx < count; idx++) {
+                    ResultSetReader part = active.get(idx).poll();
+                    if (part != null) {
+                        return part;
+                    }
+                }
+
+                Iterator<TableSplitStream> iter = active.iterator();
+                for (int idx = 0; idx < count && iter.hasNext(); idx++) {
+                    TableSplitStream stream = iter.next();
+                    // parts are always offered before the completion of stream
+                    if (stream.isCompleted() && !stream.hasBufferedParts()) {
+                        stream.validate(validator, tracer);
+                        iter.remove();
+                        hasCompleted = true;
+                    }
+                }
+
+                if (!hasCompleted) {
+                    waitForUpdates(seenUpdates);
+                }
+            }
+        }
+
+        void close() {
+            waiting.clear();
+            for (TableSplitStream stream: active) {
+                stream.cancel();
+            }
+            active.clear();
+            closeTracer();
+        }
+
+        private void closeTracer() {
+            if (tracer != null) {
+                tracer.close();
+                tracer = null;
+            }
+        }
+
+        private long getUpdatesCount() {
+            lock.lock();
+            try {
+                return updatesCount;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void waitForUpdates(long seenUpdates) throws SQLException {
+            lock.lock();
+            try {
+                while (updatesCount == seenUpdates) {
+                    isReady.await();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new SQLException(YdbConst.RESULT_WAS_INTERRUPTED, ex);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void releaseWaiters() {
+            lock.lock();
+            try {
+                updatesCount++;
+                isReady.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -12,6 +12,8 @@ import java.util.Objects;
 import java.util.function.Function;
 import java.util.logging.Logger;
 
+import org.reactivestreams.Publisher;
+
 import tech.ydb.core.Issue;
 import tech.ydb.core.StatusCode;
 import tech.ydb.jdbc.YdbConnection;
@@ -23,13 +25,15 @@ import tech.ydb.jdbc.common.YdbTypes;
 import tech.ydb.jdbc.context.QueryStat;
 import tech.ydb.jdbc.context.YdbContext;
 import tech.ydb.jdbc.context.YdbExecutor;
+import tech.ydb.jdbc.context.YdbRetryPolicy;
 import tech.ydb.jdbc.context.YdbValidator;
-import tech.ydb.jdbc.exception.YdbRetryableException;
+import tech.ydb.jdbc.exception.YdbStatusable;
 import tech.ydb.jdbc.query.YdbQuery;
 import tech.ydb.jdbc.settings.FakeTxMode;
 import tech.ydb.jdbc.settings.YdbOperationProperties;
 import tech.ydb.table.query.Params;
 import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.settings.ReadTableSettings;
 import tech.ydb.table.values.ListValue;
 
 /**
@@ -50,6 +54,8 @@ public abstract class YdbStatementBase implements YdbStatement {
     private int queryTimeout;
     private boolean isPoolable;
     private boolean isClosed = false;
+    // the statement was created by connection for one result set and is closed together with it
+    private boolean isClosedWithResultSet = false;
 
     /** @see Statement#getMaxRows() */
     private int maxRows = 0; // no limit
@@ -100,6 +106,21 @@ public abstract class YdbStatementBase implements YdbStatement {
         return isClosed;
     }
 
+    /**
+     * Marks the statement which is created by connection only to hold one result set. Such result set isn't the
+     * current result of executor, so the statement is closed with it without clearing of the executor state
+     */
+    void closeWithResultSet() {
+        isClosedWithResultSet = true;
+    }
+
+    void onResultSetClosed() {
+        if (isClosedWithResultSet) {
+            state = EMPTY_RESULT;
+            isClosed = true;
+        }
+    }
+
     @Override
     public int getResultSetType() {
         return resultSetType;
@@ -214,17 +235,45 @@ public abstract class YdbStatementBase implements YdbStatement {
         }
         ctx.traceQueryByFullScanDetector(query, yql);
 
-        boolean isInsideTx = executor.isInsideTransaction();
+        // Statements inside active transaction cannot be retried, even the reads of read-only transaction: failed
+        // statement invalidates the transaction and the retry in a new one would read from another snapshot.
+        // Read-only levels without snapshot (online and stale reads) don't keep transaction and are retried below
+        if (executor.isInsideTransaction() || !executor.isStatementRetries()) {
+            return executor.executeDataQuery(this, query, yql, params);
+        }
+
+        YdbRetryPolicy retryPolicy = ctx.getRetryPolicy();
+        boolean isIdempotent = !query.isWriting() || executor.isReadOnly();
+        int retryNumber = 0;
         while (true) {
             try {
-                return executor.executeDataQuery(this, query, yql, params);
-            } catch (YdbRetryableException ex) {
-                if (isInsideTx || ex.getStatus().getCode() != StatusCode.BAD_SESSION) {
+                YdbQueryResult result = executor.executeDataQuery(this, query, yql, params);
+                retryPolicy.onSuccess();
+                return result;
+            } catch (SQLException ex) {
+                if (!(ex instanceof YdbStatusable)) {
                     throw ex;
                 }
+                StatusCode code = ((YdbStatusable) ex).getStatus().getCode();
+                long delay = retryPolicy.nextRetryDelayMillis(code, retryNumber, isIdempotent);
+                if (delay == YdbRetryPolicy.NO_RETRY) {
+                    throw ex;
+                }
+
+                retryNumber++;
                 // TODO: Move this logic to YdbValidator
-                Issue warning = Issue.of("Operation retried because of of BAD_SESSION", Issue.Severity.INFO);
+                Issue warning = Issue.of("Operation retried because of " + code, Issue.Severity.INFO);
                 validator.addStatusIssues(Arrays.asList(warning));
+
+                if (delay > 0) {
+                    try {
+                        Thread.sleep(delay);
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                        ex.addSuppressed(ie);
+                        throw ex;
+                    }
+                }
             }
         }
     }
@@ -292,9 +341,37 @@ public abstract class YdbStatementBase implements YdbStatement {
         return connection.getExecutor().executeSchemeQuery(this, query, yql, params);
     }
 
+    protected <T> Publisher<T> executeDataQueryPublisher(YdbQuery query, String yql, Params params,
+            YdbResultSet.RowMapper<T> mapper) throws SQLException {
+        prepareNewExecution();
+
+        YdbContext ctx = connection.getCtx();
+        ctx.traceQueryByFullScanDetector(query, yql);
+        return connection.getExecutor().executeDataQueryPublisher(this, query, yql, params, mapper);
+    }
+
     protected YdbQueryResult executeScanQuery(YdbQuery query, String yql, Params params) throws SQLException {
         prepareNewExecution();
+        checkScanInsideTransaction();
+        return connection.getExecutor().executeScanQuery(this, query, yql, params);
+    }
 
+    protected YdbQueryResult executeReadTable(YdbQuery query, String tablePath, ReadTableSettings.Builder settings)
+            throws SQLException {
+        prepareNewExecution();
+        // read table doesn't see uncommitted changes of transaction like scan query
+        checkScanInsideTransaction();
+        return connection.getExecutor().executeReadTable(this, query, tablePath, settings);
+    }
+
+    protected YdbQueryResult executeKeysetRead(YdbQuery query, String tableName, int pageSize) throws SQLException {
+        prepareNewExecution();
+        // every page is read in its own snapshot and doesn't see uncommitted changes of transaction
+        checkScanInsideTransaction();
+        return connection.getExecutor().executeKeysetRead(this, query, tableName, pageSize);
+    }
+
+    private void checkScanInsideTransaction() throws SQLException {
         if (connection.getExecutor().isInsideTransaction()) {
             switch (scanQueryTxMode) {
                 case FAKE_TX:
@@ -307,8 +384,6 @@ public abstract class YdbStatementBase implements YdbStatement {
                     throw new SQLException(YdbConst.SCAN_QUERY_INSIDE_TRANSACTION);
             }
         }
-
-        return connection.getExecutor().executeScanQuery(this, query, yql, params);
     }
 
     // UNSUPPORTED
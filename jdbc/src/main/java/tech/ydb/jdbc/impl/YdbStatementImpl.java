@@ -9,12 +9,16 @@ import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.reactivestreams.Publisher;
+
 import tech.ydb.jdbc.YdbConnection;
 import tech.ydb.jdbc.YdbConst;
 import tech.ydb.jdbc.YdbQueryResult;
 import tech.ydb.jdbc.YdbResultSet;
+import tech.ydb.jdbc.query.QueryType;
 import tech.ydb.jdbc.query.YdbQuery;
 import tech.ydb.table.query.Params;
+import tech.ydb.table.settings.ReadTableSettings;
 
 public class YdbStatementImpl extends YdbStatementBase {
     private static final Logger LOGGER = Logger.getLogger(YdbStatementImpl.class.getName());
@@ -47,6 +51,33 @@ public class YdbStatementImpl extends YdbStatementBase {
         return getResultSet();
     }
 
+    @Override
+    public YdbResultSet executeReadTable(String tableName, ReadTableSettings.Builder settings) throws SQLException {
+        cleanState();
+        clearBatch();
+
+        String tablePath = getConnection().getCtx().resolveTablePath(tableName);
+        YdbQuery query = YdbQuery.readTable(tablePath);
+        YdbQueryResult results = executeReadTable(query, tablePath, settings);
+        if (!updateState(results)) {
+            throw new SQLException(YdbConst.QUERY_EXPECT_RESULT_SET);
+        }
+        return getResultSet();
+    }
+
+    @Override
+    public YdbResultSet executeKeysetRead(String tableName, int pageSize) throws SQLException {
+        cleanState();
+        clearBatch();
+
+        YdbQuery query = YdbQuery.readTable(getConnection().getCtx().resolveTablePath(tableName));
+        YdbQueryResult results = executeKeysetRead(query, tableName, pageSize);
+        if (!updateState(results)) {
+            throw new SQLException(YdbConst.QUERY_EXPECT_RESULT_SET);
+        }
+        return getResultSet();
+    }
+
     @Override
     public YdbResultSet executeExplainQuery(String sql) throws SQLException {
         cleanState();
@@ -68,6 +99,17 @@ public class YdbStatementImpl extends YdbStatementBase {
         return getResultSet();
     }
 
+    @Override
+    public <T> Publisher<T> executeQueryPublisher(String sql, YdbResultSet.RowMapper<T> mapper) throws SQLException {
+        cleanState();
+
+        YdbQuery query = getConnection().getCtx().createYdbQuery(sql);
+        if (query.getType() != QueryType.DATA_QUERY) {
+            throw new SQLException(YdbConst.PUBLISHER_EXPECTS_ONE_RESULT_SET);
+        }
+        return executeDataQueryPublisher(query, query.getPreparedYql(), Params.empty(), mapper);
+    }
+
     @Override
     public int executeUpdate(String sql) throws SQLException {
         if (execute(sql)) {
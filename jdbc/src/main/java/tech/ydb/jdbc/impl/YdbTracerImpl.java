@@ -1,11 +1,14 @@
 package tech.ydb.jdbc.impl;
 
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -35,11 +38,11 @@ public class YdbTracerImpl implements YdbTracer {
     private class Tx {
         private final Instant startDate = Instant.now();
         private final long startedAt = System.currentTimeMillis();
-        private final List<Record> records = new ArrayList<>();
+        private final Queue<Record> records = new ConcurrentLinkedQueue<>();
 
-        private String id = null;
-        private String label = null;
-        private boolean isMarked = false;
+        private volatile String id = null;
+        private volatile String label = null;
+        private volatile boolean isMarked = false;
 
         private void log(Level level) {
             if (!LOGGER.isLoggable(level) || records.isEmpty()) {
@@ -79,13 +82,50 @@ public class YdbTracerImpl implements YdbTracer {
         }
     }
 
-    private Tx tx = null;
+    private final AtomicReference<Tx> tx = new AtomicReference<>();
+    private final AtomicBoolean isOwned = new AtomicBoolean(false);
 
     public static <T extends YdbTracer> T use(T tracer) {
         LOCAL.set(tracer);
         return tracer;
     }
 
+    /**
+     * Returns tracer for the new transaction of the current thread. The default tracer is owned by one transaction
+     * until it is closed, so if the tracer of thread still belongs to the transaction continued by another thread,
+     * the new tracer is created. The tracer installed by {@link #use(YdbTracer)} is returned as is.
+     *
+     * @return tracer of the new transaction
+     */
+    public static YdbTracer forTransaction() {
+        YdbTracer current = get();
+        if (!(current instanceof YdbTracerImpl) || ((YdbTracerImpl) current).isOwned.compareAndSet(false, true)) {
+            return current;
+        }
+
+        YdbTracerImpl next = new YdbTracerImpl();
+        next.isOwned.set(true);
+        LOCAL.set(next);
+        return next;
+    }
+
+    /**
+     * Makes the tracer of transaction current for the thread which continues the transaction, so
+     * {@link YdbTracer#current()} of this thread returns the tracer of the transaction. The tracer installed by
+     * {@link #use(YdbTracer)} is not replaced.
+     *
+     * @param tracer tracer of transaction
+     */
+    public static void bind(YdbTracer tracer) {
+        if (!(tracer instanceof YdbTracerImpl)) {
+            return;
+        }
+        YdbTracer current = LOCAL.get();
+        if (current != tracer && (current == null || current instanceof YdbTracerImpl)) {
+            LOCAL.set(tracer);
+        }
+    }
+
     public static YdbTracer get() {
         YdbTracer tracer = LOCAL.get();
         if (tracer == null) {
@@ -105,10 +145,12 @@ public class YdbTracerImpl implements YdbTracer {
     }
 
     private Tx ensureOpen() {
-        if (tx == null) {
-            tx = new Tx();
+        Tx local = tx.get();
+        while (local == null) {
+            Tx created = new Tx();
+            local = tx.compareAndSet(null, created) ? created : tx.get();
         }
-        return tx;
+        return local;
     }
 
     @Override
@@ -123,12 +165,14 @@ public class YdbTracerImpl implements YdbTracer {
 
     @Override
     public Instant getTxStartedAt() {
-        return tx == null ? null : tx.startDate;
+        Tx local = tx.get();
+        return local == null ? null : local.startDate;
     }
 
     @Override
     public List<String> getTxRequests() {
-        return tx == null ? Collections.emptyList() : tx.records.stream()
+        Tx local = tx.get();
+        return local == null ? Collections.emptyList() : local.records.stream()
                 .filter(r -> r.isRequest).map(r -> r.message)
                 .collect(Collectors.toList());
     }
@@ -154,10 +198,11 @@ public class YdbTracerImpl implements YdbTracer {
 
     @Override
     public void close() {
-        if (tx != null) {
-            tx.log(tx.isMarked ? Level.INFO : Level.FINE);
-            tx = null;
+        Tx local = tx.getAndSet(null);
+        if (local != null) {
+            local.log(local.isMarked ? Level.INFO : Level.FINE);
         }
+        isOwned.set(false);
     }
 
 
@@ -16,5 +16,8 @@ public enum QueryType {
     EXPLAIN_QUERY,
 
     // BULK
-    BULK_QUERY;
+    BULK_QUERY,
+
+    // READ TABLE
+    READ_TABLE;
 }
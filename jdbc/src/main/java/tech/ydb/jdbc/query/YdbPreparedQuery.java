@@ -1,6 +1,7 @@
 package tech.ydb.jdbc.query;
 
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.List;
 
 import javax.annotation.Nullable;
@@ -21,6 +22,28 @@ public interface YdbPreparedQuery {
     void setParam(int index, @Nullable Object obj, int sqlType) throws SQLException;
     void setParam(String name, @Nullable Object obj, int sqlType) throws SQLException;
 
+    // Primitive setters, the implementations can override them to bind values without boxing
+
+    default void setBoolean(int index, boolean value) throws SQLException {
+        setParam(index, value, Types.BOOLEAN);
+    }
+
+    default void setInt(int index, int value) throws SQLException {
+        setParam(index, value, Types.INTEGER);
+    }
+
+    default void setLong(int index, long value) throws SQLException {
+        setParam(index, value, Types.BIGINT);
+    }
+
+    default void setFloat(int index, float value) throws SQLException {
+        setParam(index, value, Types.FLOAT);
+    }
+
+    default void setDouble(int index, double value) throws SQLException {
+        setParam(index, value, Types.DOUBLE);
+    }
+
     String getNameByIndex(int index) throws SQLException;
 
     void addBatch() throws SQLException;
@@ -71,6 +71,19 @@ public class YdbQuery {
         return statements;
     }
 
+    /**
+     * Creates query for streaming read of table by {@link QueryType#READ_TABLE} RPC
+     *
+     * @param tablePath full path of table
+     * @return query with one statement
+     */
+    public static YdbQuery readTable(String tablePath) {
+        QueryStatement statement = new QueryStatement(QueryType.READ_TABLE, null, QueryCmd.SELECT);
+        YqlBatcher batch = new YqlBatcher();
+        QueryKey key = new QueryKey("READ TABLE `" + tablePath + "`");
+        return new YdbQuery(key, key.getQuery(), Collections.singletonList(statement), batch, QueryType.READ_TABLE);
+    }
+
     public static YdbQuery parseQuery(QueryKey query, YdbQueryProperties opts, YdbTypes types) throws SQLException {
         if (QueryStat.isPrint(query.getQuery()) || QueryStat.isReset(query.getQuery())) {
             QueryStatement fake = new QueryStatement(QueryType.DATA_QUERY, null, QueryCmd.SELECT);
@@ -0,0 +1,208 @@
+package tech.ydb.jdbc.query;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Lightweight lexical analyzer of table names used by YQL queries. It doesn't validate the query, it only reads the
+ * identifiers outside of comments and string literals.
+ */
+public final class YqlTables {
+    private YqlTables() { }
+
+    /**
+     * Returns names of tables which are created, altered, renamed or dropped by scheme query
+     *
+     * @param yql text of scheme query
+     * @return set of table names as they are written in the query
+     */
+    public static Set<String> parseChangedTables(String yql) {
+        Set<String> tables = new HashSet<>();
+        List<Token> statement = new ArrayList<>();
+        for (Token token: tokenize(yql)) {
+            if (token.isSemicolon()) {
+                readChangedTables(statement, tables);
+                statement.clear();
+            } else {
+                statement.add(token);
+            }
+        }
+        readChangedTables(statement, tables);
+        return tables;
+    }
+
+    /**
+     * Returns all identifiers of query, the table names are among them
+     *
+     * @param yql text of query
+     * @return set of identifiers
+     */
+    public static Set<String> parseIdentifiers(String yql) {
+        Set<String> identifiers = new HashSet<>();
+        for (Token token: tokenize(yql)) {
+            if (token.isIdentifier()) {
+                identifiers.add(token.text);
+            }
+        }
+        return identifiers;
+    }
+
+    /**
+     * Returns value of {@code PRAGMA TablePathPrefix} declared by query
+     *
+     * @param yql text of query
+     * @return table path prefix or null if the query doesn't declare it
+     */
+    public static String parseTablePathPrefix(String yql) {
+        List<Token> tokens = tokenize(yql);
+        for (int idx = 0; idx + 2 < tokens.size(); idx++) {
+            if (tokens.get(idx).isKeyword() && "PRAGMA".equals(tokens.get(idx).upper())
+                    && tokens.get(idx + 1).isKeyword() && "TABLEPATHPREFIX".equals(tokens.get(idx + 1).upper())
+                    && tokens.get(idx + 2).isLiteral()) {
+                return tokens.get(idx + 2).text;
+            }
+        }
+        return null;
+    }
+
+    private static void readChangedTables(List<Token> st, Set<String> tables) {
+        if (st.isEmpty() || !st.get(0).isKeyword()) {
+            return;
+        }
+
+        String cmd = st.get(0).upper();
+        if (!"CREATE".equals(cmd) && !"ALTER".equals(cmd) && !"DROP".equals(cmd) && !"TRUNCATE".equals(cmd)) {
+            return;
+        }
+
+        // CREATE [OR REPLACE] [TEMP | TEMPORARY | EXTERNAL | COLUMN] TABLE [IF [NOT] EXISTS] name
+        int idx = 1;
+        while (idx < st.size() && idx < 5 && st.get(idx).isKeyword() && !"TABLE".equals(st.get(idx).upper())) {
+            idx++;
+        }
+        if (idx >= st.size() || !st.get(idx).isKeyword() || !"TABLE".equals(st.get(idx).upper())) {
+            return;
+        }
+
+        idx++;
+        while (idx < st.size() && st.get(idx).isKeyword() && isIfExists(st.get(idx).upper())) {
+            idx++;
+        }
+        if (idx >= st.size()) {
+            return;
+        }
+        tables.add(st.get(idx).text);
+
+        // ALTER TABLE name RENAME TO new_name
+        for (idx = idx + 1; idx + 2 < st.size(); idx++) {
+            if (st.get(idx).isKeyword() && "RENAME".equals(st.get(idx).upper())
+                    && st.get(idx + 1).isKeyword() && "TO".equals(st.get(idx + 1).upper())) {
+                tables.add(st.get(idx + 2).text);
+            }
+        }
+    }
+
+    private static boolean isIfExists(String keyword) {
+        return "IF".equals(keyword) || "NOT".equals(keyword) || "EXISTS".equals(keyword);
+    }
+
+    private static List<Token> tokenize(String yql) {
+        List<Token> tokens = new ArrayList<>();
+        char[] chars = yql.toCharArray();
+
+        int idx = 0;
+        while (idx < chars.length) {
+            char ch = chars[idx];
+            if (ch == ';') {
+                tokens.add(new Token(";", TokenType.SEMICOLON));
+                idx++;
+            } else if (ch == '-' && idx + 1 < chars.length && chars[idx + 1] == '-') {
+                idx = skipUntil(chars, idx + 2, '\n');
+            } else if (ch == '/' && idx + 1 < chars.length && chars[idx + 1] == '*') {
+                idx = skipBlockComment(chars, idx + 2);
+            } else if (ch == '\'' || ch == '"') {
+                int end = skipQuoted(chars, idx + 1, ch);
+                tokens.add(new Token(new String(chars, idx + 1, Math.max(0, end - idx - 2)), TokenType.LITERAL));
+                idx = end;
+            } else if (ch == '`') {
+                int end = skipQuoted(chars, idx + 1, '`');
+                tokens.add(new Token(new String(chars, idx + 1, Math.max(0, end - idx - 2)), TokenType.QUOTED));
+                idx = end;
+            } else if (Character.isJavaIdentifierStart(ch)) {
+                int start = idx;
+                while (idx < chars.length && Character.isJavaIdentifierPart(chars[idx])) {
+                    idx++;
+                }
+                tokens.add(new Token(new String(chars, start, idx - start), TokenType.WORD));
+            } else {
+                idx++;
+            }
+        }
+
+        return tokens;
+    }
+
+    private static int skipUntil(char[] chars, int offset, char last) {
+        while (offset < chars.length && chars[offset] != last) {
+            offset++;
+        }
+        return offset + 1;
+    }
+
+    private static int skipBlockComment(char[] chars, int offset) {
+        while (offset + 1 < chars.length && (chars[offset] != '*' || chars[offset + 1] != '/')) {
+            offset++;
+        }
+        return offset + 2;
+    }
+
+    private static int skipQuoted(char[] chars, int offset, char quote) {
+        while (offset < chars.length && chars[offset] != quote) {
+            if (chars[offset] == '\\') {
+                offset++;
+            }
+            offset++;
+        }
+        return offset + 1;
+    }
+
+    private enum TokenType {
+        WORD,
+        QUOTED,
+        LITERAL,
+        SEMICOLON
+    }
+
+    private static class Token {
+        private final String text;
+        private final TokenType type;
+
+        Token(String text, TokenType type) {
+            this.text = text;
+            this.type = type;
+        }
+
+        boolean isSemicolon() {
+            return type == TokenType.SEMICOLON;
+        }
+
+        boolean isIdentifier() {
+            return type == TokenType.WORD || type == TokenType.QUOTED;
+        }
+
+        boolean isLiteral() {
+            return type == TokenType.LITERAL;
+        }
+
+        boolean isKeyword() {
+            return type == TokenType.WORD;
+        }
+
+        String upper() {
+            return text.toUpperCase(Locale.ROOT);
+        }
+    }
+}
@@ -127,16 +127,50 @@ public class BatchedQuery implements YdbPreparedQuery {
         return Collections.singletonList(Params.of(batchParamName, list));
     }
 
-    @Override
-    public void setParam(int index, Object obj, int sqlType) throws SQLException {
+    private ParamDescription getParam(int index) throws SQLException {
         if (index <= 0 || index > params.length) {
             throw new SQLException(YdbConst.PARAMETER_NUMBER_NOT_FOUND + index);
         }
-        ParamDescription desc = params[index - 1];
+        return params[index - 1];
+    }
+
+    @Override
+    public void setParam(int index, Object obj, int sqlType) throws SQLException {
+        ParamDescription desc = getParam(index);
         Value<?> value = ValueFactory.readValue(desc.displayName(), obj, desc.type());
         currentValues.put(desc.name(), value);
     }
 
+    @Override
+    public void setBoolean(int index, boolean value) throws SQLException {
+        ParamDescription desc = getParam(index);
+        currentValues.put(desc.name(), ValueFactory.readBoolean(value, desc.type()));
+    }
+
+    @Override
+    public void setInt(int index, int value) throws SQLException {
+        ParamDescription desc = getParam(index);
+        currentValues.put(desc.name(), ValueFactory.readInt(value, desc.type()));
+    }
+
+    @Override
+    public void setLong(int index, long value) throws SQLException {
+        ParamDescription desc = getParam(index);
+        currentValues.put(desc.name(), ValueFactory.readLong(value, desc.type()));
+    }
+
+    @Override
+    public void setFloat(int index, float value) throws SQLException {
+        ParamDescription desc = getParam(index);
+        currentValues.put(desc.name(), ValueFactory.readFloat(value, desc.type()));
+    }
+
+    @Override
+    public void setDouble(int index, double value) throws SQLException {
+        ParamDescription desc = getParam(index);
+        currentValues.put(desc.name(), ValueFactory.readDouble(value, desc.type()));
+    }
+
     @Override
     public void setParam(String name, Object obj, int sqlType) throws SQLException {
         if (!paramsByName.containsKey(name)) {
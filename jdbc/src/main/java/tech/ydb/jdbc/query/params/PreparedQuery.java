@@ -30,6 +30,7 @@ public class PreparedQuery implements YdbPreparedQuery {
     private final String yql;
     private final Map<String, ParamDescription> params;
     private final String[] paramNames;
+    private final ParamDescription[] paramsByIndex;
 
     private final Map<String, Value<?>> paramValues = new HashMap<>();
     private final List<Params> batchList = new ArrayList<>();
@@ -38,6 +39,7 @@ public class PreparedQuery implements YdbPreparedQuery {
         yql = query.getPreparedYql();
         params = new HashMap<>();
         paramNames = new String[paramTypes.size()];
+        paramsByIndex = new ParamDescription[paramTypes.size()];
 
         // Firstly put all indexed params (p1, p2, ...,  pN) in correct places of paramNames
         Set<String> indexedNames = new HashSet<>();
@@ -49,6 +51,7 @@ public class PreparedQuery implements YdbPreparedQuery {
 
                 params.put(indexedName, paramDesc);
                 paramNames[idx] = indexedName;
+                paramsByIndex[idx] = paramDesc;
                 indexedNames.add(indexedName);
             }
         }
@@ -70,6 +73,7 @@ public class PreparedQuery implements YdbPreparedQuery {
 
             params.put(param, paramDesc);
             paramNames[idx] = param;
+            paramsByIndex[idx] = paramDesc;
         }
     }
 
@@ -83,14 +87,47 @@ public class PreparedQuery implements YdbPreparedQuery {
         return yql;
     }
 
-    @Override
-    public void setParam(int index, Object obj, int sqlType) throws SQLException {
-        if (index <= 0 || index > paramNames.length) {
+    private ParamDescription getParam(int index) throws SQLException {
+        if (index <= 0 || index > paramsByIndex.length) {
             throw new SQLException(YdbConst.PARAMETER_NUMBER_NOT_FOUND + index);
         }
-        String varName = paramNames[index - 1];
-        ParamDescription desc = params.get(varName);
-        paramValues.put(varName, ValueFactory.readValue(desc.name(), obj, desc.type()));
+        return paramsByIndex[index - 1];
+    }
+
+    @Override
+    public void setParam(int index, Object obj, int sqlType) throws SQLException {
+        ParamDescription desc = getParam(index);
+        paramValues.put(desc.name(), ValueFactory.readValue(desc.name(), obj, desc.type()));
+    }
+
+    @Override
+    public void setBoolean(int index, boolean value) throws SQLException {
+        ParamDescription desc = getParam(index);
+        paramValues.put(desc.name(), ValueFactory.readBoolean(value, desc.type()));
+    }
+
+    @Override
+    public void setInt(int index, int value) throws SQLException {
+        ParamDescription desc = getParam(index);
+        paramValues.put(desc.name(), ValueFactory.readInt(value, desc.type()));
+    }
+
+    @Override
+    public void setLong(int index, long value) throws SQLException {
+        ParamDescription desc = getParam(index);
+        paramValues.put(desc.name(), ValueFactory.readLong(value, desc.type()));
+    }
+
+    @Override
+    public void setFloat(int index, float value) throws SQLException {
+        ParamDescription desc = getParam(index);
+        paramValues.put(desc.name(), ValueFactory.readFloat(value, desc.type()));
+    }
+
+    @Override
+    public void setDouble(int index, double value) throws SQLException {
+        ParamDescription desc = getParam(index);
+        paramValues.put(desc.name(), ValueFactory.readDouble(value, desc.type()));
     }
 
     @Override
@@ -1,5 +1,6 @@
 package tech.ydb.jdbc.query.params;
 
+import java.sql.SQLDataException;
 import java.sql.SQLException;
 
 import tech.ydb.jdbc.YdbConst;
@@ -58,6 +59,51 @@ public class ValueFactory {
         }
     }
 
+    public static Value<?> readBoolean(boolean value, TypeDescription type) throws SQLException {
+        try {
+            return withOptional(type, type.setters().fromBoolean(value));
+        } catch (RuntimeException ex) {
+            throw new SQLDataException(ex.getMessage(), ex);
+        }
+    }
+
+    public static Value<?> readInt(int value, TypeDescription type) throws SQLException {
+        try {
+            return withOptional(type, type.setters().fromInt(value));
+        } catch (RuntimeException ex) {
+            throw new SQLDataException(ex.getMessage(), ex);
+        }
+    }
+
+    public static Value<?> readLong(long value, TypeDescription type) throws SQLException {
+        try {
+            return withOptional(type, type.setters().fromLong(value));
+        } catch (RuntimeException ex) {
+            throw new SQLDataException(ex.getMessage(), ex);
+        }
+    }
+
+    public static Value<?> readFloat(float value, TypeDescription type) throws SQLException {
+        try {
+            return withOptional(type, type.setters().fromFloat(value));
+        } catch (RuntimeException ex) {
+            throw new SQLDataException(ex.getMessage(), ex);
+        }
+    }
+
+    public static Value<?> readDouble(double value, TypeDescription type) throws SQLException {
+        try {
+            return withOptional(type, type.setters().fromDouble(value));
+        } catch (RuntimeException ex) {
+            throw new SQLDataException(ex.getMessage(), ex);
+        }
+    }
+
+    private static Value<?> withOptional(TypeDescription type, Value<?> value) {
+        // the value of optional parameter must have optional type, otherwise the server rejects it
+        return type.isOptional() ? value.makeOptional() : value;
+    }
+
     private static void checkType(String name, Type type, Type objectType) throws SQLException {
         if (!type.equals(objectType)) {
             String msg = String.format(YdbConst.INVALID_PARAMETER_TYPE, name, objectType, type);
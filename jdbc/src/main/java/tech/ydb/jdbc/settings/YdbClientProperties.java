@@ -11,6 +11,7 @@ import tech.ydb.table.TableClient;
 public class YdbClientProperties {
     private static final int SESSION_POOL_DEFAULT_MIN_SIZE = 0;
     private static final int SESSION_POOL_DEFAULT_MAX_SIZE = 50;
+    private static final int SESSION_POOL_ADAPTIVE_MAX_SIZE = 1000;
 
     static final YdbProperty<Boolean> KEEP_QUERY_TEXT = YdbProperty.bool(
             "keepQueryText", "Keep Query text"
@@ -32,11 +33,22 @@ public class YdbClientProperties {
             "sessionPoolSizeMax", "Session pool max size (with with sessionPoolSizeMin)"
     );
 
+    static final YdbProperty<Boolean> SESSION_POOL_ADAPTIVE = YdbProperty.bool(
+            "sessionPoolAdaptive", "Resize session pool by acquire wait time and utilization "
+                    + "(within sessionPoolSizeMin and sessionPoolSizeMax)", false
+    );
+
+    static final YdbProperty<Duration> SESSION_POOL_ADAPTIVE_PERIOD = YdbProperty.duration(
+            "sessionPoolAdaptivePeriod", "Period of adaptive session pool resizing", "1s"
+    );
+
     private final YdbValue<Boolean> keepQueryText;
     private final YdbValue<Duration> sessionKeepAliveTime;
     private final YdbValue<Duration> sessionMaxIdleTime;
     private final YdbValue<Integer> sessionPoolMinSize;
     private final YdbValue<Integer> sessionPoolMaxSize;
+    private final YdbValue<Boolean> sessionPoolAdaptive;
+    private final YdbValue<Duration> sessionPoolAdaptivePeriod;
 
     public YdbClientProperties(YdbConfig config) throws SQLException {
         Properties props = config.getProperties();
@@ -46,6 +58,27 @@ public class YdbClientProperties {
         this.sessionMaxIdleTime = SESSION_MAX_IDLE_TIME.readValue(props);
         this.sessionPoolMinSize = SESSION_POOL_SIZE_MIN.readValue(props);
         this.sessionPoolMaxSize = SESSION_POOL_SIZE_MAX.readValue(props);
+        this.sessionPoolAdaptive = SESSION_POOL_ADAPTIVE.readValue(props);
+        this.sessionPoolAdaptivePeriod = SESSION_POOL_ADAPTIVE_PERIOD.readValue(props);
+    }
+
+    public boolean isSessionPoolAdaptive() {
+        return sessionPoolAdaptive.getValue();
+    }
+
+    public Duration getSessionPoolAdaptivePeriod() {
+        return sessionPoolAdaptivePeriod.getValue();
+    }
+
+    public int getSessionPoolMinSize() {
+        return sessionPoolMinSize.hasValue() ? Math.max(0, sessionPoolMinSize.getValue()) : 0;
+    }
+
+    public int getSessionPoolMaxSize() {
+        if (sessionPoolMaxSize.hasValue()) {
+            return Math.max(getSessionPoolMinSize() + 1, sessionPoolMaxSize.getValue());
+        }
+        return isSessionPoolAdaptive() ? SESSION_POOL_ADAPTIVE_MAX_SIZE : SESSION_POOL_DEFAULT_MAX_SIZE;
     }
 
     public boolean applyToTableClient(TableClient.Builder table, QueryClient.Builder query) {
@@ -62,6 +95,15 @@ public class YdbClientProperties {
             query.sessionMaxIdleTime(sessionMaxIdleTime.getValue());
         }
 
+        if (isSessionPoolAdaptive()) {
+            // pool starts with default size and is resized by SessionPoolController
+            int minSize = Math.max(1, getSessionPoolMinSize());
+            int initSize = Math.max(minSize, Math.min(SESSION_POOL_DEFAULT_MAX_SIZE, getSessionPoolMaxSize()));
+            table.sessionPoolSize(minSize, initSize);
+            query.sessionPoolMaxSize(initSize).sessionPoolMinSize(minSize);
+            return false;
+        }
+
         if (!sessionPoolMinSize.hasValue() && !sessionPoolMaxSize.hasValue()) {
             return true;
         }
@@ -6,6 +6,7 @@ import java.net.URISyntaxException;
 import java.net.URLEncoder;
 import java.sql.DriverPropertyInfo;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -35,6 +36,11 @@ public class YdbConfig {
             "Specifies the maximum number of entries in per-transport cache of prepared statements. A value of "
                     + "{@code 0} disables the cache.", 256
     );
+    static final YdbProperty<Duration> PREPARED_STATEMENT_CACHE_TTL = YdbProperty.duration(
+            "preparedStatementCacheTtl",
+            "Max lifetime of cached table descriptions and types of prepared queries. A value of {@code 0} means "
+                    + "that entries are invalidated only by scheme queries executed by driver", "0s"
+    );
     static final YdbProperty<Boolean> USE_QUERY_SERVICE = YdbProperty.bool("useQueryService",
             "Use QueryService instead of TableService", true
     );
@@ -65,6 +71,7 @@ public class YdbConfig {
     private final Properties properties;
     private final boolean isCacheConnectionsInDriver;
     private final int preparedStatementsCacheSize;
+    private final Duration preparedStatementsCacheTtl;
 
     private final boolean useQueryService;
     private final boolean useDiscovery;
@@ -85,6 +92,7 @@ public class YdbConfig {
         this.properties = props;
         this.isCacheConnectionsInDriver = CACHE_CONNECTIONS_IN_DRIVER.readValue(props).getValue();
         this.preparedStatementsCacheSize = Math.max(0, PREPARED_STATEMENT_CACHE_SIZE.readValue(props).getValue());
+        this.preparedStatementsCacheTtl = PREPARED_STATEMENT_CACHE_TTL.readValue(props).getValue();
 
         this.useQueryService = USE_QUERY_SERVICE.readValue(props).getValue();
         this.useDiscovery = USE_DISCOVERY.readValue(props).getValue();
@@ -125,6 +133,10 @@ public class YdbConfig {
         return this.preparedStatementsCacheSize;
     }
 
+    public Duration getPreparedStatementsCacheTtl() {
+        return this.preparedStatementsCacheTtl;
+    }
+
     public boolean isUseQueryService() {
         return this.useQueryService;
     }
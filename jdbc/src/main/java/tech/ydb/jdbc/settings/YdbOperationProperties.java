@@ -62,6 +62,11 @@ public class YdbOperationProperties {
             "Use stream implementation of ResultSet", true
     );
 
+    static final YdbProperty<Boolean> USE_LAZY_RESULT_SETS = YdbProperty.bool("useLazyResultSets",
+            "Return stream result set as soon as the first part is received. Scrollable result sets keep the read "
+                    + "parts to support scrolling backwards, forward-only result sets drop them", true
+    );
+
     static final YdbProperty<Boolean> FORCE_NEW_DATETYPES = YdbProperty.bool("forceSignedDatetimes",
             "Use new data types Date32/Datetime64/Timestamp64 by default", false
     );
@@ -83,6 +88,41 @@ public class YdbOperationProperties {
     static final YdbProperty<Duration> QUERY_REWRITE_TABLE_TTL = YdbProperty.duration("queryRewriteTtl",
             "Name of working table to hot replacemnt of queies", "300s");
 
+    static final YdbProperty<Boolean> USE_HEDGED_READS = YdbProperty.bool("useHedgedReads",
+            "Send duplicate of slow read-only autocommit query to another session", false);
+
+    static final YdbProperty<Integer> HEDGED_READS_PERCENTILE = YdbProperty.integer("hedgedReadsPercentile",
+            "Percentile of query latency after which the duplicate request is sent", 95);
+
+    static final YdbProperty<Integer> HEDGED_READS_BUDGET = YdbProperty.integer("hedgedReadsBudget",
+            "Max percent of read-only queries which can be duplicated", 5);
+
+    static final YdbProperty<Integer> RETRY_MAX_ATTEMPTS = YdbProperty.integer("retryMaxAttempts",
+            "Max count of retries of statement executed outside of transaction, 0 disables retries", 0);
+
+    static final YdbProperty<Duration> RETRY_FAST_BACKOFF = YdbProperty.duration("retryFastBackoff",
+            "Base backoff of retries of ABORTED, UNAVAILABLE and SESSION_BUSY statuses", "0.005s");
+
+    static final YdbProperty<Duration> RETRY_SLOW_BACKOFF = YdbProperty.duration("retrySlowBackoff",
+            "Base backoff of retries of OVERLOADED and CLIENT_RESOURCE_EXHAUSTED statuses", "0.05s");
+
+    static final YdbProperty<Integer> RETRY_BUDGET = YdbProperty.integer("retryBudget",
+            "Max percent of successful statements which can be spent on retries", 10);
+
+    static final YdbProperty<Duration> SCHEMA_CACHE_TTL = YdbProperty.duration("schemaCacheTtl",
+            "Lifetime of the tables list cached for DatabaseMetaData, 0 disables caching", "0s");
+
+    static final YdbProperty<Integer> SCHEMA_CRAWLER_PARALLELISM = YdbProperty.integer("schemaCrawlerParallelism",
+            "Max count of concurrent listDirectory and describeTable requests of DatabaseMetaData", 16);
+
+    static final YdbProperty<Integer> RESULT_SET_MEMORY_LIMIT = YdbProperty.integer("resultSetMemoryLimit",
+            "Max size in megabytes of scrollable result set parts kept in heap, the rest parts are spilled to "
+                    + "temporary file. 0 means that all parts are kept in heap", 0);
+
+    static final YdbProperty<Integer> STRING_DICTIONARY_SIZE = YdbProperty.integer("stringDictionarySize",
+            "Max count of distinct short values of each string column which are deduplicated in result sets, "
+                    + "0 disables deduplication", 0);
+
     private final YdbValue<Duration> joinDuration;
     private final YdbValue<Duration> queryTimeout;
     private final YdbValue<Duration> scanQueryTimeout;
@@ -104,6 +144,18 @@ public class YdbOperationProperties {
     private final YdbValue<String> txValidationTable;
     private final YdbValue<String> queryRewriteTable;
     private final YdbValue<Duration> queryRewriteTTL;
+    private final YdbValue<Boolean> useHedgedReads;
+    private final YdbValue<Integer> hedgedReadsPercentile;
+    private final YdbValue<Integer> hedgedReadsBudget;
+    private final YdbValue<Integer> retryMaxAttempts;
+    private final YdbValue<Duration> retryFastBackoff;
+    private final YdbValue<Duration> retrySlowBackoff;
+    private final YdbValue<Integer> retryBudget;
+    private final YdbValue<Duration> schemaCacheTtl;
+    private final YdbValue<Integer> schemaCrawlerParallelism;
+    private final YdbValue<Integer> resultSetMemoryLimit;
+    private final YdbValue<Integer> stringDictionarySize;
+    private final YdbValue<Boolean> useLazyResultSets;
 
     public YdbOperationProperties(YdbConfig config) throws SQLException {
         Properties props = config.getProperties();
@@ -129,6 +181,18 @@ public class YdbOperationProperties {
         this.txValidationTable = TX_VALIDATION_TABLE.readValue(props);
         this.queryRewriteTable = QUERY_REWRITE_TABLE.readValue(props);
         this.queryRewriteTTL = QUERY_REWRITE_TABLE_TTL.readValue(props);
+        this.useHedgedReads = USE_HEDGED_READS.readValue(props);
+        this.hedgedReadsPercentile = HEDGED_READS_PERCENTILE.readValue(props);
+        this.hedgedReadsBudget = HEDGED_READS_BUDGET.readValue(props);
+        this.retryMaxAttempts = RETRY_MAX_ATTEMPTS.readValue(props);
+        this.retryFastBackoff = RETRY_FAST_BACKOFF.readValue(props);
+        this.retrySlowBackoff = RETRY_SLOW_BACKOFF.readValue(props);
+        this.retryBudget = RETRY_BUDGET.readValue(props);
+        this.schemaCacheTtl = SCHEMA_CACHE_TTL.readValue(props);
+        this.schemaCrawlerParallelism = SCHEMA_CRAWLER_PARALLELISM.readValue(props);
+        this.resultSetMemoryLimit = RESULT_SET_MEMORY_LIMIT.readValue(props);
+        this.stringDictionarySize = STRING_DICTIONARY_SIZE.readValue(props);
+        this.useLazyResultSets = USE_LAZY_RESULT_SETS.readValue(props);
     }
 
     public Duration getJoinDuration() {
@@ -202,4 +266,52 @@ public class YdbOperationProperties {
     public Duration getQueryRewriteTtl() {
         return queryRewriteTTL.getValue();
     }
+
+    public boolean isUseHedgedReads() {
+        return useHedgedReads.getValue();
+    }
+
+    public int getHedgedReadsPercentile() {
+        return hedgedReadsPercentile.getValue();
+    }
+
+    public int getHedgedReadsBudget() {
+        return hedgedReadsBudget.getValue();
+    }
+
+    public int getRetryMaxAttempts() {
+        return retryMaxAttempts.getValue();
+    }
+
+    public Duration getRetryFastBackoff() {
+        return retryFastBackoff.getValue();
+    }
+
+    public Duration getRetrySlowBackoff() {
+        return retrySlowBackoff.getValue();
+    }
+
+    public int getRetryBudget() {
+        return retryBudget.getValue();
+    }
+
+    public Duration getSchemaCacheTtl() {
+        return schemaCacheTtl.getValue();
+    }
+
+    public int getSchemaCrawlerParallelism() {
+        return schemaCrawlerParallelism.getValue();
+    }
+
+    public long getResultSetMemoryLimit() {
+        return resultSetMemoryLimit.getValue() * 1024L * 1024L;
+    }
+
+    public int getStringDictionarySize() {
+        return stringDictionarySize.getValue();
+    }
+
+    public boolean getUseLazyResultSets() {
+        return useLazyResultSets.getValue();
+    }
 }
@@ -22,7 +22,7 @@ public class WithTraceIdSpi implements YdbQueryExtentionService {
     public void onNewTransaction() {
         Tx tx = LOCAL_TX.get();
         if (tx != null && tx.queryCount > 0) {
-            LOCAL_TX.set(null);
+            LOCAL_TX.remove();
         }
     }
 
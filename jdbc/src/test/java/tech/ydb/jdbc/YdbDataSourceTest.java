@@ -0,0 +1,113 @@
+package tech.ydb.jdbc;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.PooledConnection;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import tech.ydb.jdbc.impl.helper.ExceptionAssert;
+import tech.ydb.jdbc.impl.helper.JdbcUrlHelper;
+import tech.ydb.test.junit5.YdbHelperExtension;
+
+public class YdbDataSourceTest {
+    @RegisterExtension
+    private static final YdbHelperExtension ydb = new YdbHelperExtension();
+
+    private static final JdbcUrlHelper jdbcURL = new JdbcUrlHelper(ydb);
+
+    private static void assertSelect(Connection conn) throws SQLException {
+        try (Statement st = conn.createStatement()) {
+            try (ResultSet rs = st.executeQuery("SELECT 1 + 2")) {
+                Assertions.assertTrue(rs.next());
+                Assertions.assertEquals(3, rs.getInt(1));
+            }
+        }
+    }
+
+    @Test
+    public void reuseConnectionsTest() throws SQLException {
+        try (YdbDataSource ds = new YdbDataSource(jdbcURL.build())) {
+            Assertions.assertEquals(0, ds.getIdleConnectionsCount());
+
+            YdbConnection conn1 = ds.getConnection();
+            YdbConnection conn2 = ds.getConnection();
+            Assertions.assertEquals(2, conn1.getCtx().getConnectionsCount());
+            assertSelect(conn1);
+            assertSelect(conn2);
+
+            conn1.close();
+            conn2.close();
+            Assertions.assertEquals(2, ds.getIdleConnectionsCount());
+            Assertions.assertEquals(0, conn1.getCtx().getConnectionsCount());
+
+            // closed connection cannot be used anymore
+            Assertions.assertTrue(conn1.isClosed());
+            ExceptionAssert.sqlException(YdbConst.CLOSED_CONNECTION, conn1::getAutoCommit);
+
+            try (YdbConnection conn3 = ds.getConnection()) {
+                Assertions.assertEquals(1, ds.getIdleConnectionsCount());
+                assertSelect(conn3);
+            }
+            Assertions.assertEquals(2, ds.getIdleConnectionsCount());
+        }
+    }
+
+    @Test
+    public void resetStateTest() throws SQLException {
+        try (YdbDataSource ds = new YdbDataSource(jdbcURL.build())) {
+            ds.setMaxIdleConnections(1);
+
+            try (Connection conn = ds.getConnection()) {
+                Assertions.assertTrue(conn.getAutoCommit());
+                Assertions.assertFalse(conn.isReadOnly());
+
+                conn.setAutoCommit(false);
+                conn.setReadOnly(true);
+                conn.setTransactionIsolation(YdbConst.ONLINE_CONSISTENT_READ_ONLY);
+                assertSelect(conn);
+            }
+
+            try (Connection conn = ds.getConnection()) {
+                Assertions.assertTrue(conn.getAutoCommit());
+                Assertions.assertFalse(conn.isReadOnly());
+                Assertions.assertEquals(Connection.TRANSACTION_SERIALIZABLE, conn.getTransactionIsolation());
+                assertSelect(conn);
+
+                // second connection is over the limit of idle connections
+                Connection other = ds.getConnection();
+                assertSelect(other);
+                other.close();
+            }
+
+            Assertions.assertEquals(1, ds.getIdleConnectionsCount());
+        }
+    }
+
+    @Test
+    public void pooledConnectionTest() throws SQLException {
+        try (YdbDataSource ds = new YdbDataSource(jdbcURL.build())) {
+            PooledConnection pooled = ds.getPooledConnection();
+
+            Connection conn1 = pooled.getConnection();
+            assertSelect(conn1);
+
+            // new logical connection closes the previous one
+            Connection conn2 = pooled.getConnection();
+            Assertions.assertTrue(conn1.isClosed());
+            assertSelect(conn2);
+            conn2.close();
+
+            pooled.close();
+        }
+
+        YdbDataSource closed = new YdbDataSource(jdbcURL.build());
+        closed.close();
+        ExceptionAssert.sqlException(YdbConst.CLOSED_DATA_SOURCE, closed::getConnection);
+    }
+}
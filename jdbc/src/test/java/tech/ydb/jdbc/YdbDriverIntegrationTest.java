@@ -8,6 +8,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
@@ -345,6 +346,20 @@ public class YdbDriverIntegrationTest {
             Assertions.assertEquals(1, YdbTracer.current().getTxRequests().size());
             Assertions.assertEquals("SELECT 1 + 2;", YdbTracer.current().getTxRequests().get(0));
 
+            // transaction keeps its tracer when it is continued by another thread
+            CompletableFuture.runAsync(() -> {
+                try (Statement st = conn.createStatement()) {
+                    try (ResultSet rs = st.executeQuery("SELECT 2 + 3;")) {
+                        Assertions.assertTrue(rs.next());
+                    }
+                } catch (SQLException ex) {
+                    throw new RuntimeException(ex);
+                }
+            }).join();
+
+            Assertions.assertEquals(2, YdbTracer.current().getTxRequests().size());
+            Assertions.assertEquals("SELECT 2 + 3;", YdbTracer.current().getTxRequests().get(1));
+
             conn.commit();
 
             Assertions.assertNull(YdbTracer.current().getTxStartedAt());
@@ -355,4 +370,53 @@ public class YdbDriverIntegrationTest {
             Assertions.assertTrue(YdbTracer.current().getTxRequests().isEmpty());
         }
     }
+
+    @Test
+    public void txTracerPerTransactionTest() throws SQLException {
+        String url = jdbcURL.withArg("enableTxTracer", "true").build();
+        try (Connection conn1 = DriverManager.getConnection(url)) {
+            try (Connection conn2 = DriverManager.getConnection(url)) {
+                conn1.setAutoCommit(false);
+                conn2.setAutoCommit(false);
+
+                selectOne(conn1, "SELECT 1 + 2;");
+                YdbTracer tx1 = YdbTracer.current();
+
+                // the first transaction is continued by another thread, the tracer of transaction is current there
+                YdbTracer continued = CompletableFuture.supplyAsync(() -> {
+                    try {
+                        selectOne(conn1, "SELECT 2 + 3;");
+                    } catch (SQLException ex) {
+                        throw new RuntimeException(ex);
+                    }
+                    YdbTracer.current().markToPrint("continued-tx");
+                    return YdbTracer.current();
+                }).join();
+                Assertions.assertSame(tx1, continued);
+
+                // the next transaction of this thread doesn't share the tracer of the first one
+                selectOne(conn2, "SELECT 3 + 4;");
+                YdbTracer tx2 = YdbTracer.current();
+                Assertions.assertNotSame(tx1, tx2);
+
+                Assertions.assertEquals(Arrays.asList("SELECT 1 + 2;", "SELECT 2 + 3;"), tx1.getTxRequests());
+                Assertions.assertEquals(Arrays.asList("SELECT 3 + 4;"), tx2.getTxRequests());
+
+                conn1.commit();
+                Assertions.assertNull(tx1.getTxStartedAt());
+                Assertions.assertNotNull(tx2.getTxStartedAt());
+
+                conn2.commit();
+                Assertions.assertNull(tx2.getTxStartedAt());
+            }
+        }
+    }
+
+    private static void selectOne(Connection conn, String sql) throws SQLException {
+        try (Statement st = conn.createStatement()) {
+            try (ResultSet rs = st.executeQuery(sql)) {
+                Assertions.assertTrue(rs.next());
+            }
+        }
+    }
 }
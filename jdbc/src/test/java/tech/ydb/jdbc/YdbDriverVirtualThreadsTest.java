@@ -0,0 +1,121 @@
+package tech.ydb.jdbc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import tech.ydb.jdbc.impl.helper.JdbcUrlHelper;
+import tech.ydb.test.junit5.YdbHelperExtension;
+
+/**
+ * Checks that the driver doesn't pin virtual threads to the carrier threads. The test runs only on JDK 21+ with
+ * {@code -Djdk.tracePinnedThreads}, which is set by the {@code jdk21-virtual-threads} profile. The JVM prints the
+ * stack trace of every virtual thread which is blocked while pinned to {@code System.out}, so the test fails if
+ * anything is printed.
+ */
+public class YdbDriverVirtualThreadsTest {
+    private static final int TASKS_COUNT = 1000;
+
+    @RegisterExtension
+    private static final YdbHelperExtension ydb = new YdbHelperExtension();
+
+    private static final JdbcUrlHelper jdbcURL = new JdbcUrlHelper(ydb);
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (ReflectiveOperationException ex) {
+            // JDK without virtual threads
+            return null;
+        }
+    }
+
+    private static int selectOne(String url, int value) throws SQLException {
+        try (Connection conn = DriverManager.getConnection(url)) {
+            try (Statement st = conn.createStatement()) {
+                try (ResultSet rs = st.executeQuery("SELECT " + value + " AS v")) {
+                    Assertions.assertTrue(rs.next());
+                    return rs.getInt("v");
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies all output to the original stream and keeps the output of virtual threads
+     */
+    private static class VirtualThreadsOutput extends OutputStream {
+        private final PrintStream origin;
+        private final ByteArrayOutputStream captured = new ByteArrayOutputStream();
+
+        VirtualThreadsOutput(PrintStream origin) {
+            this.origin = origin;
+        }
+
+        @Override
+        public synchronized void write(int b) {
+            origin.write(b);
+            captured.write(b);
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            origin.write(b, off, len);
+            captured.write(b, off, len);
+        }
+
+        synchronized String getCaptured() {
+            return new String(captured.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    public void noPinnedThreadsTest() throws Exception {
+        Assumptions.assumeTrue(System.getProperty("jdk.tracePinnedThreads") != null,
+                "Tracing of pinned threads is disabled");
+        ExecutorService executor = newVirtualThreadPerTaskExecutor();
+        Assumptions.assumeTrue(executor != null, "Virtual threads are not supported");
+
+        String url = jdbcURL.build();
+        PrintStream origin = System.out;
+        VirtualThreadsOutput output = new VirtualThreadsOutput(origin);
+        System.setOut(new PrintStream(output, true));
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int idx = 0; idx < TASKS_COUNT; idx++) {
+                final int value = idx;
+                results.add(executor.submit(() -> selectOne(url, value)));
+            }
+
+            for (int idx = 0; idx < TASKS_COUNT; idx++) {
+                Assertions.assertEquals(idx, results.get(idx).get(1, TimeUnit.MINUTES));
+            }
+        } finally {
+            executor.shutdown();
+            System.setOut(origin);
+        }
+
+        // the stack traces of pinned threads start with the name of virtual thread
+        String captured = output.getCaptured();
+        Assertions.assertFalse(captured.contains("VirtualThread["), "Virtual threads were pinned:\n" + captured);
+    }
+}
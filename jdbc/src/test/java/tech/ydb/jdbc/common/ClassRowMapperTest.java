@@ -0,0 +1,142 @@
+package tech.ydb.jdbc.common;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.jdbc.YdbConst;
+import tech.ydb.table.values.DecimalType;
+
+public class ClassRowMapperTest {
+    private final YdbTypes types = new YdbTypes(false, DecimalType.getDefault());
+
+    private final ResultShape shape = types.findShape(FixedResultSetFactory.newBuilder()
+            .addIntColumn("id")
+            .addTextColumn("user_name")
+            .addLongColumn("VISITS")
+            .addBooleanColumn("active")
+            .addTextColumn("unknown")
+            .build()
+            .createResultSet()
+            .build());
+
+    public static class User {
+        public int id;
+        public long visits;
+        public Boolean active;
+        private String userName;
+
+        public void setUserName(String userName) {
+            this.userName = "name:" + userName;
+        }
+    }
+
+    public static class NoDefaultConstructor {
+        public int id;
+
+        public NoDefaultConstructor(int id) {
+            this.id = id;
+        }
+    }
+
+    public static class Overloaded {
+        private String id;
+        private String visits;
+
+        public void setId(String id) {
+            this.id = "string:" + id;
+        }
+
+        public void setId(Object id) {
+            this.id = "object:" + id;
+        }
+
+        public void setVisits(String visits) {
+            this.visits = "string:" + visits;
+        }
+
+        public void setVisits(long visits) {
+            this.visits = "long:" + visits;
+        }
+
+        public void setVisits(Object visits) {
+            this.visits = "object:" + visits;
+        }
+    }
+
+    static class NotPublic {
+        public int id;
+    }
+
+    /** Result set with one row, only the getters used by the mapper are supported */
+    private static ResultSet row(Object... values) {
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] {ResultSet.class},
+                (proxy, method, args) -> {
+                    Object value = values[(Integer) args[0] - 1];
+                    switch (method.getName()) {
+                        case "getInt":
+                            return value != null ? value : 0;
+                        case "getLong":
+                            return value != null ? value : 0L;
+                        case "getString":
+                        case "getObject":
+                            return value;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    @Test
+    public void mapBeanTest() throws SQLException {
+        ClassRowMapper<User> mapper = shape.getRowMapper(User.class);
+        Assertions.assertSame(mapper, shape.getRowMapper(User.class));
+
+        User user = mapper.map(row(5, "bob", 7L, Boolean.TRUE, "ignored"));
+        Assertions.assertEquals(5, user.id);
+        Assertions.assertEquals("name:bob", user.userName);
+        Assertions.assertEquals(7L, user.visits);
+        Assertions.assertEquals(Boolean.TRUE, user.active);
+
+        User empty = mapper.map(row(null, null, null, null, null));
+        Assertions.assertEquals(0, empty.id);
+        Assertions.assertEquals("name:null", empty.userName);
+        Assertions.assertEquals(0L, empty.visits);
+        Assertions.assertNull(empty.active);
+    }
+
+    @Test
+    public void unsupportedClassTest() {
+        SQLException ex = Assertions.assertThrows(SQLException.class,
+                () -> shape.getRowMapper(NoDefaultConstructor.class));
+        Assertions.assertEquals("Cannot map row to class " + NoDefaultConstructor.class.getName(), ex.getMessage());
+    }
+
+    @Test
+    public void overloadedSettersTest() throws SQLException {
+        Overloaded value = shape.getRowMapper(Overloaded.class).map(row(5, "bob", 7L, Boolean.TRUE, "ignored"));
+        // the setter of column type
+        Assertions.assertEquals("long:7", value.visits);
+        // no setter of column type, the first parameter type in alphabetical order
+        Assertions.assertEquals("object:5", value.id);
+    }
+
+    @Test
+    public void notPublicClassTest() {
+        SQLException ex = Assertions.assertThrows(SQLException.class, () -> shape.getRowMapper(NotPublic.class));
+        Assertions.assertEquals(YdbConst.CLASS_IS_NOT_PUBLIC + NotPublic.class.getName(), ex.getMessage());
+
+        // the error is not cached
+        Assertions.assertThrows(SQLException.class, () -> shape.getRowMapper(NotPublic.class));
+    }
+
+    @Test
+    public void normalizeNameTest() {
+        Assertions.assertEquals("username", ClassRowMapper.normalizeName("user_name"));
+        Assertions.assertEquals("username", ClassRowMapper.normalizeName("UserName"));
+        Assertions.assertEquals("id", ClassRowMapper.normalizeName("ID"));
+    }
+}
@@ -0,0 +1,92 @@
+package tech.ydb.jdbc.common;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class DateTimeCodecTest {
+    private static final String[] ZONES = new String[] {
+        "UTC", "Europe/Moscow", "America/New_York", "America/Sao_Paulo", "Australia/Lord_Howe", "Asia/Kolkata",
+        "GMT+03:30",
+    };
+
+    private static final long FROM_DAY = LocalDate.of(1500, 1, 1).toEpochDay();
+    private static final long TO_DAY = LocalDate.of(2200, 1, 1).toEpochDay();
+
+    private final TimeZone defaultZone = TimeZone.getDefault();
+
+    @AfterEach
+    public void restoreDefaultZone() {
+        TimeZone.setDefault(defaultZone);
+    }
+
+    @Test
+    public void sqlDateTest() {
+        for (String zone: ZONES) {
+            TimeZone.setDefault(TimeZone.getTimeZone(zone));
+            for (long day = FROM_DAY; day < TO_DAY; day += 3) {
+                Date expected = Date.valueOf(LocalDate.ofEpochDay(day));
+                Assertions.assertEquals(expected, DateTimeCodec.toSqlDate(day), zone + " " + expected);
+            }
+        }
+    }
+
+    @Test
+    public void sqlTimeTest() {
+        for (String zone: ZONES) {
+            TimeZone.setDefault(TimeZone.getTimeZone(zone));
+            for (long second = 0; second < DateTimeCodec.SECONDS_PER_DAY; second += 61) {
+                Time expected = Time.valueOf(LocalTime.ofSecondOfDay(second));
+                Assertions.assertEquals(expected, DateTimeCodec.toSqlTime(second), zone + " " + expected);
+            }
+        }
+    }
+
+    @Test
+    public void sqlTimestampTest() {
+        for (String zone: ZONES) {
+            TimeZone.setDefault(TimeZone.getTimeZone(zone));
+            // odd step to hit different times of day and the transitions of zones
+            for (long second = FROM_DAY * 86400; second < TO_DAY * 86400; second += 3 * 3600 * 24 + 1801) {
+                int nanos = (int) Math.floorMod(second * 7919, 1_000_000_000L);
+                Timestamp expected = Timestamp.valueOf(LocalDateTime.ofEpochSecond(second, nanos, ZoneOffset.UTC));
+                Timestamp actual = DateTimeCodec.toSqlTimestamp(second, nanos);
+                Assertions.assertEquals(expected, actual, zone + " " + expected);
+                Assertions.assertEquals(expected.getNanos(), actual.getNanos(), zone + " " + expected);
+            }
+        }
+    }
+
+    @Test
+    public void localEpochSecondTest() {
+        for (String zone: ZONES) {
+            TimeZone tz = TimeZone.getTimeZone(zone);
+            for (long second = FROM_DAY * 86400; second < TO_DAY * 86400; second += 3 * 3600 * 24 + 1799) {
+                LocalDateTime expected = Instant.ofEpochSecond(second).atZone(tz.toZoneId()).toLocalDateTime();
+                long actual = DateTimeCodec.toLocalEpochSecond(tz, second);
+                Assertions.assertEquals(expected.toEpochSecond(ZoneOffset.UTC), actual, zone + " " + expected);
+                Assertions.assertEquals(expected.toLocalDate().toEpochDay(), DateTimeCodec.toLocalEpochDay(tz, second));
+            }
+        }
+    }
+
+    @Test
+    public void epochMicrosTest() {
+        Timestamp ts = Timestamp.valueOf("2024-03-01 12:30:45.123456789");
+        Assertions.assertEquals(ts.toInstant().getEpochSecond() * 1_000_000 + 123456, DateTimeCodec.toEpochMicros(ts));
+
+        Timestamp beforeEpoch = Timestamp.from(Instant.ofEpochSecond(-10, 250_000));
+        Assertions.assertEquals(-10 * 1_000_000 + 250, DateTimeCodec.toEpochMicros(beforeEpoch));
+        Assertions.assertEquals(-10 * 1_000_000 + 250, DateTimeCodec.toEpochMicros(beforeEpoch.toInstant()));
+    }
+}
@@ -0,0 +1,103 @@
+package tech.ydb.jdbc.common;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.table.values.DecimalType;
+import tech.ydb.table.values.DecimalValue;
+
+public class DecimalCodecTest {
+    private static final DecimalType[] TYPES = new DecimalType[] {
+        DecimalType.of(22, 9), DecimalType.of(10, 2), DecimalType.of(5, 5), DecimalType.of(18, 0),
+        DecimalType.of(35, 0), DecimalType.of(35, 20),
+    };
+
+    private static final long[] LONGS = new long[] {
+        0, 1, -1, 99, -99, 100_000, 99_999_999, 1_000_000_000L, -123_456_789_012L, 999_999_999_999_999_999L,
+        Long.MAX_VALUE, Long.MIN_VALUE,
+    };
+
+    private static final String[] DECIMALS = new String[] {
+        "0", "0.5", "-0.5", "1.25", "-123.456", "999.99", "0.000000001", "12345678901.123456789",
+        "123456789012345678", "1E+3", "0.00000000000000000000001", "-9223372036854775808",
+    };
+
+    @Test
+    public void fromLongTest() {
+        for (DecimalType type: TYPES) {
+            for (long v: LONGS) {
+                DecimalValue fast = DecimalCodec.tryFromLong(type, v);
+                if (fast != null) {
+                    Assertions.assertEquals(type.newValue(v), fast, type + " <- " + v);
+                } else {
+                    // only values which are out of range may be left to the slow path
+                    BigDecimal expected = BigDecimal.valueOf(v);
+                    int digits = expected.precision() + type.getScale();
+                    Assertions.assertTrue(digits > Math.min(type.getPrecision(), 18), type + " <- " + v);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void fromBigDecimalTest() {
+        for (DecimalType type: TYPES) {
+            for (String str: DECIMALS) {
+                BigDecimal v = new BigDecimal(str);
+                DecimalValue fast = DecimalCodec.tryFromBigDecimal(type, v);
+                if (fast != null) {
+                    Assertions.assertEquals(type.newValue(v), fast, type + " <- " + str);
+                    Assertions.assertEquals(0, v.compareTo(fast.toBigDecimal()), type + " <- " + str);
+                }
+            }
+        }
+
+        Assertions.assertNotNull(DecimalCodec.tryFromBigDecimal(DecimalType.of(22, 9), new BigDecimal("1.5")));
+        // rounding is not supported by fast path
+        Assertions.assertNull(DecimalCodec.tryFromBigDecimal(DecimalType.of(22, 9), new BigDecimal("1e-10")));
+        // precision of type is too small
+        Assertions.assertNull(DecimalCodec.tryFromBigDecimal(DecimalType.of(5, 2), new BigDecimal("1000")));
+    }
+
+    @Test
+    public void toBigDecimalTest() {
+        for (DecimalType type: TYPES) {
+            for (long v: LONGS) {
+                if (BigDecimal.valueOf(v).precision() > type.getPrecision()) {
+                    continue;
+                }
+                DecimalValue value = type.newValueUnscaled(v);
+                Assertions.assertEquals(value.toBigDecimal(), DecimalCodec.toBigDecimal(value), type + " <- " + v);
+            }
+        }
+
+        DecimalType type = DecimalType.of(35, 0);
+        DecimalValue big = type.newValue(new BigDecimal("123456789012345678901234567890"));
+        Assertions.assertFalse(DecimalCodec.isLongUnscaled(big));
+        Assertions.assertEquals(new BigDecimal("123456789012345678901234567890"), DecimalCodec.toBigDecimal(big));
+        Assertions.assertFalse(DecimalCodec.isLongUnscaled(type.getInf()));
+        Assertions.assertFalse(DecimalCodec.isLongUnscaled(type.getNaN()));
+    }
+
+    @Test
+    public void toLongExactTest() {
+        for (DecimalType type: TYPES) {
+            for (long v: LONGS) {
+                if (BigDecimal.valueOf(v).precision() > type.getPrecision()) {
+                    continue;
+                }
+                DecimalValue value = type.newValueUnscaled(v);
+
+                String msg = type + " <- " + v;
+                BigDecimal expected = value.toBigDecimal();
+                if (expected.stripTrailingZeros().scale() > 0) {
+                    Assertions.assertThrows(ArithmeticException.class, () -> DecimalCodec.toLongExact(value), msg);
+                } else {
+                    Assertions.assertEquals(expected.longValueExact(), DecimalCodec.toLongExact(value), msg);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package tech.ydb.jdbc.common;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class LobStreamsTest {
+    private static String longText() {
+        StringBuilder sb = new StringBuilder();
+        for (int idx = 0; idx < 30000; idx++) {
+            sb.append(idx % 7 == 0 ? "\u00e9" : "a");
+            if (idx % 1000 == 0) {
+                sb.append("\ud83d\ude00"); // surrogate pair
+            }
+        }
+        return sb.toString();
+    }
+
+    @Test
+    public void readBytesTest() throws IOException {
+        String text = longText();
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+
+        Assertions.assertEquals(text, LobStreams.readBytes(new ByteArrayInputStream(bytes), -1).toStringUtf8());
+        Assertions.assertEquals(text, LobStreams.readBytes(new ByteArrayInputStream(bytes), 1 << 20).toStringUtf8());
+        ByteArrayInputStream exact = new ByteArrayInputStream(bytes);
+        Assertions.assertEquals(bytes.length, LobStreams.readBytes(exact, bytes.length).size());
+        Assertions.assertEquals(10, LobStreams.readBytes(new ByteArrayInputStream(bytes), 10).size());
+        Assertions.assertEquals(0, LobStreams.readBytes(new ByteArrayInputStream(new byte[0]), -1).size());
+    }
+
+    @Test
+    public void declaredLengthIsNotAllocatedTest() throws IOException {
+        // the declared length is only a limit, the buffers must grow with the read data
+        byte[] bytes = new byte[] {1, 2, 3};
+        Assertions.assertEquals(3, LobStreams.readBytes(new ByteArrayInputStream(bytes), Integer.MAX_VALUE).size());
+        Assertions.assertEquals("abc",
+                LobStreams.encodeUtf8(new StringReader("abc"), Integer.MAX_VALUE).toStringUtf8());
+        Assertions.assertEquals("abc", LobStreams.readString(new StringReader("abc"), Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void encodeUtf8Test() throws IOException {
+        String text = longText();
+
+        Assertions.assertEquals(text, LobStreams.encodeUtf8(new StringReader(text), -1).toStringUtf8());
+        Assertions.assertEquals(text.substring(0, 5), LobStreams.encodeUtf8(new StringReader(text), 5).toStringUtf8());
+        Assertions.assertEquals(0, LobStreams.encodeUtf8(new StringReader(""), -1).size());
+    }
+
+    @Test
+    public void readStringTest() throws IOException {
+        String text = longText();
+
+        Assertions.assertEquals(text, LobStreams.readString(new StringReader(text), -1));
+        Assertions.assertEquals(text.substring(0, 12345), LobStreams.readString(new StringReader(text), 12345));
+        Assertions.assertEquals("", LobStreams.readString(new StringReader(text), 0));
+    }
+}
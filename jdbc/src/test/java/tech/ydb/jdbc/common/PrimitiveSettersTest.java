@@ -0,0 +1,123 @@
+package tech.ydb.jdbc.common;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.table.values.DecimalType;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.PrimitiveValue;
+import tech.ydb.table.values.Value;
+
+public class PrimitiveSettersTest {
+    private static final PrimitiveType[] TYPES = new PrimitiveType[] {
+        PrimitiveType.Bool,
+        PrimitiveType.Int8, PrimitiveType.Uint8, PrimitiveType.Int16, PrimitiveType.Uint16,
+        PrimitiveType.Int32, PrimitiveType.Uint32, PrimitiveType.Int64, PrimitiveType.Uint64,
+        PrimitiveType.Float, PrimitiveType.Double,
+        PrimitiveType.Text, PrimitiveType.Interval, PrimitiveType.Timestamp,
+    };
+
+    private final YdbTypes types = new YdbTypes(false, DecimalType.getDefault());
+
+    private interface Conversion {
+        Value<?> convert() throws SQLException;
+    }
+
+    private static void assertSame(String msg, Conversion expected, Conversion actual) {
+        Value<?> expectedValue = null;
+        Exception expectedError = null;
+        try {
+            expectedValue = expected.convert();
+        } catch (SQLException | RuntimeException ex) {
+            expectedError = ex;
+        }
+
+        if (expectedError == null) {
+            Assertions.assertEquals(expectedValue, Assertions.assertDoesNotThrow(actual::convert), msg);
+        } else {
+            Exception ex = Assertions.assertThrows(expectedError.getClass(), actual::convert, msg);
+            Assertions.assertEquals(expectedError.getMessage(), ex.getMessage(), msg);
+        }
+    }
+
+    @Test
+    public void intValuesTest() {
+        int[] values = new int[] {0, 1, -1, 127, 128, 255, 256, 65535, 65536, Integer.MIN_VALUE, Integer.MAX_VALUE};
+        for (PrimitiveType type: TYPES) {
+            MappingSetters.Setters setters = types.find(type).setters();
+            MappingSetters.Setters generic = MappingSetters.buildGenericSetters(type);
+            for (int v: values) {
+                assertSame(type + " <- " + v, () -> generic.toValue(v), () -> setters.fromInt(v));
+            }
+        }
+    }
+
+    @Test
+    public void longValuesTest() {
+        long[] values = new long[] {0, 1, -1, 255, 256, 65536, 0xFFFFFFFFL, 0x100000000L, 0x1000000FFL,
+            Long.MIN_VALUE, Long.MAX_VALUE};
+        for (PrimitiveType type: TYPES) {
+            MappingSetters.Setters setters = types.find(type).setters();
+            MappingSetters.Setters generic = MappingSetters.buildGenericSetters(type);
+            for (long v: values) {
+                assertSame(type + " <- " + v, () -> generic.toValue(v), () -> setters.fromLong(v));
+            }
+        }
+    }
+
+    @Test
+    public void floatingValuesTest() {
+        double[] values = new double[] {0, 0.5, -0.5, 1.5, -2.5, 1e20, Double.NaN, Double.POSITIVE_INFINITY};
+        for (PrimitiveType type: TYPES) {
+            MappingSetters.Setters setters = types.find(type).setters();
+            MappingSetters.Setters generic = MappingSetters.buildGenericSetters(type);
+            for (double v: values) {
+                float f = (float) v;
+                assertSame(type + " <- " + v, () -> generic.toValue(v), () -> setters.fromDouble(v));
+                assertSame(type + " <- " + f, () -> generic.toValue(f), () -> setters.fromFloat(f));
+            }
+        }
+    }
+
+    @Test
+    public void booleanValuesTest() {
+        for (PrimitiveType type: TYPES) {
+            MappingSetters.Setters setters = types.find(type).setters();
+            MappingSetters.Setters generic = MappingSetters.buildGenericSetters(type);
+            assertSame(type + " <- true", () -> generic.toValue(true), () -> setters.fromBoolean(true));
+            assertSame(type + " <- false", () -> generic.toValue(false), () -> setters.fromBoolean(false));
+        }
+    }
+
+    @Test
+    public void boxedValuesTest() {
+        Object[] values = new Object[] {true, 1, -1L, 255, 65536L, 0.5f, -2.5d, (byte) 1, (short) -1, "10"};
+        for (PrimitiveType type: TYPES) {
+            MappingSetters.Setters setters = types.find(type).setters();
+            MappingSetters.Setters generic = MappingSetters.buildGenericSetters(type);
+            for (Object v: values) {
+                assertSame(type + " <- " + v, () -> generic.toValue(v), () -> setters.toValue(v));
+            }
+        }
+    }
+
+    @Test
+    public void utf8BytesTest() throws SQLException {
+        String text = "caf\u00e9 \ud83d\ude00";
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+
+        Assertions.assertEquals(PrimitiveValue.newText(text), types.find(PrimitiveType.Text).setters().toValue(bytes));
+        Assertions.assertEquals(PrimitiveValue.newJson("\"" + text + "\""), types.find(PrimitiveType.Json).setters()
+                .toValue(("\"" + text + "\"").getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void optionalTypeTest() throws SQLException {
+        MappingSetters.Setters setters = types.find(PrimitiveType.Int64.makeOptional()).setters();
+        Assertions.assertEquals(setters.toValue(5L), setters.fromLong(5L));
+        Assertions.assertEquals(setters.toValue(5), setters.fromInt(5));
+    }
+}
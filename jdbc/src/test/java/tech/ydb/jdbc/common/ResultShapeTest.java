@@ -0,0 +1,48 @@
+package tech.ydb.jdbc.common;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.values.DecimalType;
+import tech.ydb.table.values.PrimitiveType;
+
+public class ResultShapeTest {
+    private final YdbTypes types = new YdbTypes(false, DecimalType.getDefault());
+
+    private static ResultSetReader resultSet(FixedResultSetFactory factory, int id) {
+        return factory.createResultSet().newRow().withIntValue("id", id).withTextValue("value", "v" + id).build()
+                .build();
+    }
+
+    @Test
+    public void sharedShapeTest() {
+        FixedResultSetFactory factory = FixedResultSetFactory.newBuilder()
+                .addIntColumn("id")
+                .addTextColumn("value")
+                .addIntColumn("id")
+                .build();
+
+        ResultShape shape = types.findShape(resultSet(factory, 1));
+        Assertions.assertSame(shape, types.findShape(resultSet(factory, 2)));
+
+        Assertions.assertEquals(3, shape.getColumnCount());
+        Assertions.assertEquals("value", shape.getColumn(1).getName());
+        Assertions.assertEquals(PrimitiveType.Text, shape.getColumn(1).getYdbType());
+        Assertions.assertEquals(Integer.valueOf(1), shape.findColumnIndex("id"));
+        Assertions.assertEquals(Integer.valueOf(2), shape.findColumnIndex("value"));
+        Assertions.assertNull(shape.findColumnIndex("unknown"));
+    }
+
+    @Test
+    public void differentShapesTest() {
+        FixedResultSetFactory f1 = FixedResultSetFactory.newBuilder().addIntColumn("id").addTextColumn("value").build();
+        FixedResultSetFactory f2 = FixedResultSetFactory.newBuilder().addIntColumn("id").addTextColumn("name").build();
+        FixedResultSetFactory f3 = FixedResultSetFactory.newBuilder().addIntColumn("id").addLongColumn("value").build();
+
+        ResultShape s1 = types.findShape(resultSet(f1, 1));
+        Assertions.assertNotSame(s1, types.findShape(f2.createResultSet().build()));
+        Assertions.assertNotSame(s1, types.findShape(f3.createResultSet().build()));
+        Assertions.assertSame(s1, types.findShape(f1.createResultSet().build()));
+    }
+}
@@ -0,0 +1,66 @@
+package tech.ydb.jdbc.common;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.table.values.DecimalType;
+
+public class StringDictionaryTest {
+    private static String copy(String value) {
+        return new String(value.toCharArray());
+    }
+
+    @Test
+    public void dedupTest() {
+        StringDictionary dictionary = new StringDictionary(2);
+
+        String active = "ACTIVE";
+        Assertions.assertSame(active, dictionary.dedup(active));
+        Assertions.assertSame(active, dictionary.dedup(copy(active)));
+
+        String blocked = copy("BLOCKED");
+        Assertions.assertSame(blocked, dictionary.dedup(blocked));
+        Assertions.assertSame(blocked, dictionary.dedup(copy("BLOCKED")));
+        Assertions.assertEquals(2, dictionary.size());
+
+        // dictionary is full, new values are returned as is
+        String deleted = copy("DELETED");
+        Assertions.assertSame(deleted, dictionary.dedup(deleted));
+        Assertions.assertNotSame(deleted, dictionary.dedup(copy("DELETED")));
+        Assertions.assertEquals(2, dictionary.size());
+
+        // known values are still deduplicated
+        Assertions.assertSame(active, dictionary.dedup(copy(active)));
+        Assertions.assertNull(dictionary.dedup(null));
+    }
+
+    @Test
+    public void longValuesTest() {
+        StringDictionary dictionary = new StringDictionary(10);
+        StringBuilder sb = new StringBuilder();
+        for (int idx = 0; idx <= StringDictionary.MAX_VALUE_LENGTH; idx++) {
+            sb.append('a');
+        }
+
+        String longValue = sb.toString();
+        Assertions.assertSame(longValue, dictionary.dedup(longValue));
+        Assertions.assertEquals(0, dictionary.size());
+    }
+
+    @Test
+    public void columnDictionaryTest() {
+        FixedResultSetFactory factory = FixedResultSetFactory.newBuilder()
+                .addIntColumn("id")
+                .addTextColumn("status")
+                .build();
+
+        YdbTypes types = new YdbTypes(false, DecimalType.getDefault(), 16);
+        ResultShape shape = types.findShape(factory.createResultSet().build());
+        Assertions.assertNull(shape.getColumn(0).getStringDictionary());
+        Assertions.assertNotNull(shape.getColumn(1).getStringDictionary());
+
+        ResultShape noDictionaries = new YdbTypes(false, DecimalType.getDefault())
+                .findShape(factory.createResultSet().build());
+        Assertions.assertNull(noDictionaries.getColumn(1).getStringDictionary());
+    }
+}
@@ -0,0 +1,83 @@
+package tech.ydb.jdbc.common;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.table.values.DecimalType;
+import tech.ydb.table.values.DecimalValue;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.PrimitiveValue;
+import tech.ydb.table.values.VoidType;
+
+public class YdbTypesTest {
+    private enum Color { RED }
+
+    private enum Size {
+        SMALL {
+            @Override
+            public String toString() {
+                return "small";
+            }
+        }
+    }
+
+    private static class CustomTimestamp extends Timestamp {
+        private static final long serialVersionUID = 1L;
+
+        CustomTimestamp(long time) {
+            super(time);
+        }
+    }
+
+    private final YdbTypes types = new YdbTypes(false, DecimalType.getDefault());
+
+    @Test
+    public void findTypeByClassTest() {
+        Assertions.assertEquals(PrimitiveType.Int64, types.findType(1L, Types.OTHER));
+        Assertions.assertEquals(PrimitiveType.Text, types.findType("text", Types.OTHER));
+        Assertions.assertEquals(PrimitiveType.Timestamp, types.findType(Instant.now(), Types.OTHER));
+        Assertions.assertEquals(VoidType.of(), types.findType(null, Types.OTHER));
+        Assertions.assertNull(types.findType(new Object(), Types.OTHER));
+
+        // sql type has priority over the class of value
+        Assertions.assertEquals(PrimitiveType.Int32, types.findType(1L, Types.INTEGER));
+    }
+
+    @Test
+    public void findTypeBySuperclassTest() {
+        Assertions.assertEquals(PrimitiveType.Timestamp, types.findType(new CustomTimestamp(0), Types.OTHER));
+        Assertions.assertEquals(PrimitiveType.Text, types.findType(Color.RED, Types.OTHER));
+
+        // values are typed by themselves
+        Assertions.assertEquals(PrimitiveType.Uint32, types.findType(PrimitiveValue.newUint32(1), Types.OTHER));
+        Assertions.assertEquals(PrimitiveType.Int8, types.findType(PrimitiveValue.newInt8((byte) 1), Types.OTHER));
+    }
+
+    @Test
+    public void findTypeOfDecimalValueTest() {
+        DecimalType custom = DecimalType.of(35, 10);
+        DecimalValue value = custom.newValue("12345.0123456789");
+
+        // the type of decimal value is kept, even though DecimalValue class is registered with the default type
+        Assertions.assertEquals(DecimalType.getDefault(), types.findTypeByClass(DecimalValue.class));
+        Assertions.assertEquals(DecimalType.getDefault(), types.findType(new BigDecimal("1.5"), Types.OTHER));
+        Assertions.assertEquals(DecimalType.getDefault(),
+                types.findType(DecimalType.getDefault().newValue("1.5"), Types.OTHER));
+        Assertions.assertEquals(custom, types.findType(value, Types.OTHER));
+    }
+
+    @Test
+    public void enumBindingTest() throws SQLException {
+        // enums are bound as text by toString()
+        Assertions.assertEquals(PrimitiveType.Text, types.findType(Size.SMALL, Types.OTHER));
+        Assertions.assertEquals(PrimitiveValue.newText("RED"), types.find(PrimitiveType.Text).toYdbValue(Color.RED));
+        Assertions.assertEquals(PrimitiveValue.newText("small"),
+                types.find(types.findType(Size.SMALL, Types.OTHER)).toYdbValue(Size.SMALL));
+    }
+}
@@ -0,0 +1,83 @@
+package tech.ydb.jdbc.context;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class AsyncLimiterTest {
+
+    @Test
+    public void limitTest() {
+        AsyncLimiter limiter = new AsyncLimiter(3);
+        List<CompletableFuture<Integer>> requests = new ArrayList<>();
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+
+        for (int idx = 0; idx < 10; idx++) {
+            results.add(limiter.submit(() -> {
+                CompletableFuture<Integer> request = new CompletableFuture<>();
+                requests.add(request);
+                return request;
+            }));
+        }
+
+        Assertions.assertEquals(3, requests.size());
+        Assertions.assertEquals(3, limiter.getActiveCount());
+
+        // completion of request starts the next one
+        requests.get(1).complete(1);
+        Assertions.assertEquals(Integer.valueOf(1), results.get(1).join());
+        Assertions.assertEquals(4, requests.size());
+        Assertions.assertEquals(3, limiter.getActiveCount());
+
+        requests.get(0).completeExceptionally(new RuntimeException("test"));
+        Assertions.assertTrue(results.get(0).isCompletedExceptionally());
+        Assertions.assertEquals(5, requests.size());
+
+        for (int idx = 2; idx < 10; idx++) {
+            requests.get(idx).complete(idx);
+        }
+
+        Assertions.assertEquals(10, requests.size());
+        Assertions.assertEquals(0, limiter.getActiveCount());
+        for (int idx = 2; idx < 10; idx++) {
+            Assertions.assertEquals(Integer.valueOf(idx), results.get(idx).join());
+        }
+    }
+
+    @Test
+    public void synchronousRequestsTest() {
+        AsyncLimiter limiter = new AsyncLimiter(1);
+        AtomicInteger counter = new AtomicInteger();
+
+        CompletableFuture<Integer> first = new CompletableFuture<>();
+        limiter.submit(() -> first);
+
+        CompletableFuture<?> last = null;
+        for (int idx = 0; idx < 100000; idx++) {
+            last = limiter.submit(() -> CompletableFuture.completedFuture(counter.incrementAndGet()));
+        }
+        Assertions.assertEquals(0, counter.get());
+
+        // queued requests completed synchronously must not grow the stack
+        first.complete(0);
+        Assertions.assertTrue(last.isDone());
+        Assertions.assertEquals(100000, counter.get());
+        Assertions.assertEquals(0, limiter.getActiveCount());
+    }
+
+    @Test
+    public void failedRequestTest() {
+        AsyncLimiter limiter = new AsyncLimiter(1);
+        CompletableFuture<Integer> failed = limiter.submit(() -> {
+            throw new IllegalStateException("cannot start");
+        });
+        Assertions.assertTrue(failed.isCompletedExceptionally());
+        Assertions.assertEquals(0, limiter.getActiveCount());
+
+        Assertions.assertEquals(Integer.valueOf(5), limiter.submit(() -> CompletableFuture.completedFuture(5)).join());
+    }
+}
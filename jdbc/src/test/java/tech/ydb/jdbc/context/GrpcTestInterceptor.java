@@ -1,15 +1,22 @@
 package tech.ydb.jdbc.context;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import io.grpc.CallOptions;
 import io.grpc.Channel;
 import io.grpc.ClientCall;
 import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
 import io.grpc.ManagedChannelBuilder;
 import io.grpc.Metadata;
 import io.grpc.MethodDescriptor;
@@ -32,12 +39,22 @@ public class GrpcTestInterceptor implements Consumer<ManagedChannelBuilder<?>>,
     private static final Queue<StatusCode> EXECUTE_QUERY = new ConcurrentLinkedQueue<>();
     private static final Queue<StatusCode> COMMIT_TX = new ConcurrentLinkedQueue<>();
     private static final Queue<Status> GRPC_CALLS = new ConcurrentLinkedQueue<>();
+    private static final Queue<Integer> BROKEN_STREAMS = new ConcurrentLinkedQueue<>();
+    private static final Queue<Long> DELAYED_STREAMS = new ConcurrentLinkedQueue<>();
+
+    private static final ScheduledExecutorService DELAYER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "grpc-test-delayer");
+        t.setDaemon(true);
+        return t;
+    });
 
     public static void reset() {
         CREATE_SESSION.clear();
         EXECUTE_QUERY.clear();
         COMMIT_TX.clear();
         GRPC_CALLS.clear();
+        BROKEN_STREAMS.clear();
+        DELAYED_STREAMS.clear();
     }
 
     public static void nextGrpcCall(Status status) {
@@ -56,12 +73,31 @@ public class GrpcTestInterceptor implements Consumer<ManagedChannelBuilder<?>>,
         COMMIT_TX.addAll(Arrays.asList(codes));
     }
 
+    /**
+     * Breaks the next query service stream with UNAVAILABLE status after the given count of result set parts
+     *
+     * @param resultParts count of result set parts received before the break
+     */
+    public static void nextBrokenStream(int resultParts) {
+        BROKEN_STREAMS.add(resultParts);
+    }
+
+    /**
+     * Delays all responses of the next query service stream. The cancelled stream is released immediately
+     *
+     * @param delayMillis delay of responses in milliseconds
+     */
+    public static void nextDelayedStream(long delayMillis) {
+        DELAYED_STREAMS.add(delayMillis);
+    }
+
     private static StatusCodesProtos.StatusIds.StatusCode toPb(StatusCode code) {
         switch (code) {
             case ABORTED: return StatusCodesProtos.StatusIds.StatusCode.ABORTED;
             case BAD_SESSION: return StatusCodesProtos.StatusIds.StatusCode.BAD_SESSION;
             case BAD_REQUEST: return StatusCodesProtos.StatusIds.StatusCode.BAD_REQUEST;
             case UNDETERMINED: return StatusCodesProtos.StatusIds.StatusCode.UNDETERMINED;
+            case OVERLOADED: return StatusCodesProtos.StatusIds.StatusCode.OVERLOADED;
             default:
                 throw new IllegalArgumentException("Cannot map code " + code);
         }
@@ -91,11 +127,9 @@ public class GrpcTestInterceptor implements Consumer<ManagedChannelBuilder<?>>,
         }
 
         if (method == QueryServiceGrpc.getExecuteQueryMethod()) {
-            StatusCode status = EXECUTE_QUERY.poll();
-            if (status != null && status != StatusCode.SUCCESS) {
-                RespT resp = (RespT) YdbQuery.ExecuteQueryResponsePart.newBuilder().setStatus(toPb(status)).build();
-                return new ErrorCall<>(resp);
-            }
+            Long delay = DELAYED_STREAMS.poll();
+            ClientCall<ReqT, RespT> call = interceptExecuteQuery(method, callOptions, next);
+            return delay != null ? new DelayedStreamCall<>(call, delay) : call;
         }
 
         if (method == QueryServiceGrpc.getCommitTransactionMethod()) {
@@ -146,6 +180,23 @@ public class GrpcTestInterceptor implements Consumer<ManagedChannelBuilder<?>>,
         return next.newCall(method, callOptions);
     }
 
+    @SuppressWarnings("unchecked")
+    private <ReqT, RespT> ClientCall<ReqT, RespT> interceptExecuteQuery(MethodDescriptor<ReqT, RespT> method,
+            CallOptions callOptions, Channel next) {
+        StatusCode status = EXECUTE_QUERY.poll();
+        if (status != null && status != StatusCode.SUCCESS) {
+            RespT resp = (RespT) YdbQuery.ExecuteQueryResponsePart.newBuilder().setStatus(toPb(status)).build();
+            return new ErrorCall<>(resp);
+        }
+
+        Integer resultParts = BROKEN_STREAMS.poll();
+        if (resultParts != null) {
+            return new BrokenStreamCall<>(next.newCall(method, callOptions), resultParts);
+        }
+
+        return next.newCall(method, callOptions);
+    }
+
     private class ErrorCall<ReqT, RespT> extends ClientCall<ReqT, RespT> {
         private final RespT errorMsg;
 
@@ -200,4 +251,98 @@ public class GrpcTestInterceptor implements Consumer<ManagedChannelBuilder<?>>,
         @Override
         public void sendMessage(ReqT message) { }
     }
+
+    private class BrokenStreamCall<ReqT, RespT> extends ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT> {
+        private final int resultParts;
+
+        public BrokenStreamCall(ClientCall<ReqT, RespT> delegate, int resultParts) {
+            super(delegate);
+            this.resultParts = resultParts;
+        }
+
+        @Override
+        public void start(Listener<RespT> listener, Metadata headers) {
+            super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(listener) {
+                private int count = 0;
+                private boolean isBroken = false;
+
+                @Override
+                public void onMessage(RespT message) {
+                    if (isBroken) {
+                        return;
+                    }
+                    super.onMessage(message);
+                    if (((YdbQuery.ExecuteQueryResponsePart) message).hasResultSet()) {
+                        count++;
+                    }
+                    if (count >= resultParts) {
+                        isBroken = true;
+                        BrokenStreamCall.this.cancel("Broken by test", null);
+                        super.onClose(Status.UNAVAILABLE.withDescription("Broken by test"), new Metadata());
+                    }
+                }
+
+                @Override
+                public void onClose(Status status, Metadata trailers) {
+                    if (!isBroken) {
+                        super.onClose(status, trailers);
+                    }
+                }
+            }, headers);
+        }
+    }
+
+    private class DelayedStreamCall<ReqT, RespT> extends ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT> {
+        private final long delayMillis;
+        private final List<Runnable> pending = new ArrayList<>();
+        private boolean isReleased = false;
+
+        public DelayedStreamCall(ClientCall<ReqT, RespT> delegate, long delayMillis) {
+            super(delegate);
+            this.delayMillis = delayMillis;
+        }
+
+        @Override
+        public void start(Listener<RespT> listener, Metadata headers) {
+            super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(listener) {
+                @Override
+                public void onHeaders(Metadata headers) {
+                    deliver(() -> super.onHeaders(headers));
+                }
+
+                @Override
+                public void onMessage(RespT message) {
+                    deliver(() -> super.onMessage(message));
+                }
+
+                @Override
+                public void onClose(Status status, Metadata trailers) {
+                    deliver(() -> super.onClose(status, trailers));
+                }
+            }, headers);
+            DELAYER.schedule(this::release, delayMillis, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public void cancel(String message, Throwable cause) {
+            super.cancel(message, cause);
+            release();
+        }
+
+        private synchronized void deliver(Runnable event) {
+            if (isReleased) {
+                event.run();
+            } else {
+                pending.add(event);
+            }
+        }
+
+        private synchronized void release() {
+            if (!isReleased) {
+                isReleased = true;
+                pending.forEach(Runnable::run);
+                pending.clear();
+            }
+        }
+    }
 }
@@ -0,0 +1,131 @@
+package tech.ydb.jdbc.context;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import tech.ydb.common.transaction.TxMode;
+import tech.ydb.core.Result;
+import tech.ydb.core.StatusCode;
+import tech.ydb.jdbc.YdbConnection;
+import tech.ydb.jdbc.impl.helper.JdbcUrlHelper;
+import tech.ydb.query.settings.ExecuteQuerySettings;
+import tech.ydb.query.tools.QueryReader;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.test.junit5.YdbHelperExtension;
+
+public class HedgedQueryTest {
+    private static final String SELECT = "SELECT 1 AS v";
+
+    @RegisterExtension
+    private static final YdbHelperExtension ydb = new YdbHelperExtension();
+
+    private static final JdbcUrlHelper jdbcURL = new JdbcUrlHelper(ydb)
+            .withArg("channelInitializer", GrpcTestInterceptor.class.getCanonicalName());
+
+    @BeforeEach
+    public void resetInterceptor() {
+        GrpcTestInterceptor.reset();
+    }
+
+    private static HedgingPolicy policy(long delayMillis) {
+        // full budget and enough samples to hedge the first request after the delay
+        HedgingPolicy policy = new HedgingPolicy(50, 100);
+        for (int idx = 0; idx < 64; idx++) {
+            policy.onSuccess(TimeUnit.MILLISECONDS.toNanos(delayMillis));
+        }
+        return policy;
+    }
+
+    private static Result<QueryReader> execute(YdbContext ctx, SessionPoolController controller,
+            HedgingPolicy policy) throws Exception {
+        HedgedQuery query = new HedgedQuery(ctx.getQueryClient(), controller, Duration.ofSeconds(5), SELECT,
+                TxMode.SNAPSHOT_RO, Params.empty(), ExecuteQuerySettings.newBuilder().build());
+        ScheduledExecutorService scheduler = ctx.getGrpcTransport().getScheduler();
+        return query.execute(policy, scheduler).get(5, TimeUnit.SECONDS);
+    }
+
+    private static void assertSelectResult(Result<QueryReader> result) {
+        Assertions.assertTrue(result.isSuccess(), "Unexpected status " + result.getStatus());
+        Assertions.assertEquals(1, result.getValue().getResultSetCount());
+        ResultSetReader rs = result.getValue().getResultSet(0);
+        Assertions.assertTrue(rs.next());
+        Assertions.assertEquals(1, rs.getColumn("v").getInt32());
+        Assertions.assertFalse(rs.next());
+    }
+
+    private static void assertSessionsReleased(SessionPoolController controller) throws InterruptedException {
+        // the session of cancelled attempt is released asynchronously
+        long deadline = System.currentTimeMillis() + 5000;
+        while (controller.getQuerySessionsInUse() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assertions.assertEquals(0, controller.getQuerySessionsInUse());
+    }
+
+    @Test
+    public void notHedgedQueryTest() throws Exception {
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            YdbContext ctx = conn.unwrap(YdbConnection.class).getCtx();
+            SessionPoolController controller = new SessionPoolController(1, 10);
+            HedgingPolicy policy = policy(5000);
+
+            // the first attempt is completed before the delay, the second one is not started
+            assertSelectResult(execute(ctx, controller, policy));
+            Assertions.assertEquals(1, policy.getRequestsCount());
+            Assertions.assertEquals(0, policy.getHedgesCount());
+            assertSessionsReleased(controller);
+        }
+    }
+
+    @Test
+    public void hedgedQueryWinsTest() throws Exception {
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            YdbContext ctx = conn.unwrap(YdbConnection.class).getCtx();
+            SessionPoolController controller = new SessionPoolController(1, 10);
+            HedgingPolicy policy = policy(50);
+
+            // the first attempt hangs, the second one is started after 50ms and returns the result
+            GrpcTestInterceptor.nextDelayedStream(30_000);
+            long startedAt = System.nanoTime();
+            assertSelectResult(execute(ctx, controller, policy));
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+            Assertions.assertTrue(elapsedMillis >= 50, "Hedged attempt was started too early " + elapsedMillis);
+            Assertions.assertEquals(1, policy.getHedgesCount());
+
+            // the first attempt is cancelled and its session is released without waiting for the delayed stream
+            assertSessionsReleased(controller);
+        }
+    }
+
+    @Test
+    public void allAttemptsFailedTest() throws Exception {
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            YdbContext ctx = conn.unwrap(YdbConnection.class).getCtx();
+            SessionPoolController controller = new SessionPoolController(1, 10);
+            HedgingPolicy policy = policy(50);
+
+            // the hedged attempt fails at once, but the result waits for the failure of the first attempt
+            GrpcTestInterceptor.nextDelayedStream(500);
+            GrpcTestInterceptor.nextExecuteQuery(StatusCode.OVERLOADED, StatusCode.OVERLOADED);
+            long startedAt = System.nanoTime();
+            Result<QueryReader> result = execute(ctx, controller, policy);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+            Assertions.assertFalse(result.isSuccess());
+            Assertions.assertEquals(StatusCode.OVERLOADED, result.getStatus().getCode());
+            Assertions.assertTrue(elapsedMillis >= 500, "Result was returned too early " + elapsedMillis);
+            Assertions.assertEquals(1, policy.getHedgesCount());
+            assertSessionsReleased(controller);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package tech.ydb.jdbc.context;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class HedgingPolicyTest {
+
+    @Test
+    public void delayByPercentileTest() {
+        HedgingPolicy policy = new HedgingPolicy(90, 5);
+        Assertions.assertEquals(-1, policy.getDelayNanos());
+
+        for (int idx = 1; idx < 64; idx++) {
+            policy.onSuccess(TimeUnit.MILLISECONDS.toNanos(idx));
+        }
+        // not enough samples
+        Assertions.assertEquals(-1, policy.getDelayNanos());
+
+        policy.onSuccess(TimeUnit.MILLISECONDS.toNanos(64));
+        // 90 percentile of 1..64 ms
+        Assertions.assertEquals(TimeUnit.MILLISECONDS.toNanos(58), policy.getDelayNanos());
+    }
+
+    @Test
+    public void minimalDelayTest() {
+        HedgingPolicy policy = new HedgingPolicy(50, 5);
+        for (int idx = 0; idx < 100; idx++) {
+            policy.onSuccess(1000);
+        }
+        Assertions.assertEquals(TimeUnit.MILLISECONDS.toNanos(1), policy.getDelayNanos());
+    }
+
+    @Test
+    public void budgetTest() {
+        HedgingPolicy policy = new HedgingPolicy(95, 10);
+        Assertions.assertFalse(policy.tryHedge());
+
+        for (int idx = 0; idx < 9; idx++) {
+            policy.onRequest();
+        }
+        Assertions.assertFalse(policy.tryHedge());
+
+        policy.onRequest();
+        Assertions.assertTrue(policy.tryHedge());
+        Assertions.assertFalse(policy.tryHedge());
+
+        Assertions.assertEquals(10, policy.getRequestsCount());
+        Assertions.assertEquals(1, policy.getHedgesCount());
+    }
+
+    @Test
+    public void budgetLimitTest() {
+        HedgingPolicy policy = new HedgingPolicy(95, 100);
+        for (int idx = 0; idx < 1000; idx++) {
+            policy.onRequest();
+        }
+
+        int hedges = 0;
+        while (policy.tryHedge()) {
+            hedges++;
+        }
+        Assertions.assertEquals(10, hedges);
+    }
+
+    @Test
+    public void disabledBudgetTest() {
+        HedgingPolicy policy = new HedgingPolicy(95, 0);
+        for (int idx = 0; idx < 1000; idx++) {
+            policy.onRequest();
+        }
+        Assertions.assertFalse(policy.tryHedge());
+    }
+}
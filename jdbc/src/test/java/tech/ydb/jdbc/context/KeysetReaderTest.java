@@ -0,0 +1,31 @@
+package tech.ydb.jdbc.context;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class KeysetReaderTest {
+    @Test
+    public void firstPageQueryTest() {
+        Assertions.assertEquals(""
+                + "SELECT * FROM `/local/t1` ORDER BY `id` LIMIT $limit;\n",
+                KeysetReader.buildPageQuery("/local/t1", Collections.singletonList("id"), false));
+    }
+
+    @Test
+    public void nextPageQueryTest() {
+        Assertions.assertEquals(""
+                + "SELECT * FROM `/local/t1` WHERE (`id` > $k0) ORDER BY `id` LIMIT $limit;\n",
+                KeysetReader.buildPageQuery("/local/t1", Collections.singletonList("id"), true));
+    }
+
+    @Test
+    public void compositeKeyQueryTest() {
+        Assertions.assertEquals(""
+                + "SELECT * FROM `/local/dir/t2` WHERE (`a` > $k0) OR (`a` = $k0 AND `b` > $k1)"
+                + " OR (`a` = $k0 AND `b` = $k1 AND `c` > $k2) ORDER BY `a`, `b`, `c` LIMIT $limit;\n",
+                KeysetReader.buildPageQuery("/local/dir/t2", Arrays.asList("a", "b", "c"), true));
+    }
+}
@@ -0,0 +1,39 @@
+package tech.ydb.jdbc.context;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.table.settings.ReadTableSettings;
+import tech.ydb.table.values.PrimitiveValue;
+import tech.ydb.table.values.TupleValue;
+
+public class ReadTableStreamsTest {
+    @Test
+    public void copyOfSettingsTest() {
+        TupleValue from = TupleValue.of(PrimitiveValue.newInt32(2));
+        TupleValue to = TupleValue.of(PrimitiveValue.newInt32(10));
+        ReadTableSettings.Builder builder = ReadTableSettings.newBuilder()
+                .orderedRead(true)
+                .columns("key", "value")
+                .fromKeyExclusive(from)
+                .toKeyInclusive(to)
+                .rowLimit(5);
+
+        ReadTableSettings copy = ReadTableStreams.copyOf(builder).build();
+        Assertions.assertTrue(copy.isOrdered());
+        Assertions.assertEquals(Arrays.asList("key", "value"), copy.getColumns());
+        Assertions.assertEquals(from, copy.getFromKey());
+        Assertions.assertFalse(copy.isFromInclusive());
+        Assertions.assertEquals(to, copy.getToKey());
+        Assertions.assertTrue(copy.isToInclusive());
+        Assertions.assertEquals(5, copy.getRowLimit());
+
+        // the changes of copy are not visible in the source builder
+        ReadTableStreams.copyOf(builder).rowLimit(1).orderedRead(false);
+        ReadTableSettings source = builder.build();
+        Assertions.assertTrue(source.isOrdered());
+        Assertions.assertEquals(5, source.getRowLimit());
+    }
+}
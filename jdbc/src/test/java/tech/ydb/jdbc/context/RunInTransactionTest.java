@@ -0,0 +1,130 @@
+package tech.ydb.jdbc.context;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import tech.ydb.common.transaction.TxMode;
+import tech.ydb.core.StatusCode;
+import tech.ydb.jdbc.YdbConnection;
+import tech.ydb.jdbc.impl.helper.ExceptionAssert;
+import tech.ydb.jdbc.impl.helper.JdbcUrlHelper;
+import tech.ydb.test.junit5.YdbHelperExtension;
+
+public class RunInTransactionTest {
+    @RegisterExtension
+    private static final YdbHelperExtension ydb = new YdbHelperExtension();
+
+    private static final JdbcUrlHelper jdbcURL = new JdbcUrlHelper(ydb)
+            .withArg("channelInitializer", GrpcTestInterceptor.class.getCanonicalName());
+
+    @BeforeEach
+    public void resetInterceptor() {
+        GrpcTestInterceptor.reset();
+    }
+
+    private static int selectSum(YdbConnection conn) throws SQLException {
+        try (Statement st = conn.createStatement()) {
+            try (ResultSet rs = st.executeQuery("SELECT 1 + 2")) {
+                Assertions.assertTrue(rs.next());
+                return rs.getInt(1);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    public void retryAbortedTest(boolean useQueryService) throws SQLException {
+        String url = jdbcURL.withArg("useQueryService", Boolean.toString(useQueryService)).build();
+        try (Connection conn = DriverManager.getConnection(url)) {
+            YdbConnection ydbConn = conn.unwrap(YdbConnection.class);
+            AtomicInteger attempts = new AtomicInteger();
+
+            GrpcTestInterceptor.nextExecuteQuery(StatusCode.ABORTED, StatusCode.OVERLOADED);
+            int result = ydbConn.runInTransaction(TxMode.SERIALIZABLE_RW, c -> {
+                attempts.incrementAndGet();
+                Assertions.assertFalse(c.getAutoCommit());
+                return selectSum(c);
+            });
+
+            Assertions.assertEquals(3, result);
+            Assertions.assertEquals(3, attempts.get());
+
+            // connection settings are restored
+            Assertions.assertTrue(conn.getAutoCommit());
+            Assertions.assertNull(ydbConn.getYdbTxId());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    public void noStatementRetryTest(boolean useQueryService) throws SQLException {
+        String url = jdbcURL.withArg("useQueryService", Boolean.toString(useQueryService))
+                .withArg("retryMaxAttempts", "5")
+                .withArg("retryFastBackoff", "0s")
+                .build();
+        try (Connection conn = DriverManager.getConnection(url)) {
+            YdbConnection ydbConn = conn.unwrap(YdbConnection.class);
+            AtomicInteger attempts = new AtomicInteger();
+
+            // the failed statement is not retried alone, the whole transaction is retried
+            GrpcTestInterceptor.nextExecuteQuery(StatusCode.ABORTED);
+            int result = ydbConn.runInTransaction(TxMode.SERIALIZABLE_RW, c -> {
+                attempts.incrementAndGet();
+                return selectSum(c);
+            });
+
+            Assertions.assertEquals(3, result);
+            Assertions.assertEquals(2, attempts.get());
+
+            // statement retries are enabled again after the transaction
+            GrpcTestInterceptor.nextExecuteQuery(StatusCode.ABORTED);
+            Assertions.assertEquals(3, selectSum(ydbConn));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    public void noRetryTest(boolean useQueryService) throws SQLException {
+        String url = jdbcURL.withArg("useQueryService", Boolean.toString(useQueryService)).build();
+        try (Connection conn = DriverManager.getConnection(url)) {
+            YdbConnection ydbConn = conn.unwrap(YdbConnection.class);
+            AtomicInteger attempts = new AtomicInteger();
+
+            GrpcTestInterceptor.nextExecuteQuery(StatusCode.BAD_REQUEST);
+            ExceptionAssert.ydbException("BAD_REQUEST", () -> ydbConn.runInTransaction(TxMode.SNAPSHOT_RO, c -> {
+                attempts.incrementAndGet();
+                Assertions.assertTrue(c.isReadOnly());
+                return selectSum(c);
+            }));
+
+            Assertions.assertEquals(1, attempts.get());
+            Assertions.assertFalse(conn.isReadOnly());
+            Assertions.assertEquals(Connection.TRANSACTION_SERIALIZABLE, conn.getTransactionIsolation());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    public void nestedTransactionTest(boolean useQueryService) throws SQLException {
+        String url = jdbcURL.withArg("useQueryService", Boolean.toString(useQueryService)).build();
+        try (Connection conn = DriverManager.getConnection(url)) {
+            YdbConnection ydbConn = conn.unwrap(YdbConnection.class);
+            conn.setAutoCommit(false);
+            selectSum(ydbConn);
+
+            ExceptionAssert.sqlException("Cannot run new transaction inside active transaction",
+                    () -> ydbConn.runInTransaction(TxMode.SERIALIZABLE_RW, RunInTransactionTest::selectSum));
+            conn.rollback();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package tech.ydb.jdbc.context;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SessionPoolControllerTest {
+    private static class TestPool implements SessionPoolController.Pool {
+        private int maxSize;
+        private int acquired = 0;
+        private int updatesCount = 0;
+
+        TestPool(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        @Override
+        public int getAcquiredCount() {
+            return acquired;
+        }
+
+        @Override
+        public void updateMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+            this.updatesCount++;
+        }
+    }
+
+    private static void slowAcquire(SessionPoolController controller) {
+        controller.onAcquireStarted();
+        controller.onAcquireFinished(TimeUnit.MILLISECONDS.toNanos(20));
+    }
+
+    @Test
+    public void growOnWaitingTest() {
+        SessionPoolController controller = new SessionPoolController(1, 100);
+        TestPool pool = new TestPool(20);
+
+        // full pool without waiting is not resized
+        pool.acquired = 20;
+        Assertions.assertEquals(20, controller.tick(pool));
+        Assertions.assertEquals(0, pool.updatesCount);
+
+        // slow acquiring on full pool
+        slowAcquire(controller);
+        Assertions.assertEquals(25, controller.tick(pool));
+        Assertions.assertEquals(25, pool.maxSize);
+
+        // waiters on full pool
+        pool.acquired = 25;
+        controller.onAcquireStarted();
+        Assertions.assertEquals(31, controller.tick(pool));
+        controller.onAcquireFinished(0);
+
+        // slow acquiring on underutilized pool is not a reason to grow
+        pool.acquired = 10;
+        slowAcquire(controller);
+        Assertions.assertEquals(31, controller.tick(pool));
+    }
+
+    @Test
+    public void minimalStepTest() {
+        SessionPoolController controller = new SessionPoolController(1, 100);
+        TestPool pool = new TestPool(2);
+
+        pool.acquired = 2;
+        slowAcquire(controller);
+        Assertions.assertEquals(4, controller.tick(pool));
+    }
+
+    @Test
+    public void shrinkWithHysteresisTest() {
+        SessionPoolController controller = new SessionPoolController(1, 100);
+        TestPool pool = new TestPool(80);
+        pool.acquired = 10;
+
+        for (int idx = 1; idx < SessionPoolController.SHRINK_AFTER_TICKS; idx++) {
+            Assertions.assertEquals(80, controller.tick(pool));
+        }
+        Assertions.assertEquals(0, pool.updatesCount);
+
+        // shrink by 1/8 per tick
+        Assertions.assertEquals(70, controller.tick(pool));
+        Assertions.assertEquals(62, controller.tick(pool));
+
+        // normal utilization resets the counter
+        pool.acquired = 40;
+        Assertions.assertEquals(62, controller.tick(pool));
+        pool.acquired = 10;
+        for (int idx = 1; idx < SessionPoolController.SHRINK_AFTER_TICKS; idx++) {
+            Assertions.assertEquals(62, controller.tick(pool));
+        }
+
+        // pool is shrunk only while utilization is low
+        for (int idx = 0; idx < 100; idx++) {
+            controller.tick(pool);
+        }
+        Assertions.assertEquals(19, pool.maxSize);
+    }
+
+    @Test
+    public void peakDemandTest() {
+        SessionPoolController controller = new SessionPoolController(1, 100);
+        TestPool pool = new TestPool(40);
+
+        for (int idx = 0; idx < SessionPoolController.SHRINK_AFTER_TICKS + 5; idx++) {
+            // short burst of query sessions between ticks
+            for (int query = 0; query < 30; query++) {
+                controller.onAcquireStarted();
+                controller.onAcquireFinished(0);
+                controller.onQuerySessionAcquired();
+            }
+            for (int query = 0; query < 30; query++) {
+                controller.onQuerySessionReleased();
+            }
+            Assertions.assertEquals(0, controller.getQuerySessionsInUse());
+            Assertions.assertEquals(40, controller.tick(pool));
+        }
+    }
+
+    @Test
+    public void limitsTest() {
+        SessionPoolController controller = new SessionPoolController(5, 30);
+        Assertions.assertEquals(5, controller.getMinSize());
+        Assertions.assertEquals(30, controller.getMaxSize());
+
+        TestPool pool = new TestPool(28);
+        pool.acquired = 28;
+        slowAcquire(controller);
+        Assertions.assertEquals(30, controller.tick(pool));
+        slowAcquire(controller);
+        pool.acquired = 30;
+        Assertions.assertEquals(30, controller.tick(pool));
+
+        pool.acquired = 0;
+        for (int idx = 0; idx < 100; idx++) {
+            controller.tick(pool);
+        }
+        Assertions.assertEquals(5, pool.maxSize);
+
+        SessionPoolController invalid = new SessionPoolController(0, 0);
+        Assertions.assertEquals(1, invalid.getMinSize());
+        Assertions.assertEquals(1, invalid.getMaxSize());
+    }
+}
@@ -0,0 +1,90 @@
+package tech.ydb.jdbc.context;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import tech.ydb.jdbc.impl.helper.ExceptionAssert;
+import tech.ydb.jdbc.impl.helper.JdbcUrlHelper;
+import tech.ydb.test.junit5.YdbHelperExtension;
+
+/**
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class StreamErrorsTest {
+    private static final String SELECT_RANGE = "SELECT * FROM AS_TABLE(ListMap(ListFromRange(0, 1000), "
+            + "($x) -> (AsStruct($x AS id))))";
+    private static final String STREAM_ERROR = "Cannot read result with Status{code = TRANSPORT_UNAVAILABLE";
+
+    @RegisterExtension
+    private static final YdbHelperExtension ydb = new YdbHelperExtension();
+
+    private static final JdbcUrlHelper jdbcURL = new JdbcUrlHelper(ydb)
+            .withArg("channelInitializer", GrpcTestInterceptor.class.getCanonicalName())
+            .withArg("useQueryService", "true")
+            .withArg("useStreamResultSets", "true");
+
+    @BeforeEach
+    public void resetInterceptor() {
+        GrpcTestInterceptor.reset();
+    }
+
+    @Test
+    public void lazyResultSetErrorTest() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            try (Statement st = conn.createStatement(ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY)) {
+                // lazy result set is returned on the first part, the stream error is reported on reading
+                GrpcTestInterceptor.nextBrokenStream(1);
+                try (ResultSet rs = st.executeQuery(SELECT_RANGE)) {
+                    Assertions.assertTrue(rs.next());
+                    Assertions.assertEquals(0, rs.getInt("id"));
+                    ExceptionAssert.sqlTransientConnection(STREAM_ERROR, () -> rs.absolute(2000));
+                }
+
+                GrpcTestInterceptor.nextBrokenStream(1);
+                try (ResultSet rs = st.executeQuery(SELECT_RANGE)) {
+                    ExceptionAssert.sqlTransientConnection(STREAM_ERROR, () -> {
+                        while (rs.next()) {
+                            Assertions.assertTrue(rs.getInt("id") < 1000);
+                        }
+                    });
+                }
+
+                // the connection still works
+                try (ResultSet rs = st.executeQuery(SELECT_RANGE)) {
+                    Assertions.assertTrue(rs.last());
+                    Assertions.assertEquals(999, rs.getInt("id"));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void forwardOnlyResultSetErrorTest() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            try (Statement st = conn.createStatement()) {
+                // forward only result set with default fetch size reads the whole stream on the execution
+                GrpcTestInterceptor.nextBrokenStream(1);
+                ExceptionAssert.sqlTransientConnection("TRANSPORT_UNAVAILABLE", () -> st.executeQuery(SELECT_RANGE));
+
+                st.setFetchSize(10);
+                GrpcTestInterceptor.nextBrokenStream(1);
+                try (ResultSet rs = st.executeQuery(SELECT_RANGE)) {
+                    ExceptionAssert.sqlTransientConnection(STREAM_ERROR, () -> {
+                        while (rs.next()) {
+                            Assertions.assertTrue(rs.getInt("id") < 1000);
+                        }
+                    });
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package tech.ydb.jdbc.context;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.core.Status;
+import tech.ydb.core.grpc.GrpcFlowControl;
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.result.impl.ProtoValueReaders;
+
+public class TableSplitStreamTest {
+    private static final ResultSetReader PART = ProtoValueReaders.forResultSet(
+            ValueProtos.ResultSet.getDefaultInstance());
+
+    private static TableSplitStream createStream(Runnable onUpdate) {
+        return new TableSplitStream(new TableSplit("/local/t1", 0, null, true, null, true), onUpdate);
+    }
+
+    @Test
+    public void backpressureTest() {
+        AtomicInteger requested = new AtomicInteger(0);
+        AtomicInteger updates = new AtomicInteger(0);
+        TableSplitStream stream = createStream(updates::incrementAndGet);
+        GrpcFlowControl.Call call = stream.newCall(requested::addAndGet);
+
+        call.onStart();
+        Assertions.assertEquals(1, requested.get());
+
+        // every message is requested while the buffer has room, the full buffer stops the requests
+        for (int idx = 0; idx < TableSplitStream.MAX_BUFFERED_PARTS; idx++) {
+            stream.onPart(PART);
+            call.onMessageRead();
+        }
+        Assertions.assertEquals(TableSplitStream.MAX_BUFFERED_PARTS, requested.get());
+        Assertions.assertEquals(TableSplitStream.MAX_BUFFERED_PARTS, updates.get());
+
+        // the first poll of stalled stream requests the next message, the next polls don't
+        Assertions.assertSame(PART, stream.poll());
+        Assertions.assertEquals(TableSplitStream.MAX_BUFFERED_PARTS + 1, requested.get());
+        Assertions.assertSame(PART, stream.poll());
+        Assertions.assertEquals(TableSplitStream.MAX_BUFFERED_PARTS + 1, requested.get());
+
+        // the message read with the room in buffer requests the next one at once
+        stream.onPart(PART);
+        call.onMessageRead();
+        Assertions.assertEquals(TableSplitStream.MAX_BUFFERED_PARTS + 2, requested.get());
+
+        while (stream.hasBufferedParts()) {
+            Assertions.assertSame(PART, stream.poll());
+        }
+        Assertions.assertNull(stream.poll());
+        Assertions.assertFalse(stream.isCompleted());
+
+        stream.complete(Status.SUCCESS, null);
+        Assertions.assertTrue(stream.isCompleted());
+        Assertions.assertEquals(TableSplitStream.MAX_BUFFERED_PARTS + 2, updates.get());
+    }
+
+    @Test
+    public void concurrentReadTest() throws Exception {
+        int total = 100_000;
+        Semaphore requests = new Semaphore(0);
+        TableSplitStream stream = createStream(() -> { });
+        GrpcFlowControl.Call call = stream.newCall(requests::release);
+
+        ExecutorService server = Executors.newSingleThreadExecutor();
+        try {
+            // the server sends one message per request, the lost request stalls the stream forever
+            Future<?> sent = server.submit(() -> {
+                call.onStart();
+                for (int idx = 0; idx < total; idx++) {
+                    if (!requests.tryAcquire(10, TimeUnit.SECONDS)) {
+                        throw new AssertionError("Stream is stalled after " + idx + " parts");
+                    }
+                    stream.onPart(PART);
+                    call.onMessageRead();
+                }
+                stream.complete(Status.SUCCESS, null);
+                return null;
+            });
+
+            int read = 0;
+            while (!sent.isDone() || stream.hasBufferedParts()) {
+                if (stream.poll() != null) {
+                    read += 1;
+                } else {
+                    Thread.yield();
+                }
+            }
+
+            sent.get();
+            Assertions.assertEquals(total, read);
+            Assertions.assertTrue(stream.isCompleted());
+        } finally {
+            server.shutdownNow();
+        }
+    }
+}
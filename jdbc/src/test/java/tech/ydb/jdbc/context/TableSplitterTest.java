@@ -0,0 +1,22 @@
+package tech.ydb.jdbc.context;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TableSplitterTest {
+    @Test
+    public void onePartitionPerSplitTest() {
+        Assertions.assertArrayEquals(new int[] {0, 1}, TableSplitter.groupPartitions(1, 1));
+        Assertions.assertArrayEquals(new int[] {0, 1}, TableSplitter.groupPartitions(1, 8));
+        Assertions.assertArrayEquals(new int[] {0, 1, 2, 3}, TableSplitter.groupPartitions(3, 3));
+        Assertions.assertArrayEquals(new int[] {0, 1, 2, 3}, TableSplitter.groupPartitions(3, 10));
+    }
+
+    @Test
+    public void mergedPartitionsTest() {
+        Assertions.assertArrayEquals(new int[] {0, 5}, TableSplitter.groupPartitions(5, 1));
+        Assertions.assertArrayEquals(new int[] {0, 2, 4}, TableSplitter.groupPartitions(4, 2));
+        Assertions.assertArrayEquals(new int[] {0, 2, 5}, TableSplitter.groupPartitions(5, 2));
+        Assertions.assertArrayEquals(new int[] {0, 3, 6, 10}, TableSplitter.groupPartitions(10, 3));
+    }
+}
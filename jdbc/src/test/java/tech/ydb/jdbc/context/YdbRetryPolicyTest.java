@@ -0,0 +1,109 @@
+package tech.ydb.jdbc.context;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.core.StatusCode;
+
+public class YdbRetryPolicyTest {
+    private static final Duration FAST = Duration.ofMillis(10);
+    private static final Duration SLOW = Duration.ofMillis(100);
+
+    @Test
+    public void disabledRetriesTest() {
+        YdbRetryPolicy policy = new YdbRetryPolicy(0, FAST, SLOW, 10);
+
+        Assertions.assertEquals(YdbRetryPolicy.NO_RETRY, policy.nextRetryDelayMillis(StatusCode.ABORTED, 0, true));
+        Assertions.assertEquals(YdbRetryPolicy.NO_RETRY, policy.nextRetryDelayMillis(StatusCode.OVERLOADED, 0, true));
+
+        // BAD_SESSION is always retried without delay
+        Assertions.assertEquals(0, policy.nextRetryDelayMillis(StatusCode.BAD_SESSION, 0, false));
+        Assertions.assertEquals(0, policy.nextRetryDelayMillis(StatusCode.BAD_SESSION, 9, false));
+        Assertions.assertEquals(YdbRetryPolicy.NO_RETRY,
+                policy.nextRetryDelayMillis(StatusCode.BAD_SESSION, 10, false));
+
+        Assertions.assertEquals(2, policy.getRetriesCount());
+    }
+
+    @Test
+    public void statusClassesTest() {
+        YdbRetryPolicy policy = new YdbRetryPolicy(5, FAST, SLOW, 100);
+
+        assertDelay(5, 10, policy.nextRetryDelayMillis(StatusCode.ABORTED, 0, false));
+        assertDelay(10, 20, policy.nextRetryDelayMillis(StatusCode.UNAVAILABLE, 1, false));
+        assertDelay(20, 40, policy.nextRetryDelayMillis(StatusCode.SESSION_BUSY, 2, false));
+        assertDelay(50, 100, policy.nextRetryDelayMillis(StatusCode.OVERLOADED, 0, false));
+        assertDelay(200, 400, policy.nextRetryDelayMillis(StatusCode.CLIENT_RESOURCE_EXHAUSTED, 2, false));
+
+        // conditionally retryable statuses are retried only for idempotent statements
+        Assertions.assertEquals(YdbRetryPolicy.NO_RETRY,
+                policy.nextRetryDelayMillis(StatusCode.UNDETERMINED, 0, false));
+        assertDelay(5, 10, policy.nextRetryDelayMillis(StatusCode.UNDETERMINED, 0, true));
+
+        // non retryable statuses
+        Assertions.assertEquals(YdbRetryPolicy.NO_RETRY, policy.nextRetryDelayMillis(StatusCode.BAD_REQUEST, 0, true));
+        Assertions.assertEquals(YdbRetryPolicy.NO_RETRY, policy.nextRetryDelayMillis(StatusCode.SCHEME_ERROR, 0, true));
+        Assertions.assertEquals(YdbRetryPolicy.NO_RETRY,
+                policy.nextRetryDelayMillis(StatusCode.CLIENT_CANCELLED, 0, true));
+        Assertions.assertEquals(YdbRetryPolicy.NO_RETRY,
+                policy.nextRetryDelayMillis(StatusCode.CLIENT_DEADLINE_EXCEEDED, 0, true));
+
+        // max retries
+        Assertions.assertEquals(YdbRetryPolicy.NO_RETRY, policy.nextRetryDelayMillis(StatusCode.ABORTED, 5, true));
+    }
+
+    @Test
+    public void retryBudgetTest() {
+        YdbRetryPolicy policy = new YdbRetryPolicy(100, Duration.ZERO, Duration.ZERO, 50);
+
+        // initial budget is 10 retries
+        for (int idx = 0; idx < 10; idx++) {
+            Assertions.assertEquals(0, policy.nextRetryDelayMillis(StatusCode.ABORTED, idx, false));
+        }
+        Assertions.assertEquals(YdbRetryPolicy.NO_RETRY, policy.nextRetryDelayMillis(StatusCode.ABORTED, 10, false));
+        Assertions.assertEquals(10, policy.getRetriesCount());
+        Assertions.assertEquals(1, policy.getRejectedRetriesCount());
+
+        // two successful statements give one retry
+        policy.onSuccess();
+        Assertions.assertEquals(YdbRetryPolicy.NO_RETRY, policy.nextRetryDelayMillis(StatusCode.ABORTED, 0, false));
+        policy.onSuccess();
+        Assertions.assertEquals(0, policy.nextRetryDelayMillis(StatusCode.ABORTED, 0, false));
+        Assertions.assertEquals(YdbRetryPolicy.NO_RETRY, policy.nextRetryDelayMillis(StatusCode.ABORTED, 0, false));
+
+        Assertions.assertEquals(11, policy.getRetriesCount());
+        Assertions.assertEquals(3, policy.getRejectedRetriesCount());
+    }
+
+    @Test
+    public void badSessionIgnoresBudgetTest() {
+        YdbRetryPolicy policy = new YdbRetryPolicy(0, FAST, SLOW, 0);
+
+        // budget is never refilled, but session kills are retried by every statement
+        for (int statement = 0; statement < 20; statement++) {
+            for (int idx = 0; idx < 10; idx++) {
+                Assertions.assertEquals(0, policy.nextRetryDelayMillis(StatusCode.BAD_SESSION, idx, false));
+            }
+            Assertions.assertEquals(0, policy.nextTxRetryDelayMillis(StatusCode.BAD_SESSION, 0));
+        }
+
+        Assertions.assertEquals(220, policy.getRetriesCount());
+        Assertions.assertEquals(0, policy.getRejectedRetriesCount());
+    }
+
+    @Test
+    public void backoffCeilingTest() {
+        YdbRetryPolicy policy = new YdbRetryPolicy(100, FAST, SLOW, 100);
+        for (int idx = 0; idx < 10; idx++) {
+            policy.onSuccess();
+        }
+        assertDelay(1280, 2560, policy.nextRetryDelayMillis(StatusCode.ABORTED, 20, false));
+        assertDelay(3200, 6400, policy.nextRetryDelayMillis(StatusCode.OVERLOADED, 20, false));
+    }
+
+    private static void assertDelay(long min, long max, long delay) {
+        Assertions.assertTrue(delay >= min && delay <= max, "Delay " + delay + " is out of [" + min + ", " + max + "]");
+    }
+}
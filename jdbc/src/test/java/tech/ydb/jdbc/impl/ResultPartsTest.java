@@ -0,0 +1,143 @@
+package tech.ydb.jdbc.impl;
+
+import java.util.Arrays;
+
+import com.google.protobuf.ByteString;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.jdbc.common.FixedResultSetFactory;
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.result.impl.ProtoValueReaders;
+import tech.ydb.table.values.PrimitiveType;
+
+public class ResultPartsTest {
+    private static final FixedResultSetFactory FACTORY = FixedResultSetFactory.newBuilder()
+            .addIntColumn("id")
+            .addTextColumn("value")
+            .build();
+
+    private static ResultSetReader part(int from, int count) {
+        FixedResultSetFactory.ResultSetBuilder builder = FACTORY.createResultSet();
+        for (int id = from; id < from + count; id++) {
+            builder.newRow().withIntValue("id", id).withTextValue("value", id % 2 == 0 ? "v" + id : null).build();
+        }
+        return builder.build();
+    }
+
+    private static ResultSetReader bytesPart(int rows, int valueSize) {
+        ValueProtos.ResultSet.Builder rs = ValueProtos.ResultSet.newBuilder().addColumns(ValueProtos.Column
+                .newBuilder().setName("data")
+                .setType(ValueProtos.Type.newBuilder().setTypeId(ValueProtos.Type.PrimitiveTypeId.STRING)));
+        for (int idx = 0; idx < rows; idx++) {
+            byte[] data = new byte[valueSize];
+            Arrays.fill(data, (byte) idx);
+            rs.addRows(ValueProtos.Value.newBuilder().addItems(ValueProtos.Value.newBuilder()
+                    .setBytesValue(ByteString.copyFrom(data))));
+        }
+        return ProtoValueReaders.forResultSet(rs.build());
+    }
+
+    @Test
+    public void findPartTest() {
+        try (ResultParts parts = ResultParts.inMemory(part(0, 3), part(3, 0), part(3, 2), part(5, 0), part(5, 1))) {
+            Assertions.assertEquals(5, parts.getPartsCount());
+            Assertions.assertEquals(6, parts.getRowCount());
+
+            Assertions.assertEquals(-1, parts.findPart(-1));
+            Assertions.assertEquals(0, parts.findPart(0));
+            Assertions.assertEquals(0, parts.findPart(2));
+            Assertions.assertEquals(2, parts.findPart(3));
+            Assertions.assertEquals(2, parts.findPart(4));
+            Assertions.assertEquals(4, parts.findPart(5));
+            Assertions.assertEquals(-1, parts.findPart(6));
+
+            Assertions.assertEquals(0, parts.getPartOffset(0));
+            Assertions.assertEquals(3, parts.getPartOffset(2));
+            Assertions.assertEquals(5, parts.getPartOffset(4));
+        }
+    }
+
+    @Test
+    public void spillTest() {
+        ResultSetReader first = part(0, 10);
+        try (ResultParts parts = new ResultParts(1)) {
+            parts.add(first);
+            for (int idx = 1; idx < 20; idx++) {
+                parts.add(part(idx * 10, 10));
+            }
+
+            Assertions.assertEquals(20, parts.getPartsCount());
+            Assertions.assertEquals(200, parts.getRowCount());
+            Assertions.assertEquals(13, parts.findPart(135));
+
+            // the first part is always kept in heap
+            Assertions.assertSame(first, parts.getPart(0));
+
+            ResultSetReader spilled = parts.getPart(13);
+            Assertions.assertNotSame(spilled, parts.getPart(12));
+            Assertions.assertEquals(10, spilled.getRowCount());
+            Assertions.assertEquals(2, spilled.getColumnCount());
+            Assertions.assertEquals("id", spilled.getColumnName(0));
+            Assertions.assertEquals("value", spilled.getColumnName(1));
+            Assertions.assertEquals(PrimitiveType.Text.makeOptional(), spilled.getColumnType(1));
+
+            Assertions.assertEquals(20, parts.toArray().length);
+        }
+    }
+
+    @Test
+    public void spillLargeBytesTest() {
+        // 10 parts by 10 rows by 100KB, only 1MB of them can be kept in heap
+        ResultSetReader[] readers = new ResultSetReader[10];
+        try (ResultParts parts = new ResultParts(1024 * 1024)) {
+            for (int idx = 0; idx < readers.length; idx++) {
+                readers[idx] = bytesPart(10, 100 * 1024);
+                parts.add(readers[idx]);
+            }
+
+            Assertions.assertSame(readers[0], parts.getPart(0));
+            Assertions.assertSame(readers[1], parts.getPart(1));
+
+            int spilled = 0;
+            for (int idx = 1; idx < readers.length; idx++) {
+                if (parts.getPart(idx) != readers[idx]) {
+                    spilled++;
+                }
+            }
+            // the first part is not counted, so the next part of 1000KB fits the limit and the rest are spilled
+            Assertions.assertEquals(8, spilled);
+
+            ResultSetReader last = parts.getPart(9);
+            Assertions.assertEquals(10, last.getRowCount());
+            last.setRowIndex(3);
+            byte[] data = last.getColumn(0).getBytes();
+            Assertions.assertEquals(100 * 1024, data.length);
+            Assertions.assertEquals(3, data[0]);
+            Assertions.assertEquals(3, data[data.length - 1]);
+        }
+    }
+
+    @Test
+    public void lazyArrayTest() {
+        ResultSetReader[] array;
+        try (ResultParts parts = new ResultParts(1)) {
+            for (int idx = 0; idx < 10; idx++) {
+                parts.add(part(idx * 10, 10));
+            }
+
+            array = parts.toArray();
+            Assertions.assertEquals(10, array.length);
+            // spilled parts know the row count without reading the file
+            Assertions.assertEquals(10, array[5].getRowCount());
+            Assertions.assertEquals(2, array[5].getColumnCount());
+            Assertions.assertEquals("value", array[5].getColumnName(1));
+        }
+
+        // already read part is still available, the rest parts are lost with the file
+        Assertions.assertEquals("value", array[5].getColumnName(1));
+        Assertions.assertEquals(10, array[6].getRowCount());
+        Assertions.assertThrows(IllegalStateException.class, () -> array[6].getColumnCount());
+    }
+}
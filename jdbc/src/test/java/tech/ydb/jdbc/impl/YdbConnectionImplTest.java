@@ -986,6 +986,58 @@ public class YdbConnectionImplTest {
         }
     }
 
+    @Test
+    @Timeout(value = 30, unit = TimeUnit.SECONDS, threadMode = Timeout.ThreadMode.SAME_THREAD)
+    public void closeResultSetOfWritingQueryTest() throws SQLException {
+        String upsert = QUERIES.withTableName("upsert into #tableName (key, c_Text) values (?, 'written');\n");
+        String selectRange = "select * from AS_TABLE(ListMap(ListFromRange(0, 100000), ($x) -> (AsStruct($x AS id))));";
+
+        try (Connection conn = jdbc.createCustomConnection("useStreamResultSets", "true")) {
+            // autocommit query is committed at the end of stream
+            try (Statement st = conn.createStatement()) {
+                st.setFetchSize(10); // lazy reading
+                Assertions.assertFalse(st.execute(upsert.replace("?", "1") + selectRange));
+                Assertions.assertTrue(st.getMoreResults());
+
+                try (ResultSet rs = st.getResultSet()) {
+                    Assertions.assertTrue(rs.next());
+                    Assertions.assertEquals(0, rs.getInt("id"));
+                    // after ResultSet closing the rest of stream will be skipped
+                }
+                Assertions.assertNull(st.getWarnings());
+            }
+
+            // interactive transaction is kept after closing of result set
+            conn.setAutoCommit(false);
+            try (Statement st = conn.createStatement()) {
+                Assertions.assertEquals(1, st.executeUpdate(upsert.replace("?", "2")));
+
+                st.setFetchSize(10); // lazy reading
+                try (ResultSet rs = st.executeQuery(selectRange)) {
+                    Assertions.assertTrue(rs.next());
+                    Assertions.assertEquals(0, rs.getInt("id"));
+                }
+                Assertions.assertNull(st.getWarnings());
+            }
+            conn.commit();
+
+            try (Statement st = conn.createStatement()) {
+                try (ResultSet rs = st.executeQuery(QUERIES.withTableName("select key, c_Text from #tableName"))) {
+                    Assertions.assertTrue(rs.next());
+                    Assertions.assertEquals(1, rs.getInt("key"));
+                    Assertions.assertEquals("written", rs.getString("c_Text"));
+                    Assertions.assertTrue(rs.next());
+                    Assertions.assertEquals(2, rs.getInt("key"));
+                    Assertions.assertEquals("written", rs.getString("c_Text"));
+                    Assertions.assertFalse(rs.next());
+                }
+            }
+            conn.commit();
+        } finally {
+            cleanTable();
+        }
+    }
+
     @Test
     public void testAnsiLexer() throws SQLException {
         try (Statement statement = jdbc.connection().createStatement()) {
@@ -2,6 +2,7 @@ package tech.ydb.jdbc.impl;
 
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.RowIdLifetime;
 import java.sql.SQLException;
@@ -30,6 +31,7 @@ import tech.ydb.jdbc.common.JdbcDriverVersion;
 import tech.ydb.jdbc.common.YdbFunctions;
 import tech.ydb.jdbc.impl.helper.ExceptionAssert;
 import tech.ydb.jdbc.impl.helper.JdbcConnectionExtention;
+import tech.ydb.jdbc.impl.helper.JdbcUrlHelper;
 import tech.ydb.jdbc.impl.helper.SqlQueries;
 import tech.ydb.jdbc.impl.helper.TableAssert;
 import tech.ydb.test.junit5.YdbHelperExtension;
@@ -669,6 +671,56 @@ public class YdbDatabaseMetaDataImplTest {
         }
     }
 
+    @Test
+    public void schemeChangesTest() throws SQLException {
+        String tableName = "dir3/cached_table";
+        // the tables list is cached only if it is enabled explicitly
+        String url = new JdbcUrlHelper(ydb).withArg("schemaCacheTtl", "1h").build();
+        try (Connection conn = DriverManager.getConnection(url)) {
+            DatabaseMetaData cached = conn.getMetaData();
+            try (ResultSet rs = cached.getTables(null, null, tableName, null)) {
+                Assertions.assertFalse(rs.next());
+            }
+
+            try (Statement statement = conn.createStatement()) {
+                statement.execute("create table `" + tableName + "` (id Int32, primary key (id))");
+            }
+
+            // scheme query executed by driver invalidates the cached tables list
+            try (ResultSet rs = cached.getTables(null, null, tableName, null)) {
+                Assertions.assertTrue(rs.next());
+                Assertions.assertEquals(tableName, rs.getString("TABLE_NAME"));
+                Assertions.assertFalse(rs.next());
+            }
+            try (ResultSet rs = cached.getColumns(null, null, tableName, null)) {
+                Assertions.assertTrue(rs.next());
+                Assertions.assertEquals("id", rs.getString("COLUMN_NAME"));
+                Assertions.assertFalse(rs.next());
+            }
+
+            try (Statement statement = conn.createStatement()) {
+                statement.execute("alter table `" + tableName + "` add column value Text");
+            }
+            try (ResultSet rs = cached.getColumns(null, null, tableName, null)) {
+                Assertions.assertTrue(rs.next());
+                Assertions.assertEquals("id", rs.getString("COLUMN_NAME"));
+                Assertions.assertTrue(rs.next());
+                Assertions.assertEquals("value", rs.getString("COLUMN_NAME"));
+                Assertions.assertFalse(rs.next());
+            }
+
+            try (Statement statement = conn.createStatement()) {
+                statement.execute("drop table `" + tableName + "`");
+            }
+            try (ResultSet rs = cached.getTables(null, null, tableName, null)) {
+                Assertions.assertFalse(rs.next());
+            }
+            try (ResultSet rs = cached.getColumns(null, null, tableName, null)) {
+                Assertions.assertFalse(rs.next());
+            }
+        }
+    }
+
     @Test
     public void getAllColumnsTest() throws SQLException {
         // Get all columns from all tables, include system tables. Test checks if jdbc driver reads it all successfully
@@ -0,0 +1,187 @@
+package tech.ydb.jdbc.impl;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import tech.ydb.core.Status;
+import tech.ydb.core.grpc.GrpcFlowControl;
+import tech.ydb.core.grpc.GrpcReadStream;
+import tech.ydb.jdbc.YdbResultSet;
+import tech.ydb.jdbc.YdbStatement;
+import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.jdbc.impl.helper.JdbcConnectionExtention;
+import tech.ydb.jdbc.query.QueryKey;
+import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.jdbc.settings.YdbQueryProperties;
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.result.impl.ProtoValueReaders;
+import tech.ydb.test.junit5.YdbHelperExtension;
+
+public class YdbQueryResultReaderTest {
+    private static final int ROWS_IN_PART = 10;
+
+    @RegisterExtension
+    private static final YdbHelperExtension ydb = new YdbHelperExtension();
+
+    @RegisterExtension
+    private static final JdbcConnectionExtention jdbc = new JdbcConnectionExtention(ydb);
+
+    private static ResultSetReader part(int from) {
+        ValueProtos.ResultSet.Builder rs = ValueProtos.ResultSet.newBuilder().addColumns(ValueProtos.Column
+                .newBuilder().setName("id")
+                .setType(ValueProtos.Type.newBuilder().setTypeId(ValueProtos.Type.PrimitiveTypeId.INT32)));
+        for (int idx = from; idx < from + ROWS_IN_PART; idx++) {
+            rs.addRows(ValueProtos.Value.newBuilder().addItems(ValueProtos.Value.newBuilder().setInt32Value(idx)));
+        }
+        return ProtoValueReaders.forResultSet(rs.build());
+    }
+
+    private static YdbStatement scrollableStatement() throws SQLException {
+        Statement st = jdbc.connection().createStatement(ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
+        return st.unwrap(YdbStatement.class);
+    }
+
+    private static YdbQuery selectQuery(YdbTypes types) throws SQLException {
+        return YdbQuery.parseQuery(new QueryKey("SELECT 1"), new YdbQueryProperties(new Properties()), types);
+    }
+
+    /**
+     * Fake stream which sends the next part only when the reader requests it, like the server does
+     */
+    private static class FakeStream implements GrpcReadStream<ResultSetReader> {
+        private final CompletableFuture<Status> completed = new CompletableFuture<>();
+        private final AtomicInteger requested = new AtomicInteger(0);
+        private final GrpcFlowControl.Call call;
+        private final int total;
+
+        private Observer<ResultSetReader> observer = null;
+        private int sent = 0;
+        private boolean isCancelled = false;
+
+        FakeStream(GrpcFlowControl flowControl, int total) {
+            this.call = flowControl.newCall(requested::addAndGet);
+            this.total = total;
+        }
+
+        @Override
+        public CompletableFuture<Status> start(Observer<ResultSetReader> observer) {
+            this.observer = observer;
+            call.onStart();
+            send();
+            return completed;
+        }
+
+        void send() {
+            while (sent < requested.get() && sent < total && !isCancelled) {
+                observer.onNext(part(sent * ROWS_IN_PART));
+                sent++;
+                call.onMessageRead();
+            }
+            if (sent == total && !completed.isDone()) {
+                completed.complete(Status.SUCCESS);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            isCancelled = true;
+            completed.complete(Status.SUCCESS);
+        }
+    }
+
+    @Test
+    public void lazyResultSetBackpressureTest() throws SQLException {
+        YdbStatement statement = scrollableStatement();
+        YdbTypes types = statement.getConnection().getCtx().getTypes();
+        YdbQueryResultReader reader = new YdbQueryResultReader(types, statement, selectQuery(types));
+
+        int total = 100;
+        FakeStream stream = new FakeStream(reader, total);
+        reader.load(stream);
+
+        // the stream is stalled when the lazy result set has enough buffered parts
+        Assertions.assertEquals(YdbQueryResultReader.MAX_LAZY_PARTS, stream.sent);
+        Assertions.assertEquals(YdbQueryResultReader.MAX_LAZY_PARTS, reader.getBufferedPartsCount());
+
+        YdbResultSet rs = reader.getResultSet(0);
+        Assertions.assertNotNull(rs);
+        Assertions.assertEquals(0, reader.getBufferedPartsCount());
+
+        int read = 0;
+        while (true) {
+            stream.send();
+            Assertions.assertTrue(reader.getBufferedPartsCount() <= YdbQueryResultReader.MAX_LAZY_PARTS,
+                    "Too many buffered parts " + reader.getBufferedPartsCount());
+            if (!rs.next()) {
+                break;
+            }
+            Assertions.assertEquals(read, rs.getInt("id"));
+            read++;
+        }
+
+        Assertions.assertEquals(total, stream.sent);
+        Assertions.assertEquals(total * ROWS_IN_PART, read);
+        reader.close();
+    }
+
+    @Test
+    public void lazyResultSetEarlyCloseTest() throws SQLException {
+        YdbStatement statement = scrollableStatement();
+        YdbTypes types = statement.getConnection().getCtx().getTypes();
+        YdbQueryResultReader reader = new YdbQueryResultReader(types, statement, selectQuery(types)) {
+            @Override
+            protected boolean isCancellable() {
+                return true;
+            }
+        };
+
+        FakeStream stream = new FakeStream(reader, 100);
+        reader.load(stream);
+
+        YdbResultSet rs = reader.getResultSet(0);
+        Assertions.assertTrue(rs.next());
+        Assertions.assertEquals(0, rs.getInt("id"));
+
+        // the parts received after the first read are buffered until the result set is closed
+        stream.send();
+        Assertions.assertEquals(YdbQueryResultReader.MAX_LAZY_PARTS, reader.getBufferedPartsCount());
+
+        rs.close();
+        Assertions.assertEquals(0, reader.getBufferedPartsCount());
+        Assertions.assertTrue(stream.isCancelled, "Closing of lazy result set must cancel the stream");
+        Assertions.assertTrue(stream.sent < 100);
+
+        reader.close();
+    }
+
+    @Test
+    public void lazyResultSetEarlyCloseDrainTest() throws SQLException {
+        YdbStatement statement = scrollableStatement();
+        YdbTypes types = statement.getConnection().getCtx().getTypes();
+        YdbQueryResultReader reader = new YdbQueryResultReader(types, statement, selectQuery(types));
+
+        FakeStream stream = new FakeStream(reader, 100);
+        reader.load(stream);
+
+        YdbResultSet rs = reader.getResultSet(0);
+        Assertions.assertTrue(rs.next());
+        rs.close();
+
+        // not cancellable stream is read to the end and the parts of closed result set are skipped
+        stream.send();
+        Assertions.assertFalse(stream.isCancelled);
+        Assertions.assertEquals(100, stream.sent);
+        Assertions.assertEquals(0, reader.getBufferedPartsCount());
+
+        reader.close();
+    }
+}
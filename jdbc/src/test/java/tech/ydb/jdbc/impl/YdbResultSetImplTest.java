@@ -25,7 +25,10 @@ import java.time.LocalTime;
 import java.time.Month;
 import java.time.ZoneOffset;
 import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.sql.rowset.serial.SerialBlob;
 import javax.sql.rowset.serial.SerialClob;
@@ -501,6 +504,64 @@ public class YdbResultSetImplTest {
         }
     }
 
+    public static class KeyValue {
+        public int key;
+        public String cText;
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1000 })
+    public void streamTest(int fetchSize) throws SQLException {
+        try (Statement st = jdbc.connection().createStatement()) {
+            st.setFetchSize(fetchSize);
+            YdbResultSet rs = st.executeQuery(BIG.selectColumn("c_Text")).unwrap(YdbResultSet.class);
+
+            List<KeyValue> rows;
+            try (Stream<KeyValue> stream = rs.stream(KeyValue.class)) {
+                rows = stream.collect(Collectors.toList());
+            }
+
+            Assertions.assertTrue(rs.isClosed());
+            Assertions.assertEquals(10000, rows.size());
+            for (KeyValue row : rows) {
+                Assertions.assertEquals("value-" + row.key, row.cText);
+            }
+            Assertions.assertEquals(50005000L, rows.stream().mapToLong(row -> row.key).sum());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1000 })
+    public void parallelStreamTest(int fetchSize) throws SQLException {
+        try (Statement st = jdbc.connection().createStatement()) {
+            st.setFetchSize(fetchSize);
+            YdbResultSet rs = st.executeQuery(BIG.selectColumn("c_Text")).unwrap(YdbResultSet.class);
+
+            // the first row is read by cursor, the stream continues from the second one
+            Assertions.assertTrue(rs.next());
+            int first = rs.getInt("key");
+
+            long sum;
+            try (Stream<Integer> keys = rs.stream(row -> row.getInt("key"))) {
+                sum = keys.parallel().mapToLong(Integer::longValue).sum();
+            }
+            Assertions.assertEquals(50005000L, first + sum);
+        }
+    }
+
+    @Test
+    public void closeStreamTest() throws SQLException {
+        try (Statement st = jdbc.connection().createStatement()) {
+            st.setFetchSize(100);
+            YdbResultSet rs = st.executeQuery(BIG.selectColumn("c_Text")).unwrap(YdbResultSet.class);
+
+            try (Stream<String> values = rs.stream(row -> row.getString("c_Text"))) {
+                Assertions.assertEquals(10, values.limit(10).count());
+            }
+            Assertions.assertTrue(rs.isClosed());
+        }
+    }
+
     @Test
     public void forwarnOnlyUnsupportedMethods() throws SQLException {
         try (Statement st = jdbc.connection().createStatement()) {
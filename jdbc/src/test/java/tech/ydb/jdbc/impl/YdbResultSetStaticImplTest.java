@@ -1,6 +1,7 @@
 package tech.ydb.jdbc.impl;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
@@ -8,6 +9,8 @@ import java.io.StringReader;
 import java.math.BigDecimal;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.sql.Date;
 import java.sql.JDBCType;
 import java.sql.PreparedStatement;
@@ -2407,6 +2410,52 @@ public class YdbResultSetStaticImplTest {
         checker.assertNoRows();
     }
 
+    @Test
+    public void getStreamsOfLargeBytes() throws SQLException, IOException {
+        // multi-byte characters are split by the boundaries of the read buffers
+        StringBuilder sb = new StringBuilder("x");
+        for (int idx = 0; idx < 5000; idx++) {
+            sb.append("\u0436\u0451\u20ac\ud83d\ude00");
+        }
+        byte[] data = sb.toString().getBytes(StandardCharsets.UTF_8);
+        // Bytes columns are decoded by the default charset, like String(byte[])
+        String expected = new String(data, Charset.defaultCharset());
+
+        String query = "SELECT ? AS data, Nothing(String?) AS empty";
+        try (PreparedStatement ps = jdbc.connection().prepareStatement(query)) {
+            ps.setBytes(1, data);
+            try (ResultSet rs = ps.executeQuery()) {
+                Assertions.assertTrue(rs.next());
+
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try (InputStream is = rs.getBinaryStream("data")) {
+                    byte[] buffer = new byte[1000];
+                    int len;
+                    while ((len = is.read(buffer)) >= 0) {
+                        bytes.write(buffer, 0, len);
+                    }
+                }
+                Assertions.assertArrayEquals(data, bytes.toByteArray());
+
+                StringBuilder chars = new StringBuilder();
+                try (Reader reader = rs.getCharacterStream("data")) {
+                    char[] buffer = new char[7];
+                    int len;
+                    while ((len = reader.read(buffer)) >= 0) {
+                        chars.append(buffer, 0, len);
+                    }
+                }
+                Assertions.assertEquals(expected, chars.toString());
+
+                Assertions.assertNull(rs.getBinaryStream("empty"));
+                Assertions.assertNull(rs.getCharacterStream("empty"));
+                Assertions.assertTrue(rs.wasNull());
+
+                Assertions.assertFalse(rs.next());
+            }
+        }
+    }
+
     @Test
     public void getURL() throws MalformedURLException, SQLException {
         ResultSetChecker<URL> checker = check(resultSet, ResultSet::getURL, ResultSet::getURL);
@@ -3,6 +3,12 @@ package tech.ydb.jdbc.impl;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
@@ -11,17 +17,25 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import tech.ydb.jdbc.YdbConnection;
+import tech.ydb.jdbc.YdbConst;
 import tech.ydb.jdbc.YdbPreparedStatement;
 import tech.ydb.jdbc.YdbResultSet;
 import tech.ydb.jdbc.YdbStatement;
+import tech.ydb.jdbc.context.TableSplit;
 import tech.ydb.jdbc.impl.helper.ExceptionAssert;
 import tech.ydb.jdbc.impl.helper.JdbcConnectionExtention;
 import tech.ydb.jdbc.impl.helper.SqlQueries;
 import tech.ydb.jdbc.impl.helper.TableAssert;
 import tech.ydb.jdbc.impl.helper.TextSelectAssert;
+import tech.ydb.table.settings.ReadTableSettings;
+import tech.ydb.table.values.PrimitiveValue;
 import tech.ydb.test.junit5.YdbHelperExtension;
 
 public class YdbStatementImplTest {
@@ -244,6 +258,76 @@ public class YdbStatementImplTest {
         }
     }
 
+    /** Subscriber which requests rows by batches and collects them */
+    private static class ListSubscriber<T> implements Subscriber<T> {
+        private final int batchSize;
+        private final List<T> items = new ArrayList<>();
+        private final CompletableFuture<List<T>> result = new CompletableFuture<>();
+        private Subscription subscription;
+        private int requested = 0;
+
+        ListSubscriber(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            subscription = s;
+            requested = batchSize;
+            s.request(batchSize);
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+            requested--;
+            if (requested == 0) {
+                requested = batchSize;
+                subscription.request(batchSize);
+            }
+        }
+
+        @Override
+        public void onError(Throwable th) {
+            result.completeExceptionally(th);
+        }
+
+        @Override
+        public void onComplete() {
+            result.complete(items);
+        }
+
+        List<T> await() throws Exception {
+            return result.get(30, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void executeQueryPublisher() throws Exception {
+        statement.executeUpdate(TEST_UPSERT1_SQL);
+        statement.executeUpdate(TEST_UPSERT2_SQL);
+        statement.executeUpdate(TEST_UPSERT3_SQL);
+        jdbc.connection().commit();
+
+        YdbStatement st = statement.unwrap(YdbStatement.class);
+        Publisher<String> publisher = st.executeQueryPublisher(TEST_TABLE.selectColumn("c_Text"),
+                rs -> rs.getInt("key") + ":" + rs.getString("c_Text"));
+
+        ListSubscriber<String> subscriber = new ListSubscriber<>(1);
+        publisher.subscribe(subscriber);
+        List<String> rows = new ArrayList<>(subscriber.await());
+        Collections.sort(rows);
+        Assertions.assertEquals(Arrays.asList("1:2", "2:3", "3:4"), rows);
+
+        // publisher supports only one subscriber
+        ListSubscriber<String> second = new ListSubscriber<>(1);
+        publisher.subscribe(second);
+        Assertions.assertThrows(Exception.class, second::await);
+
+        ExceptionAssert.sqlException("Query publisher requires data query with one result set",
+                () -> st.executeQueryPublisher(TEST_TABLE.dropTableSQL(), rs -> rs.getInt(1)));
+    }
+
     @Test
     public void executeUpdate() throws SQLException {
         Assertions.assertEquals(1, statement.executeUpdate(TEST_UPSERT1_SQL));
@@ -325,6 +409,135 @@ public class YdbStatementImplTest {
         );
     }
 
+    @Test
+    public void executeReadTable() throws SQLException {
+        statement.execute(TEST_UPSERT1_SQL);
+        statement.execute(TEST_UPSERT2_SQL);
+        statement.execute(TEST_UPSERT3_SQL);
+        jdbc.connection().commit();
+
+        YdbStatement ydbStatement = statement.unwrap(YdbStatement.class);
+        ReadTableSettings.Builder settings = ReadTableSettings.newBuilder()
+                .orderedRead(true)
+                .columns("key", "c_Text")
+                .fromKeyInclusive(PrimitiveValue.newInt32(2));
+
+        try (ResultSet rs = ydbStatement.executeReadTable("ydb_statement_test", settings)) {
+            Assertions.assertEquals(2, rs.getMetaData().getColumnCount());
+
+            Assertions.assertTrue(rs.next());
+            Assertions.assertEquals(2, rs.getInt("key"));
+            Assertions.assertEquals("3", rs.getString("c_Text"));
+
+            Assertions.assertTrue(rs.next());
+            Assertions.assertEquals(3, rs.getInt("key"));
+            Assertions.assertEquals("4", rs.getString("c_Text"));
+
+            Assertions.assertFalse(rs.next());
+        }
+
+        // the builder isn't changed by the read and can be reused
+        try (ResultSet rs = ydbStatement.executeReadTable("ydb_statement_test", settings.rowLimit(1))) {
+            Assertions.assertTrue(rs.next());
+            Assertions.assertEquals(2, rs.getInt("key"));
+            Assertions.assertFalse(rs.next());
+        }
+    }
+
+    @Test
+    public void executeKeysetRead() throws SQLException {
+        statement.execute(TEST_UPSERT1_SQL);
+        statement.execute(TEST_UPSERT2_SQL);
+        statement.execute(TEST_UPSERT3_SQL);
+        jdbc.connection().commit();
+
+        YdbStatement ydbStatement = statement.unwrap(YdbStatement.class);
+        // pages of one and two rows, one full page with empty next page and one incomplete page
+        for (int pageSize: new int[] {1, 2, 3, 4}) {
+            try (ResultSet rs = ydbStatement.executeKeysetRead("ydb_statement_test", pageSize)) {
+                Assertions.assertEquals(ResultSet.TYPE_FORWARD_ONLY, rs.getType());
+                for (int key = 1; key <= 3; key++) {
+                    Assertions.assertTrue(rs.next());
+                    Assertions.assertEquals(key, rs.getInt("key"));
+                    Assertions.assertEquals(String.valueOf(key + 1), rs.getString("c_Text"));
+                }
+                Assertions.assertFalse(rs.next());
+            }
+        }
+
+        ExceptionAssert.sqlException(YdbConst.INVALID_PAGE_SIZE + 0,
+                () -> ydbStatement.executeKeysetRead("ydb_statement_test", 0));
+    }
+
+    @Test
+    public void connectionReadTable() throws SQLException {
+        statement.execute(TEST_UPSERT1_SQL);
+        statement.execute(TEST_UPSERT2_SQL);
+        statement.execute(TEST_UPSERT3_SQL);
+        jdbc.connection().commit();
+
+        YdbConnection connection = jdbc.connection().unwrap(YdbConnection.class);
+        ResultSet rs = connection.readTable("ydb_statement_test", 2);
+        Statement owner = rs.getStatement();
+
+        Assertions.assertTrue(rs.next());
+        Assertions.assertEquals(1, rs.getInt("key"));
+
+        // the result set of connection read isn't closed by other queries of connection
+        try (ResultSet other = statement.executeQuery(TEST_TABLE.selectColumn("c_Text"))) {
+            Assertions.assertTrue(other.next());
+        }
+
+        Assertions.assertTrue(rs.next());
+        Assertions.assertEquals(2, rs.getInt("key"));
+        Assertions.assertTrue(rs.next());
+        Assertions.assertEquals(3, rs.getInt("key"));
+        Assertions.assertFalse(rs.next());
+
+        // the statement of connection read is closed with its result set only
+        Assertions.assertFalse(owner.isClosed());
+        rs.close();
+        Assertions.assertTrue(owner.isClosed());
+        Assertions.assertFalse(statement.isClosed());
+    }
+
+    @Test
+    public void connectionReadSplits() throws SQLException {
+        statement.execute(TEST_UPSERT1_SQL);
+        statement.execute(TEST_UPSERT2_SQL);
+        statement.execute(TEST_UPSERT3_SQL);
+        jdbc.connection().commit();
+
+        YdbConnection connection = jdbc.connection().unwrap(YdbConnection.class);
+        for (boolean ordered: new boolean[] {true, false}) {
+            List<Integer> keys = new ArrayList<>();
+            ResultSet rs = connection.readTableParallel("ydb_statement_test", 2, ordered);
+            while (rs.next()) {
+                keys.add(rs.getInt("key"));
+            }
+            Statement owner = rs.getStatement();
+            rs.close();
+            Assertions.assertTrue(owner.isClosed());
+
+            if (!ordered) {
+                Collections.sort(keys);
+            }
+            Assertions.assertEquals(Arrays.asList(1, 2, 3), keys);
+        }
+
+        List<Integer> keys = new ArrayList<>();
+        for (TableSplit split: connection.splitTable("ydb_statement_test", 4)) {
+            ResultSet rs = connection.readSplit(split);
+            while (rs.next()) {
+                keys.add(rs.getInt("key"));
+            }
+            Statement owner = rs.getStatement();
+            rs.close();
+            Assertions.assertTrue(owner.isClosed());
+        }
+        Assertions.assertEquals(Arrays.asList(1, 2, 3), keys);
+    }
+
     @Test
     public void executeQueryExplainAndExplicitly() throws SQLException {
         String ast = "AST";
@@ -0,0 +1,77 @@
+package tech.ydb.jdbc.query;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class YqlTablesTest {
+    private static Set<String> setOf(String... values) {
+        return new HashSet<>(Arrays.asList(values));
+    }
+
+    @Test
+    public void changedTablesTest() {
+        Assertions.assertEquals(setOf("t1"), YqlTables.parseChangedTables(
+                "CREATE TABLE t1 (id Int32, value Text, PRIMARY KEY (id))"));
+        Assertions.assertEquals(setOf("dir/t1"), YqlTables.parseChangedTables(
+                "create table if not exists `dir/t1` (id Int32, primary key (id))"));
+        Assertions.assertEquals(setOf("/local/t2"), YqlTables.parseChangedTables(
+                "Drop Table If Exists `/local/t2`;"));
+        Assertions.assertEquals(setOf("t3"), YqlTables.parseChangedTables(
+                "ALTER TABLE t3 ADD COLUMN value Text"));
+        Assertions.assertEquals(setOf("t4"), YqlTables.parseChangedTables(
+                "CREATE OR REPLACE TABLE t4 (id Int32, PRIMARY KEY (id))"));
+        Assertions.assertEquals(setOf("t5"), YqlTables.parseChangedTables(
+                "CREATE EXTERNAL TABLE t5 (id Int32) WITH (DATA_SOURCE=\"src\")"));
+        Assertions.assertEquals(setOf("old", "new"), YqlTables.parseChangedTables(
+                "ALTER TABLE `old` RENAME TO `new`"));
+    }
+
+    @Test
+    public void multipleStatementsTest() {
+        Assertions.assertEquals(setOf("t1", "dir/t2", "t3"), YqlTables.parseChangedTables(""
+                + "-- DROP TABLE comment1;\n"
+                + "CREATE TABLE t1 (id Int32, PRIMARY KEY (id));\n"
+                + "/* DROP TABLE comment2; */\n"
+                + "DROP TABLE `dir/t2`;\n"
+                + "ALTER TABLE t3 SET (TTL = Interval(\"PT1H\") ON created_at);\n"
+                + "CREATE USER user1 PASSWORD 'DROP TABLE t4';\n"
+                + "CREATE TOPIC topic1;\n"
+        ));
+    }
+
+    @Test
+    public void notTablesTest() {
+        Assertions.assertEquals(Collections.emptySet(), YqlTables.parseChangedTables("GRANT ALL ON `t1` TO user1"));
+        Assertions.assertEquals(Collections.emptySet(), YqlTables.parseChangedTables("CREATE VIEW v1 AS SELECT 1"));
+        Assertions.assertEquals(Collections.emptySet(), YqlTables.parseChangedTables("DROP TABLE"));
+        Assertions.assertEquals(Collections.emptySet(), YqlTables.parseChangedTables(""));
+    }
+
+    @Test
+    public void identifiersTest() {
+        Assertions.assertEquals(setOf("SELECT", "id", "value", "FROM", "dir/t1", "WHERE", "v"),
+                YqlTables.parseIdentifiers("SELECT id, value FROM `dir/t1` WHERE v = 'skipped literal' -- t2"));
+        Assertions.assertEquals(setOf("DECLARE", "$p1", "AS", "Int32", "UPSERT", "INTO", "t1", "id", "VALUES"),
+                YqlTables.parseIdentifiers("DECLARE $p1 AS Int32;\n UPSERT INTO t1 (id) VALUES ($p1) /* t2 */"));
+    }
+
+    @Test
+    public void tablePathPrefixTest() {
+        Assertions.assertEquals("/local/dir", YqlTables.parseTablePathPrefix(
+                "PRAGMA TablePathPrefix = \"/local/dir\";\nSELECT * FROM t1"));
+        Assertions.assertEquals("dir", YqlTables.parseTablePathPrefix(
+                "pragma tablepathprefix('dir'); DROP TABLE t1"));
+        Assertions.assertNull(YqlTables.parseTablePathPrefix(
+                "-- PRAGMA TablePathPrefix = \"/local/dir\";\nSELECT * FROM t1"));
+        Assertions.assertNull(YqlTables.parseTablePathPrefix("SELECT 'PRAGMA TablePathPrefix = \"dir\"'"));
+        Assertions.assertNull(YqlTables.parseTablePathPrefix("SELECT * FROM t1"));
+
+        Assertions.assertEquals(setOf("PRAGMA", "TablePathPrefix", "SELECT", "FROM", "t1"),
+                YqlTables.parseIdentifiers("PRAGMA TablePathPrefix = \"/local/dir\"; SELECT * FROM t1"));
+    }
+}
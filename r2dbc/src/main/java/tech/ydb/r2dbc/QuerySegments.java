@@ -0,0 +1,117 @@
+package tech.ydb.r2dbc;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+import io.r2dbc.spi.Result;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+import tech.ydb.core.Issue;
+import tech.ydb.core.grpc.GrpcFlowControl;
+import tech.ydb.jdbc.common.ResultShape;
+import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.query.QueryStream;
+import tech.ydb.query.result.QueryResultPart;
+import tech.ydb.table.result.ResultSetReader;
+
+/**
+ * Bridge from the query stream to the segments of result. The next message of stream is requested from the server
+ * only when the subscriber has unsatisfied demand, so the backpressure of subscriber reaches the server and no thread
+ * waits for the rows.
+ */
+final class QuerySegments implements GrpcFlowControl, QueryStream.PartsHandler {
+    private final YdbTypes types;
+    private final FluxSink<Result.Segment> sink;
+    private final AtomicBoolean isMessageRequested = new AtomicBoolean(false);
+    private volatile IntConsumer messageRequest = null;
+
+    // parts are handled sequentially, so the metadata of the last shape is reused without synchronization
+    private ResultShape lastShape = null;
+    private YdbRowMetadata lastMetadata = null;
+
+    private QuerySegments(YdbTypes types, FluxSink<Result.Segment> sink) {
+        this.types = types;
+        this.sink = sink;
+    }
+
+    /**
+     * Creates cold flux of segments, the query is executed on every subscription
+     *
+     * @param types types of context
+     * @param starter creator of query stream with given flow control
+     * @param updateCounts segments which are emitted after successful completion of the stream
+     * @param onClose action which is executed on the completion of the stream
+     * @return flux of rows and update counts
+     */
+    static Flux<Result.Segment> execute(YdbTypes types, Function<GrpcFlowControl, QueryStream> starter,
+            List<Result.Segment> updateCounts, Runnable onClose) {
+        return Flux.create(sink -> {
+            QuerySegments handler = new QuerySegments(types, sink);
+            QueryStream stream = starter.apply(handler);
+            sink.onRequest(n -> handler.requestMessage());
+            sink.onCancel(stream::cancel);
+
+            stream.execute(handler).whenComplete((result, th) -> {
+                onClose.run();
+                if (th != null) {
+                    sink.error(R2dbcExceptions.convert(th));
+                    return;
+                }
+                if (!result.isSuccess()) {
+                    sink.error(R2dbcExceptions.fromStatus("Cannot execute query", result.getStatus()));
+                    return;
+                }
+                updateCounts.forEach(sink::next);
+                sink.complete();
+            });
+        }, FluxSink.OverflowStrategy.BUFFER);
+    }
+
+    @Override
+    public Call newCall(IntConsumer req) {
+        messageRequest = req;
+        return new Call() {
+            @Override
+            public void onStart() {
+                requestMessage();
+            }
+
+            @Override
+            public void onMessageRead() {
+                isMessageRequested.set(false);
+                requestMessage();
+            }
+        };
+    }
+
+    private void requestMessage() {
+        IntConsumer req = messageRequest;
+        if (req != null && sink.requestedFromDownstream() > 0 && isMessageRequested.compareAndSet(false, true)) {
+            req.accept(1);
+        }
+    }
+
+    @Override
+    public void onIssues(Issue[] issues) {
+        // issues of successful queries are not reported by R2DBC results
+    }
+
+    @Override
+    public void onNextPart(QueryResultPart part) {
+        ResultSetReader reader = part.getResultSetReader();
+        ResultShape shape = types.findShape(reader);
+        if (shape != lastShape) {
+            lastShape = shape;
+            lastMetadata = new YdbRowMetadata(shape);
+        }
+
+        YdbRowMetadata metadata = lastMetadata;
+        for (int idx = 0; idx < reader.getRowCount(); idx++) {
+            YdbRow row = new YdbRow(metadata, reader, idx);
+            sink.next((Result.RowSegment) () -> row);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package tech.ydb.r2dbc;
+
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.SQLInvalidAuthorizationSpecException;
+import java.sql.SQLSyntaxErrorException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransactionRollbackException;
+import java.sql.SQLTransientException;
+
+import io.r2dbc.spi.R2dbcBadGrammarException;
+import io.r2dbc.spi.R2dbcDataIntegrityViolationException;
+import io.r2dbc.spi.R2dbcException;
+import io.r2dbc.spi.R2dbcNonTransientResourceException;
+import io.r2dbc.spi.R2dbcPermissionDeniedException;
+import io.r2dbc.spi.R2dbcRollbackException;
+import io.r2dbc.spi.R2dbcTimeoutException;
+import io.r2dbc.spi.R2dbcTransientResourceException;
+
+import tech.ydb.core.Status;
+import tech.ydb.core.StatusCode;
+import tech.ydb.core.UnexpectedResultException;
+import tech.ydb.jdbc.exception.ExceptionFactory;
+import tech.ydb.jdbc.exception.YdbRetryableException;
+import tech.ydb.jdbc.exception.YdbStatusable;
+
+/**
+ * Translation of JDBC exceptions and YDB statuses to the hierarchy of R2DBC exceptions. The statuses are classified
+ * by {@link ExceptionFactory}, so both drivers report the same SQL states and vendor codes.
+ */
+final class R2dbcExceptions {
+    static final String FACTORY_CLOSED = "Connection factory is closed";
+    static final String CONNECTION_CLOSED = "Connection is closed";
+    static final String QUERY_TYPE_UNSUPPORTED = "Query type is not supported by R2DBC driver: ";
+    static final String SAVEPOINTS_UNSUPPORTED = "Savepoints are not supported";
+    static final String ISOLATION_LEVEL_UNSUPPORTED = "Unsupported isolation level: ";
+    static final String MISSING_BINDINGS = "Not all parameters are bound";
+
+    private R2dbcExceptions() { }
+
+    static R2dbcException fromStatus(String message, Status status) {
+        UnexpectedResultException cause = new UnexpectedResultException("Unexpected status", status);
+        return convert(ExceptionFactory.createException(message + " with " + status, cause));
+    }
+
+    static Throwable convert(Throwable th) {
+        if (th instanceof SQLException) {
+            return convert((SQLException) th);
+        }
+        return th;
+    }
+
+    static R2dbcException convert(SQLException ex) {
+        String message = ex.getMessage();
+        String sqlState = ex.getSQLState();
+        int code = ex.getErrorCode();
+
+        StatusCode status = ex instanceof YdbStatusable ? ((YdbStatusable) ex).getStatus().getCode() : null;
+
+        if (ex instanceof SQLTransactionRollbackException || status == StatusCode.ABORTED) {
+            return new R2dbcRollbackException(message, sqlState, code, ex);
+        }
+        if (ex instanceof SQLTimeoutException) {
+            return new R2dbcTimeoutException(message, sqlState, code, ex);
+        }
+        if (ex instanceof YdbRetryableException || ex instanceof SQLTransientException) {
+            return new R2dbcTransientResourceException(message, sqlState, code, ex);
+        }
+        if (ex instanceof SQLSyntaxErrorException || "42000".equals(sqlState)) {
+            return new R2dbcBadGrammarException(message, sqlState, code, ex);
+        }
+        if (ex instanceof SQLIntegrityConstraintViolationException || "23505".equals(sqlState)) {
+            return new R2dbcDataIntegrityViolationException(message, sqlState, code, ex);
+        }
+        if (ex instanceof SQLInvalidAuthorizationSpecException || status == StatusCode.UNAUTHORIZED) {
+            return new R2dbcPermissionDeniedException(message, sqlState, code, ex);
+        }
+        return new R2dbcNonTransientResourceException(message, sqlState, code, ex);
+    }
+}
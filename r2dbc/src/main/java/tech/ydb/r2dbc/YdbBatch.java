@@ -0,0 +1,35 @@
+package tech.ydb.r2dbc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.r2dbc.spi.Batch;
+import reactor.core.publisher.Flux;
+
+/**
+ * Batch of statements without parameters, the statements are executed one by one in the order of addition
+ */
+public class YdbBatch implements Batch {
+    private final YdbConnection connection;
+    private final List<String> statements = new ArrayList<>();
+
+    YdbBatch(YdbConnection connection) {
+        this.connection = connection;
+    }
+
+    @Override
+    public YdbBatch add(String sql) {
+        if (sql == null) {
+            throw new IllegalArgumentException("SQL must not be null");
+        }
+        statements.add(sql);
+        return this;
+    }
+
+    @Override
+    public Flux<YdbResult> execute() {
+        List<String> list = new ArrayList<>(statements);
+        statements.clear();
+        return Flux.fromIterable(list).concatMap(sql -> connection.createStatement(sql).execute());
+    }
+}
@@ -0,0 +1,66 @@
+package tech.ydb.r2dbc;
+
+import io.r2dbc.spi.ColumnMetadata;
+import io.r2dbc.spi.Nullability;
+import io.r2dbc.spi.Type;
+
+import tech.ydb.jdbc.common.ColumnInfo;
+
+/**
+ * Metadata of the result column, the Java types are the same as the types of {@code ResultSet.getObject} in JDBC
+ * driver
+ */
+public class YdbColumnMetadata implements ColumnMetadata {
+    private final ColumnInfo column;
+    private final Type type;
+
+    YdbColumnMetadata(ColumnInfo column) {
+        this.column = column;
+        this.type = new YdbType(column);
+    }
+
+    @Override
+    public String getName() {
+        return column.getName();
+    }
+
+    @Override
+    public Type getType() {
+        return type;
+    }
+
+    @Override
+    public Nullability getNullability() {
+        return column.isOptional() || column.isNull() ? Nullability.NULLABLE : Nullability.NON_NULL;
+    }
+
+    @Override
+    public tech.ydb.table.values.Type getNativeTypeMetadata() {
+        return column.getYdbType();
+    }
+
+    private static class YdbType implements Type {
+        private final String name;
+        private final Class<?> javaType;
+
+        YdbType(ColumnInfo column) {
+            this.name = column.getYdbType().toString();
+            this.javaType = column.getSqlType().getJavaType();
+        }
+
+        @Override
+        public Class<?> getJavaType() {
+            return javaType;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
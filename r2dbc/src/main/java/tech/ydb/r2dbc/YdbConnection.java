@@ -0,0 +1,309 @@
+package tech.ydb.r2dbc;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionMetadata;
+import io.r2dbc.spi.IsolationLevel;
+import io.r2dbc.spi.R2dbcNonTransientResourceException;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.TransactionDefinition;
+import io.r2dbc.spi.ValidationDepth;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import tech.ydb.common.transaction.TxMode;
+import tech.ydb.core.Status;
+import tech.ydb.core.grpc.GrpcFlowControl;
+import tech.ydb.jdbc.context.YdbContext;
+import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.query.QuerySession;
+import tech.ydb.query.QueryTransaction;
+import tech.ydb.query.settings.CommitTransactionSettings;
+import tech.ydb.query.settings.ExecuteQuerySettings;
+import tech.ydb.query.settings.RollbackTransactionSettings;
+import tech.ydb.table.query.Params;
+
+/**
+ * R2DBC connection over one query session. In auto-commit mode every query is executed in its own transaction,
+ * otherwise the transaction is started by the first query and is kept until commit or rollback. The statements of
+ * one connection must not be executed concurrently, like the queries of one session.
+ */
+public class YdbConnection implements Connection {
+    private final YdbContext ctx;
+    private final QuerySession session;
+    private final AtomicBoolean isClosed = new AtomicBoolean(false);
+
+    private volatile boolean isAutoCommit;
+    private volatile IsolationLevel isolationLevel;
+    private volatile Duration statementTimeout = null;
+    private volatile QueryTransaction tx = null;
+
+    YdbConnection(YdbContext ctx, QuerySession session) {
+        this.ctx = ctx;
+        this.session = session;
+        this.isAutoCommit = ctx.getOperationProperties().isAutoCommit();
+        this.isolationLevel = ctx.getOperationProperties().getTransactionLevel()
+                == java.sql.Connection.TRANSACTION_REPEATABLE_READ
+                ? IsolationLevel.REPEATABLE_READ : IsolationLevel.SERIALIZABLE;
+    }
+
+    YdbContext getCtx() {
+        return ctx;
+    }
+
+    @Override
+    public Mono<Void> beginTransaction() {
+        return begin(isolationLevel, false);
+    }
+
+    @Override
+    public Mono<Void> beginTransaction(TransactionDefinition definition) {
+        IsolationLevel level = definition.getAttribute(TransactionDefinition.ISOLATION_LEVEL);
+        Boolean readOnly = definition.getAttribute(TransactionDefinition.READ_ONLY);
+        return begin(level != null ? level : isolationLevel, readOnly != null && readOnly);
+    }
+
+    private Mono<Void> begin(IsolationLevel level, boolean readOnly) {
+        return Mono.defer(() -> {
+            if (isClosed.get()) {
+                return Mono.error(new R2dbcNonTransientResourceException(R2dbcExceptions.CONNECTION_CLOSED));
+            }
+            TxMode mode = txMode(level, readOnly);
+            if (mode == null) {
+                return Mono.error(unsupportedLevel(level));
+            }
+
+            QueryTransaction current = tx;
+            if (current == null || !current.isActive()) {
+                // transaction will be started by the first query
+                tx = session.createNewTransaction(mode);
+            }
+            isAutoCommit = false;
+            return Mono.empty();
+        });
+    }
+
+    @Override
+    public Mono<Void> commitTransaction() {
+        return Mono.defer(() -> {
+            QueryTransaction current = tx;
+            tx = null;
+            if (current == null || !current.isActive()) {
+                return Mono.empty();
+            }
+
+            CommitTransactionSettings settings = ctx.withRequestTimeout(CommitTransactionSettings.newBuilder())
+                    .build();
+            return Mono.fromFuture(() -> current.commit(settings))
+                    .flatMap(result -> checkStatus("Cannot commit transaction", result.getStatus()));
+        });
+    }
+
+    @Override
+    public Mono<Void> rollbackTransaction() {
+        return Mono.defer(() -> {
+            QueryTransaction current = tx;
+            tx = null;
+            if (current == null || !current.isActive()) {
+                return Mono.empty();
+            }
+
+            RollbackTransactionSettings settings = ctx.withRequestTimeout(RollbackTransactionSettings.newBuilder())
+                    .build();
+            return Mono.fromFuture(() -> current.rollback(settings))
+                    .flatMap(status -> checkStatus("Cannot rollback transaction", status));
+        });
+    }
+
+    @Override
+    public Mono<Void> close() {
+        return Mono.defer(() -> {
+            if (!isClosed.compareAndSet(false, true)) {
+                return Mono.empty();
+            }
+            return rollbackTransaction()
+                    .onErrorResume(th -> Mono.empty())
+                    .doFinally(signal -> session.close());
+        });
+    }
+
+    @Override
+    public YdbBatch createBatch() {
+        return new YdbBatch(this);
+    }
+
+    @Override
+    public YdbStatement createStatement(String sql) {
+        return new YdbStatement(this, sql);
+    }
+
+    @Override
+    public Mono<Void> createSavepoint(String name) {
+        return Mono.error(new R2dbcNonTransientResourceException(R2dbcExceptions.SAVEPOINTS_UNSUPPORTED));
+    }
+
+    @Override
+    public Mono<Void> releaseSavepoint(String name) {
+        return Mono.error(new R2dbcNonTransientResourceException(R2dbcExceptions.SAVEPOINTS_UNSUPPORTED));
+    }
+
+    @Override
+    public Mono<Void> rollbackTransactionToSavepoint(String name) {
+        return Mono.error(new R2dbcNonTransientResourceException(R2dbcExceptions.SAVEPOINTS_UNSUPPORTED));
+    }
+
+    @Override
+    public boolean isAutoCommit() {
+        return isAutoCommit;
+    }
+
+    @Override
+    public Mono<Void> setAutoCommit(boolean autoCommit) {
+        return Mono.defer(() -> {
+            if (autoCommit == isAutoCommit) {
+                return Mono.empty();
+            }
+            isAutoCommit = autoCommit;
+            // enabling of auto-commit commits the current transaction, like in JDBC
+            return autoCommit ? commitTransaction() : Mono.empty();
+        });
+    }
+
+    @Override
+    public ConnectionMetadata getMetadata() {
+        return new ConnectionMetadata() {
+            @Override
+            public String getDatabaseProductName() {
+                return YdbConnectionFactory.PRODUCT_NAME;
+            }
+
+            @Override
+            public String getDatabaseVersion() {
+                return ctx.getDatabaseVersion();
+            }
+        };
+    }
+
+    @Override
+    public IsolationLevel getTransactionIsolationLevel() {
+        return isolationLevel;
+    }
+
+    @Override
+    public Mono<Void> setTransactionIsolationLevel(IsolationLevel level) {
+        return Mono.defer(() -> {
+            if (txMode(level, false) == null) {
+                return Mono.error(unsupportedLevel(level));
+            }
+            isolationLevel = level;
+            return Mono.empty();
+        });
+    }
+
+    @Override
+    public Mono<Void> setLockWaitTimeout(Duration timeout) {
+        // YDB uses optimistic locks, the conflicts are reported on commit
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<Void> setStatementTimeout(Duration timeout) {
+        return Mono.fromRunnable(() -> statementTimeout = timeout.isZero() ? null : timeout);
+    }
+
+    @Override
+    public Mono<Boolean> validate(ValidationDepth depth) {
+        if (isClosed.get()) {
+            return Mono.just(false);
+        }
+        if (depth == ValidationDepth.LOCAL) {
+            return Mono.just(true);
+        }
+        return createStatement("SELECT 1").execute()
+                .flatMap(result -> result.map((row, metadata) -> 1))
+                .then(Mono.just(true))
+                .onErrorReturn(false);
+    }
+
+    /**
+     * Executes the query in the current transaction of connection
+     *
+     * @param query parsed query
+     * @param yql text of query with declared parameters
+     * @param params values of parameters
+     * @param updateCounts segments which are emitted after the rows
+     * @return cold flux of segments, the query is executed on subscription
+     */
+    Flux<Result.Segment> executeQuery(YdbQuery query, String yql, Params params, List<Result.Segment> updateCounts) {
+        return Flux.defer(() -> {
+            if (isClosed.get()) {
+                return Flux.error(new R2dbcNonTransientResourceException(R2dbcExceptions.CONNECTION_CLOSED));
+            }
+
+            String fullYql = ctx.getPrefixPragma() + yql;
+            switch (query.getType()) {
+                case SCHEME_QUERY:
+                    return QuerySegments.execute(ctx.getTypes(),
+                            fc -> session.createQuery(fullYql, TxMode.NONE, params, settings(fc)),
+                            updateCounts, () -> ctx.onSchemeChanged(yql));
+                case DATA_QUERY:
+                    QueryTransaction current = tx;
+                    if (current == null && isAutoCommit) {
+                        TxMode mode = txMode(isolationLevel, false);
+                        return QuerySegments.execute(ctx.getTypes(),
+                                fc -> session.createQuery(fullYql, mode, params, settings(fc)),
+                                updateCounts, () -> { });
+                    }
+                    if (current == null) {
+                        current = session.createNewTransaction(txMode(isolationLevel, false));
+                        tx = current;
+                    }
+                    QueryTransaction localTx = current;
+                    return QuerySegments.execute(ctx.getTypes(),
+                            fc -> localTx.createQuery(fullYql, false, params, settings(fc)),
+                            updateCounts, () -> { });
+                default:
+                    return Flux.error(new R2dbcNonTransientResourceException(
+                            R2dbcExceptions.QUERY_TYPE_UNSUPPORTED + query.getType()));
+            }
+        });
+    }
+
+    private ExecuteQuerySettings settings(GrpcFlowControl flowControl) {
+        ExecuteQuerySettings.Builder builder = ExecuteQuerySettings.newBuilder();
+        Duration timeout = statementTimeout;
+        builder = timeout != null ? builder.withRequestTimeout(timeout) : ctx.withRequestTimeout(builder);
+        return builder.withGrpcFlowControl(flowControl).build();
+    }
+
+    private static Mono<Void> checkStatus(String message, Status status) {
+        if (status.isSuccess()) {
+            return Mono.empty();
+        }
+        return Mono.error(R2dbcExceptions.fromStatus(message, status));
+    }
+
+    private static R2dbcNonTransientResourceException unsupportedLevel(IsolationLevel level) {
+        String name = level != null ? level.asSql() : null;
+        return new R2dbcNonTransientResourceException(R2dbcExceptions.ISOLATION_LEVEL_UNSUPPORTED + name);
+    }
+
+    static TxMode txMode(IsolationLevel level, boolean isReadOnly) {
+        if (IsolationLevel.SERIALIZABLE.equals(level)) {
+            return isReadOnly ? TxMode.SNAPSHOT_RO : TxMode.SERIALIZABLE_RW;
+        }
+        if (IsolationLevel.REPEATABLE_READ.equals(level)) {
+            return isReadOnly ? TxMode.SNAPSHOT_RO : TxMode.SNAPSHOT_RW;
+        }
+        if (IsolationLevel.READ_COMMITTED.equals(level) && isReadOnly) {
+            return TxMode.ONLINE_RO;
+        }
+        if (IsolationLevel.READ_UNCOMMITTED.equals(level) && isReadOnly) {
+            return TxMode.ONLINE_INCONSISTENT_RO;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,78 @@
+package tech.ydb.r2dbc;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.R2dbcNonTransientResourceException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import tech.ydb.jdbc.context.YdbContext;
+import tech.ydb.jdbc.settings.YdbConfig;
+
+/**
+ * Factory of R2DBC connections. The factory owns one {@link YdbContext} with the transport, the session pool and
+ * the caches of parsed queries, it is created on the first request of connection and must be released by
+ * {@link #close()}. Every connection holds one query session from the pool.
+ */
+public class YdbConnectionFactory implements ConnectionFactory, AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(YdbConnectionFactory.class.getName());
+
+    static final String PRODUCT_NAME = "YDB";
+    private static final ConnectionFactoryMetadata METADATA = () -> PRODUCT_NAME;
+
+    private final YdbConfig config;
+    private final AtomicReference<YdbContext> created = new AtomicReference<>();
+    private final Mono<YdbContext> context;
+    private volatile boolean isClosed = false;
+
+    public YdbConnectionFactory(YdbConfig config) {
+        this.config = config;
+        // creation of transport may wait for discovery, so it is executed out of the caller thread
+        this.context = Mono.fromCallable(() -> YdbContext.createContext(config))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnNext(created::set)
+                .cache(ctx -> Duration.ofMillis(Long.MAX_VALUE), th -> Duration.ZERO, () -> Duration.ZERO)
+                .onErrorMap(R2dbcExceptions::convert);
+    }
+
+    public YdbConfig getConfig() {
+        return config;
+    }
+
+    @Override
+    public Mono<YdbConnection> create() {
+        if (isClosed) {
+            return Mono.error(new R2dbcNonTransientResourceException(R2dbcExceptions.FACTORY_CLOSED));
+        }
+        return context.flatMap(ctx -> {
+            Duration timeout = ctx.getOperationProperties().getSessionTimeout();
+            return Mono.fromFuture(() -> ctx.getQueryClient().createSession(timeout))
+                    .map(result -> {
+                        if (!result.isSuccess()) {
+                            throw R2dbcExceptions.fromStatus("Cannot create session", result.getStatus());
+                        }
+                        return new YdbConnection(ctx, result.getValue());
+                    });
+        });
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return METADATA;
+    }
+
+    @Override
+    public void close() {
+        isClosed = true;
+        YdbContext ctx = created.getAndSet(null);
+        if (ctx != null) {
+            LOGGER.log(Level.FINE, "Closing YDB context of {0}", config.getSafeUrl());
+            ctx.close();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package tech.ydb.r2dbc;
+
+import java.sql.DriverPropertyInfo;
+import java.sql.SQLException;
+import java.util.Properties;
+
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.ConnectionFactoryProvider;
+import io.r2dbc.spi.Option;
+
+import tech.ydb.jdbc.YdbConst;
+import tech.ydb.jdbc.settings.YdbConfig;
+
+/**
+ * Provider of YDB connection factories for URLs like {@code r2dbc:ydb://localhost:2136/local?token=...}. All
+ * properties of JDBC driver are supported as the options with the same names.
+ */
+public class YdbConnectionFactoryProvider implements ConnectionFactoryProvider {
+    public static final String YDB_DRIVER = "ydb";
+
+    private static final int DEFAULT_PORT = 2136;
+
+    @Override
+    public ConnectionFactory create(ConnectionFactoryOptions options) {
+        try {
+            return new YdbConnectionFactory(toConfig(options));
+        } catch (SQLException ex) {
+            throw new IllegalArgumentException(ex.getMessage(), ex);
+        }
+    }
+
+    @Override
+    public boolean supports(ConnectionFactoryOptions options) {
+        return YDB_DRIVER.equals(options.getValue(ConnectionFactoryOptions.DRIVER));
+    }
+
+    @Override
+    public String getDriver() {
+        return YDB_DRIVER;
+    }
+
+    static YdbConfig toConfig(ConnectionFactoryOptions options) throws SQLException {
+        Object host = options.getRequiredValue(ConnectionFactoryOptions.HOST);
+        Object port = options.getValue(ConnectionFactoryOptions.PORT);
+        Object database = options.getValue(ConnectionFactoryOptions.DATABASE);
+        Object ssl = options.getValue(ConnectionFactoryOptions.SSL);
+
+        StringBuilder url = new StringBuilder(YdbConst.JDBC_YDB_PREFIX)
+                .append(ssl != null && Boolean.parseBoolean(ssl.toString()) ? "grpcs://" : "grpc://")
+                .append(host)
+                .append(":")
+                .append(port != null ? port : DEFAULT_PORT);
+        if (database != null) {
+            String path = database.toString();
+            url.append(path.startsWith("/") ? "" : "/").append(path);
+        }
+
+        Properties props = new Properties();
+        putOption(props, "user", options.getValue(ConnectionFactoryOptions.USER));
+        putOption(props, "password", options.getValue(ConnectionFactoryOptions.PASSWORD));
+
+        // the names of JDBC properties are used as the names of options
+        for (DriverPropertyInfo info : YdbConfig.from(url.toString(), props).toPropertyInfo()) {
+            putOption(props, info.name, options.getValue(Option.valueOf(info.name)));
+        }
+
+        return YdbConfig.from(url.toString(), props);
+    }
+
+    private static void putOption(Properties props, String name, Object value) {
+        if (value != null) {
+            props.setProperty(name, value.toString());
+        }
+    }
+}
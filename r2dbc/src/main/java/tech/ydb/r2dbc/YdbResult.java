@@ -0,0 +1,74 @@
+package tech.ydb.r2dbc;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import io.r2dbc.spi.Readable;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Result of one execution of statement. The segments are streamed from the server when the result is consumed, so
+ * the result can be consumed only once.
+ */
+public class YdbResult implements Result {
+    private final Flux<Segment> segments;
+    private final AtomicBoolean isConsumed;
+
+    YdbResult(Flux<Segment> segments) {
+        this(segments, new AtomicBoolean(false));
+    }
+
+    private YdbResult(Flux<Segment> segments, AtomicBoolean isConsumed) {
+        this.segments = segments;
+        this.isConsumed = isConsumed;
+    }
+
+    private Flux<Segment> consume() {
+        return Flux.defer(() -> {
+            if (!isConsumed.compareAndSet(false, true)) {
+                return Flux.error(new IllegalStateException("Result is already consumed"));
+            }
+            return segments;
+        });
+    }
+
+    @Override
+    public Mono<Long> getRowsUpdated() {
+        return consume()
+                .filter(UpdateCount.class::isInstance)
+                .map(segment -> ((UpdateCount) segment).value())
+                .reduce(Long::sum);
+    }
+
+    @Override
+    public <T> Flux<T> map(BiFunction<Row, RowMetadata, ? extends T> mappingFunction) {
+        return consume().<T>handle((segment, sink) -> {
+            if (segment instanceof RowSegment) {
+                Row row = ((RowSegment) segment).row();
+                sink.next(mappingFunction.apply(row, row.getMetadata()));
+            }
+        });
+    }
+
+    @Override
+    public <T> Flux<T> map(Function<? super Readable, ? extends T> mappingFunction) {
+        return map((row, metadata) -> mappingFunction.apply(row));
+    }
+
+    @Override
+    public YdbResult filter(Predicate<Segment> filter) {
+        return new YdbResult(segments.filter(filter), isConsumed);
+    }
+
+    @Override
+    public <T> Flux<T> flatMap(Function<Segment, ? extends Publisher<? extends T>> mappingFunction) {
+        return consume().concatMap(mappingFunction);
+    }
+}
@@ -0,0 +1,81 @@
+package tech.ydb.r2dbc;
+
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+import io.r2dbc.spi.Row;
+
+import tech.ydb.jdbc.common.ColumnInfo;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.result.ValueReader;
+
+/**
+ * Row of the result part. The row keeps the reference to the part and its index, so the values are decoded only
+ * when they are requested, by the same getters as in JDBC driver.
+ */
+public class YdbRow implements Row {
+    private static final Map<Class<?>, Class<?>> BOXED_TYPES = new HashMap<>();
+
+    static {
+        BOXED_TYPES.put(boolean.class, Boolean.class);
+        BOXED_TYPES.put(byte.class, Byte.class);
+        BOXED_TYPES.put(short.class, Short.class);
+        BOXED_TYPES.put(int.class, Integer.class);
+        BOXED_TYPES.put(long.class, Long.class);
+        BOXED_TYPES.put(float.class, Float.class);
+        BOXED_TYPES.put(double.class, Double.class);
+        BOXED_TYPES.put(char.class, Character.class);
+    }
+
+    private final YdbRowMetadata metadata;
+    private final ResultSetReader part;
+    private final int rowIndex;
+
+    YdbRow(YdbRowMetadata metadata, ResultSetReader part, int rowIndex) {
+        this.metadata = metadata;
+        this.part = part;
+        this.rowIndex = rowIndex;
+    }
+
+    @Override
+    public YdbRowMetadata getMetadata() {
+        return metadata;
+    }
+
+    @Override
+    public <T> T get(int index, Class<T> type) {
+        if (type == null) {
+            throw new IllegalArgumentException("Type must not be null");
+        }
+        if (index < 0 || index >= metadata.getShape().getColumnCount()) {
+            throw new IndexOutOfBoundsException("Column index out of bounds: " + index);
+        }
+
+        ColumnInfo column = metadata.getShape().getColumn(index);
+        part.setRowIndex(rowIndex);
+        ValueReader value = part.getColumn(index);
+        if (column.isNull() || (column.isOptional() && !value.isOptionalItemPresent())) {
+            return null;
+        }
+
+        try {
+            if (type == Object.class) {
+                return type.cast(column.getGetters().readObject(value));
+            }
+            @SuppressWarnings("unchecked")
+            Class<T> boxed = (Class<T>) BOXED_TYPES.getOrDefault(type, type);
+            return column.getGetters().readClass(value, boxed);
+        } catch (SQLException ex) {
+            throw new IllegalArgumentException(ex.getMessage(), ex);
+        }
+    }
+
+    @Override
+    public <T> T get(String name, Class<T> type) {
+        if (name == null) {
+            throw new IllegalArgumentException("Name must not be null");
+        }
+        return get(metadata.indexOf(name), type);
+    }
+}
@@ -0,0 +1,70 @@
+package tech.ydb.r2dbc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import io.r2dbc.spi.RowMetadata;
+
+import tech.ydb.jdbc.common.ResultShape;
+
+/**
+ * Metadata of the rows of one result set, it is shared by all rows of the result set
+ */
+public class YdbRowMetadata implements RowMetadata {
+    private final ResultShape shape;
+    private final List<YdbColumnMetadata> columns;
+
+    YdbRowMetadata(ResultShape shape) {
+        this.shape = shape;
+
+        List<YdbColumnMetadata> list = new ArrayList<>(shape.getColumnCount());
+        for (int idx = 0; idx < shape.getColumnCount(); idx++) {
+            list.add(new YdbColumnMetadata(shape.getColumn(idx)));
+        }
+        this.columns = Collections.unmodifiableList(list);
+    }
+
+    ResultShape getShape() {
+        return shape;
+    }
+
+    /**
+     * Returns index of column by name
+     *
+     * @param name column name
+     * @return 0-based index of column
+     * @throws NoSuchElementException if there is no column with this name
+     */
+    int indexOf(String name) {
+        Integer index = shape.findColumnIndex(name);
+        if (index == null) {
+            throw new NoSuchElementException("Column not found: " + name);
+        }
+        return index - 1;
+    }
+
+    @Override
+    public YdbColumnMetadata getColumnMetadata(int index) {
+        if (index < 0 || index >= columns.size()) {
+            throw new IndexOutOfBoundsException("Column index out of bounds: " + index);
+        }
+        return columns.get(index);
+    }
+
+    @Override
+    public YdbColumnMetadata getColumnMetadata(String name) {
+        return columns.get(indexOf(name));
+    }
+
+    @Override
+    public List<YdbColumnMetadata> getColumnMetadatas() {
+        return columns;
+    }
+
+    @Override
+    public boolean contains(String columnName) {
+        return shape.findColumnIndex(columnName) != null;
+    }
+}
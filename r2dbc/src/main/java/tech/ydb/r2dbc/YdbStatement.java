@@ -0,0 +1,214 @@
+package tech.ydb.r2dbc;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.r2dbc.spi.Parameter;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import reactor.core.publisher.Flux;
+
+import tech.ydb.jdbc.YdbPrepareMode;
+import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.jdbc.context.YdbContext;
+import tech.ydb.jdbc.query.QueryKey;
+import tech.ydb.jdbc.query.QueryStatement;
+import tech.ydb.jdbc.query.YdbPreparedQuery;
+import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.values.Type;
+import tech.ydb.table.values.Value;
+
+/**
+ * Statement with the parameters in JDBC style ({@code ?}, bound by index) and YQL style ({@code $name}, bound by
+ * name). The query is parsed by the same parser and caches as in JDBC driver, the parameters are declared in the text
+ * of query, so the statement doesn't need the server to be prepared. Every binding set is executed as a separate
+ * query, the results must be consumed one by one.
+ */
+public class YdbStatement implements Statement {
+    private final YdbConnection connection;
+    private final String sql;
+    private final List<Params> bindings = new ArrayList<>();
+    private final Map<String, Value<?>> namedValues = new LinkedHashMap<>();
+
+    private YdbQuery query;
+    private YdbPreparedQuery prepared;
+    private List<Result.Segment> updateCounts;
+    private boolean hasBindings = false;
+
+    YdbStatement(YdbConnection connection, String sql) {
+        this.connection = connection;
+        this.sql = sql;
+        prepare(new QueryKey(sql));
+    }
+
+    private void prepare(QueryKey key) {
+        YdbContext ctx = connection.getCtx();
+        try {
+            this.query = ctx.parseYdbQuery(key);
+            this.prepared = ctx.prepareYdbQuery(query, YdbPrepareMode.IN_MEMORY);
+        } catch (SQLException ex) {
+            throw R2dbcExceptions.convert(ex);
+        }
+
+        // YDB doesn't report the count of changed rows, like JDBC driver every DML statement reports one row
+        List<Result.Segment> counts = new ArrayList<>();
+        for (QueryStatement st : query.getStatements()) {
+            if (!st.isDDL() && (st.hasUpdateCount() || st.hasUpdateWithGenerated())) {
+                counts.add((Result.UpdateCount) () -> 1L);
+            }
+        }
+        this.updateCounts = Collections.unmodifiableList(counts);
+    }
+
+    private YdbTypes types() {
+        return connection.getCtx().getTypes();
+    }
+
+    @Override
+    public YdbStatement add() {
+        bindings.add(currentParams());
+        clearBindings();
+        return this;
+    }
+
+    @Override
+    public YdbStatement bind(int index, Object value) {
+        if (value instanceof Parameter) {
+            Parameter prm = (Parameter) value;
+            if (prm.getValue() == null) {
+                return bindNull(index, prm.getType().getJavaType());
+            }
+            return bind(index, prm.getValue());
+        }
+        if (value == null) {
+            throw new IllegalArgumentException("Value must not be null, use bindNull instead");
+        }
+        setParam(index, value);
+        return this;
+    }
+
+    @Override
+    public YdbStatement bind(String name, Object value) {
+        if (value instanceof Parameter) {
+            Parameter prm = (Parameter) value;
+            if (prm.getValue() == null) {
+                return bindNull(name, prm.getType().getJavaType());
+            }
+            return bind(name, prm.getValue());
+        }
+        if (value == null) {
+            throw new IllegalArgumentException("Value must not be null, use bindNull instead");
+        }
+
+        Type type = types().findType(value, Types.JAVA_OBJECT);
+        if (type == null) {
+            throw new IllegalArgumentException("Unsupported type of parameter " + name + ": " + value.getClass());
+        }
+        try {
+            namedValues.put(yqlName(name), value instanceof Value<?> ? (Value<?>) value
+                    : types().find(type).toYdbValue(value));
+        } catch (SQLException ex) {
+            throw new IllegalArgumentException(ex.getMessage(), ex);
+        }
+        hasBindings = true;
+        return this;
+    }
+
+    @Override
+    public YdbStatement bindNull(int index, Class<?> type) {
+        setParam(index, nullValue(type));
+        return this;
+    }
+
+    @Override
+    public YdbStatement bindNull(String name, Class<?> type) {
+        namedValues.put(yqlName(name), nullValue(type));
+        hasBindings = true;
+        return this;
+    }
+
+    @Override
+    public YdbStatement returnGeneratedValues(String... columns) {
+        prepare(new QueryKey(sql, columns.length == 0 ? new String[] {"*"} : columns));
+        clearBindings();
+        return this;
+    }
+
+    @Override
+    public Flux<YdbResult> execute() {
+        List<Params> all = new ArrayList<>(bindings);
+        try {
+            if (hasBindings || all.isEmpty()) {
+                all.add(currentParams());
+            }
+        } catch (IllegalStateException ex) {
+            return Flux.error(ex);
+        } finally {
+            bindings.clear();
+            clearBindings();
+        }
+
+        YdbQuery localQuery = query;
+        YdbPreparedQuery localPrepared = prepared;
+        List<Result.Segment> localCounts = updateCounts;
+        return Flux.fromIterable(all).map(params -> new YdbResult(Flux.defer(() -> {
+            try {
+                String yql = localPrepared.getQueryText(params);
+                return connection.executeQuery(localQuery, yql, params, localCounts);
+            } catch (SQLException ex) {
+                return Flux.error(R2dbcExceptions.convert(ex));
+            }
+        })));
+    }
+
+    private void setParam(int index, Object value) {
+        if (index < 0 || index >= prepared.parametersCount()) {
+            throw new IndexOutOfBoundsException("Parameter index out of bounds: " + index);
+        }
+        try {
+            prepared.setParam(index + 1, value, Types.JAVA_OBJECT);
+        } catch (SQLException ex) {
+            throw new IllegalArgumentException(ex.getMessage(), ex);
+        }
+        hasBindings = true;
+    }
+
+    private Value<?> nullValue(Class<?> clazz) {
+        Type type = clazz != null ? types().findTypeByClass(clazz) : null;
+        if (type == null) {
+            throw new IllegalArgumentException("Unsupported type of null parameter: " + clazz);
+        }
+        return type.makeOptional().emptyValue();
+    }
+
+    private Params currentParams() {
+        try {
+            Params params = prepared.getCurrentParams();
+            for (Map.Entry<String, Value<?>> entry : namedValues.entrySet()) {
+                params.put(entry.getKey(), entry.getValue());
+            }
+            return params;
+        } catch (SQLException ex) {
+            throw new IllegalStateException(R2dbcExceptions.MISSING_BINDINGS + ": " + ex.getMessage(), ex);
+        }
+    }
+
+    private void clearBindings() {
+        prepared.clearParameters();
+        namedValues.clear();
+        hasBindings = false;
+    }
+
+    private static String yqlName(String name) {
+        if (name == null || name.isEmpty()) {
+            throw new IllegalArgumentException("Parameter name must not be empty");
+        }
+        return name.charAt(0) == '$' ? name : "$" + name;
+    }
+}
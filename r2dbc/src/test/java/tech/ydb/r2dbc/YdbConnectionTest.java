@@ -0,0 +1,137 @@
+package tech.ydb.r2dbc;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import io.r2dbc.spi.R2dbcBadGrammarException;
+import io.r2dbc.spi.R2dbcNonTransientResourceException;
+import io.r2dbc.spi.ValidationDepth;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import tech.ydb.jdbc.settings.YdbConfig;
+import tech.ydb.test.junit5.YdbHelperExtension;
+
+public class YdbConnectionTest {
+    @RegisterExtension
+    private static final YdbHelperExtension ydb = new YdbHelperExtension();
+
+    private static final String TABLE = "r2dbc_test";
+
+    private static YdbConnectionFactory factory;
+
+    @BeforeAll
+    public static void createFactory() throws SQLException {
+        StringBuilder url = new StringBuilder("jdbc:ydb:")
+                .append(ydb.useTls() ? "grpcs://" : "grpc://")
+                .append(ydb.endpoint())
+                .append(ydb.database());
+        if (ydb.authToken() != null) {
+            url.append("?token=").append(ydb.authToken());
+        }
+        factory = new YdbConnectionFactory(YdbConfig.from(url.toString(), null));
+
+        withConnection(conn -> conn.createStatement("CREATE TABLE " + TABLE
+                + " (id Int32, value Text, PRIMARY KEY(id))").execute().flatMap(YdbResult::getRowsUpdated));
+    }
+
+    @AfterAll
+    public static void closeFactory() {
+        withConnection(conn -> conn.createStatement("DROP TABLE " + TABLE).execute()
+                .flatMap(YdbResult::getRowsUpdated));
+        factory.close();
+    }
+
+    private static <T> List<T> withConnection(Function<YdbConnection, Publisher<T>> action) {
+        return Flux.usingWhen(factory.create(), action, YdbConnection::close).collectList().block();
+    }
+
+    @Test
+    public void selectTest() {
+        List<Integer> sums = withConnection(conn -> conn.createStatement("SELECT 1 + 2 AS sum").execute()
+                .flatMap(result -> result.map((row, meta) -> row.get("sum", Integer.class))));
+        Assertions.assertEquals(Arrays.asList(3), sums);
+
+        List<Boolean> valid = withConnection(conn -> conn.validate(ValidationDepth.REMOTE));
+        Assertions.assertEquals(Arrays.asList(true), valid);
+    }
+
+    @Test
+    public void bindingsTest() {
+        List<Long> updated = withConnection(conn -> conn
+                .createStatement("UPSERT INTO " + TABLE + " (id, value) VALUES (?, ?)")
+                .bind(0, 1).bind(1, "first").add()
+                .bind(0, 2).bindNull(1, String.class)
+                .execute()
+                .flatMap(YdbResult::getRowsUpdated));
+        Assertions.assertEquals(Arrays.asList(1L, 1L), updated);
+
+        List<String> values = withConnection(conn -> conn
+                .createStatement("DECLARE $id AS Int32; SELECT id, value FROM " + TABLE + " WHERE id <= $id"
+                        + " ORDER BY id")
+                .bind("$id", 2)
+                .execute()
+                .flatMap(result -> result.map((row, meta) -> row.get(0, Integer.class) + ":"
+                        + row.get("value", String.class))));
+        Assertions.assertEquals(Arrays.asList("1:first", "2:null"), values);
+    }
+
+    @Test
+    public void rollbackTest() {
+        withConnection(conn -> conn.beginTransaction()
+                .thenMany(conn.createStatement("UPSERT INTO " + TABLE + " (id, value) VALUES (?, ?)")
+                        .bind(0, 100).bind(1, "rollback").execute())
+                .flatMap(YdbResult::getRowsUpdated)
+                .then(conn.rollbackTransaction()));
+
+        List<Long> count = withConnection(conn -> conn
+                .createStatement("SELECT COUNT(*) AS cnt FROM " + TABLE + " WHERE id = 100").execute()
+                .flatMap(result -> result.map((row, meta) -> row.get("cnt", Long.class))));
+        Assertions.assertEquals(Arrays.asList(0L), count);
+
+        withConnection(conn -> conn.beginTransaction()
+                .thenMany(conn.createStatement("UPSERT INTO " + TABLE + " (id, value) VALUES (?, ?)")
+                        .bind(0, 100).bind(1, "commit").execute())
+                .flatMap(YdbResult::getRowsUpdated)
+                .then(conn.commitTransaction()));
+
+        List<String> values = withConnection(conn -> conn
+                .createStatement("SELECT value FROM " + TABLE + " WHERE id = 100").execute()
+                .flatMap(result -> result.map((row, meta) -> row.get(0, String.class))));
+        Assertions.assertEquals(Arrays.asList("commit"), values);
+    }
+
+    @Test
+    public void streamingTest() {
+        List<Long> sum = withConnection(conn -> conn
+                .createStatement("SELECT x FROM AS_TABLE(ListMap(ListFromRange(0, 50000), ($x) -> (<|x: $x|>)))")
+                .execute()
+                .flatMap(result -> result.map((row, meta) -> row.get("x", Integer.class)))
+                .limitRate(100)
+                .reduce(0L, (acc, x) -> acc + x));
+        Assertions.assertEquals(Arrays.asList(49999L * 50000L / 2), sum);
+    }
+
+    @Test
+    public void errorsTest() {
+        Mono<Long> invalid = Flux.usingWhen(factory.create(),
+                conn -> conn.createStatement("SELECT * FROM unknown_table").execute()
+                        .flatMap(YdbResult::getRowsUpdated),
+                YdbConnection::close).next();
+        Assertions.assertThrows(R2dbcBadGrammarException.class, invalid::block);
+
+        Mono<Void> savepoint = Mono.usingWhen(factory.create(), conn -> conn.createSavepoint("sp"),
+                YdbConnection::close);
+        R2dbcNonTransientResourceException ex = Assertions.assertThrows(R2dbcNonTransientResourceException.class,
+                savepoint::block);
+        Assertions.assertEquals(R2dbcExceptions.SAVEPOINTS_UNSUPPORTED, ex.getMessage());
+    }
+}